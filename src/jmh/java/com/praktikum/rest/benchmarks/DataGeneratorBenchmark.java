@@ -0,0 +1,60 @@
+package com.praktikum.rest.benchmarks;
+
+import com.github.javafaker.Faker;
+import com.praktikum.rest.utils.FastDataGenerator;
+import com.praktikum.rest.utils.TestDataGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH comparison antara Java Faker (TestDataGenerator) dan FastDataGenerator
+ * Jalankan: mvn test-compile exec:exec -Pjmh
+ * Tambahkan "-prof gc" di argument untuk membandingkan allocation rate per operation
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DataGeneratorBenchmark {
+
+    // Instance Faker dengan locale yang sama seperti TestDataGenerator
+    private final Faker faker = new Faker(new Locale("id-ID"));
+
+    @Benchmark
+    public void fakerFields(Blackhole blackhole) {
+        blackhole.consume(faker.name().fullName());
+        blackhole.consume(faker.address().city());
+        blackhole.consume(faker.company().catchPhrase());
+    }
+
+    @Benchmark
+    public void fastFields(Blackhole blackhole) {
+        blackhole.consume(FastDataGenerator.fullName());
+        blackhole.consume(FastDataGenerator.city());
+        blackhole.consume(FastDataGenerator.catchPhrase());
+    }
+
+    @Benchmark
+    public Map<String, Object> fakerUserData() {
+        return TestDataGenerator.generateUserData();
+    }
+
+    @Benchmark
+    public Map<String, Object> fastUserData() {
+        return FastDataGenerator.generateUserData();
+    }
+}
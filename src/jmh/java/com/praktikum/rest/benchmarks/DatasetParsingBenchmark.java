@@ -0,0 +1,124 @@
+package com.praktikum.rest.benchmarks;
+
+import com.praktikum.rest.data.Row;
+import com.praktikum.rest.data.RowSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * JMH throughput (rows per millisecond) untuk parsing dataset data-driven tests
+ * Baseline BufferedReader + String.split dibandingkan dengan RowSource untuk CSV, CSV gzip, dan JSON lines
+ * Setiap row hanya membaca field id, seperti DataProvider validUserIds
+ * Jalankan: mvn test-compile exec:exec -Pjmh -Djmh.include=DatasetParsingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DatasetParsingBenchmark {
+
+    private static final int ROWS = 100_000;
+
+    private Path directory;
+    private Path csv;
+    private Path csvGzip;
+    private Path jsonl;
+
+    @Setup
+    public void writeDatasets() throws IOException {
+        directory = Files.createTempDirectory("dataset-benchmark");
+        csv = directory.resolve("users.csv");
+        csvGzip = directory.resolve("users.csv.gz");
+        jsonl = directory.resolve("posts.jsonl");
+        try (Writer plain = Files.newBufferedWriter(csv, StandardCharsets.UTF_8);
+             Writer gzip = new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(csvGzip)),
+                     StandardCharsets.UTF_8)) {
+            String header = "id,name,email,city\n";
+            plain.write(header);
+            gzip.write(header);
+            for (int id = 1; id <= ROWS; id++) {
+                String line = id + ",User " + id + ",user" + id + "@example.com,Bandung\n";
+                plain.write(line);
+                gzip.write(line);
+            }
+        }
+        try (Writer out = Files.newBufferedWriter(jsonl, StandardCharsets.UTF_8)) {
+            for (int id = 1; id <= ROWS; id++) {
+                out.write("{\"userId\":" + (id % 10 + 1) + ",\"id\":" + id + ",\"title\":\"Post " + id
+                        + "\",\"body\":\"Lorem ipsum dolor sit amet, consectetur adipiscing elit\"}\n");
+            }
+        }
+    }
+
+    @TearDown
+    public void deleteDatasets() throws IOException {
+        for (Path file : new Path[] {csv, csvGzip, jsonl}) {
+            Files.deleteIfExists(file);
+        }
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long bufferedReaderSplit() throws IOException {
+        long sum = 0;
+        try (BufferedReader reader = Files.newBufferedReader(csv, StandardCharsets.UTF_8)) {
+            reader.readLine();
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                sum += Integer.parseInt(line.split(",")[0]);
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long rowSourceCsv() throws IOException {
+        return sumIds(RowSource.open(csv));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long rowSourceCsvGzip() throws IOException {
+        return sumIds(RowSource.open(csvGzip));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long rowSourceJsonl() throws IOException {
+        return sumIds(RowSource.open(jsonl));
+    }
+
+    private static long sumIds(RowSource rows) {
+        long sum = 0;
+        try (rows) {
+            while (rows.hasNext()) {
+                Row row = rows.next();
+                sum += row.getLong("id");
+            }
+        }
+        return sum;
+    }
+}
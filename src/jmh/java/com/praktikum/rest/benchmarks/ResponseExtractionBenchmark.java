@@ -0,0 +1,148 @@
+package com.praktikum.rest.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.praktikum.rest.model.ModelReaders;
+import com.praktikum.rest.model.Post;
+import com.praktikum.rest.model.User;
+import com.praktikum.rest.utils.FastDataGenerator;
+import io.restassured.path.json.JsonPath;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH comparison cara extract fields dari response body /users (10 users) dan /posts (100 posts)
+ * GPath (JsonPath REST Assured), Map<String, Object>, dan record models lewat ModelReaders
+ * Setiap benchmark parse body dari awal dan membaca fields yang sama, seperti satu assertion di test
+ * Jalankan: mvn test-compile exec:exec -Pjmh -Djmh.include=ResponseExtractionBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseExtractionBenchmark {
+
+    private static final TypeReference<List<Map<String, Object>>> LIST_OF_MAPS = new TypeReference<>() { };
+    private static final ObjectReader MAPS = ModelReaders.MAPPER.readerFor(LIST_OF_MAPS);
+
+    private byte[] usersJson;
+    private String usersText;
+    private byte[] postsJson;
+    private String postsText;
+
+    /**
+     * Payload dengan bentuk dan ukuran yang sama seperti JSONPlaceholder, tanpa network
+     */
+    @Setup
+    public void payloads() throws Exception {
+        List<User> users = new ArrayList<>();
+        List<Post> posts = new ArrayList<>();
+        for (int id = 1; id <= 10; id++) {
+            users.add(FastDataGenerator.generateUser(id));
+            for (int n = 1; n <= 10; n++) {
+                posts.add(new Post(id, (id - 1) * 10 + n, FastDataGenerator.catchPhrase(),
+                        FastDataGenerator.bs() + "\n" + FastDataGenerator.bs() + "\n" + FastDataGenerator.bs()));
+            }
+        }
+        usersJson = ModelReaders.MAPPER.writeValueAsBytes(users);
+        usersText = new String(usersJson, StandardCharsets.UTF_8);
+        postsJson = ModelReaders.MAPPER.writeValueAsBytes(posts);
+        postsText = new String(postsJson, StandardCharsets.UTF_8);
+    }
+
+    //---------------------------------------------------------
+    // /users: id, address.street, company.name
+    //---------------------------------------------------------
+
+    @Benchmark
+    public void usersGPath(Blackhole blackhole) {
+        JsonPath path = JsonPath.from(usersText);
+        blackhole.consume(path.getList("id", Integer.class));
+        blackhole.consume(path.getList("address.street", String.class));
+        blackhole.consume(path.getList("company.name", String.class));
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public void usersMap(Blackhole blackhole) throws Exception {
+        List<Map<String, Object>> users = MAPS.readValue(usersJson);
+        for (Map<String, Object> user : users) {
+            blackhole.consume(user.get("id"));
+            blackhole.consume(((Map<String, Object>) user.get("address")).get("street"));
+            blackhole.consume(((Map<String, Object>) user.get("company")).get("name"));
+        }
+    }
+
+    @Benchmark
+    public void usersRecord(Blackhole blackhole) {
+        List<User> users = ModelReaders.read(ModelReaders.USERS, usersJson);
+        for (User user : users) {
+            blackhole.consume(user.id());
+            blackhole.consume(user.address().street());
+            blackhole.consume(user.company().name());
+        }
+    }
+
+    /**
+     * Baseline tanpa reuse: ObjectMapper baru per response, pola umum di test code
+     */
+    @Benchmark
+    public void usersRecordNewMapper(Blackhole blackhole) throws Exception {
+        List<User> users = new ObjectMapper()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                .readValue(usersJson, new TypeReference<List<User>>() { });
+        for (User user : users) {
+            blackhole.consume(user.id());
+            blackhole.consume(user.address().street());
+            blackhole.consume(user.company().name());
+        }
+    }
+
+    //---------------------------------------------------------
+    // /posts: userId, title
+    //---------------------------------------------------------
+
+    @Benchmark
+    public void postsGPath(Blackhole blackhole) {
+        JsonPath path = JsonPath.from(postsText);
+        blackhole.consume(path.getList("userId", Integer.class));
+        blackhole.consume(path.getList("title", String.class));
+    }
+
+    @Benchmark
+    public void postsMap(Blackhole blackhole) throws Exception {
+        List<Map<String, Object>> posts = MAPS.readValue(postsJson);
+        for (Map<String, Object> post : posts) {
+            blackhole.consume(post.get("userId"));
+            blackhole.consume(post.get("title"));
+        }
+    }
+
+    @Benchmark
+    public void postsRecord(Blackhole blackhole) {
+        List<Post> posts = ModelReaders.read(ModelReaders.POSTS, postsJson);
+        for (Post post : posts) {
+            blackhole.consume(post.userId());
+            blackhole.consume(post.title());
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.praktikum.rest.benchmarks;
+
+import com.praktikum.rest.utils.FastDataGenerator;
+import com.praktikum.rest.utils.UniqueNames;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH untuk generation rate username dan email dengan dan tanpa UniqueNames
+ * Registry dibuat ulang per trial dengan kapasitas "expected", sehingga run panjang mengisi puluhan juta identifier
+ * Jalankan: mvn test-compile exec:exec -Pjmh -Djmh.include=UniqueNamesBenchmark
+ * Tambahkan "-jvmArgs -Xmx2g" untuk expected di atas 100 juta
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UniqueNamesBenchmark {
+
+    @Param({"10000000", "50000000"})
+    private long expected;
+
+    private UniqueNames usernames;
+    private UniqueNames emails;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        usernames = new UniqueNames(expected, 0.01);
+        emails = new UniqueNames(expected, 0.01);
+    }
+
+    @TearDown(Level.Trial)
+    public void report() {
+        System.out.printf(Locale.ROOT, "%nusernames: %,d claimed, %.1f%% suffixed, filter %,d KB, fpp now %.4f%n",
+                usernames.claimed(), 100.0 * usernames.suffixed() / Math.max(1, usernames.claimed()),
+                usernames.sizeInBytes() / 1024, usernames.estimatedFalsePositiveRate());
+        System.out.printf(Locale.ROOT, "emails: %,d claimed, %.1f%% suffixed, filter %,d KB, fpp now %.4f%n",
+                emails.claimed(), 100.0 * emails.suffixed() / Math.max(1, emails.claimed()),
+                emails.sizeInBytes() / 1024, emails.estimatedFalsePositiveRate());
+    }
+
+    @Benchmark
+    public String plainUsername() {
+        return FastDataGenerator.username();
+    }
+
+    @Benchmark
+    public String uniqueUsername() {
+        return usernames.claim(FastDataGenerator.username());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String uniqueUsernameParallel() {
+        return usernames.claim(FastDataGenerator.username());
+    }
+
+    @Benchmark
+    public String plainEmail() {
+        return FastDataGenerator.emailAddress();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String uniqueEmailParallel() {
+        return emails.claim(FastDataGenerator.emailAddress());
+    }
+}
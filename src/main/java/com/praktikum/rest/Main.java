@@ -1,17 +1,209 @@
 package com.praktikum.rest;
 
-//TIP To <b>Run</b> code, press <shortcut actionId="Run"/> or
-// click the <icon src="AllIcons.Actions.Execute"/> icon in the gutter.
+import com.praktikum.rest.cli.CliOptions;
+import com.praktikum.rest.cli.JsonOutput;
+import com.praktikum.rest.config.TestConfig;
+import com.praktikum.rest.fault.FaultProxy;
+import com.praktikum.rest.load.BulkLoadRunner;
+import com.praktikum.rest.load.CapacityFinder;
+import com.praktikum.rest.load.Pacer;
+import com.praktikum.rest.pagination.PageCrawler;
+import com.praktikum.rest.scenario.Scenario;
+import com.praktikum.rest.scenario.ScenarioRunner;
+import com.praktikum.rest.scenario.UserJourneys;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Command line entry point untuk shaded jar (mvn package -Pcli), tanpa Maven di host target
+ * Load commands hanya memakai JDK HttpClient sehingga startup cepat; REST Assured dan TestNG
+ * baru dimuat oleh command "suite"
+ * Flags diproses sebelum TestConfig dimuat karena --url dan output files diteruskan lewat system properties
+ */
 public class Main {
-    public static void main(String[] args) {
-        //TIP Press <shortcut actionId="ShowIntentionActions"/> with your caret at the highlighted text
-        // to see how IntelliJ IDEA suggests fixing it.
-        System.out.printf("Hello and welcome!");
 
-        for (int i = 1; i <= 5; i++) {
-            //TIP Press <shortcut actionId="Debug"/> to start debugging your code. We have set one <icon src="AllIcons.Debugger.Db_set_breakpoint"/> breakpoint
-            // for you, but you can always add more by pressing <shortcut actionId="ToggleLineBreakpoint"/>.
-            System.out.println("i = " + i);
+    private static final String USAGE = """
+            Usage: java -jar api-load-cli.jar <command> [flags]
+
+            Commands:
+              scenario   Weighted user-journey mix (UserJourneys) selama --duration, opsional --scenarios
+              capacity   AIMD capacity search sampai p99 budget terlampaui
+              bulk       POST generated users payload sebanyak --requests (wajib --url)
+              crawl      Crawl collection --path dengan completeness check
+              proxy      Fault-injecting proxy di --port
+              suite      TestNG API suite (butuh *-tests.jar di folder yang sama dengan CLI jar)
+
+            Flags:
+              --url <url>            Base URL target (default JSONPlaceholder, kecuali bulk)
+              --concurrency <n>      Virtual users / workers / page fetch paralel
+              --duration <d>         Durasi run: 500ms, 90s, 5m, 1h (scenario)
+              --rate <n>[/s]         Session start (scenario) atau request (bulk) per detik, 0 = tanpa batas
+              --format <f>           text | json; junit hanya untuk suite (json = JSON lines per test)
+              --output <file>        Tulis report ke file, bukan stdout
+              --classes <A,B>        Test classes untuk suite, contoh UserAPITests,AuthenticationTests
+              --scenarios <a,b>      Subset scenario: browse | author | full-session, contoh browse,author
+              --path <path>          Endpoint untuk bulk (/users) atau crawl (/comments)
+              --requests <n>         Jumlah request untuk bulk
+              --mode <m>             POOLED | UNPOOLED untuk bulk
+              --port <n>             Port untuk proxy (default 8090)
+
+            Flag yang tidak dipakai oleh command ditolak, contoh --format junit untuk scenario.
+
+            Startup lebih cepat dengan AppCDS (JDK 19+):
+              java -XX:+AutoCreateSharedArchive -XX:SharedArchiveFile=api-load-cli.jsa -jar api-load-cli.jar ...
+            """;
+
+    public static void main(String[] args) throws Exception {
+        CliOptions options;
+        try {
+            options = CliOptions.parse(args);
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            System.err.println(e.getMessage());
+            System.err.print(USAGE);
+            System.exit(2);
+            return;
+        }
+        if (options.help() || options.command() == null) {
+            System.out.print(USAGE);
+            return;
+        }
+
+        // Harus sebelum akses pertama ke TestConfig
+        if (options.url() != null) {
+            System.setProperty("base.url", options.url());
+        }
+
+        switch (options.command()) {
+            case "scenario" -> report("SCENARIO SUMMARY", scenario(options), options);
+            case "capacity" -> report("CAPACITY SUMMARY", new CapacityFinder(TestConfig.BASE_URL,
+                    CapacityFinder.DEFAULT_ENDPOINTS, TestConfig.ACCEPTABLE_RESPONSE_TIME).run(), options);
+            case "bulk" -> {
+                // Bulk tidak pernah default ke API publik; target harus dipilih eksplisit
+                if (options.url() == null) {
+                    System.err.println("bulk requires --url, e.g. --url http://localhost:3000");
+                    System.exit(2);
+                }
+                report("BULK LOAD SUMMARY", bulk(options), options);
+            }
+            case "crawl" -> report("CRAWL SUMMARY", crawl(options), options);
+            case "proxy" -> FaultProxy.main(options.port() != null
+                    ? new String[] {String.valueOf(options.port())}
+                    : new String[0]);
+            case "suite" -> suite(options);
+            default -> {
+                System.err.println("Unknown command: " + options.command());
+                System.err.print(USAGE);
+                System.exit(2);
+            }
+        }
+    }
+
+    private static ScenarioRunner.Report scenario(CliOptions options) throws InterruptedException {
+        List<Scenario> mix;
+        try {
+            mix = UserJourneys.mix(options.scenarios());
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+            return null;
+        }
+        int users = options.concurrency() != null ? options.concurrency() : TestConfig.SCENARIO_VIRTUAL_USERS;
+        Duration duration = options.duration() != null
+                ? options.duration()
+                : Duration.ofSeconds(TestConfig.SCENARIO_DURATION_SECONDS);
+        return new ScenarioRunner(TestConfig.BASE_URL, mix)
+                .run(users, duration, new Pacer(options.rate()));
+    }
+
+    private static BulkLoadRunner.Result bulk(CliOptions options) throws InterruptedException {
+        BulkLoadRunner.Mode mode = options.mode() != null
+                ? BulkLoadRunner.Mode.valueOf(options.mode())
+                : BulkLoadRunner.Mode.POOLED;
+        URI target = URI.create(TestConfig.BASE_URL + (options.path() != null ? options.path() : "/users"));
+        long requests = options.requests() != null ? options.requests() : TestConfig.BULK_LOAD_REQUESTS;
+        int concurrency = options.concurrency() != null ? options.concurrency() : TestConfig.BULK_LOAD_CONCURRENCY;
+        return new BulkLoadRunner(target, mode, TestConfig.BULK_LOAD_BATCH_SIZE)
+                .run(requests, concurrency, new Pacer(options.rate()));
+    }
+
+    private static PageCrawler.Result crawl(CliOptions options) {
+        int concurrency = options.concurrency() != null ? options.concurrency() : TestConfig.PAGINATION_CONCURRENCY;
+        PageCrawler crawler = new PageCrawler(TestConfig.BASE_URL, TestConfig.PAGINATION_PAGE_SIZE, concurrency,
+                TestConfig.PAGINATION_PREFETCH);
+        return crawler.crawl(options.path() != null ? options.path() : "/comments", item -> { });
+    }
+
+    /**
+     * Jalankan TestRunner dari test jar; output file diatur lewat -Dresults.jsonl dan -Dresults.junit
+     * Class dimuat secara reflective karena test classes tidak ada di main source set
+     */
+    private static void suite(CliOptions options) throws Exception {
+        if (options.output() != null && options.format().equals("text")) {
+            System.err.println("--output for suite needs --format json or junit");
+            System.exit(2);
+            return;
+        }
+        switch (options.format()) {
+            case "json" -> {
+                System.setProperty("results.junit", "");
+                if (options.output() != null) {
+                    System.setProperty("results.jsonl", options.output().toString());
+                }
+            }
+            case "junit" -> {
+                System.setProperty("results.jsonl", "");
+                if (options.output() != null) {
+                    System.setProperty("results.junit", options.output().toString());
+                }
+            }
+            default -> {
+                System.setProperty("results.jsonl", "");
+                System.setProperty("results.junit", "");
+            }
+        }
+        List<String> runnerArgs = new ArrayList<>();
+        if (!options.classes().isEmpty()) {
+            runnerArgs.add("--classes");
+            runnerArgs.add(String.join(",", options.classes()));
+        }
+
+        Class<?> runner;
+        try {
+            runner = Class.forName("com.praktikum.rest.runners.TestRunner");
+        } catch (ClassNotFoundException e) {
+            System.err.println("Test classes not found: place the *-tests.jar next to the CLI jar "
+                    + "(mvn package -Pcli builds both)");
+            System.exit(2);
+            return;
+        }
+        try {
+            runner.getMethod("main", String[].class).invoke(null, (Object) runnerArgs.toArray(new String[0]));
+        } catch (InvocationTargetException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+    }
+
+    private static void report(String title, Object report, CliOptions options) throws IOException {
+        String text = options.format().equals("json")
+                ? JsonOutput.toJson(report) + System.lineSeparator()
+                : "=== " + title + " ===" + System.lineSeparator() + report + System.lineSeparator();
+        if (options.output() == null) {
+            System.out.print(text);
+            return;
+        }
+        Path parent = options.output().toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
         }
+        Files.writeString(options.output(), text, StandardCharsets.UTF_8);
+        System.out.println("Report written to " + options.output());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,146 @@
+package com.praktikum.rest.auth;
+
+import com.praktikum.rest.metrics.MetricsRegistry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Thread-safe cache untuk auth token per credential
+ * Login hanya dilakukan satu kali per credential; token di-refresh di background sebelum expired
+ * dan hanya ada satu login in-flight per credential (single-flight), sehingga ribuan thread
+ * paralel tidak memicu ribuan login. Thread yang datang saat belum ada token menunggu login yang sama
+ */
+public class TokenCache {
+
+    private final Function<Credentials, String> login;
+    private final long ttlNanos;
+    private final long refreshAheadNanos;
+    private final Map<Credentials, Token> tokens = new ConcurrentHashMap<>();
+    private final Map<Credentials, CompletableFuture<Token>> inFlight = new ConcurrentHashMap<>();
+    // Login berjalan di virtual thread agar refresh-ahead tidak memblokir caller
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final LongAdder requests;
+    private final LongAdder logins;
+    private final LongAdder failures;
+
+    /**
+     * Credential untuk satu akun; password tidak ikut di toString()
+     */
+    public record Credentials(String email, String password) {
+        @Override
+        public String toString() {
+            return "Credentials[" + email + "]";
+        }
+    }
+
+    /**
+     * Token dengan waktu refresh dan expiry dalam System.nanoTime()
+     */
+    record Token(String value, long refreshAtNanos, long expiresAtNanos) {
+    }
+
+    /**
+     * @param login Function yang melakukan login dan mengembalikan token, boleh throw RuntimeException
+     * @param ttl Umur token sejak login
+     * @param refreshAhead Refresh di background jika sisa umur token kurang dari ini
+     * @param registry Registry untuk counters auth_token_requests_total, auth_logins_total, dan lainnya
+     */
+    public static TokenCache create(Function<Credentials, String> login, Duration ttl, Duration refreshAhead,
+                                    MetricsRegistry registry) {
+        TokenCache cache = new TokenCache(login, ttl, refreshAhead, registry);
+        // Gauge di-register setelah constructor selesai agar registry tidak melihat cache yang belum lengkap
+        registry.gauge("auth_logins_avoided", "Jumlah permintaan token yang dilayani tanpa login baru",
+                cache::loginsAvoided);
+        return cache;
+    }
+
+    private TokenCache(Function<Credentials, String> login, Duration ttl, Duration refreshAhead,
+                       MetricsRegistry registry) {
+        this.login = login;
+        this.ttlNanos = ttl.toNanos();
+        this.refreshAheadNanos = Math.min(refreshAhead.toNanos(), ttlNanos);
+        this.requests = registry.counter("auth_token_requests_total", "Jumlah permintaan auth token");
+        this.logins = registry.counter("auth_logins_total", "Jumlah login yang benar-benar dilakukan");
+        this.failures = registry.counter("auth_login_failures_total", "Jumlah login yang gagal");
+    }
+
+    /**
+     * @return Token yang valid untuk credential ini, login hanya jika belum ada atau sudah expired
+     * @throws IllegalStateException jika login gagal dan tidak ada token yang masih valid
+     */
+    public String token(Credentials credentials) {
+        requests.increment();
+        Token token = tokens.get(credentials);
+        long now = System.nanoTime();
+        if (token != null && now - token.expiresAtNanos() < 0) {
+            if (now - token.refreshAtNanos() >= 0) {
+                // Masih valid, refresh di background; caller lain tetap memakai token lama
+                refresh(credentials);
+            }
+            return token.value();
+        }
+        try {
+            return refresh(credentials).join().value();
+        } catch (CompletionException e) {
+            throw new IllegalStateException("Login failed for " + credentials, e.getCause());
+        }
+    }
+
+    /**
+     * Hapus token agar permintaan berikutnya login ulang (contoh setelah response 401)
+     */
+    public void invalidate(Credentials credentials) {
+        tokens.remove(credentials);
+    }
+
+    public long logins() {
+        return logins.sum();
+    }
+
+    /**
+     * @return Jumlah permintaan token yang tidak memicu login sendiri
+     */
+    public long loginsAvoided() {
+        return requests.sum() - logins.sum() - failures.sum();
+    }
+
+    /**
+     * Mulai login untuk credential ini, atau gabung ke login yang sedang berjalan
+     */
+    private CompletableFuture<Token> refresh(Credentials credentials) {
+        CompletableFuture<Token> existing = inFlight.get(credentials);
+        if (existing != null) {
+            return existing;
+        }
+        CompletableFuture<Token> created = new CompletableFuture<>();
+        existing = inFlight.putIfAbsent(credentials, created);
+        if (existing != null) {
+            return existing;
+        }
+        executor.execute(() -> {
+            try {
+                String value = login.apply(credentials);
+                long loggedInAt = System.nanoTime();
+                Token token = new Token(value, loggedInAt + ttlNanos - refreshAheadNanos, loggedInAt + ttlNanos);
+                tokens.put(credentials, token);
+                logins.increment();
+                created.complete(token);
+            } catch (RuntimeException e) {
+                failures.increment();
+                created.completeExceptionally(e);
+            } finally {
+                inFlight.remove(credentials, created);
+            }
+        });
+        return created;
+    }
+}
@@ -0,0 +1,191 @@
+package com.praktikum.rest.cli;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Hasil parsing command line Main: "&lt;command&gt; [--flag value | --flag=value]..."
+ * Nilai yang tidak diberikan bernilai null (atau 0 untuk rate) sehingga command memakai default TestConfig
+ * @param url Base URL target, contoh "http://localhost:3000"
+ * @param concurrency Virtual users (scenario), workers (bulk), atau page fetch paralel (crawl)
+ * @param rate Target per detik: session start (scenario) atau request (bulk), 0 untuk tanpa batas
+ * @param format "text" atau "json" untuk load commands; "text", "json" (JSON lines), atau "junit" untuk suite
+ * @param output File output, null untuk stdout (load commands) atau path default TestConfig (suite)
+ * @param classes Simple name test classes untuk suite, kosong untuk semua
+ * @param scenarios Nama scenario dari UserJourneys untuk scenario, kosong untuk seluruh mix
+ */
+public record CliOptions(String command, String url, Integer concurrency, Duration duration, double rate,
+                         String format, Path output, List<String> classes, List<String> scenarios, String path,
+                         Long requests, Integer port, String mode, boolean help) {
+
+    public static final List<String> FORMATS = List.of("text", "json", "junit");
+
+    // Flags yang dipakai setiap command; flag lain ditolak agar tidak diabaikan diam-diam
+    private static final Map<String, Set<String>> COMMAND_FLAGS = Map.of(
+            "scenario", Set.of("--url", "--concurrency", "--duration", "--rate", "--format", "--output",
+                    "--scenarios"),
+            "capacity", Set.of("--url", "--format", "--output"),
+            "bulk", Set.of("--url", "--concurrency", "--rate", "--format", "--output", "--path", "--requests",
+                    "--mode"),
+            "crawl", Set.of("--url", "--concurrency", "--format", "--output", "--path"),
+            "proxy", Set.of("--port"),
+            "suite", Set.of("--url", "--format", "--output", "--classes"));
+
+    /**
+     * @throws IllegalArgumentException Untuk flag yang tidak dikenal, nilai yang tidak valid,
+     * atau flag dan format yang tidak dipakai oleh command
+     */
+    public static CliOptions parse(String[] args) {
+        String command = null;
+        String url = null;
+        Integer concurrency = null;
+        Duration duration = null;
+        double rate = 0;
+        String format = "text";
+        Path output = null;
+        List<String> classes = List.of();
+        List<String> scenarios = List.of();
+        String path = null;
+        Long requests = null;
+        Integer port = null;
+        String mode = null;
+        boolean help = args.length == 0;
+        Set<String> flags = new HashSet<>();
+
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (!arg.startsWith("--")) {
+                if (command != null) {
+                    throw new IllegalArgumentException("Unexpected argument: " + arg);
+                }
+                command = arg;
+                continue;
+            }
+            if (arg.equals("--help")) {
+                help = true;
+                continue;
+            }
+            int equals = arg.indexOf('=');
+            String flag = equals < 0 ? arg : arg.substring(0, equals);
+            String value;
+            if (equals >= 0) {
+                value = arg.substring(equals + 1);
+            } else if (i + 1 < args.length) {
+                value = args[++i];
+            } else {
+                throw new IllegalArgumentException("Missing value for " + flag);
+            }
+            flags.add(flag.equals("--users") ? "--concurrency" : flag);
+            switch (flag) {
+                case "--url" -> url = stripTrailingSlash(value);
+                case "--concurrency", "--users" -> concurrency = Math.toIntExact(positive(flag, value));
+                case "--duration" -> duration = duration(value);
+                case "--rate" -> rate = rate(value);
+                case "--format" -> format = format(value);
+                case "--output" -> output = Path.of(value);
+                case "--classes" -> classes = names(value);
+                case "--scenarios" -> scenarios = names(value);
+                case "--path" -> path = value;
+                case "--requests" -> requests = positive(flag, value);
+                case "--port" -> port = Integer.parseInt(value);
+                case "--mode" -> mode = value.toUpperCase(Locale.ROOT);
+                default -> throw new IllegalArgumentException("Unknown flag: " + flag);
+            }
+        }
+        if (!help) {
+            checkFlags(command, flags, format);
+        }
+        return new CliOptions(command, url, concurrency, duration, rate, format, output, classes, scenarios, path,
+                requests, port, mode, help);
+    }
+
+    /**
+     * Tolak flag yang tidak dipakai command, contoh --format junit atau --classes untuk load commands
+     * Command yang tidak dikenal dibiarkan, Main yang melaporkannya bersama usage
+     */
+    private static void checkFlags(String command, Set<String> flags, String format) {
+        Set<String> supported = COMMAND_FLAGS.get(command);
+        if (supported == null) {
+            return;
+        }
+        for (String flag : flags) {
+            if (!supported.contains(flag)) {
+                throw new IllegalArgumentException(flag + " is not supported by " + command);
+            }
+        }
+        if (format.equals("junit") && !command.equals("suite")) {
+            throw new IllegalArgumentException("--format junit is only supported by suite");
+        }
+    }
+
+    /**
+     * @param value Angka dengan unit opsional: "500ms", "90s", "5m", "1h"; tanpa unit berarti detik
+     */
+    static Duration duration(String value) {
+        String text = value.trim().toLowerCase(Locale.ROOT);
+        try {
+            if (text.endsWith("ms")) {
+                return Duration.ofMillis(Long.parseLong(text.substring(0, text.length() - 2)));
+            }
+            long amount = Long.parseLong(Character.isDigit(text.charAt(text.length() - 1))
+                    ? text : text.substring(0, text.length() - 1));
+            return switch (text.charAt(text.length() - 1)) {
+                case 'h' -> Duration.ofHours(amount);
+                case 'm' -> Duration.ofMinutes(amount);
+                default -> Duration.ofSeconds(amount);
+            };
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid duration: " + value + " (examples: 500ms, 90s, 5m, 1h)");
+        }
+    }
+
+    /**
+     * @param value Angka per detik, boleh dengan suffix "/s", contoh "50" atau "12.5/s"
+     */
+    static double rate(String value) {
+        String text = value.endsWith("/s") ? value.substring(0, value.length() - 2) : value;
+        try {
+            double rate = Double.parseDouble(text);
+            if (rate < 0) {
+                throw new NumberFormatException();
+            }
+            return rate;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid rate: " + value + " (examples: 50, 12.5/s)");
+        }
+    }
+
+    private static String format(String value) {
+        String format = value.toLowerCase(Locale.ROOT);
+        if (!FORMATS.contains(format)) {
+            throw new IllegalArgumentException("Unknown format: " + value + ", expected one of " + FORMATS);
+        }
+        return format;
+    }
+
+    private static List<String> names(String value) {
+        return Arrays.stream(value.split(",")).map(String::trim).filter(name -> !name.isEmpty()).toList();
+    }
+
+    private static long positive(String flag, String value) {
+        try {
+            long number = Long.parseLong(value);
+            if (number < 1) {
+                throw new NumberFormatException();
+            }
+            return number;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(flag + " must be a positive integer: " + value);
+        }
+    }
+
+    private static String stripTrailingSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+}
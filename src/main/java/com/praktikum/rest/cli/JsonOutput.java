@@ -0,0 +1,104 @@
+package com.praktikum.rest.cli;
+
+import java.lang.reflect.RecordComponent;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Serialisasi report records (ScenarioRunner.Report, CapacityReport, dll.) ke JSON untuk --format json
+ * Cukup untuk records, collections, maps, numbers, dan strings; sengaja tanpa Jackson
+ * agar CLI untuk load commands tidak memuat library besar saat startup
+ * Duration ditulis sebagai milliseconds dengan suffix "Millis" di nama field
+ */
+public final class JsonOutput {
+
+    private JsonOutput() {
+    }
+
+    public static String toJson(Object value) {
+        StringBuilder out = new StringBuilder(256);
+        write(out, value);
+        return out.toString();
+    }
+
+    private static void write(StringBuilder out, Object value) {
+        if (value == null) {
+            out.append("null");
+        } else if (value instanceof Double number && (number.isNaN() || number.isInfinite())) {
+            out.append("null");
+        } else if (value instanceof Number || value instanceof Boolean) {
+            out.append(value);
+        } else if (value instanceof Duration duration) {
+            out.append(duration.toMillis());
+        } else if (value instanceof Enum<?> constant) {
+            quote(out, constant.name());
+        } else if (value instanceof Record record) {
+            writeRecord(out, record);
+        } else if (value instanceof Map<?, ?> map) {
+            out.append('{');
+            boolean first = true;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                out.append(first ? "" : ",");
+                quote(out, String.valueOf(entry.getKey()));
+                out.append(':');
+                write(out, entry.getValue());
+                first = false;
+            }
+            out.append('}');
+        } else if (value instanceof Iterable<?> items) {
+            out.append('[');
+            boolean first = true;
+            for (Object item : items) {
+                out.append(first ? "" : ",");
+                write(out, item);
+                first = false;
+            }
+            out.append(']');
+        } else {
+            quote(out, value.toString());
+        }
+    }
+
+    private static void writeRecord(StringBuilder out, Record record) {
+        out.append('{');
+        boolean first = true;
+        for (RecordComponent component : record.getClass().getRecordComponents()) {
+            Object value;
+            try {
+                component.getAccessor().setAccessible(true);
+                value = component.getAccessor().invoke(record);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Cannot read " + component, e);
+            }
+            out.append(first ? "" : ",");
+            quote(out, value instanceof Duration ? component.getName() + "Millis" : component.getName());
+            out.append(':');
+            write(out, value);
+            first = false;
+        }
+        out.append('}');
+    }
+
+    private static void quote(StringBuilder out, String value) {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.append(String.format(Locale.ROOT, "\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+        out.append('"');
+    }
+}
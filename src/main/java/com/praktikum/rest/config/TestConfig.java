@@ -1,10 +1,15 @@
 package com.praktikum. rest. config;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 /*** Configuration class untuk menyimpan semua constants dan configuration values
  * Digunakan oleh semua test classes untuk menjaga consistency*/
 public class TestConfig {
 
-    // URL Dasar untuk pengujian API - menggunakan JSONPlaceholder
-    public static final String BASE_URL = "https://jsonplaceholder.typicode.com";
+    // URL Dasar untuk pengujian API - menggunakan JSONPlaceholder (override dengan -Dbase.url atau CLI --url)
+    public static final String BASE_URL = System.getProperty("base.url", "https://jsonplaceholder.typicode.com");
 
     // URL API Alternatif untuk pengujian yang membutuhkan autentikasi (opsional)
     public static final String REQRES_BASE_URL = "https://reqres.in/api";
@@ -26,6 +31,275 @@ public class TestConfig {
     // Waktu respons yang ideal
     public static final long ACCEPTABLE_RESPONSE_TIME = 1000L;
 
+    // Konfigurasi capacity-finding mode (lihat CapacityFinder)
+
+    // Concurrency maksimum yang boleh dicoba oleh limiter
+    public static final int CAPACITY_MAX_CONCURRENCY = 64;
+
+    // Durasi satu measurement window dalam milidetik
+    public static final long CAPACITY_STEP_MILLIS = 2000L;
+
+    // Jumlah step maksimum sebelum search dihentikan
+    public static final int CAPACITY_MAX_STEPS = 30;
+
+    // Jumlah backoff sebelum limiter dianggap sudah konvergen
+    public static final int CAPACITY_MAX_BACKOFFS = 3;
+
+    // Error rate maksimum (0.01 = 1%) agar step dianggap sehat
+    public static final double CAPACITY_MAX_ERROR_RATE = 0.01;
+
+    // Konfigurasi metrics registry (override dengan -D system property)
+
+    // Register metrics sebagai MBean agar bisa dipantau lewat JMX
+    public static final boolean METRICS_JMX_ENABLED =
+            Boolean.parseBoolean(System.getProperty("metrics.jmx", "true"));
+
+    // File output Prometheus text format untuk file scraper
+    public static final String METRICS_PROMETHEUS_FILE =
+            System.getProperty("metrics.prometheus.file", "target/metrics/api-metrics.prom");
+
+    // Interval penulisan Prometheus file dalam detik
+    public static final long METRICS_EXPORT_INTERVAL_SECONDS =
+            Long.getLong("metrics.export.interval", 15L);
+
+    // Aktifkan live progress reporting setiap detik (untuk long run / soak test)
+    public static final boolean PROGRESS_ENABLED =
+            Boolean.parseBoolean(System.getProperty("progress.enabled", "false"));
+
+    // File output JSON lines untuk live progress
+    public static final String PROGRESS_FILE =
+            System.getProperty("progress.file", "target/metrics/progress.jsonl");
+
+    // Aktifkan JFR continuous profiling untuk suite run
+    public static final boolean JFR_ENABLED =
+            Boolean.parseBoolean(System.getProperty("jfr.enabled", "false"));
+
+    // File output JFR recording, summary ditulis ke <file>.summary.txt
+    public static final String JFR_FILE = System.getProperty("jfr.file", "target/jfr/suite.jfr");
+
+    // BodyAssertions memakai satu parsed tree per response; false untuk parse ulang per assertion seperti
+    // REST Assured, sehingga baris PARSE di client overhead report bisa dibandingkan antar kedua mode
+    public static final boolean ASSERTIONS_SHARED_TREE =
+            Boolean.parseBoolean(System.getProperty("assertions.shared.tree", "true"));
+
+    // Konfigurasi soak mode (lihat SoakRunner)
+
+    // Durasi default soak run dalam menit
+    public static final long SOAK_DURATION_MINUTES = Long.getLong("soak.minutes", 60L);
+
+    // Interval sampling resource JVM dalam detik
+    public static final long SOAK_SAMPLE_INTERVAL_SECONDS = Long.getLong("soak.sample.interval", 10L);
+
+    // Batas pertumbuhan heap-after-GC per jam (64 MB)
+    public static final double SOAK_MAX_HEAP_GROWTH_PER_HOUR = 64.0 * 1024 * 1024;
+
+    // Batas pertumbuhan GC pause per interval, dalam milidetik per jam
+    public static final double SOAK_MAX_GC_PAUSE_GROWTH_PER_HOUR = 50.0;
+
+    // Batas pertumbuhan jumlah thread per jam
+    public static final double SOAK_MAX_THREAD_GROWTH_PER_HOUR = 10.0;
+
+    // Batas pertumbuhan open file descriptors per jam
+    public static final double SOAK_MAX_FD_GROWTH_PER_HOUR = 50.0;
+
+    // Konfigurasi bulk load dan off-heap payload pool (lihat BulkLoadRunner)
+
+    // Jumlah request default untuk satu bulk load run; sengaja kecil, naikkan dengan --requests untuk target sendiri
+    public static final long BULK_LOAD_REQUESTS = Long.getLong("bulk.requests", 1_000L);
+
+    // Jumlah virtual thread worker yang mengirim request secara bersamaan
+    public static final int BULK_LOAD_CONCURRENCY = Integer.getInteger("bulk.concurrency", 32);
+
+    // Jumlah user per payload, seperti generateMultipleUsers(n)
+    public static final int BULK_LOAD_BATCH_SIZE = Integer.getInteger("bulk.batch", 10);
+
+    // Ukuran buffer terbesar yang di-pool (1 MB), buffer lebih besar dialokasikan tanpa pool
+    public static final int PAYLOAD_POOL_MAX_BUFFER_BYTES = 1024 * 1024;
+
+    // Jumlah buffer idle maksimum yang disimpan per size class
+    public static final int PAYLOAD_POOL_MAX_IDLE_PER_CLASS = 256;
+
+    // Konfigurasi incremental test selection (lihat TestImpactSelector)
+
+    // Rekam endpoint dan TestDataGenerator methods yang dipakai setiap test (StackWalker per generator call)
+    // Nonaktif di run biasa; ImpactRunner mengaktifkannya, atau seed impact map dengan -Dimpact.record=true
+    public static final boolean IMPACT_RECORD_ENABLED =
+            Boolean.parseBoolean(System.getProperty("impact.record", "false"));
+
+    // File test impact map, simpan di CI cache agar tersedia untuk run berikutnya
+    public static final String IMPACT_FILE = System.getProperty("impact.file", "target/impact/test-impact.tsv");
+
+    // Konfigurasi duration-based scheduling (lihat LptScheduler)
+
+    // File riwayat durasi per test method
+    public static final String DURATION_HISTORY_FILE =
+            System.getProperty("duration.history.file", "target/schedule/durations.tsv");
+
+    // Jumlah worker (child JVM) default untuk scheduled run
+    public static final int SCHEDULE_WORKERS = Integer.getInteger("schedule.workers", 4);
+
+    // Bobot run terbaru pada exponential moving average durasi (0..1)
+    public static final double DURATION_SMOOTHING = 0.5;
+
+    // Konfigurasi record-and-replay (lihat TrafficReplay)
+
+    // Mode traffic: "off", "capture" (rekam ke file), atau "replay" (serve dari local server)
+    public static final String REPLAY_MODE = System.getProperty("replay.mode", "off");
+
+    // File recording, commit atau cache file ini agar CI tanpa internet bisa replay
+    public static final String REPLAY_FILE = System.getProperty("replay.file", "target/replay/traffic.rrpl");
+
+    // Faktor latency saat replay: 1.0 = recorded latency, 0 = loopback speed, 3.0 = backend 3x lebih lambat
+    public static final double REPLAY_LATENCY_SCALE =
+            Double.parseDouble(System.getProperty("replay.latency.scale", "1.0"));
+
+    // Jumlah recording maksimum per request key (method + URL)
+    public static final int REPLAY_MAX_PER_KEY = 8;
+
+    // Konfigurasi retry dan hedged requests (lihat ResilientCall)
+
+    // Jumlah attempt maksimum per request, termasuk attempt pertama
+    public static final int RETRY_MAX_ATTEMPTS = Integer.getInteger("retry.attempts", 3);
+
+    // Backoff untuk retry pertama, dikali dua setiap retry berikutnya (dengan full jitter)
+    public static final long RETRY_BASE_DELAY_MILLIS = Long.getLong("retry.base.delay", 100L);
+
+    // Batas atas backoff per retry
+    public static final long RETRY_MAX_DELAY_MILLIS = Long.getLong("retry.max.delay", 2000L);
+
+    // Status code transient yang di-retry
+    public static final Set<Integer> RETRY_STATUSES = Set.of(429, 502, 503, 504);
+
+    // Kirim hedged request (copy kedua) untuk GET jika attempt pertama lebih lambat dari HEDGE_PERCENTILE
+    public static final boolean HEDGE_ENABLED = Boolean.parseBoolean(System.getProperty("hedge.enabled", "false"));
+
+    // Percentile latency per endpoint yang menjadi hedge delay
+    public static final double HEDGE_PERCENTILE = 95.0;
+
+    // Jumlah sample per endpoint sebelum hedging aktif, agar percentile cukup stabil
+    public static final int HEDGE_MIN_SAMPLES = 20;
+
+    // Konfigurasi client-side rate limiter per host (lihat HostRateLimiter dan TokenBucket)
+
+    // Batasi request per host dan ikuti Retry-After / rate-limit headers agar run paralel tidak memicu 429
+    public static final boolean RATE_LIMIT_ENABLED =
+            Boolean.parseBoolean(System.getProperty("ratelimit.enabled", "true"));
+
+    // Quota per host dalam request per detik, format "host=rate,host=rate"
+    // Host lain (contoh localhost saat replay) tidak dibatasi kecuali response mengirim rate-limit headers
+    public static final String RATE_LIMIT_HOSTS =
+            System.getProperty("ratelimit.hosts", "reqres.in=10,jsonplaceholder.typicode.com=50");
+
+    // Jumlah request yang boleh dikirim sekaligus setelah host idle
+    public static final int RATE_LIMIT_BURST = Integer.getInteger("ratelimit.burst", 5);
+
+    // Batas atas pause dari Retry-After atau reset header, agar header yang aneh tidak menggantung run
+    public static final long RATE_LIMIT_MAX_PAUSE_MILLIS = Long.getLong("ratelimit.max.pause", 60_000L);
+
+    // Konfigurasi shared auth token (lihat TokenCache dan AuthTokenFilter)
+
+    // Tambahkan Bearer token dari login ReqRes ke semua request di useReqresAPI()
+    public static final boolean AUTH_TOKEN_ENABLED = Boolean.parseBoolean(System.getProperty("auth.token", "false"));
+
+    // Umur token sejak login; ReqRes tidak mengirim expiry sehingga dipakai nilai konservatif
+    public static final long AUTH_TOKEN_TTL_SECONDS = Long.getLong("auth.token.ttl", 600L);
+
+    // Token di-refresh di background jika sisa umurnya kurang dari ini
+    public static final long AUTH_TOKEN_REFRESH_AHEAD_SECONDS = 60L;
+
+    // Konfigurasi scenario load mix (lihat ScenarioRunner)
+
+    // Jumlah virtual user (session paralel) default
+    public static final int SCENARIO_VIRTUAL_USERS = Integer.getInteger("scenario.users", 10);
+
+    // Durasi default scenario run dalam detik
+    public static final long SCENARIO_DURATION_SECONDS = Long.getLong("scenario.seconds", 60L);
+
+    // Rata-rata think time antar step (exponential distribution)
+    public static final double SCENARIO_THINK_TIME_MILLIS =
+            Double.parseDouble(System.getProperty("scenario.think.millis", "1000"));
+
+    // Konfigurasi pagination crawler (lihat PageCrawler)
+
+    // Nilai _limit per page
+    public static final int PAGINATION_PAGE_SIZE = Integer.getInteger("pagination.limit", 50);
+
+    // Jumlah page yang di-fetch bersamaan
+    public static final int PAGINATION_CONCURRENCY = Integer.getInteger("pagination.concurrency", 4);
+
+    // Jumlah page read-ahead di depan page yang sedang dikonsumsi
+    public static final int PAGINATION_PREFETCH = Integer.getInteger("pagination.prefetch", 16);
+
+    // Konfigurasi streaming test results (lihat ResultStream dan StreamingResultListener)
+
+    // File JSON lines, satu line per test invocation plus summary line; kosong untuk nonaktif
+    public static final String RESULTS_JSONL_FILE =
+            System.getProperty("results.jsonl", "target/results/results.jsonl");
+
+    // File JUnit XML; kosong untuk nonaktif
+    public static final String RESULTS_JUNIT_FILE =
+            System.getProperty("results.junit", "target/results/TEST-api-tests.xml");
+
+    // Jumlah failure pertama yang disimpan lengkap untuk summary di akhir run
+    public static final int RESULTS_FAILURE_SAMPLE = Integer.getInteger("results.failure.sample", 20);
+
+    // Panjang maksimum parameters dan stack trace per result, agar satu row tidak membengkakkan output
+    public static final int RESULTS_MAX_PARAMETERS_LENGTH = 200;
+    public static final int RESULTS_MAX_STACK_FRAMES = 30;
+
+    // Konfigurasi dataset untuk data-driven tests (lihat RowSource)
+
+    // Dataset user IDs (CSV dengan kolom "id"): file path (boleh .gz) atau "classpath:" resource
+    public static final String DATASET_USER_IDS =
+            System.getProperty("dataset.userIds", "classpath:datasets/user-ids.csv");
+
+    // Dataset post payloads (JSON lines, satu request body per line)
+    public static final String DATASET_POSTS =
+            System.getProperty("dataset.posts", "classpath:datasets/posts.jsonl");
+
+    // Jumlah row yang diproses bersamaan oleh RowSource.forEachParallel
+    public static final int DATASET_CONCURRENCY = Integer.getInteger("dataset.concurrency", 8);
+
+    // Konfigurasi uniqueness untuk generated usernames dan emails (lihat UniqueNames)
+
+    // Username dan email dari generateUserData / generateValidUserData dijamin unik per JVM; false untuk random murni
+    public static final boolean UNIQUE_IDENTIFIERS =
+            Boolean.parseBoolean(System.getProperty("data.unique", "true"));
+
+    // Perkiraan jumlah identifier per jenis; Bloom filter butuh sekitar 1.5 bytes (12 bits) per identifier pada 1%
+    // Naikkan untuk bulk seeding besar, contoh -Ddata.unique.expected=50000000
+    public static final long UNIQUE_EXPECTED_IDENTIFIERS = Long.getLong("data.unique.expected", 1_000_000L);
+
+    // Target false positive rate; false positive hanya menambah suffix, tidak pernah menghasilkan duplicate
+    public static final double UNIQUE_FALSE_POSITIVE_RATE =
+            Double.parseDouble(System.getProperty("data.unique.fpp", "0.01"));
+
+    // Konfigurasi A/B differential run (lihat DifferentialFilter dan DifferentialReport)
+
+    // Base URL candidate (build baru); jika diisi, setiap request ke BASE_URL (baseline) juga dikirim ke sini
+    // dalam urutan acak per request, contoh -Dbase.url=http://localhost:3000 -Dab.candidate=http://localhost:3001
+    public static final String AB_CANDIDATE_URL = System.getProperty("ab.candidate", "");
+
+    // Field JSON (di level mana pun) yang diabaikan saat membandingkan response, contoh timestamp dari server
+    public static final Set<String> AB_IGNORED_FIELDS = Arrays.stream(
+                    System.getProperty("ab.ignore", "createdAt,updatedAt").split(","))
+            .map(String::trim).filter(field -> !field.isEmpty()).collect(Collectors.toUnmodifiableSet());
+
+    // Confidence level untuk interval selisih latency (bootstrap percentile)
+    public static final double AB_CONFIDENCE = Double.parseDouble(System.getProperty("ab.confidence", "0.95"));
+
+    // Jumlah bootstrap resamples per endpoint saat report dibuat
+    public static final int AB_BOOTSTRAP_RESAMPLES = Integer.getInteger("ab.bootstrap", 1000);
+
+    // Jumlah pasangan latency per endpoint yang disimpan untuk bootstrap (reservoir sampling)
+    public static final int AB_RESERVOIR_SIZE = 4096;
+
+    // Jumlah perbedaan response pertama yang disimpan lengkap untuk report
+    public static final int AB_MISMATCH_SAMPLE = 20;
+
+    // File report JSON, ditulis di akhir suite
+    public static final String AB_REPORT_FILE = System.getProperty("ab.report", "target/ab/ab-report.json");
+
     // Jalur (path) data untuk validasi skema JSON (jika digunakan)
     public static final String USERS_SCHEMA_PATH = "schemas/users-schema.json";
     public static final String USER_SCHEMA_PATH = "schemas/user-schema.json";
@@ -0,0 +1,116 @@
+package com.praktikum.rest.data;
+
+/**
+ * Scanner untuk mengambil satu top-level field dari JSON object tanpa membangun tree
+ */
+final class JsonFields {
+
+    private JsonFields() {
+    }
+
+    /**
+     * @param json Satu JSON object, contoh {"id":1,"name":"Leanne","address":{"city":"Gwenborough"}}
+     * @return String tanpa quote (dengan escape dasar di-decode), literal number/boolean,
+     *         JSON mentah untuk object/array, atau null jika field tidak ada atau bernilai null
+     */
+    static String topLevel(String json, String name) {
+        int depth = 0;
+        for (int i = 0; i < json.length(); i++) {
+            char c = json.charAt(i);
+            if (c == '"') {
+                int end = skipString(json, i);
+                if (depth == 1 && end - i - 1 == name.length() && json.startsWith(name, i + 1)) {
+                    int colon = skipWhitespace(json, end + 1);
+                    if (colon < json.length() && json.charAt(colon) == ':') {
+                        return value(json, skipWhitespace(json, colon + 1));
+                    }
+                }
+                i = end;
+            } else if (c == '{' || c == '[') {
+                depth++;
+            } else if (c == '}' || c == ']') {
+                depth--;
+            }
+        }
+        return null;
+    }
+
+    private static String value(String json, int start) {
+        if (start >= json.length()) {
+            return null;
+        }
+        char c = json.charAt(start);
+        if (c == '"') {
+            int end = skipString(json, start);
+            String raw = json.substring(start + 1, end);
+            return raw.indexOf('\\') < 0 ? raw : unescape(raw);
+        }
+        if (c == '{' || c == '[') {
+            int depth = 0;
+            for (int i = start; i < json.length(); i++) {
+                char d = json.charAt(i);
+                if (d == '"') {
+                    i = skipString(json, i);
+                } else if (d == '{' || d == '[') {
+                    depth++;
+                } else if ((d == '}' || d == ']') && --depth == 0) {
+                    return json.substring(start, i + 1);
+                }
+            }
+            return json.substring(start);
+        }
+        int end = start;
+        while (end < json.length() && ",}] \t\r\n".indexOf(json.charAt(end)) < 0) {
+            end++;
+        }
+        String literal = json.substring(start, end);
+        return literal.equals("null") ? null : literal;
+    }
+
+    private static String unescape(String raw) {
+        StringBuilder out = new StringBuilder(raw.length());
+        for (int i = 0; i < raw.length(); i++) {
+            char c = raw.charAt(i);
+            if (c != '\\' || i + 1 >= raw.length()) {
+                out.append(c);
+                continue;
+            }
+            char e = raw.charAt(++i);
+            switch (e) {
+                case 'n' -> out.append('\n');
+                case 't' -> out.append('\t');
+                case 'r' -> out.append('\r');
+                case 'b' -> out.append('\b');
+                case 'f' -> out.append('\f');
+                case 'u' -> {
+                    if (i + 4 < raw.length()) {
+                        out.append((char) Integer.parseInt(raw.substring(i + 1, i + 5), 16));
+                        i += 4;
+                    }
+                }
+                default -> out.append(e);
+            }
+        }
+        return out.toString();
+    }
+
+    private static int skipString(String json, int start) {
+        for (int i = start + 1; i < json.length(); i++) {
+            char c = json.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '"') {
+                return i;
+            }
+        }
+        return json.length() - 1;
+    }
+
+    private static int skipWhitespace(String json, int from) {
+        int i = from;
+        while (i < json.length() && Character.isWhitespace(json.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+}
@@ -0,0 +1,138 @@
+package com.praktikum.rest.data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Satu baris dataset yang di-parse secara lazy
+ * Row hanya menyimpan line mentah; CSV di-split saat field pertama diakses,
+ * JSONL di-scan per field tanpa membangun tree, sehingga field yang tidak dipakai tidak pernah di-parse
+ */
+public final class Row {
+
+    private final long lineNumber;
+    private final String line;
+    private final RowSource.Format format;
+    // Nama kolom CSV -> index, sama untuk semua row dari satu file
+    private final Map<String, Integer> columns;
+    private String[] fields;
+
+    Row(long lineNumber, String line, RowSource.Format format, Map<String, Integer> columns) {
+        this.lineNumber = lineNumber;
+        this.line = line;
+        this.format = format;
+        this.columns = columns;
+    }
+
+    /**
+     * @return Nomor baris di file (1-based, termasuk header)
+     */
+    public long lineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * @return Line apa adanya, contoh JSON object untuk dipakai langsung sebagai request body
+     */
+    public String raw() {
+        return line;
+    }
+
+    /**
+     * @return Nilai kolom CSV berdasarkan index (0-based)
+     */
+    public String get(int index) {
+        if (format != RowSource.Format.CSV) {
+            throw new UnsupportedOperationException("Index access is only supported for CSV rows");
+        }
+        String[] values = fields();
+        return index < values.length ? values[index] : null;
+    }
+
+    /**
+     * @return Nilai kolom CSV (berdasarkan header) atau top-level field JSONL; null jika tidak ada
+     *         Untuk JSONL, nested object/array dikembalikan sebagai JSON mentah
+     */
+    public String get(String name) {
+        if (format == RowSource.Format.JSONL) {
+            return JsonFields.topLevel(line, name);
+        }
+        Integer index = columns.get(name);
+        if (index == null) {
+            throw new IllegalArgumentException("Unknown column '" + name + "', header has " + columns.keySet());
+        }
+        return get(index);
+    }
+
+    public int getInt(String name) {
+        return Integer.parseInt(required(name));
+    }
+
+    public long getLong(String name) {
+        return Long.parseLong(required(name));
+    }
+
+    private String required(String name) {
+        String value = get(name);
+        if (value == null || value.isEmpty()) {
+            throw new IllegalStateException("Line " + lineNumber + " has no value for '" + name + "'");
+        }
+        return value;
+    }
+
+    private String[] fields() {
+        if (fields == null) {
+            fields = splitCsv(line);
+        }
+        return fields;
+    }
+
+    /**
+     * Split satu CSV line (RFC 4180): field dengan quote boleh berisi koma dan "" untuk quote
+     * Newline di dalam quoted field tidak didukung karena dataset dibaca per line
+     */
+    static String[] splitCsv(String line) {
+        // Fast path untuk line tanpa quote
+        if (line.indexOf('"') < 0) {
+            List<String> values = new ArrayList<>(8);
+            int start = 0;
+            for (int comma = line.indexOf(','); comma >= 0; comma = line.indexOf(',', start)) {
+                values.add(line.substring(start, comma));
+                start = comma + 1;
+            }
+            values.add(line.substring(start));
+            return values.toArray(new String[0]);
+        }
+        List<String> values = new ArrayList<>(8);
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        values.add(value.toString());
+        return values.toArray(new String[0]);
+    }
+
+    @Override
+    public String toString() {
+        return "line " + lineNumber + ": " + (line.length() > 80 ? line.substring(0, 80) + "..." : line);
+    }
+}
@@ -0,0 +1,312 @@
+package com.praktikum.rest.data;
+
+import com.praktikum.rest.metrics.TestContext;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Streaming reader untuk dataset CSV (dengan header) atau JSON lines, opsional gzip
+ * File dibaca dengan buffer besar dan dipotong per line di level byte; setiap line menjadi Row
+ * yang baru di-parse ketika field-nya diakses, sehingga memory tidak bergantung pada ukuran file
+ * Gzip dideteksi dari magic bytes, format dari extension (.csv, .jsonl, .ndjson, dengan atau tanpa .gz)
+ */
+public class RowSource implements Iterator<Row>, Closeable {
+
+    // Ukuran buffer baca; cukup besar agar read syscall tidak mendominasi
+    private static final int BUFFER_SIZE = 256 * 1024;
+
+    /**
+     * Format dataset
+     */
+    public enum Format {
+        CSV, JSONL;
+
+        /**
+         * @return Format dari nama file, contoh "users.csv.gz" -> CSV
+         */
+        public static Format of(String fileName) {
+            String name = fileName.toLowerCase(Locale.ROOT);
+            if (name.endsWith(".gz")) {
+                name = name.substring(0, name.length() - 3);
+            }
+            if (name.endsWith(".csv")) {
+                return CSV;
+            }
+            if (name.endsWith(".jsonl") || name.endsWith(".ndjson")) {
+                return JSONL;
+            }
+            throw new IllegalArgumentException("Unknown dataset format: " + fileName + " (expected .csv or .jsonl)");
+        }
+    }
+
+    private final InputStream in;
+    private final Format format;
+    private final String name;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private Map<String, Integer> columns = Map.of();
+    // Line yang melewati batas buffer
+    private byte[] carry = new byte[256];
+    private int position;
+    private int limit;
+    private long lineNumber;
+    private Row next;
+    private boolean eof;
+
+    private RowSource(InputStream in, Format format, String name) throws IOException {
+        this.in = in;
+        this.format = format;
+        this.name = name;
+        if (format == Format.CSV) {
+            String header = readLine();
+            if (header == null) {
+                throw new IOException("Dataset " + name + " is empty, expected a CSV header");
+            }
+            String[] names = Row.splitCsv(stripBom(header));
+            Map<String, Integer> index = new HashMap<>();
+            for (int i = 0; i < names.length; i++) {
+                index.put(names[i].trim(), i);
+            }
+            columns = Collections.unmodifiableMap(index);
+        }
+    }
+
+    /**
+     * Buka dataset dari file; format dari extension, gzip dari magic bytes
+     */
+    public static RowSource open(Path file) throws IOException {
+        return open(Files.newInputStream(file), Format.of(file.getFileName().toString()), file.toString());
+    }
+
+    /**
+     * Buka dataset dari file path, atau dari classpath dengan prefix "classpath:"
+     * @param location Contoh "/data/user-ids.csv.gz" atau "classpath:datasets/user-ids.csv"
+     */
+    public static RowSource locate(String location) throws IOException {
+        if (!location.startsWith("classpath:")) {
+            return open(Path.of(location));
+        }
+        String resource = location.substring("classpath:".length());
+        InputStream stream = RowSource.class.getClassLoader().getResourceAsStream(resource);
+        if (stream == null) {
+            throw new IOException("Dataset resource not found: " + resource);
+        }
+        return open(stream, Format.of(resource), location);
+    }
+
+    /**
+     * Buka dataset dari stream, contoh classpath resource
+     * @param name Nama untuk error messages
+     */
+    public static RowSource open(InputStream stream, Format format, String name) throws IOException {
+        BufferedInputStream buffered = new BufferedInputStream(stream, 2);
+        buffered.mark(2);
+        int first = buffered.read();
+        int second = buffered.read();
+        buffered.reset();
+        InputStream in = first == 0x1f && second == 0x8b
+                ? new GZIPInputStream(buffered, BUFFER_SIZE)
+                : buffered;
+        try {
+            return new RowSource(in, format, name);
+        } catch (IOException | RuntimeException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return Nama kolom CSV, kosong untuk JSONL
+     */
+    public Map<String, Integer> columns() {
+        return columns;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !eof) {
+            try {
+                String line;
+                do {
+                    line = readLine();
+                } while (line != null && line.isBlank());
+                if (line == null) {
+                    eof = true;
+                    close();
+                } else {
+                    next = new Row(lineNumber, line, format, columns);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read " + name + " at line " + lineNumber, e);
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public Row next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Row row = next;
+        next = null;
+        return row;
+    }
+
+    /**
+     * Iterator untuk TestNG @DataProvider: TestNG mengambil row satu per satu saat invocation berjalan
+     * File ditutup otomatis setelah row terakhir
+     * @param mapper Row ke parameters test method, contoh row -> new Object[] {row.getInt("id")}
+     */
+    public Iterator<Object[]> parameters(Function<Row, Object[]> mapper) {
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return RowSource.this.hasNext();
+            }
+
+            @Override
+            public Object[] next() {
+                return mapper.apply(RowSource.this.next());
+            }
+        };
+    }
+
+    /**
+     * Hasil forEachParallel
+     * @param firstFailure Exception pertama dari consumer, null jika semua row sukses
+     */
+    public record ParallelResult(long rows, long failures, Throwable firstFailure) {
+    }
+
+    /**
+     * Proses semua row secara paralel di virtual threads dengan jumlah row in-flight terbatas
+     * Reader berhenti membaca selama semua slot terpakai, sehingga memory tetap sebesar concurrency
+     * Exception dari consumer dihitung per row dan tidak menghentikan run
+     * TestContext thread pemanggil dibawa ke setiap row, sama seperti hedged request di ResilientCall
+     */
+    public ParallelResult forEachParallel(int concurrency, Consumer<Row> consumer) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(concurrency);
+        LongAdder rows = new LongAdder();
+        LongAdder failures = new LongAdder();
+        AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            while (hasNext()) {
+                Row row = next();
+                inFlight.acquire();
+                // Test context caller ikut ke virtual thread agar metrics, impact usage,
+                // dan client overhead per row ter-attribute ke test yang memanggil
+                executor.submit(TestContext.propagate(() -> {
+                    try {
+                        consumer.accept(row);
+                    } catch (RuntimeException | AssertionError e) {
+                        failures.increment();
+                        firstFailure.compareAndSet(null, e);
+                    } finally {
+                        rows.increment();
+                        inFlight.release();
+                    }
+                    return null;
+                }));
+            }
+        } finally {
+            close();
+        }
+        return new ParallelResult(rows.sum(), failures.sum(), firstFailure.get());
+    }
+
+    @Override
+    public void close() {
+        try {
+            in.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close " + name, e);
+        }
+    }
+
+    /**
+     * @return Line berikutnya tanpa "\n" / "\r\n", null di akhir file
+     */
+    private String readLine() throws IOException {
+        int carried = 0;
+        while (true) {
+            if (position >= limit) {
+                limit = in.read(buffer, 0, buffer.length);
+                position = 0;
+                if (limit <= 0) {
+                    limit = 0;
+                    if (carried == 0) {
+                        return null;
+                    }
+                    lineNumber++;
+                    return decode(carry, 0, carried);
+                }
+            }
+            int newline = indexOf(buffer, position, limit);
+            if (newline >= 0) {
+                lineNumber++;
+                String line;
+                if (carried == 0) {
+                    line = decode(buffer, position, newline - position);
+                } else {
+                    carry = append(carry, carried, buffer, position, newline - position);
+                    line = decode(carry, 0, carried + newline - position);
+                }
+                position = newline + 1;
+                return line;
+            }
+            carry = append(carry, carried, buffer, position, limit - position);
+            carried += limit - position;
+            position = limit;
+        }
+    }
+
+    private static int indexOf(byte[] bytes, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (bytes[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static byte[] append(byte[] target, int length, byte[] source, int offset, int count) {
+        byte[] out = target.length >= length + count
+                ? target
+                : Arrays.copyOf(target, Math.max(target.length * 2, length + count));
+        System.arraycopy(source, offset, out, length, count);
+        return out;
+    }
+
+    private static String decode(byte[] bytes, int offset, int length) {
+        if (length > 0 && bytes[offset + length - 1] == '\r') {
+            length--;
+        }
+        return new String(bytes, offset, length, StandardCharsets.UTF_8);
+    }
+
+    private static String stripBom(String header) {
+        return header.startsWith("\uFEFF") ? header.substring(1) : header;
+    }
+}
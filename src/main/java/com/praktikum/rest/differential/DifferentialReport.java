@@ -0,0 +1,303 @@
+package com.praktikum.rest.differential;
+
+import com.praktikum.rest.cli.JsonOutput;
+import com.praktikum.rest.config.TestConfig;
+import com.praktikum.rest.metrics.LatencyHistogram;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hasil A/B differential run: request yang sama dikirim ke baseline (A) dan candidate (B) secara interleaved
+ * Per endpoint dicatat equivalence response dan pasangan latency (A, B) dari request yang sama,
+ * sehingga noise jaringan dan beban mesin yang berubah selama run mengenai kedua sisi secara sama
+ * Confidence interval selisih latency dihitung dengan bootstrap atas pasangan tersebut;
+ * pasangan disimpan dengan reservoir sampling sehingga memory konstan per endpoint
+ */
+public class DifferentialReport {
+
+    private static final DifferentialReport GLOBAL = new DifferentialReport(TestConfig.AB_RESERVOIR_SIZE,
+            TestConfig.AB_MISMATCH_SAMPLE);
+
+    // Seed tetap agar report dari data yang sama selalu menghasilkan interval yang sama
+    private static final long BOOTSTRAP_SEED = 42L;
+
+    private final int reservoirSize;
+    private final int mismatchSampleSize;
+    private final Map<String, EndpointPairs> endpoints = new ConcurrentHashMap<>();
+    // Diakses hanya di dalam synchronized
+    private final List<String> mismatchSample = new ArrayList<>();
+
+    /**
+     * Hasil perbandingan response candidate terhadap baseline
+     */
+    public enum Outcome {
+        EQUIVALENT, STATUS_MISMATCH, BODY_MISMATCH
+    }
+
+    /**
+     * Ringkasan satu endpoint; latency dalam milidetik, selisih = candidate - baseline (negatif = lebih cepat)
+     * @param pairs Jumlah request yang berhasil dikirim ke kedua sisi
+     * @param candidateErrors Request yang gagal di candidate (IO error), tidak masuk ke pairs
+     * @param p50Diff Selisih median dengan interval [p50DiffLow, p50DiffHigh]
+     * @param verdict "faster", "slower", atau "no significant difference" berdasarkan interval selisih median
+     */
+    public record EndpointResult(String endpoint, long pairs, long equivalent, long statusMismatches,
+                                 long bodyMismatches, long candidateErrors,
+                                 double baselineP50, double candidateP50, double baselineP99, double candidateP99,
+                                 double meanDiff, double meanDiffLow, double meanDiffHigh,
+                                 double p50Diff, double p50DiffLow, double p50DiffHigh,
+                                 double p99Diff, double p99DiffLow, double p99DiffHigh,
+                                 double confidence, String verdict) {
+    }
+
+    /**
+     * Pasangan latency dan equivalence counters untuk satu endpoint
+     */
+    static final class EndpointPairs {
+        final LatencyHistogram baseline = new LatencyHistogram();
+        final LatencyHistogram candidate = new LatencyHistogram();
+        final LongAdder equivalent = new LongAdder();
+        final LongAdder statusMismatches = new LongAdder();
+        final LongAdder bodyMismatches = new LongAdder();
+        final LongAdder candidateErrors = new LongAdder();
+        // Reservoir pasangan (baseline, candidate) dalam mikrodetik; diakses hanya di dalam synchronized
+        final long[] baselineSample;
+        final long[] candidateSample;
+        long seen;
+
+        EndpointPairs(int reservoirSize) {
+            baselineSample = new long[reservoirSize];
+            candidateSample = new long[reservoirSize];
+        }
+
+        synchronized void sample(long baselineMicros, long candidateMicros) {
+            long index = seen < baselineSample.length ? seen : ThreadLocalRandom.current().nextLong(seen + 1);
+            seen++;
+            if (index < baselineSample.length) {
+                baselineSample[(int) index] = baselineMicros;
+                candidateSample[(int) index] = candidateMicros;
+            }
+        }
+
+        synchronized long[][] snapshot() {
+            int size = (int) Math.min(seen, baselineSample.length);
+            return new long[][] {Arrays.copyOf(baselineSample, size), Arrays.copyOf(candidateSample, size)};
+        }
+    }
+
+    /**
+     * @param reservoirSize Jumlah pasangan latency per endpoint yang disimpan untuk bootstrap
+     * @param mismatchSampleSize Jumlah mismatch pertama yang disimpan untuk report
+     */
+    public DifferentialReport(int reservoirSize, int mismatchSampleSize) {
+        this.reservoirSize = reservoirSize;
+        this.mismatchSampleSize = mismatchSampleSize;
+    }
+
+    /**
+     * @return Report global yang diisi oleh DifferentialFilter
+     */
+    public static DifferentialReport global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Catat satu pasangan request
+     * @param endpoint Nama endpoint "METHOD /path", contoh "GET /users/{id}"
+     * @param detail Penjelasan mismatch untuk sample, null jika EQUIVALENT
+     */
+    public void record(String endpoint, long baselineMicros, long candidateMicros, Outcome outcome, String detail) {
+        EndpointPairs pairs = pairs(endpoint);
+        pairs.baseline.record(baselineMicros);
+        pairs.candidate.record(candidateMicros);
+        pairs.sample(baselineMicros, candidateMicros);
+        switch (outcome) {
+            case EQUIVALENT -> pairs.equivalent.increment();
+            case STATUS_MISMATCH -> pairs.statusMismatches.increment();
+            case BODY_MISMATCH -> pairs.bodyMismatches.increment();
+        }
+        if (outcome != Outcome.EQUIVALENT) {
+            sampleMismatch(endpoint + " " + outcome + ": " + detail);
+        }
+    }
+
+    /**
+     * Request ke candidate gagal tanpa response; baseline tetap dipakai oleh test
+     */
+    public void recordCandidateError(String endpoint, Throwable error) {
+        pairs(endpoint).candidateErrors.increment();
+        sampleMismatch(endpoint + " CANDIDATE_ERROR: " + error);
+    }
+
+    public boolean isEmpty() {
+        return endpoints.isEmpty();
+    }
+
+    public synchronized List<String> mismatchSample() {
+        return List.copyOf(mismatchSample);
+    }
+
+    /**
+     * @return Hasil per endpoint, urut berdasarkan nama endpoint
+     */
+    public List<EndpointResult> results() {
+        List<EndpointResult> results = new ArrayList<>();
+        new TreeMap<>(endpoints).forEach((endpoint, pairs) -> results.add(result(endpoint, pairs)));
+        return results;
+    }
+
+    /**
+     * @return Ringkasan untuk console: equivalence dan latency per endpoint dengan confidence interval
+     */
+    public String summary() {
+        StringBuilder out = new StringBuilder("A/B differential summary (candidate - baseline, negatif = lebih cepat)");
+        out.append(System.lineSeparator());
+        for (EndpointResult r : results()) {
+            out.append(String.format(Locale.ROOT,
+                    "  %-28s pairs=%d equivalent=%d status!=%d body!=%d errors=%d%n"
+                            + "  %-28s p50 %.1f -> %.1fms diff %+.1fms [%+.1f, %+.1f]  "
+                            + "p99 %.1f -> %.1fms diff %+.1fms [%+.1f, %+.1f]  %s%n",
+                    r.endpoint(), r.pairs(), r.equivalent(), r.statusMismatches(), r.bodyMismatches(),
+                    r.candidateErrors(), "", r.baselineP50(), r.candidateP50(), r.p50Diff(), r.p50DiffLow(),
+                    r.p50DiffHigh(), r.baselineP99(), r.candidateP99(), r.p99Diff(), r.p99DiffLow(),
+                    r.p99DiffHigh(), r.verdict()));
+        }
+        List<String> mismatches = mismatchSample();
+        if (!mismatches.isEmpty()) {
+            out.append("First ").append(mismatches.size()).append(" differences:").append(System.lineSeparator());
+            mismatches.forEach(line -> out.append("  ").append(line).append(System.lineSeparator()));
+        }
+        return out.toString();
+    }
+
+    /**
+     * Tulis results dan mismatch sample sebagai JSON
+     */
+    public void writeTo(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Map<String, Object> report = Map.of("endpoints", results(), "differences", mismatchSample());
+        Files.writeString(file, JsonOutput.toJson(report) + System.lineSeparator(), StandardCharsets.UTF_8);
+    }
+
+    private EndpointPairs pairs(String endpoint) {
+        EndpointPairs pairs = endpoints.get(endpoint);
+        if (pairs == null) {
+            pairs = endpoints.computeIfAbsent(endpoint, key -> new EndpointPairs(reservoirSize));
+        }
+        return pairs;
+    }
+
+    private synchronized void sampleMismatch(String line) {
+        if (mismatchSample.size() < mismatchSampleSize) {
+            mismatchSample.add(line);
+        }
+    }
+
+    private static EndpointResult result(String endpoint, EndpointPairs pairs) {
+        long[][] sample = pairs.snapshot();
+        double[] meanDiffs = new double[TestConfig.AB_BOOTSTRAP_RESAMPLES];
+        double[] p50Diffs = new double[meanDiffs.length];
+        double[] p99Diffs = new double[meanDiffs.length];
+        bootstrap(sample[0], sample[1], meanDiffs, p50Diffs, p99Diffs);
+
+        double alpha = (1.0 - TestConfig.AB_CONFIDENCE) / 2.0;
+        double p50Low = quantile(p50Diffs, alpha);
+        double p50High = quantile(p50Diffs, 1.0 - alpha);
+        String verdict = sample[0].length == 0 || p50Low <= 0 && p50High >= 0
+                ? "no significant difference"
+                : p50High < 0 ? "faster" : "slower";
+        return new EndpointResult(endpoint, pairs.baseline.count(), pairs.equivalent.sum(),
+                pairs.statusMismatches.sum(), pairs.bodyMismatches.sum(), pairs.candidateErrors.sum(),
+                millis(pairs.baseline.percentile(50.0)), millis(pairs.candidate.percentile(50.0)),
+                millis(pairs.baseline.percentile(99.0)), millis(pairs.candidate.percentile(99.0)),
+                millis(mean(sample[1]) - mean(sample[0])), quantile(meanDiffs, alpha), quantile(meanDiffs, 1.0 - alpha),
+                millis(percentile(sorted(sample[1]), 50.0) - percentile(sorted(sample[0]), 50.0)), p50Low, p50High,
+                millis(percentile(sorted(sample[1]), 99.0) - percentile(sorted(sample[0]), 99.0)),
+                quantile(p99Diffs, alpha), quantile(p99Diffs, 1.0 - alpha),
+                TestConfig.AB_CONFIDENCE, verdict);
+    }
+
+    /**
+     * Resample pasangan dengan pengembalian; setiap resample mengambil baseline dan candidate dari index yang sama
+     * agar korelasi antar pasangan (noise bersama) tetap terjaga. Hasil dalam milidetik, sudah diurutkan
+     */
+    private static void bootstrap(long[] baseline, long[] candidate, double[] meanDiffs, double[] p50Diffs,
+                                  double[] p99Diffs) {
+        int n = baseline.length;
+        if (n == 0) {
+            return;
+        }
+        SplittableRandom random = new SplittableRandom(BOOTSTRAP_SEED);
+        long[] a = new long[n];
+        long[] b = new long[n];
+        for (int r = 0; r < meanDiffs.length; r++) {
+            long sumDiff = 0;
+            for (int i = 0; i < n; i++) {
+                int pick = random.nextInt(n);
+                a[i] = baseline[pick];
+                b[i] = candidate[pick];
+                sumDiff += b[i] - a[i];
+            }
+            Arrays.sort(a);
+            Arrays.sort(b);
+            meanDiffs[r] = millis((double) sumDiff / n);
+            p50Diffs[r] = millis(percentile(b, 50.0) - percentile(a, 50.0));
+            p99Diffs[r] = millis(percentile(b, 99.0) - percentile(a, 99.0));
+        }
+        Arrays.sort(meanDiffs);
+        Arrays.sort(p50Diffs);
+        Arrays.sort(p99Diffs);
+    }
+
+    /**
+     * Nearest-rank percentile dari array yang sudah diurutkan
+     */
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.min(sorted.length - 1, Math.max(0, rank - 1))];
+    }
+
+    private static double quantile(double[] sorted, double q) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        return sorted[(int) Math.min(sorted.length - 1, Math.max(0, Math.round(q * (sorted.length - 1))))];
+    }
+
+    private static long[] sorted(long[] values) {
+        long[] copy = values.clone();
+        Arrays.sort(copy);
+        return copy;
+    }
+
+    private static double mean(long[] values) {
+        long sum = 0;
+        for (long value : values) {
+            sum += value;
+        }
+        return values.length == 0 ? 0.0 : (double) sum / values.length;
+    }
+
+    private static double millis(double micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,86 @@
+package com.praktikum.rest.differential;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.praktikum.rest.model.ModelReaders;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Perbandingan struktural dua response body untuk A/B differential run
+ * Urutan field di object dan whitespace tidak berpengaruh; urutan elemen array berpengaruh
+ * Hanya perbedaan pertama (urut path) yang dilaporkan, cukup untuk menemukan endpoint yang berubah
+ */
+public final class JsonDifference {
+
+    // Panjang maksimum nilai yang ditampilkan di detail mismatch
+    private static final int MAX_VALUE_LENGTH = 80;
+
+    private JsonDifference() {
+    }
+
+    /**
+     * @param ignoredFields Nama field yang diabaikan di level mana pun, contoh TestConfig.AB_IGNORED_FIELDS
+     * @return null jika body sama, atau path dan nilai perbedaan pertama,
+     *         contoh "$.address.city: \"Gwenborough\" vs \"Bandung\""
+     */
+    public static String of(byte[] baseline, byte[] candidate, Set<String> ignoredFields) {
+        if (Arrays.equals(baseline, candidate)) {
+            return null;
+        }
+        JsonNode a;
+        JsonNode b;
+        try {
+            a = ModelReaders.MAPPER.readTree(baseline);
+            b = ModelReaders.MAPPER.readTree(candidate);
+        } catch (IOException e) {
+            return "non-JSON body differs (" + baseline.length + " vs " + candidate.length + " bytes)";
+        }
+        return difference("$", a, b, ignoredFields);
+    }
+
+    private static String difference(String path, JsonNode a, JsonNode b, Set<String> ignoredFields) {
+        if (a.isObject() && b.isObject()) {
+            TreeSet<String> fields = new TreeSet<>();
+            a.fieldNames().forEachRemaining(fields::add);
+            b.fieldNames().forEachRemaining(fields::add);
+            for (String field : fields) {
+                if (ignoredFields.contains(field)) {
+                    continue;
+                }
+                JsonNode left = a.get(field);
+                JsonNode right = b.get(field);
+                if (left == null || right == null) {
+                    return path + "." + field + ": " + (left == null ? "missing in baseline" : "missing in candidate");
+                }
+                String difference = difference(path + "." + field, left, right, ignoredFields);
+                if (difference != null) {
+                    return difference;
+                }
+            }
+            return null;
+        }
+        if (a.isArray() && b.isArray()) {
+            if (a.size() != b.size()) {
+                return path + ": " + a.size() + " vs " + b.size() + " elements";
+            }
+            Iterator<JsonNode> left = a.elements();
+            Iterator<JsonNode> right = b.elements();
+            for (int i = 0; left.hasNext(); i++) {
+                String difference = difference(path + "[" + i + "]", left.next(), right.next(), ignoredFields);
+                if (difference != null) {
+                    return difference;
+                }
+            }
+            return null;
+        }
+        return a.equals(b) ? null : path + ": " + shorten(a.toString()) + " vs " + shorten(b.toString());
+    }
+
+    private static String shorten(String value) {
+        return value.length() <= MAX_VALUE_LENGTH ? value : value.substring(0, MAX_VALUE_LENGTH) + "...";
+    }
+}
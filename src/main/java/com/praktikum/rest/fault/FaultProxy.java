@@ -0,0 +1,536 @@
+package com.praktikum.rest.fault;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Local in-process HTTP proxy antara REST Assured dan target API untuk fault injection
+ * Path request berisi scheme dan host upstream, contoh "/https/jsonplaceholder.typicode.com/users/1",
+ * sehingga cukup mengganti RestAssured.baseURI dengan rewrite(upstream)
+ * Per endpoint pattern bisa di-inject: latency distribution, connection reset, partial body,
+ * slow-drip response, dan 5xx burst (lihat FaultRule)
+ * Urutan fault per request: 5xx burst, reset, latency, forward ke upstream, lalu partial body atau slow drip
+ * Digunakan untuk mengukur perilaku client timeout, retry, dan throughput saat kondisi backend buruk
+ */
+public class FaultProxy implements AutoCloseable {
+
+    // Interval pengiriman chunk pada slow-drip response
+    private static final long DRIP_INTERVAL_MILLIS = 100L;
+
+    // Idle timeout untuk keep-alive connection dari client
+    private static final int CLIENT_IDLE_TIMEOUT_MILLIS = 30_000;
+
+    // Headers yang tidak boleh diteruskan: hop-by-hop dan headers yang di-set sendiri oleh JDK HttpClient
+    private static final Set<String> SKIPPED_HEADERS = Set.of("connection", "keep-alive", "proxy-connection",
+            "transfer-encoding", "te", "trailer", "upgrade", "content-length", "host", "expect");
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpClient upstream = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    private final List<Route> routes = new CopyOnWriteArrayList<>();
+    private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder forwarded = new LongAdder();
+    private final LongAdder delayedMillis = new LongAdder();
+    private final LongAdder resets = new LongAdder();
+    private final LongAdder partialBodies = new LongAdder();
+    private final LongAdder slowDrips = new LongAdder();
+    private final LongAdder burstResponses = new LongAdder();
+    private final LongAdder upstreamErrors = new LongAdder();
+
+    /**
+     * Snapshot counters FaultProxy sejak start
+     */
+    public record Stats(long requests, long forwarded, long delayedMillis, long resets, long partialBodies,
+                        long slowDrips, long burstResponses, long upstreamErrors) {
+    }
+
+    /**
+     * Rule untuk satu endpoint pattern, dengan state burst yang sedang berjalan
+     */
+    private record Route(String pattern, Pattern regex, FaultRule rule, AtomicInteger burstRemaining) {
+    }
+
+    /**
+     * Request yang sudah di-parse dari client
+     */
+    private record ParsedRequest(String method, String target, Map<String, String> headers, byte[] body) {
+    }
+
+    /**
+     * @param port Port lokal, 0 untuk port acak
+     */
+    public FaultProxy(int port) throws IOException {
+        this.serverSocket = new ServerSocket(port, 128, InetAddress.getLoopbackAddress());
+    }
+
+    /**
+     * Mulai menerima koneksi di background (virtual thread per koneksi)
+     */
+    public FaultProxy start() {
+        Thread.ofPlatform().daemon().name("fault-proxy-accept").start(this::acceptLoop);
+        return this;
+    }
+
+    /**
+     * @return Base URL proxy, contoh "http://127.0.0.1:43125"
+     */
+    public String baseUrl() {
+        return "http://" + serverSocket.getInetAddress().getHostAddress() + ":" + serverSocket.getLocalPort();
+    }
+
+    /**
+     * @return URL pengganti untuk upstream, contoh "https://reqres.in/api" -> "http://127.0.0.1:43125/https/reqres.in/api"
+     */
+    public String rewrite(String upstreamUrl) {
+        URI uri = URI.create(upstreamUrl);
+        String path = uri.getRawPath() == null ? "" : uri.getRawPath();
+        return baseUrl() + "/" + uri.getScheme() + "/" + uri.getRawAuthority() + path;
+    }
+
+    /**
+     * Pasang atau ganti rule untuk endpoint pattern
+     * Pattern dicocokkan dengan "METHOD /path" dari upstream (tanpa query), contoh "GET /users/*"
+     * Method boleh dihilangkan atau "*" untuk semua method; "*" = satu path segment, "**" = path apa saja
+     * Jika beberapa pattern cocok, rule yang dipasang paling awal yang dipakai
+     */
+    public FaultProxy rule(String pattern, FaultRule rule) {
+        String normalized = pattern.trim().indexOf(' ') < 0 ? "* " + pattern.trim() : pattern.trim();
+        Route route = new Route(normalized, compile(normalized), rule, new AtomicInteger());
+        for (int i = 0; i < routes.size(); i++) {
+            if (routes.get(i).pattern().equals(normalized)) {
+                routes.set(i, route);
+                return this;
+            }
+        }
+        routes.add(route);
+        return this;
+    }
+
+    /**
+     * Hapus semua rules, request berikutnya diteruskan tanpa fault
+     */
+    public FaultProxy clearRules() {
+        routes.clear();
+        return this;
+    }
+
+    public Stats stats() {
+        return new Stats(requests.sum(), forwarded.sum(), delayedMillis.sum(), resets.sum(), partialBodies.sum(),
+                slowDrips.sum(), burstResponses.sum(), upstreamErrors.sum());
+    }
+
+    @Override
+    public void close() {
+        try {
+            serverSocket.close();
+        } catch (IOException ignored) {
+            // Sudah tertutup
+        }
+        connections.forEach(FaultProxy::closeQuietly);
+        executor.shutdownNow();
+    }
+
+    /**
+     * Ubah glob pattern "METHOD /path" menjadi regex, "*" = satu segment dan "**" = apa saja
+     */
+    static Pattern compile(String pattern) {
+        int space = pattern.indexOf(' ');
+        String method = pattern.substring(0, space).trim();
+        String path = pattern.substring(space + 1).trim();
+        StringBuilder regex = new StringBuilder(method.equals("*") ? "[A-Z]+" : Pattern.quote(method)).append(' ');
+        for (int i = 0; i < path.length(); i++) {
+            char c = path.charAt(i);
+            if (c == '*' && i + 1 < path.length() && path.charAt(i + 1) == '*') {
+                regex.append(".*");
+                i++;
+            } else if (c == '*') {
+                regex.append("[^/]*");
+            } else {
+                regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return Pattern.compile(regex.toString());
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                connections.add(socket);
+                executor.execute(() -> serve(socket));
+            } catch (IOException e) {
+                // ServerSocket ditutup oleh close()
+                return;
+            }
+        }
+    }
+
+    /**
+     * Layani satu koneksi client, termasuk keep-alive requests berikutnya
+     */
+    private void serve(Socket socket) {
+        try (socket) {
+            socket.setSoTimeout(CLIENT_IDLE_TIMEOUT_MILLIS);
+            socket.setTcpNoDelay(true);
+            InputStream in = new BufferedInputStream(socket.getInputStream());
+            OutputStream out = socket.getOutputStream();
+            while (true) {
+                ParsedRequest request = readRequest(in);
+                if (request == null) {
+                    return;
+                }
+                requests.increment();
+                if (!handle(request, socket, out)) {
+                    return;
+                }
+                if ("close".equalsIgnoreCase(request.headers().get("connection"))) {
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            // Client menutup koneksi atau idle timeout
+        } finally {
+            connections.remove(socket);
+        }
+    }
+
+    /**
+     * @return false jika koneksi harus ditutup setelah request ini
+     */
+    private boolean handle(ParsedRequest request, Socket socket, OutputStream out) throws IOException {
+        // "/scheme/host/path?query" -> "scheme://host/path?query"
+        String[] parts = request.target().substring(1).split("/", 3);
+        if (parts.length < 2 || parts[0].isEmpty() || parts[1].isEmpty()) {
+            writeResponse(out, 400, Map.of("Content-Type", "application/json", "X-Fault-Proxy-Error", "bad-target"),
+                    json("expected /scheme/host/path, got " + request.target()));
+            return true;
+        }
+        String pathAndQuery = "/" + (parts.length > 2 ? parts[2] : "");
+        int query = pathAndQuery.indexOf('?');
+        String path = query < 0 ? pathAndQuery : pathAndQuery.substring(0, query);
+        URI target = URI.create(parts[0] + "://" + parts[1] + pathAndQuery);
+
+        Route route = match(request.method() + " " + path);
+        FaultRule rule = route == null ? FaultRule.none() : route.rule();
+        Random random = ThreadLocalRandom.current();
+
+        if (route != null && inBurst(route, random)) {
+            burstResponses.increment();
+            writeResponse(out, rule.burstStatus(), Map.of("Content-Type", "application/json", "X-Fault-Injected", "burst"),
+                    json("injected " + rule.burstStatus()));
+            return true;
+        }
+        if (random.nextDouble() < rule.resetRate()) {
+            resets.increment();
+            // SO_LINGER 0 membuat close() mengirim TCP RST, bukan FIN
+            socket.setSoLinger(true, 0);
+            return false;
+        }
+        long delay = rule.latency().sampleMillis(random);
+        if (delay > 0) {
+            delayedMillis.add(delay);
+            sleep(delay);
+        }
+
+        HttpResponse<byte[]> response;
+        try {
+            response = upstream.send(toUpstream(request, target), HttpResponse.BodyHandlers.ofByteArray());
+            forwarded.increment();
+        } catch (IOException e) {
+            upstreamErrors.increment();
+            writeResponse(out, 502, Map.of("Content-Type", "application/json", "X-Fault-Proxy-Error", "upstream"),
+                    json(e.getClass().getSimpleName() + ": " + e.getMessage()));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+
+        Map<String, String> headers = new LinkedHashMap<>();
+        response.headers().map().forEach((name, values) -> {
+            if (!SKIPPED_HEADERS.contains(name.toLowerCase(Locale.ROOT)) && !name.startsWith(":")) {
+                headers.put(name, String.join(", ", values));
+            }
+        });
+        byte[] body = request.method().equals("HEAD") ? new byte[0] : response.body();
+
+        if (body.length > 1 && random.nextDouble() < rule.partialBodyRate()) {
+            partialBodies.increment();
+            // Content-Length penuh, tapi hanya setengah body yang dikirim sebelum koneksi ditutup
+            writeHead(out, response.statusCode(), headers, body.length);
+            out.write(body, 0, body.length / 2);
+            out.flush();
+            return false;
+        }
+        if (rule.dripBytesPerSecond() > 0 && body.length > 0) {
+            slowDrips.increment();
+            writeHead(out, response.statusCode(), headers, body.length);
+            drip(out, body, rule.dripBytesPerSecond());
+            return true;
+        }
+        writeResponse(out, response.statusCode(), headers, body);
+        return true;
+    }
+
+    private Route match(String endpoint) {
+        for (Route route : routes) {
+            if (route.regex().matcher(endpoint).matches()) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return true jika request ini bagian dari 5xx burst yang sedang berjalan atau baru dimulai
+     * Setelah burst selesai, minimal satu request lolos sebelum burst berikutnya bisa dimulai
+     */
+    private static boolean inBurst(Route route, Random random) {
+        FaultRule rule = route.rule();
+        if (rule.burstLength() <= 0) {
+            return false;
+        }
+        // > 0: sisa request dalam burst, 0: normal, -1: burst baru saja selesai
+        AtomicInteger remaining = route.burstRemaining();
+        while (true) {
+            int current = remaining.get();
+            if (current > 0) {
+                if (remaining.compareAndSet(current, current == 1 ? -1 : current - 1)) {
+                    return true;
+                }
+            } else if (current < 0) {
+                if (remaining.compareAndSet(current, 0)) {
+                    return false;
+                }
+            } else if (random.nextDouble() < rule.burstRate()) {
+                // Request ini adalah yang pertama dari burst
+                if (remaining.compareAndSet(0, rule.burstLength() == 1 ? -1 : rule.burstLength() - 1)) {
+                    return true;
+                }
+            } else {
+                return false;
+            }
+        }
+    }
+
+    private static HttpRequest toUpstream(ParsedRequest request, URI target) {
+        HttpRequest.BodyPublisher body = request.body().length == 0
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofByteArray(request.body());
+        HttpRequest.Builder builder = HttpRequest.newBuilder(target)
+                .timeout(Duration.ofSeconds(60))
+                .method(request.method(), body);
+        request.headers().forEach((name, value) -> {
+            if (!SKIPPED_HEADERS.contains(name)) {
+                builder.header(name, value);
+            }
+        });
+        return builder.build();
+    }
+
+    /**
+     * Kirim body sedikit demi sedikit; setiap read di client hanya menunggu satu interval,
+     * sehingga socket timeout tidak pernah terpicu meskipun total waktunya lama
+     */
+    private static void drip(OutputStream out, byte[] body, int bytesPerSecond) throws IOException {
+        int chunk = (int) Math.max(1, bytesPerSecond * DRIP_INTERVAL_MILLIS / 1000);
+        for (int offset = 0; offset < body.length; offset += chunk) {
+            out.write(body, offset, Math.min(chunk, body.length - offset));
+            out.flush();
+            if (offset + chunk < body.length) {
+                sleep(DRIP_INTERVAL_MILLIS);
+            }
+        }
+    }
+
+    private static void writeResponse(OutputStream out, int status, Map<String, String> headers, byte[] body)
+            throws IOException {
+        writeHead(out, status, headers, body.length);
+        out.write(body);
+        out.flush();
+    }
+
+    private static void writeHead(OutputStream out, int status, Map<String, String> headers, int contentLength)
+            throws IOException {
+        StringBuilder head = new StringBuilder("HTTP/1.1 ").append(status).append(' ').append(reason(status))
+                .append("\r\n");
+        headers.forEach((name, value) -> head.append(name).append(": ").append(value).append("\r\n"));
+        // 204 dan 304 tidak boleh punya body
+        if (status != 204 && status != 304) {
+            head.append("Content-Length: ").append(contentLength).append("\r\n");
+        }
+        head.append("\r\n");
+        out.write(head.toString().getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    /**
+     * @return Request berikutnya dari koneksi, atau null jika client sudah menutup koneksi
+     */
+    private static ParsedRequest readRequest(InputStream in) throws IOException {
+        String requestLine = readLine(in);
+        while (requestLine != null && requestLine.isEmpty()) {
+            requestLine = readLine(in);
+        }
+        if (requestLine == null) {
+            return null;
+        }
+        String[] tokens = requestLine.split(" ");
+        if (tokens.length < 3) {
+            throw new IOException("Malformed request line: " + requestLine);
+        }
+        Map<String, String> headers = readHeaders(in);
+
+        byte[] body;
+        if ("chunked".equalsIgnoreCase(headers.get("transfer-encoding"))) {
+            body = readChunked(in);
+        } else if (headers.containsKey("content-length")) {
+            body = readFully(in, Integer.parseInt(headers.get("content-length").trim()));
+        } else {
+            body = new byte[0];
+        }
+        return new ParsedRequest(tokens[0], tokens[1], headers, body);
+    }
+
+    /**
+     * @return Headers dengan nama lowercase
+     */
+    private static Map<String, String> readHeaders(InputStream in) throws IOException {
+        Map<String, String> headers = new LinkedHashMap<>();
+        String line;
+        while ((line = readLine(in)) != null && !line.isEmpty()) {
+            int colon = line.indexOf(':');
+            if (colon > 0) {
+                headers.merge(line.substring(0, colon).trim().toLowerCase(Locale.ROOT),
+                        line.substring(colon + 1).trim(), (first, second) -> first + ", " + second);
+            }
+        }
+        return headers;
+    }
+
+    private static byte[] readChunked(InputStream in) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        while (true) {
+            String sizeLine = readLine(in);
+            if (sizeLine == null) {
+                throw new EOFException("Unexpected end of chunked body");
+            }
+            int semicolon = sizeLine.indexOf(';');
+            int size = Integer.parseInt((semicolon < 0 ? sizeLine : sizeLine.substring(0, semicolon)).trim(), 16);
+            if (size == 0) {
+                readHeaders(in); // trailers
+                return body.toByteArray();
+            }
+            body.write(readFully(in, size));
+            readLine(in); // CRLF setelah chunk data
+        }
+    }
+
+    private static byte[] readFully(InputStream in, int length) throws IOException {
+        byte[] bytes = in.readNBytes(length);
+        if (bytes.length < length) {
+            throw new EOFException("Expected " + length + " body bytes, got " + bytes.length);
+        }
+        return bytes;
+    }
+
+    /**
+     * @return Satu baris tanpa CRLF, atau null di akhir stream
+     */
+    private static String readLine(InputStream in) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream(128);
+        int b;
+        while ((b = in.read()) != -1) {
+            if (b == '\n') {
+                byte[] bytes = line.toByteArray();
+                int length = bytes.length > 0 && bytes[bytes.length - 1] == '\r' ? bytes.length - 1 : bytes.length;
+                return new String(bytes, 0, length, StandardCharsets.ISO_8859_1);
+            }
+            line.write(b);
+        }
+        return line.size() == 0 ? null : line.toString(StandardCharsets.ISO_8859_1);
+    }
+
+    private static byte[] json(String message) {
+        return ("{\"error\":\"" + message.replace("\\", "/").replace("\"", "'") + "\"}")
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String reason(int status) {
+        return switch (status) {
+            case 200 -> "OK";
+            case 201 -> "Created";
+            case 204 -> "No Content";
+            case 304 -> "Not Modified";
+            case 400 -> "Bad Request";
+            case 401 -> "Unauthorized";
+            case 404 -> "Not Found";
+            case 429 -> "Too Many Requests";
+            case 500 -> "Internal Server Error";
+            case 502 -> "Bad Gateway";
+            case 503 -> "Service Unavailable";
+            case 504 -> "Gateway Timeout";
+            default -> "Status";
+        };
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException ignored) {
+            // Koneksi sudah tertutup
+        }
+    }
+
+    /**
+     * Jalankan fault proxy standalone tanpa rules (untuk dipakai bersama tool lain)
+     * @param args [port]
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8090;
+        FaultProxy proxy = new FaultProxy(port).start();
+        System.out.println("Fault proxy listening at " + proxy.baseUrl()
+                + ", contoh: " + proxy.rewrite("https://jsonplaceholder.typicode.com"));
+        // Accept thread adalah daemon, tahan main thread sampai proses dihentikan
+        Thread.currentThread().join();
+    }
+}
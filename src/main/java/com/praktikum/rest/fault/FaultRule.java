@@ -0,0 +1,52 @@
+package com.praktikum.rest.fault;
+
+/**
+ * Konfigurasi fault untuk satu endpoint pattern di FaultProxy
+ * Immutable; gunakan none() lalu method with...() untuk menyusun rule
+ * @param latency Tambahan latency sebelum response dikirim
+ * @param resetRate Probabilitas koneksi di-reset (TCP RST) tanpa response
+ * @param partialBodyRate Probabilitas response dikirim hanya setengah body lalu koneksi ditutup
+ * @param dripBytesPerSecond Jika > 0, body dikirim perlahan dengan kecepatan ini (slow-drip)
+ * @param burstRate Probabilitas sebuah request memulai 5xx burst (setelah burst selesai satu request selalu lolos)
+ * @param burstLength Jumlah request berturut-turut yang mendapat burstStatus setelah burst dimulai
+ * @param burstStatus Status code untuk burst, contoh 503
+ */
+public record FaultRule(LatencyDistribution latency, double resetRate, double partialBodyRate,
+                        int dripBytesPerSecond, double burstRate, int burstLength, int burstStatus) {
+
+    /**
+     * @return Rule tanpa fault, request diteruskan apa adanya
+     */
+    public static FaultRule none() {
+        return new FaultRule(LatencyDistribution.NONE, 0.0, 0.0, 0, 0.0, 0, 503);
+    }
+
+    public FaultRule withLatency(LatencyDistribution latency) {
+        return new FaultRule(latency, resetRate, partialBodyRate, dripBytesPerSecond, burstRate, burstLength,
+                burstStatus);
+    }
+
+    public FaultRule withResetRate(double resetRate) {
+        return new FaultRule(latency, resetRate, partialBodyRate, dripBytesPerSecond, burstRate, burstLength,
+                burstStatus);
+    }
+
+    public FaultRule withPartialBodyRate(double partialBodyRate) {
+        return new FaultRule(latency, resetRate, partialBodyRate, dripBytesPerSecond, burstRate, burstLength,
+                burstStatus);
+    }
+
+    public FaultRule withSlowDrip(int bytesPerSecond) {
+        return new FaultRule(latency, resetRate, partialBodyRate, bytesPerSecond, burstRate, burstLength,
+                burstStatus);
+    }
+
+    /**
+     * @param rate Probabilitas burst dimulai per request (1.0 = langsung)
+     * @param length Jumlah request dalam satu burst
+     * @param status Status code 5xx yang dikembalikan
+     */
+    public FaultRule withErrorBurst(double rate, int length, int status) {
+        return new FaultRule(latency, resetRate, partialBodyRate, dripBytesPerSecond, rate, length, status);
+    }
+}
@@ -0,0 +1,45 @@
+package com.praktikum.rest.fault;
+
+import java.util.Random;
+
+/**
+ * Distribusi latency yang di-inject oleh FaultProxy, dalam milidetik
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    /**
+     * Tanpa tambahan latency
+     */
+    LatencyDistribution NONE = random -> 0L;
+
+    /**
+     * @return Satu sample latency dalam milidetik
+     */
+    long sampleMillis(Random random);
+
+    static LatencyDistribution fixed(long millis) {
+        return random -> millis;
+    }
+
+    static LatencyDistribution uniform(long minMillis, long maxMillis) {
+        return random -> minMillis + (long) (random.nextDouble() * (maxMillis - minMillis));
+    }
+
+    /**
+     * Exponential distribution, cocok untuk mensimulasikan antrian di backend
+     */
+    static LatencyDistribution exponential(double meanMillis) {
+        return random -> (long) (-meanMillis * Math.log(1.0 - random.nextDouble()));
+    }
+
+    /**
+     * Log-normal distribution dengan median dan p99 tertentu, bentuk umum latency nyata (long tail)
+     */
+    static LatencyDistribution logNormal(double medianMillis, double p99Millis) {
+        double mu = Math.log(medianMillis);
+        // z untuk p99 pada standard normal distribution
+        double sigma = (Math.log(p99Millis) - mu) / 2.326;
+        return random -> (long) Math.exp(mu + sigma * random.nextGaussian());
+    }
+}
@@ -0,0 +1,122 @@
+package com.praktikum.rest.impact;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Membaca perubahan dari git diff (committed dan working tree) terhadap base ref
+ * Setiap file berisi changed line numbers di versi baru, sehingga bisa di-map ke method
+ */
+public final class GitDiff {
+
+    // Contoh: @@ -10,2 +12,3 @@
+    private static final Pattern HUNK = Pattern.compile("^@@ -\\d+(?:,\\d+)? \\+(\\d+)(?:,(\\d+))? @@");
+
+    private GitDiff() {
+    }
+
+    /**
+     * Satu file yang berubah
+     * @param path Path relatif terhadap repository root
+     * @param lines Changed line numbers di versi baru; kosong berarti seluruh file (baru atau dihapus)
+     */
+    public record ChangedFile(String path, List<int[]> lines) {
+        public boolean wholeFile() {
+            return lines.isEmpty();
+        }
+    }
+
+    /**
+     * Jalankan git diff terhadap base ref, termasuk untracked files
+     * @param repository Root directory repository
+     * @param baseRef Base ref, contoh "origin/main" atau "HEAD~1"
+     */
+    public static List<ChangedFile> against(Path repository, String baseRef) throws IOException, InterruptedException {
+        List<ChangedFile> changes = parse(git(repository, "diff", "-U0", "--no-color", "--no-ext-diff", baseRef, "--"));
+        for (String untracked : git(repository, "ls-files", "--others", "--exclude-standard").split("\n")) {
+            if (!untracked.isBlank()) {
+                changes.add(new ChangedFile(untracked.trim(), List.of()));
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Parse output "git diff -U0" menjadi changed files dan line ranges
+     */
+    public static List<ChangedFile> parse(String diff) {
+        Map<String, List<int[]>> files = new LinkedHashMap<>();
+        boolean inHeader = false;
+        String oldPath = null;
+        List<int[]> current = null;
+        for (String line : diff.split("\n")) {
+            if (line.startsWith("diff --git ")) {
+                // Default seluruh file berubah (contoh binary file), diperhalus oleh hunks di bawah
+                int newPathStart = line.lastIndexOf(" b/");
+                if (newPathStart > 0) {
+                    files.put(line.substring(newPathStart + 3), new ArrayList<>());
+                }
+                inHeader = true;
+                oldPath = null;
+                current = null;
+            } else if (inHeader && line.startsWith("--- ")) {
+                oldPath = stripPrefix(line.substring(4));
+            } else if (inHeader && line.startsWith("+++ ")) {
+                inHeader = false;
+                String newPath = stripPrefix(line.substring(4));
+                if (newPath == null) {
+                    // File dihapus: seluruh file dianggap berubah
+                    files.put(oldPath, new ArrayList<>());
+                } else if (oldPath != null) {
+                    current = files.computeIfAbsent(newPath, key -> new ArrayList<>());
+                }
+                // File baru (oldPath null): tetap seluruh file
+            } else if (!inHeader && current != null) {
+                Matcher matcher = HUNK.matcher(line);
+                if (matcher.find()) {
+                    int start = Math.max(1, Integer.parseInt(matcher.group(1)));
+                    int count = matcher.group(2) == null ? 1 : Integer.parseInt(matcher.group(2));
+                    // Pure deletion (count 0) ditandai di baris tempat penghapusan terjadi
+                    current.add(new int[]{start, start + Math.max(count, 1) - 1});
+                }
+            }
+        }
+        List<ChangedFile> changes = new ArrayList<>();
+        files.forEach((path, lines) -> changes.add(new ChangedFile(path, lines)));
+        return changes;
+    }
+
+    /**
+     * @return Path tanpa prefix "a/" atau "b/", null untuk /dev/null
+     */
+    private static String stripPrefix(String path) {
+        path = path.trim();
+        if (path.equals("/dev/null")) {
+            return null;
+        }
+        return path.startsWith("a/") || path.startsWith("b/") ? path.substring(2) : path;
+    }
+
+    private static String git(Path repository, String... args) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add("git");
+        command.addAll(List.of(args));
+        Process process = new ProcessBuilder(command).directory(repository.toFile()).redirectErrorStream(true).start();
+        String output;
+        try (InputStream in = process.getInputStream()) {
+            output = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        if (process.waitFor() != 0) {
+            throw new IOException("git " + String.join(" ", args) + " failed: " + output.trim());
+        }
+        return output;
+    }
+}
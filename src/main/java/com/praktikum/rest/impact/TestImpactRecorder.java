@@ -0,0 +1,150 @@
+package com.praktikum.rest.impact;
+
+import com.praktikum.rest.config.TestConfig;
+import com.praktikum.rest.metrics.TestContext;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Merekam endpoint dan generator methods yang dipakai oleh setiap test method
+ * Hasilnya adalah test impact map yang dipakai TestImpactSelector untuk memilih
+ * test yang terdampak oleh sebuah git diff
+ * Format file: satu baris per test, "Class.method" lalu usages dipisah TAB
+ */
+public final class TestImpactRecorder {
+
+    // Prefix usage untuk endpoint, contoh "endpoint:GET /users/{id}"
+    public static final String ENDPOINT = "endpoint:";
+
+    // Prefix usage untuk generator method, contoh "generator:TestDataGenerator.generateUserData"
+    public static final String GENERATOR = "generator:";
+
+    private static final StackWalker WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    // test name -> usages, hanya untuk test yang berjalan di run ini
+    private static final Map<String, Set<String>> USAGES = new ConcurrentHashMap<>();
+
+    private TestImpactRecorder() {
+    }
+
+    public static boolean isEnabled() {
+        return TestConfig.IMPACT_RECORD_ENABLED;
+    }
+
+    /**
+     * Daftarkan test yang berjalan, juga test yang tidak memakai endpoint atau generator
+     * @param testName Nama test dalam format "Class.method"
+     */
+    public static void testStarted(String testName) {
+        if (isEnabled()) {
+            usagesOf(testName);
+        }
+    }
+
+    /**
+     * Catat endpoint yang di-hit oleh test yang sedang berjalan
+     * @param endpoint Nama endpoint, contoh "GET /users/{id}"
+     */
+    public static void recordEndpoint(String endpoint) {
+        String testName = TestContext.testName();
+        if (isEnabled() && !testName.equals(TestContext.NONE)) {
+            usagesOf(testName).add(ENDPOINT + endpoint);
+        }
+    }
+
+    /**
+     * Catat semua method dari generatorClass yang ada di call stack saat ini
+     * Dipanggil dari dalam generator, sehingga nested call (contoh generateMultipleUsers
+     * yang memanggil generateUserData) ikut tercatat
+     */
+    public static void recordGenerators(Class<?> generatorClass) {
+        String testName = TestContext.testName();
+        if (!isEnabled() || testName.equals(TestContext.NONE)) {
+            return;
+        }
+        Set<String> usages = usagesOf(testName);
+        String prefix = GENERATOR + generatorClass.getSimpleName() + ".";
+        // Generator frames berada tepat di atas recorder, jadi walk berhenti di frame pertama di luar generator
+        WALKER.walk(frames -> {
+            frames.dropWhile(frame -> frame.getDeclaringClass() == TestImpactRecorder.class)
+                    .takeWhile(frame -> frame.getDeclaringClass() == generatorClass)
+                    .forEach(frame -> usages.add(prefix + frame.getMethodName()));
+            return null;
+        });
+    }
+
+    private static Set<String> usagesOf(String testName) {
+        return USAGES.computeIfAbsent(testName, key -> ConcurrentHashMap.newKeySet());
+    }
+
+    /**
+     * @return Copy dari usages yang terekam di run ini
+     */
+    public static Map<String, Set<String>> snapshot() {
+        Map<String, Set<String>> copy = new TreeMap<>();
+        USAGES.forEach((test, usages) -> copy.put(test, new TreeSet<>(usages)));
+        return copy;
+    }
+
+    /**
+     * Gabungkan hasil run ini ke impact file yang sudah ada lalu tulis ulang secara atomic
+     * Test yang tidak berjalan di run ini (contoh karena incremental selection) tetap dipertahankan
+     */
+    public static void write(Path file) throws IOException {
+        Map<String, Set<String>> merged = new TreeMap<>(read(file));
+        merged.putAll(snapshot());
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, Set<String>> entry : merged.entrySet()) {
+                writer.write(entry.getKey());
+                for (String usage : entry.getValue()) {
+                    writer.write('\t');
+                    writer.write(usage);
+                }
+                writer.newLine();
+            }
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Baca impact file
+     * @return Map "Class.method" -> usages, kosong jika file belum ada
+     */
+    public static Map<String, Set<String>> read(Path file) throws IOException {
+        Map<String, Set<String>> impact = new TreeMap<>();
+        if (!Files.exists(file)) {
+            return impact;
+        }
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            if (line.isBlank()) {
+                continue;
+            }
+            String[] columns = line.split("\t");
+            Set<String> usages = new TreeSet<>();
+            for (int i = 1; i < columns.length; i++) {
+                usages.add(columns[i]);
+            }
+            impact.put(columns[0], usages);
+        }
+        return impact;
+    }
+
+    /**
+     * Reset usages, dipakai ketika satu JVM menjalankan beberapa suite
+     */
+    public static void clear() {
+        USAGES.clear();
+    }
+}
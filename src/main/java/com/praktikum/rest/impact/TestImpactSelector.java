@@ -0,0 +1,238 @@
+package com.praktikum.rest.impact;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Memilih test yang terdampak oleh sebuah git diff berdasarkan test impact map
+ * - Perubahan di TestDataGenerator: test yang memakai method generator yang berubah; method tanpa usage
+ *   yang terekam (helper yang tidak pernah terlihat di stack saat recording) dianggap shared generator code
+ * - Perubahan di test method: test tersebut ditambah semua test yang hit endpoint yang sama
+ * - Perubahan lain di test class (fields, data providers, setup): seluruh class
+ * - Perubahan lain (BaseTest, filters, config, pom.xml, resources): seluruh suite
+ * Jika ragu, selector selalu memilih lebih banyak test agar coverage tidak hilang
+ */
+public class TestImpactSelector {
+
+    // Source file generator yang usage-nya direkam per method
+    public static final String GENERATOR_SOURCE = "src/main/java/com/praktikum/rest/utils/TestDataGenerator.java";
+
+    // Directory test classes; BaseTest dipakai semua test sehingga memicu full run
+    public static final String TESTS_SOURCE_DIR = "src/test/java/com/praktikum/rest/tests/";
+
+    private static final String BASE_TEST = "BaseTest";
+
+    private static final String GENERATOR_USAGE = TestImpactRecorder.GENERATOR + "TestDataGenerator.";
+
+    // Member declaration di indentasi class body (4 spasi), contoh "    public void testGetUser() {"
+    private static final Pattern METHOD = Pattern.compile(
+            "^ {4}(?:(?:public|protected|private|static|final|synchronized|abstract)\\s+)*"
+                    + "(?:<[^>]+>\\s+)?[\\w.<>\\[\\], ?]+\\s+(\\w+)\\s*\\(");
+
+    private final Path repository;
+    private final Map<String, Set<String>> impact;
+
+    /**
+     * @param repository Root directory repository
+     * @param impact Test impact map dari TestImpactRecorder.read()
+     */
+    public TestImpactSelector(Path repository, Map<String, Set<String>> impact) {
+        this.repository = repository;
+        this.impact = impact;
+    }
+
+    /**
+     * Hasil selection
+     * @param runAll true jika seluruh suite harus dijalankan
+     * @param tests Test methods yang dipilih, format "Class.method"
+     * @param classes Test classes yang dipilih seluruhnya (simple name)
+     * @param reasons Penjelasan per perubahan
+     */
+    public record Selection(boolean runAll, Set<String> tests, Set<String> classes, List<String> reasons) {
+        public boolean isEmpty() {
+            return !runAll && tests.isEmpty() && classes.isEmpty();
+        }
+    }
+
+    /**
+     * Tentukan test yang harus dijalankan untuk daftar perubahan
+     */
+    public Selection select(List<GitDiff.ChangedFile> changes) throws IOException {
+        Set<String> tests = new TreeSet<>();
+        Set<String> classes = new TreeSet<>();
+        List<String> reasons = new ArrayList<>();
+        if (impact.isEmpty()) {
+            reasons.add("no test impact map recorded yet");
+            return new Selection(true, tests, classes, reasons);
+        }
+        boolean runAll = false;
+        for (GitDiff.ChangedFile change : changes) {
+            String path = change.path();
+            if (isIgnorable(path)) {
+                continue;
+            }
+            if (path.equals(GENERATOR_SOURCE)) {
+                if (change.wholeFile()) {
+                    runAll = true;
+                    reasons.add(path + ": generator added or removed");
+                    continue;
+                }
+                Set<String> members = changedMembers(path, change.lines());
+                Set<String> unrecorded = new TreeSet<>();
+                for (String member : members) {
+                    Set<String> users = member == null ? Set.of() : testsWithUsage(GENERATOR_USAGE + member);
+                    if (users.isEmpty()) {
+                        unrecorded.add(member == null ? "<fields>" : member);
+                    }
+                    tests.addAll(users);
+                }
+                if (unrecorded.isEmpty()) {
+                    reasons.add(path + ": generator methods " + members);
+                    continue;
+                }
+                // Perubahan di luar method (imports, fields, FakerHolder) atau di helper yang tidak pernah terekam
+                // di stack, contoh unique(), berdampak ke semua generator
+                Set<String> generatorTests = testsWithUsagePrefix(TestImpactRecorder.GENERATOR);
+                if (generatorTests.isEmpty()) {
+                    runAll = true;
+                    reasons.add(path + ": shared generator code changed " + unrecorded
+                            + ", no generator usage recorded");
+                } else {
+                    tests.addAll(generatorTests);
+                    reasons.add(path + ": shared generator code changed " + unrecorded + ", all generator tests");
+                }
+            } else if (isTestClass(path)) {
+                String testClass = path.substring(path.lastIndexOf('/') + 1, path.length() - ".java".length());
+                if (change.wholeFile()) {
+                    classes.add(testClass);
+                    reasons.add(path + ": test class added or removed");
+                    continue;
+                }
+                for (String member : changedMembers(path, change.lines())) {
+                    String testName = testClass + "." + member;
+                    if (member == null || !impact.containsKey(testName)) {
+                        // Field, data provider, setup, atau test baru
+                        classes.add(testClass);
+                        reasons.add(path + ": non-test or new member " + member + ", whole class");
+                    } else {
+                        tests.add(testName);
+                        Set<String> endpoints = new HashSet<>();
+                        for (String usage : impact.get(testName)) {
+                            if (usage.startsWith(TestImpactRecorder.ENDPOINT)) {
+                                endpoints.add(usage);
+                            }
+                        }
+                        for (String endpoint : endpoints) {
+                            tests.addAll(testsWithUsage(endpoint));
+                        }
+                        reasons.add(path + ": " + testName + " and tests sharing " + endpoints);
+                    }
+                }
+            } else {
+                runAll = true;
+                reasons.add(path + ": shared code or configuration changed");
+            }
+        }
+        return new Selection(runAll, tests, classes, reasons);
+    }
+
+    private static boolean isIgnorable(String path) {
+        return path.endsWith(".md") || path.endsWith(".txt") || path.equals(".gitignore") || path.equals("LICENSE");
+    }
+
+    private static boolean isTestClass(String path) {
+        return path.startsWith(TESTS_SOURCE_DIR)
+                && path.endsWith(".java")
+                && !path.endsWith("/" + BASE_TEST + ".java")
+                && path.indexOf('/', TESTS_SOURCE_DIR.length()) < 0;
+    }
+
+    private Set<String> testsWithUsage(String usage) {
+        Set<String> result = new TreeSet<>();
+        impact.forEach((test, usages) -> {
+            if (usages.contains(usage)) {
+                result.add(test);
+            }
+        });
+        return result;
+    }
+
+    private Set<String> testsWithUsagePrefix(String prefix) {
+        Set<String> result = new TreeSet<>();
+        impact.forEach((test, usages) -> {
+            for (String usage : usages) {
+                if (usage.startsWith(prefix)) {
+                    result.add(test);
+                    return;
+                }
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Map changed lines ke nama method di versi file saat ini
+     * @return Nama method yang berubah; null di dalam set berarti ada perubahan di luar method
+     */
+    private Set<String> changedMembers(String path, List<int[]> ranges) throws IOException {
+        List<String> lines = Files.readAllLines(repository.resolve(path), StandardCharsets.UTF_8);
+        String[] owners = memberOwners(lines);
+        Set<String> members = new HashSet<>();
+        for (int[] range : ranges) {
+            for (int line = range[0]; line <= range[1]; line++) {
+                members.add(line - 1 < owners.length ? owners[line - 1] : null);
+            }
+        }
+        return members;
+    }
+
+    /**
+     * Tentukan pemilik setiap baris: nama method, atau null untuk header, fields, dan nested classes
+     * Javadoc dan annotations tepat di atas method ikut menjadi bagian method tersebut
+     */
+    static String[] memberOwners(List<String> lines) {
+        String[] owners = new String[lines.size()];
+        String owner = null;
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (isMemberStart(line)) {
+                Matcher matcher = METHOD.matcher(line);
+                owner = matcher.find() ? matcher.group(1) : null;
+                // Javadoc, comments, dan annotations di atas member ikut ke member ini
+                int j = i - 1;
+                while (j >= 0 && isLeadingDecoration(lines.get(j))) {
+                    owners[j] = owner;
+                    j--;
+                }
+            }
+            owners[i] = owner;
+        }
+        return owners;
+    }
+
+    /**
+     * Baris deklarasi di indentasi class body yang bukan comment, annotation, atau closing brace
+     */
+    private static boolean isMemberStart(String line) {
+        if (line.length() < 5 || !line.startsWith("    ") || line.charAt(4) == ' ') {
+            return false;
+        }
+        return !isLeadingDecoration(line) && !line.trim().startsWith("}");
+    }
+
+    private static boolean isLeadingDecoration(String line) {
+        String trimmed = line.trim();
+        return line.startsWith("    ") && (trimmed.startsWith("@") || trimmed.startsWith("/*")
+                || trimmed.startsWith("*") || trimmed.startsWith("//"));
+    }
+}
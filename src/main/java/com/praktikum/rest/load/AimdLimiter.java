@@ -0,0 +1,60 @@
+package com.praktikum.rest.load;
+
+/**
+ * Concurrency limit dengan algoritma AIMD (Additive Increase, Multiplicative Decrease)
+ * Limit naik perlahan selama target sehat, dan turun tajam ketika latency
+ * melewati budget atau error rate terlalu tinggi
+ */
+public class AimdLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final int increment;
+    private final double backoffRatio;
+
+    private int limit;
+
+    /**
+     * @param initialLimit Concurrency awal
+     * @param minLimit Concurrency minimum
+     * @param maxLimit Concurrency maksimum yang boleh dicoba
+     * @param increment Penambahan limit ketika step sehat
+     * @param backoffRatio Faktor pengali ketika step tidak sehat (contoh 0.5)
+     */
+    public AimdLimiter(int initialLimit, int minLimit, int maxLimit, int increment, double backoffRatio) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Invalid limit range: " + minLimit + ".." + maxLimit);
+        }
+        if (backoffRatio <= 0.0 || backoffRatio >= 1.0) {
+            throw new IllegalArgumentException("backoffRatio must be between 0 and 1: " + backoffRatio);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.increment = Math.max(1, increment);
+        this.backoffRatio = backoffRatio;
+        this.limit = Math.min(Math.max(initialLimit, minLimit), maxLimit);
+    }
+
+    /**
+     * @return Concurrency limit saat ini
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Update limit berdasarkan hasil satu measurement window
+     * @param healthy true jika p99 dan error rate masih di dalam budget
+     * @return true jika limit diturunkan (terjadi backoff)
+     */
+    public boolean onSample(boolean healthy) {
+        if (healthy) {
+            // Additive increase
+            limit = Math.min(maxLimit, limit + increment);
+            return false;
+        }
+        // Multiplicative decrease
+        limit = Math.max(minLimit, (int) Math.floor(limit * backoffRatio));
+        return true;
+    }
+}
@@ -0,0 +1,313 @@
+package com.praktikum.rest.load;
+
+import com.praktikum.rest.config.TestConfig;
+import com.praktikum.rest.metrics.LatencyHistogram;
+import com.praktikum.rest.resilience.HostRateLimiter;
+import com.praktikum.rest.utils.FastDataGenerator;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bulk load run yang mengirim POST dengan generated users payload (array) dalam jumlah besar
+ * Mode UNPOOLED memakai JSON String dan BodyHandlers.ofString() seperti biasa,
+ * mode POOLED menulis payload dan menerima response body di PayloadBufferPool
+ * lalu me-release buffer di akhir setiap request
+ * Setiap request lewat HostRateLimiter, sehingga host publik yang dikonfigurasi tetap dalam quota-nya
+ * Di akhir run dicetak throughput, latency, dan statistik GC dari JVM ini
+ */
+public class BulkLoadRunner {
+
+    /**
+     * Cara payload dan response body disimpan
+     */
+    public enum Mode {
+        POOLED, UNPOOLED
+    }
+
+    private final HttpClient client;
+    private final URI target;
+    private final String host;
+    private final HostRateLimiter limiter = HostRateLimiter.global();
+    private final Mode mode;
+    private final int batchSize;
+    private final PayloadBufferPool pool;
+
+    /**
+     * @param target URL lengkap untuk POST, contoh "http://localhost:3000/users"
+     * @param mode POOLED atau UNPOOLED
+     * @param batchSize Jumlah user per payload, seperti generateMultipleUsers(batchSize)
+     */
+    public BulkLoadRunner(URI target, Mode mode, int batchSize) {
+        this.target = target;
+        this.host = target.getHost().toLowerCase(Locale.ROOT);
+        this.mode = mode;
+        this.batchSize = batchSize;
+        this.pool = new PayloadBufferPool(TestConfig.PAYLOAD_POOL_MAX_BUFFER_BYTES,
+                TestConfig.PAYLOAD_POOL_MAX_IDLE_PER_CLASS);
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(TestConfig.MAX_RESPONSE_TIME))
+                .build();
+    }
+
+    /**
+     * Kirim sejumlah request dengan concurrency tetap
+     * @return Ringkasan hasil run
+     */
+    public Result run(long requests, int concurrency) throws InterruptedException {
+        return run(requests, concurrency, Pacer.UNLIMITED);
+    }
+
+    /**
+     * Kirim sejumlah request dengan concurrency tetap dan rate maksimum dari pacer
+     * @param pacer Rate request untuk semua worker, Pacer.UNLIMITED untuk secepat mungkin
+     */
+    public Result run(long requests, int concurrency, Pacer pacer) throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        AtomicLong remaining = new AtomicLong(requests);
+        AtomicLong errors = new AtomicLong();
+        long gcCountBefore = gcCount();
+        long gcMillisBefore = gcMillis();
+        long start = System.nanoTime();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int worker = 0; worker < concurrency; worker++) {
+                executor.submit(() -> {
+                    while (remaining.getAndDecrement() > 0 && pacer.await(Long.MAX_VALUE)) {
+                        long sent = System.nanoTime();
+                        boolean failed = !(mode == Mode.POOLED ? sendPooled() : sendUnpooled());
+                        histogram.record((System.nanoTime() - sent) / 1_000L);
+                        if (failed) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                });
+            }
+        }
+        if (Thread.interrupted()) {
+            throw new InterruptedException("Bulk load run interrupted");
+        }
+
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        return new Result(mode, histogram.count(), errors.get(), histogram.count() / elapsedSeconds,
+                histogram.percentile(50.0) / 1_000.0, histogram.percentile(99.0) / 1_000.0,
+                gcCount() - gcCountBefore, gcMillis() - gcMillisBefore,
+                mode == Mode.POOLED ? pool.toString() : "-");
+    }
+
+    /**
+     * Payload sebagai String dan response body sebagai String (alokasi heap per request)
+     */
+    private boolean sendUnpooled() {
+        String json = JsonPayloadWriter.toJson(FastDataGenerator.generateMultipleUsers(batchSize));
+        HttpRequest request = newRequest(HttpRequest.BodyPublishers.ofString(json));
+        try {
+            HttpResponse<String> response = send(request, HttpResponse.BodyHandlers.ofString());
+            return isSuccess(response.statusCode()) && response.body().startsWith("[");
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Payload dan response body di direct buffers yang di-release setelah request selesai
+     */
+    private boolean sendPooled() {
+        Object users = FastDataGenerator.generateMultipleUsers(batchSize);
+        PayloadBufferPool.Lease payload = JsonPayloadWriter.writeTo(users, pool.acquire(batchSize * 512));
+        PayloadBufferPool.Lease body = null;
+        try {
+            HttpRequest request = newRequest(HttpRequest.BodyPublishers.fromPublisher(
+                    new SingleBufferPublisher(payload.buffer()), payload.buffer().remaining()));
+            HttpResponse<PayloadBufferPool.Lease> response = send(request,
+                    info -> new PooledBodySubscriber(pool, info.headers().firstValueAsLong("Content-Length").orElse(0L)));
+            body = response.body();
+            ByteBuffer buffer = body.buffer();
+            return isSuccess(response.statusCode()) && buffer.hasRemaining() && buffer.get(0) == '[';
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            // Release eksplisit di akhir request
+            payload.close();
+            if (body != null) {
+                body.close();
+            }
+        }
+    }
+
+    /**
+     * Satu request lewat HostRateLimiter; status dan headers response diteruskan agar rate mengikuti quota host
+     */
+    private <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> handler)
+            throws IOException, InterruptedException {
+        limiter.acquire(host);
+        HttpResponse<T> response;
+        try {
+            response = client.send(request, handler);
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            limiter.onError(host);
+            throw e;
+        }
+        limiter.onResponse(host, response.statusCode(), name -> response.headers().firstValue(name).orElse(null));
+        return response;
+    }
+
+    private HttpRequest newRequest(HttpRequest.BodyPublisher publisher) {
+        return HttpRequest.newBuilder(target)
+                .timeout(Duration.ofMillis(TestConfig.MAX_RESPONSE_TIME))
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .POST(publisher)
+                .build();
+    }
+
+    private static boolean isSuccess(int status) {
+        return status >= 200 && status < 300;
+    }
+
+    private static long gcCount() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, gc.getCollectionCount());
+        }
+        return total;
+    }
+
+    private static long gcMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, gc.getCollectionTime());
+        }
+        return total;
+    }
+
+    /**
+     * Publisher yang mengirim satu read-only view dari pooled payload buffer
+     */
+    private static final class SingleBufferPublisher implements Flow.Publisher<ByteBuffer> {
+        private final ByteBuffer payload;
+
+        SingleBufferPublisher(ByteBuffer payload) {
+            this.payload = payload;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+            AtomicBoolean done = new AtomicBoolean();
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    if (n > 0 && done.compareAndSet(false, true)) {
+                        subscriber.onNext(payload.asReadOnlyBuffer());
+                        subscriber.onComplete();
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    done.set(true);
+                }
+            });
+        }
+    }
+
+    /**
+     * BodySubscriber yang meng-copy response body ke pooled direct buffer
+     * Hasilnya adalah Lease yang sudah di-flip dan wajib di-close oleh pemanggil
+     */
+    private static final class PooledBodySubscriber implements HttpResponse.BodySubscriber<PayloadBufferPool.Lease> {
+        private final CompletableFuture<PayloadBufferPool.Lease> result = new CompletableFuture<>();
+        private PayloadBufferPool.Lease lease;
+
+        PooledBodySubscriber(PayloadBufferPool pool, long contentLength) {
+            this.lease = pool.acquire((int) Math.min(Math.max(contentLength, 1L), Integer.MAX_VALUE));
+        }
+
+        @Override
+        public CompletionStage<PayloadBufferPool.Lease> getBody() {
+            return result;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> items) {
+            for (ByteBuffer item : items) {
+                ByteBuffer buffer = lease.buffer();
+                if (buffer.remaining() < item.remaining()) {
+                    lease = lease.grow(Math.max(buffer.capacity() * 2, buffer.position() + item.remaining()));
+                }
+                lease.buffer().put(item);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            lease.close();
+            result.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            lease.buffer().flip();
+            result.complete(lease);
+        }
+    }
+
+    /**
+     * Ringkasan satu bulk load run
+     */
+    public record Result(Mode mode, long requests, long errors, double throughput, double p50Millis,
+                         double p99Millis, long gcCount, long gcMillis, String pool) {
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT,
+                    "mode=%s requests=%d errors=%d throughput=%.1f/s p50=%.2fms p99=%.2fms gc=%d (%dms) pool[%s]",
+                    mode, requests, errors, throughput, p50Millis, p99Millis, gcCount, gcMillis, pool);
+        }
+    }
+
+    /**
+     * Target URL wajib diisi agar bulk run tidak pernah tanpa sengaja diarahkan ke API publik
+     * @param args POOLED|UNPOOLED, target URL, [requests], [concurrency]
+     */
+    public static void main(String[] args) throws InterruptedException {
+        if (args.length < 2) {
+            System.err.println("Usage: BulkLoadRunner POOLED|UNPOOLED <target URL> [requests] [concurrency]");
+            System.exit(2);
+            return;
+        }
+        Mode mode = Mode.valueOf(args[0].toUpperCase(Locale.ROOT));
+        URI target = URI.create(args[1]);
+        long requests = args.length > 2 ? Long.parseLong(args[2]) : TestConfig.BULK_LOAD_REQUESTS;
+        int concurrency = args.length > 3 ? Integer.parseInt(args[3]) : TestConfig.BULK_LOAD_CONCURRENCY;
+        Result result = new BulkLoadRunner(target, mode, TestConfig.BULK_LOAD_BATCH_SIZE).run(requests, concurrency);
+        System.out.println("=== BULK LOAD SUMMARY ===");
+        System.out.println(result);
+    }
+}
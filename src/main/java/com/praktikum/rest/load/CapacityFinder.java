@@ -0,0 +1,186 @@
+package com.praktikum.rest.load;
+
+import com.praktikum.rest.config.TestConfig;
+import com.praktikum.rest.metrics.LatencyHistogram;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Capacity-finding mode untuk mencari saturation point dari target API
+ * Menaikkan concurrency dengan AIMD limiter berdasarkan observed p99 latency
+ * dan error rate, lalu melaporkan knee point: throughput maksimum yang
+ * masih memenuhi p99 budget (default TestConfig.ACCEPTABLE_RESPONSE_TIME)
+ */
+public class CapacityFinder {
+
+    // Endpoint default yang di-hit secara round-robin
+    public static final List<String> DEFAULT_ENDPOINTS = List.of("/users", "/posts");
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final List<String> endpoints;
+    private final long p99BudgetMillis;
+
+    /**
+     * @param baseUrl Base URL target, contoh TestConfig.BASE_URL
+     * @param endpoints Daftar path yang di-hit secara bergantian
+     * @param p99BudgetMillis Budget p99 latency dalam milidetik
+     */
+    public CapacityFinder(String baseUrl, List<String> endpoints, long p99BudgetMillis) {
+        if (endpoints.isEmpty()) {
+            throw new IllegalArgumentException("At least one endpoint is required");
+        }
+        this.baseUrl = baseUrl;
+        this.endpoints = List.copyOf(endpoints);
+        this.p99BudgetMillis = p99BudgetMillis;
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(TestConfig.MAX_RESPONSE_TIME))
+                .build();
+    }
+
+    /**
+     * Jalankan capacity search sampai limiter konvergen atau max steps tercapai
+     * @return Report berisi semua step dan knee point
+     */
+    public CapacityReport run() throws InterruptedException {
+        AimdLimiter limiter = new AimdLimiter(1, 1, TestConfig.CAPACITY_MAX_CONCURRENCY, 2, 0.5);
+        List<StepResult> steps = new ArrayList<>();
+        int backoffs = 0;
+
+        for (int step = 0; step < TestConfig.CAPACITY_MAX_STEPS; step++) {
+            int concurrency = limiter.getLimit();
+            StepResult result = measure(concurrency, TestConfig.CAPACITY_STEP_MILLIS);
+            steps.add(result);
+            System.out.println("[capacity] " + result);
+
+            if (limiter.onSample(result.healthy())) {
+                backoffs++;
+                // Cukup beberapa kali backoff untuk menemukan knee
+                if (backoffs >= TestConfig.CAPACITY_MAX_BACKOFFS) {
+                    break;
+                }
+            } else if (concurrency == TestConfig.CAPACITY_MAX_CONCURRENCY) {
+                // Target masih sehat di concurrency maksimum, tidak perlu lanjut
+                break;
+            }
+        }
+
+        StepResult knee = null;
+        for (StepResult result : steps) {
+            if (result.healthy() && (knee == null || result.throughput() > knee.throughput())) {
+                knee = result;
+            }
+        }
+        return new CapacityReport(p99BudgetMillis, steps, knee);
+    }
+
+    /**
+     * Ukur satu step dengan concurrency tetap selama window tertentu
+     */
+    private StepResult measure(int concurrency, long windowMillis) throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        AtomicLong errors = new AtomicLong();
+        AtomicLong sequence = new AtomicLong();
+        long start = System.nanoTime();
+        long deadline = start + windowMillis * 1_000_000L;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int worker = 0; worker < concurrency; worker++) {
+                executor.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        String path = endpoints.get((int) (sequence.getAndIncrement() % endpoints.size()));
+                        long sent = System.nanoTime();
+                        boolean failed = !send(path);
+                        histogram.record((System.nanoTime() - sent) / 1_000L);
+                        if (failed) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                });
+            }
+        }
+        if (Thread.interrupted()) {
+            throw new InterruptedException("Capacity step interrupted");
+        }
+
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        long total = histogram.count();
+        double errorRate = total == 0 ? 1.0 : (double) errors.get() / total;
+        long p50Millis = histogram.percentile(50.0) / 1_000L;
+        long p99Millis = histogram.percentile(99.0) / 1_000L;
+        boolean healthy = total > 0
+                && p99Millis <= p99BudgetMillis
+                && errorRate <= TestConfig.CAPACITY_MAX_ERROR_RATE;
+        return new StepResult(concurrency, total, total / elapsedSeconds, p50Millis, p99Millis, errorRate, healthy);
+    }
+
+    /**
+     * Kirim satu GET request
+     * @return false jika terjadi IO error, 429, atau 5xx
+     */
+    private boolean send(String path) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofMillis(TestConfig.MAX_RESPONSE_TIME))
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+        try {
+            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            return status != 429 && status < 500;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Hasil pengukuran satu concurrency step
+     */
+    public record StepResult(int concurrency, long requests, double throughput,
+                             long p50Millis, long p99Millis, double errorRate, boolean healthy) {
+        @Override
+        public String toString() {
+            return String.format("concurrency=%d requests=%d throughput=%.1f/s p50=%dms p99=%dms errors=%.2f%% %s",
+                    concurrency, requests, throughput, p50Millis, p99Millis, errorRate * 100,
+                    healthy ? "OK" : "SATURATED");
+        }
+    }
+
+    /**
+     * Report akhir capacity search
+     * @param knee Step sehat dengan throughput tertinggi, null jika tidak ada step yang sehat
+     */
+    public record CapacityReport(long p99BudgetMillis, List<StepResult> steps, StepResult knee) {
+        @Override
+        public String toString() {
+            if (knee == null) {
+                return "No concurrency level met p99 budget of " + p99BudgetMillis + "ms";
+            }
+            return String.format("Knee point: %.1f req/s at concurrency %d (p99=%dms, budget=%dms)",
+                    knee.throughput(), knee.concurrency(), knee.p99Millis(), p99BudgetMillis);
+        }
+    }
+
+    /**
+     * Jalankan capacity finder terhadap JSONPlaceholder dengan budget default
+     */
+    public static void main(String[] args) throws InterruptedException {
+        String baseUrl = args.length > 0 ? args[0] : TestConfig.BASE_URL;
+        CapacityReport report = new CapacityFinder(baseUrl, DEFAULT_ENDPOINTS,
+                TestConfig.ACCEPTABLE_RESPONSE_TIME).run();
+        System.out.println("=== CAPACITY SUMMARY ===");
+        System.out.println(report);
+    }
+}
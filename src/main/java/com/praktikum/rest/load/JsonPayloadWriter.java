@@ -0,0 +1,185 @@
+package com.praktikum.rest.load;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+/**
+ * Serializer JSON minimal untuk payload hasil TestDataGenerator / FastDataGenerator
+ * (Map, String, Number, Boolean, null, array of Map)
+ * Bisa menulis ke String (mode unpooled) atau langsung sebagai UTF-8 ke pooled
+ * direct ByteBuffer tanpa String atau byte[] perantara (mode pooled)
+ */
+public final class JsonPayloadWriter {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private JsonPayloadWriter() {
+    }
+
+    /**
+     * Serialize value menjadi JSON String
+     */
+    public static String toJson(Object value) {
+        StringBuilder out = new StringBuilder(512);
+        writeValue(value, out::append);
+        return out.toString();
+    }
+
+    /**
+     * Serialize value sebagai UTF-8 ke buffer milik lease, mulai dari position saat ini
+     * @return Lease yang berisi payload (bisa lease baru jika buffer perlu diperbesar), siap dibaca (flipped)
+     */
+    public static PayloadBufferPool.Lease writeTo(Object value, PayloadBufferPool.Lease lease) {
+        Utf8Sink sink = new Utf8Sink(lease);
+        writeValue(value, sink);
+        sink.lease.buffer().flip();
+        return sink.lease;
+    }
+
+    /**
+     * Target penulisan per karakter
+     */
+    @FunctionalInterface
+    private interface CharSink {
+        void append(char c);
+    }
+
+    private static void writeValue(Object value, CharSink out) {
+        if (value == null) {
+            writeRaw("null", out);
+        } else if (value instanceof String string) {
+            writeString(string, out);
+        } else if (value instanceof Number || value instanceof Boolean) {
+            writeRaw(value.toString(), out);
+        } else if (value instanceof Map<?, ?> map) {
+            out.append('{');
+            boolean first = true;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (!first) {
+                    out.append(',');
+                }
+                first = false;
+                writeString(String.valueOf(entry.getKey()), out);
+                out.append(':');
+                writeValue(entry.getValue(), out);
+            }
+            out.append('}');
+        } else if (value instanceof Object[] array) {
+            out.append('[');
+            for (int i = 0; i < array.length; i++) {
+                if (i > 0) {
+                    out.append(',');
+                }
+                writeValue(array[i], out);
+            }
+            out.append(']');
+        } else if (value instanceof Iterable<?> iterable) {
+            out.append('[');
+            boolean first = true;
+            for (Object item : iterable) {
+                if (!first) {
+                    out.append(',');
+                }
+                first = false;
+                writeValue(item, out);
+            }
+            out.append(']');
+        } else {
+            writeString(value.toString(), out);
+        }
+    }
+
+    private static void writeRaw(String raw, CharSink out) {
+        for (int i = 0; i < raw.length(); i++) {
+            out.append(raw.charAt(i));
+        }
+    }
+
+    private static void writeString(String value, CharSink out) {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> {
+                    out.append('\\');
+                    out.append('"');
+                }
+                case '\\' -> {
+                    out.append('\\');
+                    out.append('\\');
+                }
+                case '\n' -> {
+                    out.append('\\');
+                    out.append('n');
+                }
+                case '\r' -> {
+                    out.append('\\');
+                    out.append('r');
+                }
+                case '\t' -> {
+                    out.append('\\');
+                    out.append('t');
+                }
+                default -> {
+                    if (c < 0x20) {
+                        writeRaw("\\u00", out);
+                        out.append(HEX[c >> 4]);
+                        out.append(HEX[c & 0xF]);
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+        out.append('"');
+    }
+
+    /**
+     * UTF-8 encoder langsung ke direct ByteBuffer, memperbesar lease jika penuh
+     */
+    private static final class Utf8Sink implements CharSink {
+        private PayloadBufferPool.Lease lease;
+        private char highSurrogate;
+
+        Utf8Sink(PayloadBufferPool.Lease lease) {
+            this.lease = lease;
+        }
+
+        @Override
+        public void append(char c) {
+            if (Character.isHighSurrogate(c)) {
+                highSurrogate = c;
+                return;
+            }
+            if (Character.isLowSurrogate(c) && highSurrogate != 0) {
+                int codePoint = Character.toCodePoint(highSurrogate, c);
+                highSurrogate = 0;
+                ByteBuffer buffer = ensure(4);
+                buffer.put((byte) (0xF0 | (codePoint >> 18)));
+                buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+            } else if (c < 0x80) {
+                ensure(1).put((byte) c);
+            } else if (c < 0x800) {
+                ByteBuffer buffer = ensure(2);
+                buffer.put((byte) (0xC0 | (c >> 6)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            } else {
+                ByteBuffer buffer = ensure(3);
+                buffer.put((byte) (0xE0 | (c >> 12)));
+                buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+
+        private ByteBuffer ensure(int bytes) {
+            ByteBuffer buffer = lease.buffer();
+            if (buffer.remaining() < bytes) {
+                lease = lease.grow(buffer.capacity() * 2);
+                buffer = lease.buffer();
+            }
+            return buffer;
+        }
+    }
+}
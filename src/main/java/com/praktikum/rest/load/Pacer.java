@@ -0,0 +1,61 @@
+package com.praktikum.rest.load;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model pacing: membagikan start slot dengan jarak tetap ke banyak worker
+ * Setiap worker mengambil slot berikutnya dengan satu getAndAdd lalu tidur sampai slot itu,
+ * sehingga rate total tetap walaupun jumlah worker atau latency berubah
+ * Slot yang terlewat (semua worker sibuk) tidak dikejar dengan burst: slot tidak pernah sebelum waktu sekarang
+ */
+public final class Pacer {
+
+    // Tanpa batas rate: await() langsung kembali
+    public static final Pacer UNLIMITED = new Pacer(0);
+
+    private final long intervalNanos;
+    private final AtomicLong nextSlot = new AtomicLong(System.nanoTime());
+
+    /**
+     * @param perSecond Target operasi per detik untuk semua worker, 0 atau kurang untuk tanpa batas
+     */
+    public Pacer(double perSecond) {
+        this.intervalNanos = perSecond > 0 ? Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) / perSecond)) : 0L;
+    }
+
+    public boolean isUnlimited() {
+        return intervalNanos == 0L;
+    }
+
+    /**
+     * Tunggu sampai start slot berikutnya
+     * @param deadlineNanos System.nanoTime() batas run, Long.MAX_VALUE jika tidak ada
+     * @return false jika slot berada setelah deadline atau thread di-interrupt
+     */
+    public boolean await(long deadlineNanos) {
+        if (intervalNanos == 0L) {
+            return System.nanoTime() < deadlineNanos;
+        }
+        long now = System.nanoTime();
+        long slot;
+        while (true) {
+            long next = nextSlot.get();
+            slot = Math.max(next, now);
+            if (nextSlot.compareAndSet(next, slot + intervalNanos)) {
+                break;
+            }
+        }
+        if (slot >= deadlineNanos) {
+            return false;
+        }
+        for (long wait = slot - System.nanoTime(); wait > 0; wait = slot - System.nanoTime()) {
+            LockSupport.parkNanos(wait);
+            if (Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,175 @@
+package com.praktikum.rest.load;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pool off-heap (direct ByteBuffer) untuk request payload dan response body di bulk load run
+ * Buffer dibagi ke size class kelipatan dua mulai 4 KB sampai maxBufferBytes, dan setiap
+ * buffer yang di-acquire harus di-release secara eksplisit di akhir request agar bisa dipakai ulang
+ * Setelah warm-up, request tidak lagi mengalokasikan byte[] atau String untuk body di heap
+ */
+public class PayloadBufferPool {
+
+    // Size class terkecil (4 KB)
+    private static final int MIN_CLASS_SHIFT = 12;
+
+    private final int maxBufferBytes;
+    private final int maxIdlePerClass;
+    private final ConcurrentLinkedQueue<ByteBuffer>[] idle;
+    private final AtomicInteger[] idleCounts;
+
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder allocated = new LongAdder();
+    private final LongAdder allocatedBytes = new LongAdder();
+    private final LongAdder oversized = new LongAdder();
+    private final AtomicInteger outstanding = new AtomicInteger();
+
+    /**
+     * @param maxBufferBytes Ukuran buffer terbesar yang di-pool, contoh TestConfig.PAYLOAD_POOL_MAX_BUFFER_BYTES
+     * @param maxIdlePerClass Jumlah buffer idle maksimum per size class
+     */
+    public PayloadBufferPool(int maxBufferBytes, int maxIdlePerClass) {
+        int classes = Math.max(1, classIndex(maxBufferBytes) + 1);
+        this.maxBufferBytes = 1 << (MIN_CLASS_SHIFT + classes - 1);
+        this.maxIdlePerClass = maxIdlePerClass;
+        // Java tidak bisa membuat generic array; cast aman karena setiap elemen diisi di bawah
+        @SuppressWarnings("unchecked")
+        ConcurrentLinkedQueue<ByteBuffer>[] queues =
+                (ConcurrentLinkedQueue<ByteBuffer>[]) new ConcurrentLinkedQueue<?>[classes];
+        this.idle = queues;
+        this.idleCounts = new AtomicInteger[classes];
+        for (int i = 0; i < classes; i++) {
+            idle[i] = new ConcurrentLinkedQueue<>();
+            idleCounts[i] = new AtomicInteger();
+        }
+    }
+
+    /**
+     * Ambil buffer dengan kapasitas minimal minCapacity, position 0 dan limit = capacity
+     * Buffer harus dikembalikan dengan release() atau Lease.close()
+     */
+    public Lease acquire(int minCapacity) {
+        acquired.increment();
+        outstanding.incrementAndGet();
+        if (minCapacity > maxBufferBytes) {
+            // Terlalu besar untuk di-pool, dialokasikan langsung dan dibuang saat release
+            oversized.increment();
+            return new Lease(this, ByteBuffer.allocateDirect(minCapacity), -1);
+        }
+        int index = classIndex(minCapacity);
+        ByteBuffer buffer = idle[index].poll();
+        if (buffer != null) {
+            idleCounts[index].decrementAndGet();
+            buffer.clear();
+        } else {
+            int size = 1 << (MIN_CLASS_SHIFT + index);
+            buffer = ByteBuffer.allocateDirect(size);
+            allocated.increment();
+            allocatedBytes.add(size);
+        }
+        return new Lease(this, buffer, index);
+    }
+
+    private void release(ByteBuffer buffer, int index) {
+        outstanding.decrementAndGet();
+        if (index < 0) {
+            return;
+        }
+        if (idleCounts[index].incrementAndGet() <= maxIdlePerClass) {
+            idle[index].offer(buffer);
+        } else {
+            // Pool penuh, biarkan buffer di-reclaim oleh GC (Cleaner)
+            idleCounts[index].decrementAndGet();
+        }
+    }
+
+    /**
+     * Index size class untuk kapasitas tertentu (0 = 4 KB, 1 = 8 KB, ...)
+     */
+    static int classIndex(int capacity) {
+        if (capacity <= 1 << MIN_CLASS_SHIFT) {
+            return 0;
+        }
+        return 32 - Integer.numberOfLeadingZeros(capacity - 1) - MIN_CLASS_SHIFT;
+    }
+
+    public int getMaxBufferBytes() {
+        return maxBufferBytes;
+    }
+
+    public long getAcquired() {
+        return acquired.sum();
+    }
+
+    public long getAllocated() {
+        return allocated.sum();
+    }
+
+    public long getAllocatedBytes() {
+        return allocatedBytes.sum();
+    }
+
+    public long getOversized() {
+        return oversized.sum();
+    }
+
+    public int getOutstanding() {
+        return outstanding.get();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("acquired=%d allocated=%d (%d KB off-heap) oversized=%d outstanding=%d",
+                getAcquired(), getAllocated(), getAllocatedBytes() / 1024, getOversized(), getOutstanding());
+    }
+
+    /**
+     * Satu buffer yang sedang dipinjam; close() mengembalikan buffer ke pool tepat satu kali
+     */
+    public static final class Lease implements AutoCloseable {
+        private final PayloadBufferPool pool;
+        private final int classIndex;
+        private ByteBuffer buffer;
+
+        private Lease(PayloadBufferPool pool, ByteBuffer buffer, int classIndex) {
+            this.pool = pool;
+            this.buffer = buffer;
+            this.classIndex = classIndex;
+        }
+
+        /**
+         * @return Buffer yang dipinjam
+         * @throws IllegalStateException jika lease sudah di-release
+         */
+        public ByteBuffer buffer() {
+            if (buffer == null) {
+                throw new IllegalStateException("Buffer already released");
+            }
+            return buffer;
+        }
+
+        /**
+         * Ganti dengan buffer yang lebih besar, isi buffer lama (0..position) ikut di-copy
+         */
+        public Lease grow(int minCapacity) {
+            Lease larger = pool.acquire(minCapacity);
+            ByteBuffer current = buffer();
+            current.flip();
+            larger.buffer().put(current);
+            close();
+            return larger;
+        }
+
+        @Override
+        public void close() {
+            if (buffer != null) {
+                ByteBuffer released = buffer;
+                buffer = null;
+                pool.release(released, classIndex);
+            }
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.praktikum.rest.load;
+
+import com.praktikum.rest.config.TestConfig;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * GC-log comparison antara BulkLoadRunner mode UNPOOLED dan POOLED
+ * Setiap mode dijalankan di child JVM dengan heap dan GC yang sama serta -Xlog:gc,
+ * lalu GC log di-parse untuk membandingkan jumlah young pause dan total pause time
+ * Tanpa target URL, request dikirim ke local echo server di JVM ini agar
+ * alokasi server tidak ikut tercatat di GC log child JVM
+ */
+public class PayloadGcComparison {
+
+    // Direktori output GC log
+    private static final Path GC_LOG_DIR = Path.of("target", "gc");
+
+    // Jumlah request default per mode; hanya dipakai dengan local echo server, target lain butuh args eksplisit
+    private static final long DEFAULT_REQUESTS = 1_000_000L;
+
+    // Heap yang sama untuk kedua mode agar jumlah GC bisa dibandingkan
+    private static final String HEAP = "256m";
+
+    // Contoh: [1.234s][info][gc] GC(12) Pause Young (Normal) (G1 Evacuation Pause) 30M->4M(256M) 1.234ms
+    private static final Pattern PAUSE = Pattern.compile("GC\\(\\d+\\) Pause (Young|Full|Remark|Cleanup).* ([0-9.]+)ms$");
+
+    /**
+     * @param args [requests] [concurrency] [target URL]
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        long requests = args.length > 0 ? Long.parseLong(args[0]) : DEFAULT_REQUESTS;
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : TestConfig.BULK_LOAD_CONCURRENCY;
+        HttpServer server = null;
+        String target;
+        if (args.length > 2) {
+            target = args[2];
+        } else {
+            server = startEchoServer();
+            target = "http://127.0.0.1:" + server.getAddress().getPort() + "/users";
+        }
+        Files.createDirectories(GC_LOG_DIR);
+        try {
+            List<GcStats> results = new ArrayList<>();
+            for (BulkLoadRunner.Mode mode : BulkLoadRunner.Mode.values()) {
+                Path log = GC_LOG_DIR.resolve(mode.name().toLowerCase(Locale.ROOT) + ".log");
+                String summary = runChild(mode, target, requests, concurrency, log);
+                results.add(parse(mode, log, summary));
+            }
+            System.out.println("=== GC COMPARISON (" + requests + " requests, concurrency " + concurrency
+                    + ", -Xmx" + HEAP + ") ===");
+            results.forEach(System.out::println);
+            System.out.println("GC logs: " + GC_LOG_DIR.toAbsolutePath());
+        } finally {
+            if (server != null) {
+                server.stop(0);
+            }
+        }
+    }
+
+    /**
+     * Jalankan BulkLoadRunner di child JVM dengan GC logging
+     * @return Baris summary yang dicetak child JVM
+     */
+    private static String runChild(BulkLoadRunner.Mode mode, String target, long requests, int concurrency, Path log)
+            throws IOException, InterruptedException {
+        List<String> command = List.of(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-Xms" + HEAP, "-Xmx" + HEAP, "-XX:+UseG1GC",
+                "-Xlog:gc:file=" + log,
+                "-cp", System.getProperty("java.class.path"),
+                BulkLoadRunner.class.getName(), mode.name(), target,
+                String.valueOf(requests), String.valueOf(concurrency));
+        System.out.println("Running " + mode + " ...");
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String summary = "";
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith("mode=")) {
+                    summary = line;
+                }
+            }
+        }
+        if (process.waitFor() != 0) {
+            throw new IllegalStateException("Bulk load run failed for mode " + mode);
+        }
+        return summary;
+    }
+
+    /**
+     * Parse GC log unified logging (-Xlog:gc) menjadi jumlah dan durasi pause
+     */
+    static GcStats parse(BulkLoadRunner.Mode mode, Path log, String summary) throws IOException {
+        long youngPauses = 0;
+        long otherPauses = 0;
+        double totalMillis = 0;
+        double maxMillis = 0;
+        for (String line : Files.readAllLines(log, StandardCharsets.UTF_8)) {
+            Matcher matcher = PAUSE.matcher(line);
+            if (!matcher.find()) {
+                continue;
+            }
+            double millis = Double.parseDouble(matcher.group(2));
+            if (matcher.group(1).equals("Young")) {
+                youngPauses++;
+            } else {
+                otherPauses++;
+            }
+            totalMillis += millis;
+            maxMillis = Math.max(maxMillis, millis);
+        }
+        return new GcStats(mode, youngPauses, otherPauses, totalMillis, maxMillis, summary);
+    }
+
+    /**
+     * Local echo server: response body sama dengan request body, seperti POST di JSONPlaceholder
+     */
+    private static HttpServer startEchoServer() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            byte[] body;
+            try (InputStream in = exchange.getRequestBody()) {
+                body = in.readAllBytes();
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(201, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+        return server;
+    }
+
+    /**
+     * Statistik GC dari satu child JVM
+     */
+    record GcStats(BulkLoadRunner.Mode mode, long youngPauses, long otherPauses, double totalPauseMillis,
+                   double maxPauseMillis, String summary) {
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT,
+                    "%-9s young pauses=%d other pauses=%d total pause=%.1fms max pause=%.2fms%n          %s",
+                    mode, youngPauses, otherPauses, totalPauseMillis, maxPauseMillis, summary);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.praktikum.rest.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Profiler untuk mengukur client-side overhead per test
+ * Mencatat waktu dan alokasi memory yang dihabiskan untuk parsing response,
+ * evaluasi GPath expression, dan Hamcrest matching
+ * Digunakan untuk mengetahui berapa bagian dari "response time" yang sebenarnya client kita
+ * Measurement boleh bersarang (contoh MATCH di dalam PARSE_GPATH); setiap stage mencatat waktu eksklusif
+ */
+public final class ClientOverheadProfiler {
+
+    /**
+     * Stage client-side yang di-profile
+     */
+    public enum Stage {
+        PARSE, GPATH, MATCH,
+        // REST Assured body() dan path(): parse ulang response dan GPath evaluation terjadi dalam satu call
+        // di internals REST Assured, sehingga dicatat bersama
+        PARSE_GPATH
+    }
+
+    private static final com.sun.management.ThreadMXBean THREADS = allocationBean();
+
+    // Statistik per test, satu entry untuk setiap stage
+    private static final Map<String, StageStats[]> BY_TEST = new ConcurrentHashMap<>();
+
+    // {nanos, bytes} yang sudah dicatat oleh nested measurements di dalam measurement yang sedang berjalan
+    private static final ThreadLocal<long[]> NESTED = ThreadLocal.withInitial(() -> new long[2]);
+
+    private ClientOverheadProfiler() {
+    }
+
+    /**
+     * Jalankan action dan catat waktu serta alokasi untuk stage tertentu
+     * Di-attribute ke test yang sedang berjalan menurut TestContext
+     * @return Hasil dari action
+     */
+    public static <T> T measure(Stage stage, Supplier<T> action) {
+        long[] nested = NESTED.get();
+        long outerNanos = nested[0];
+        long outerBytes = nested[1];
+        nested[0] = 0;
+        nested[1] = 0;
+        long bytesBefore = allocatedBytes();
+        long start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            long nanos = System.nanoTime() - start;
+            long bytes = allocatedBytes() - bytesBefore;
+            stats(TestContext.testName())[stage.ordinal()].add(nanos - nested[0], bytes - nested[1]);
+            // Measurement luar hanya mencatat sisa waktu di luar stage ini
+            nested[0] = outerNanos + nanos;
+            nested[1] = outerBytes + bytes;
+        }
+    }
+
+    /**
+     * Format statistik per test sebagai tabel text
+     */
+    public static String report() {
+        StringBuilder out = new StringBuilder("=== CLIENT OVERHEAD PER TEST ===\n");
+        out.append(String.format("%-56s %-11s %8s %12s %14s%n", "test", "stage", "calls", "total ms",
+                "alloc bytes"));
+        for (Map.Entry<String, StageStats[]> entry : new TreeMap<>(BY_TEST).entrySet()) {
+            for (Stage stage : Stage.values()) {
+                StageStats stats = entry.getValue()[stage.ordinal()];
+                long calls = stats.calls.sum();
+                if (calls == 0) {
+                    continue;
+                }
+                out.append(String.format("%-56s %-11s %8d %12.3f %14d%n", entry.getKey(), stage, calls,
+                        stats.nanos.sum() / 1e6, stats.bytes.sum()));
+            }
+        }
+        if (THREADS == null) {
+            out.append("(allocation tracking not supported by this JVM)\n");
+        }
+        return out.toString();
+    }
+
+    /**
+     * @return Jumlah measurement untuk test dan stage tertentu sejak clear() terakhir
+     */
+    public static long calls(String testName, Stage stage) {
+        StageStats[] stats = BY_TEST.get(testName);
+        return stats == null ? 0L : stats[stage.ordinal()].calls.sum();
+    }
+
+    /**
+     * Reset semua statistik
+     */
+    public static void clear() {
+        BY_TEST.clear();
+    }
+
+    private static StageStats[] stats(String testName) {
+        return BY_TEST.computeIfAbsent(testName, key -> {
+            StageStats[] created = new StageStats[Stage.values().length];
+            for (int i = 0; i < created.length; i++) {
+                created[i] = new StageStats();
+            }
+            return created;
+        });
+    }
+
+    private static long allocatedBytes() {
+        return THREADS == null ? 0L : THREADS.getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * @return ThreadMXBean HotSpot jika allocation tracking didukung, null jika tidak
+     */
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()) {
+            bean.setThreadAllocatedMemoryEnabled(true);
+            return bean;
+        }
+        return null;
+    }
+
+    /**
+     * Akumulator waktu dan alokasi untuk satu stage
+     */
+    private static final class StageStats {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+
+        private void add(long elapsedNanos, long allocatedBytes) {
+            calls.increment();
+            nanos.add(elapsedNanos);
+            bytes.add(allocatedBytes);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.praktikum.rest.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram lock-free untuk mencatat latency dalam mikrodetik
+ * Menggunakan log-linear buckets (32 sub-bucket per power of two, presisi ~3%)
+ * sehingga aman di-record dari banyak thread tanpa locking
+ */
+public class LatencyHistogram {
+
+    // Jumlah bit untuk sub-bucket di setiap power of two
+    private static final int SUB_BITS = 5;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+
+    // Nilai di bawah batas ini disimpan exact (satu bucket per mikrodetik)
+    private static final int LINEAR_LIMIT = SUB_COUNT * 2;
+
+    // Exponent maksimum yang di-track (2^41 us = kira-kira 25 hari)
+    private static final int MAX_EXPONENT = 40;
+    private static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+
+    private static final int BUCKET_COUNT = LINEAR_LIMIT + (MAX_EXPONENT - SUB_BITS) * SUB_COUNT;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Record satu sample latency
+     * @param micros Latency dalam mikrodetik (nilai negatif dianggap 0)
+     */
+    public void record(long micros) {
+        long value = Math.min(Math.max(micros, 0L), MAX_VALUE);
+        buckets.incrementAndGet(indexOf(value));
+        count.incrementAndGet();
+        sum.addAndGet(value);
+        // Update max dengan CAS loop
+        long current;
+        while (value > (current = max.get())) {
+            if (max.compareAndSet(current, value)) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * @return Jumlah sample yang sudah di-record
+     */
+    public long count() {
+        return count.get();
+    }
+
+    /**
+     * @return Rata-rata latency dalam mikrodetik, 0 jika belum ada sample
+     */
+    public double mean() {
+        long n = count.get();
+        return n == 0 ? 0.0 : (double) sum.get() / n;
+    }
+
+    /**
+     * @return Total semua latency yang di-record dalam mikrodetik
+     */
+    public long sum() {
+        return sum.get();
+    }
+
+    /**
+     * @return Latency maksimum yang pernah di-record dalam mikrodetik
+     */
+    public long max() {
+        return max.get();
+    }
+
+    /**
+     * Hitung nilai percentile dari distribusi yang sudah di-record
+     * @param percentile Nilai antara 0 dan 100, contoh 99.0 untuk p99
+     * @return Upper bound bucket yang memuat percentile tersebut dalam mikrodetik
+     */
+    public long percentile(double percentile) {
+        long n = count.get();
+        if (n == 0) {
+            return 0L;
+        }
+        long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0 * n));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                return Math.min(highestValueAt(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * Ambil snapshot dari bucket counts tanpa menghentikan recording
+     * Selisih dua snapshot menghasilkan distribusi untuk satu interval waktu
+     */
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        return new Snapshot(counts, total);
+    }
+
+    /**
+     * Snapshot immutable dari bucket counts sebuah histogram
+     */
+    public static final class Snapshot {
+
+        // Snapshot kosong, berguna sebagai baseline interval pertama
+        public static final Snapshot EMPTY = new Snapshot(new long[BUCKET_COUNT], 0L);
+
+        private final long[] counts;
+        private final long count;
+
+        private Snapshot(long[] counts, long count) {
+            this.counts = counts;
+            this.count = count;
+        }
+
+        /**
+         * @return Jumlah sample di snapshot ini
+         */
+        public long count() {
+            return count;
+        }
+
+        /**
+         * @return Distribusi sample yang di-record setelah snapshot sebelumnya
+         */
+        public Snapshot minus(Snapshot previous) {
+            long[] diff = new long[BUCKET_COUNT];
+            long total = 0;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                diff[i] = Math.max(0L, counts[i] - previous.counts[i]);
+                total += diff[i];
+            }
+            return new Snapshot(diff, total);
+        }
+
+        /**
+         * @return Gabungan dua snapshot, contoh untuk aggregate beberapa test class
+         */
+        public Snapshot plus(Snapshot other) {
+            long[] sum = new long[BUCKET_COUNT];
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                sum[i] = counts[i] + other.counts[i];
+            }
+            return new Snapshot(sum, count + other.count);
+        }
+
+        /**
+         * @return Upper bound bucket yang memuat percentile dalam mikrodetik
+         */
+        public long percentile(double percentile) {
+            if (count == 0) {
+                return 0L;
+            }
+            long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0 * count));
+            long seen = 0;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return highestValueAt(i);
+                }
+            }
+            return highestValueAt(BUCKET_COUNT - 1);
+        }
+    }
+
+    /**
+     * Hitung index bucket untuk value tertentu
+     */
+    static int indexOf(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BITS;
+        int sub = (int) (value >>> shift) - SUB_COUNT;
+        return LINEAR_LIMIT + (exponent - SUB_BITS - 1) * SUB_COUNT + sub;
+    }
+
+    /**
+     * Nilai tertinggi yang masuk ke bucket dengan index tertentu
+     */
+    static long highestValueAt(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int offset = index - LINEAR_LIMIT;
+        int exponent = offset / SUB_COUNT + SUB_BITS + 1;
+        int sub = offset % SUB_COUNT;
+        int shift = exponent - SUB_BITS;
+        long lowest = (long) (sub + SUB_COUNT) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
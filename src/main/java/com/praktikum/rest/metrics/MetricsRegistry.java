@@ -0,0 +1,187 @@
+package com.praktikum.rest.metrics;
+
+import com.praktikum.rest.config.TestConfig;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Registry untuk semua metrics selama test atau load run
+ * Request metrics disimpan per endpoint dan per test class, ditambah named counters
+ * dan gauges untuk komponen lain. Lookup di hot path hanya berupa map get tanpa alokasi
+ * Metrics di-expose secara live lewat JMX dan bisa ditulis ke Prometheus text file
+ */
+public final class MetricsRegistry implements MetricsRegistryMXBean {
+
+    // JMX domain untuk semua MBean yang di-register
+    public static final String JMX_DOMAIN = "com.praktikum.rest";
+
+    private static final MetricsRegistry GLOBAL = new MetricsRegistry(TestConfig.METRICS_JMX_ENABLED);
+
+    // endpoint -> test class -> metrics
+    private final Map<String, Map<String, RequestMetrics>> requests = new ConcurrentHashMap<>();
+    private final Map<String, NamedCounter> counters = new ConcurrentHashMap<>();
+    private final Map<String, NamedGauge> gauges = new ConcurrentHashMap<>();
+    private final boolean jmxEnabled;
+
+    /**
+     * @param jmxEnabled true untuk register MBean di platform MBeanServer
+     */
+    public MetricsRegistry(boolean jmxEnabled) {
+        this.jmxEnabled = jmxEnabled;
+        if (jmxEnabled) {
+            register("type=MetricsRegistry", this);
+        }
+    }
+
+    /**
+     * @return Registry global yang dipakai oleh filters dan listeners
+     */
+    public static MetricsRegistry global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Ambil (atau buat) request metrics untuk endpoint dan test class tertentu
+     */
+    public RequestMetrics requestMetrics(String endpoint, String testClass) {
+        Map<String, RequestMetrics> byClass = requests.get(endpoint);
+        if (byClass == null) {
+            byClass = requests.computeIfAbsent(endpoint, key -> new ConcurrentHashMap<>());
+        }
+        RequestMetrics metrics = byClass.get(testClass);
+        if (metrics == null) {
+            metrics = byClass.computeIfAbsent(testClass, key -> {
+                RequestMetrics created = new RequestMetrics(endpoint, key);
+                if (jmxEnabled) {
+                    register("type=RequestMetrics,testClass=" + ObjectName.quote(key)
+                            + ",endpoint=" + ObjectName.quote(endpoint), created);
+                }
+                return created;
+            });
+        }
+        return metrics;
+    }
+
+    /**
+     * Ambil (atau buat) named counter tanpa label
+     */
+    public LongAdder counter(String name, String help) {
+        return counter(name, help, null, null);
+    }
+
+    /**
+     * Ambil (atau buat) named counter dengan satu label
+     * @param labelName Nama label, contoh "endpoint"
+     * @param labelValue Nilai label, contoh "GET /users"
+     */
+    public LongAdder counter(String name, String help, String labelName, String labelValue) {
+        String labels = labelName == null ? "" : labelName + "=\"" + escape(labelValue) + "\"";
+        String key = labels.isEmpty() ? name : name + "{" + labels + "}";
+        NamedCounter counter = counters.get(key);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(key, k -> new NamedCounter(name, help, labels));
+        }
+        return counter.value;
+    }
+
+    /**
+     * Register gauge yang nilainya dibaca saat export
+     */
+    public void gauge(String name, String help, LongSupplier value) {
+        gauges.put(name, new NamedGauge(name, help, value));
+    }
+
+    /**
+     * @return Snapshot semua request metrics yang sudah dibuat
+     */
+    public List<RequestMetrics> allRequestMetrics() {
+        List<RequestMetrics> all = new ArrayList<>();
+        for (Map<String, RequestMetrics> byClass : requests.values()) {
+            all.addAll(byClass.values());
+        }
+        return all;
+    }
+
+    List<NamedCounter> allCounters() {
+        return new ArrayList<>(new TreeMap<>(counters).values());
+    }
+
+    List<NamedGauge> allGauges() {
+        return new ArrayList<>(new TreeMap<>(gauges).values());
+    }
+
+    @Override
+    public Map<String, Long> getCounters() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        counters.forEach((key, counter) -> snapshot.put(key, counter.value.sum()));
+        return snapshot;
+    }
+
+    @Override
+    public Map<String, Long> getGauges() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        gauges.forEach((key, gauge) -> snapshot.put(key, gauge.value.getAsLong()));
+        return snapshot;
+    }
+
+    /**
+     * Escape label value sesuai format Prometheus text exposition
+     */
+    static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static void register(String properties, Object mbean) {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName name = new ObjectName(JMX_DOMAIN + ":" + properties);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(mbean, name);
+            }
+        } catch (JMException e) {
+            // JMX hanya untuk observability, jangan gagalkan test karena ini
+            System.err.println("Failed to register MBean " + properties + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Counter dengan nama, deskripsi, dan label yang sudah di-render
+     */
+    static final class NamedCounter {
+        final String name;
+        final String help;
+        final String labels;
+        final LongAdder value = new LongAdder();
+
+        NamedCounter(String name, String help, String labels) {
+            this.name = name;
+            this.help = help;
+            this.labels = labels;
+        }
+    }
+
+    /**
+     * Gauge dengan nama, deskripsi, dan supplier nilai
+     */
+    static final class NamedGauge {
+        final String name;
+        final String help;
+        final LongSupplier value;
+
+        NamedGauge(String name, String help, LongSupplier value) {
+            this.name = name;
+            this.help = help;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.praktikum.rest.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX view dari named counters dan gauges di MetricsRegistry
+ */
+public interface MetricsRegistryMXBean {
+
+    Map<String, Long> getCounters();
+
+    Map<String, Long> getGauges();
+}
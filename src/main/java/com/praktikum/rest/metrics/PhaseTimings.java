@@ -0,0 +1,183 @@
+package com.praktikum.rest.metrics;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collector untuk per-phase timing breakdown dari setiap HTTP call
+ * Memecah satu call menjadi DNS, TCP connect, TLS handshake, time-to-first-byte,
+ * body transfer, dan client-side assertion time, lalu di-aggregate per endpoint
+ * Digunakan untuk membedakan apakah run yang lambat disebabkan network, server,
+ * atau test code kita sendiri
+ */
+public final class PhaseTimings {
+
+    /**
+     * Phase dari satu HTTP call, sesuai urutan terjadinya
+     */
+    public enum Phase {
+        DNS, CONNECT, TLS, TTFB, TRANSFER, ASSERTION
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+
+    // Histogram per endpoint, satu histogram untuk setiap phase
+    private static final Map<String, LatencyHistogram[]> BY_ENDPOINT = new ConcurrentHashMap<>();
+
+    // State call yang sedang berjalan di thread ini
+    private static final ThreadLocal<Call> CURRENT = ThreadLocal.withInitial(Call::new);
+
+    private PhaseTimings() {
+    }
+
+    /**
+     * Dipanggil sebelum request dikirim
+     * Menutup assertion window dari call sebelumnya di thread yang sama
+     * @param endpoint Nama endpoint, contoh "GET /users/{id}"
+     */
+    public static void begin(String endpoint) {
+        long now = System.nanoTime();
+        Call call = CURRENT.get();
+        call.closeAssertion(now);
+        call.reset(endpoint, now);
+    }
+
+    /**
+     * Tambahkan durasi network phase (DNS, CONNECT, TLS) ke call yang sedang berjalan
+     * Phase tidak terjadi ketika connection di-reuse dan tetap tercatat sebagai 0
+     */
+    public static void add(Phase phase, long nanos) {
+        Call call = CURRENT.get();
+        if (call.endpoint != null) {
+            call.nanos[phase.ordinal()] += nanos;
+        }
+    }
+
+    /**
+     * Dipanggil ketika response headers diterima (first byte)
+     */
+    public static void headersReceived() {
+        Call call = CURRENT.get();
+        if (call.endpoint != null && call.headersAt == 0L) {
+            call.headersAt = System.nanoTime();
+        }
+    }
+
+    /**
+     * Dipanggil ketika response body sudah selesai dibaca
+     * Mulai menghitung client-side assertion time sampai call berikutnya atau test selesai
+     */
+    public static void responseReceived() {
+        long now = System.nanoTime();
+        Call call = CURRENT.get();
+        if (call.endpoint == null) {
+            return;
+        }
+        long network = call.nanos[Phase.DNS.ordinal()]
+                + call.nanos[Phase.CONNECT.ordinal()]
+                + call.nanos[Phase.TLS.ordinal()];
+        long headersAt = call.headersAt == 0L ? now : call.headersAt;
+        call.nanos[Phase.TTFB.ordinal()] = Math.max(0L, headersAt - call.startedAt - network);
+        call.nanos[Phase.TRANSFER.ordinal()] = now - headersAt;
+        call.responseAt = now;
+    }
+
+    /**
+     * Keluarkan durasi dari assertion window call terakhir, untuk pekerjaan setelah response
+     * yang bukan test code (contoh candidate request di A/B differential run)
+     */
+    public static void excludeFromAssertion(long nanos) {
+        Call call = CURRENT.get();
+        if (call.endpoint != null && call.responseAt != 0L) {
+            call.responseAt += nanos;
+        }
+    }
+
+    /**
+     * Dipanggil ketika test method selesai untuk menutup assertion window terakhir
+     */
+    public static void endTest() {
+        Call call = CURRENT.get();
+        call.closeAssertion(System.nanoTime());
+        call.endpoint = null;
+    }
+
+    /**
+     * @return Histogram phase untuk endpoint tertentu, null jika endpoint belum pernah di-hit
+     */
+    public static LatencyHistogram histogram(String endpoint, Phase phase) {
+        LatencyHistogram[] histograms = BY_ENDPOINT.get(endpoint);
+        return histograms == null ? null : histograms[phase.ordinal()];
+    }
+
+    /**
+     * Format breakdown per endpoint sebagai tabel text (mean dan p99 dalam milidetik)
+     */
+    public static String report() {
+        StringBuilder out = new StringBuilder("=== PHASE TIMING BREAKDOWN (mean/p99 ms) ===\n");
+        out.append(String.format("%-32s %7s", "endpoint", "calls"));
+        for (Phase phase : PHASES) {
+            out.append(String.format(" %15s", phase));
+        }
+        out.append('\n');
+        for (Map.Entry<String, LatencyHistogram[]> entry : new TreeMap<>(BY_ENDPOINT).entrySet()) {
+            LatencyHistogram[] histograms = entry.getValue();
+            out.append(String.format("%-32s %7d", entry.getKey(), histograms[Phase.TTFB.ordinal()].count()));
+            for (LatencyHistogram histogram : histograms) {
+                out.append(String.format(" %7.1f/%7.1f",
+                        histogram.mean() / 1_000.0, histogram.percentile(99.0) / 1_000.0));
+            }
+            out.append('\n');
+        }
+        return out.toString();
+    }
+
+    /**
+     * Reset semua data yang sudah di-aggregate
+     */
+    public static void clear() {
+        BY_ENDPOINT.clear();
+    }
+
+    /**
+     * State mutable untuk satu call, hanya diakses oleh thread pemiliknya
+     */
+    private static final class Call {
+        private final long[] nanos = new long[PHASES.length];
+        private String endpoint;
+        private long startedAt;
+        private long headersAt;
+        private long responseAt;
+
+        private void reset(String endpoint, long now) {
+            this.endpoint = endpoint;
+            this.startedAt = now;
+            this.headersAt = 0L;
+            this.responseAt = 0L;
+            Arrays.fill(nanos, 0L);
+        }
+
+        /**
+         * Flush call ke histogram jika response sudah diterima
+         */
+        private void closeAssertion(long now) {
+            if (endpoint == null || responseAt == 0L) {
+                return;
+            }
+            nanos[Phase.ASSERTION.ordinal()] = now - responseAt;
+            LatencyHistogram[] histograms = BY_ENDPOINT.computeIfAbsent(endpoint, key -> {
+                LatencyHistogram[] created = new LatencyHistogram[PHASES.length];
+                for (int i = 0; i < created.length; i++) {
+                    created[i] = new LatencyHistogram();
+                }
+                return created;
+            });
+            for (int i = 0; i < PHASES.length; i++) {
+                histograms[i].record(nanos[i] / 1_000L);
+            }
+            responseAt = 0L;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.praktikum.rest.metrics;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background reporter untuk live progress selama long run (contoh soak test)
+ * Setiap detik mencetak rolling 1-second dan 10-second throughput, error rate,
+ * serta p50/p99 per endpoint, dan menulis hal yang sama sebagai JSON lines
+ * Hot path tidak di-lock: reporter hanya mengambil snapshot histogram kumulatif
+ * lalu menghitung selisihnya per interval
+ */
+public class ProgressReporter {
+
+    // Panjang rolling window yang panjang dalam detik
+    private static final int LONG_WINDOW_SECONDS = 10;
+
+    private final MetricsRegistry registry;
+    private final Path jsonLinesFile;
+
+    // Riwayat snapshot per endpoint, hanya diakses oleh scheduler thread
+    private final Map<String, Deque<Sample>> history = new HashMap<>();
+
+    private ScheduledExecutorService scheduler;
+    private BufferedWriter jsonLines;
+    private long startedAt;
+
+    /**
+     * @param registry Registry sumber metrics
+     * @param jsonLinesFile File output JSON lines, null untuk hanya print ke stdout
+     */
+    public ProgressReporter(MetricsRegistry registry, Path jsonLinesFile) {
+        this.registry = registry;
+        this.jsonLinesFile = jsonLinesFile;
+    }
+
+    /**
+     * Mulai reporting setiap satu detik di background daemon thread
+     */
+    public synchronized void start() throws IOException {
+        if (scheduler != null) {
+            return;
+        }
+        if (jsonLinesFile != null) {
+            Files.createDirectories(jsonLinesFile.toAbsolutePath().getParent());
+            jsonLines = Files.newBufferedWriter(jsonLinesFile, StandardCharsets.UTF_8);
+        }
+        startedAt = System.nanoTime();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "progress-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::tickQuietly, 1, 1, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Hentikan reporting dan tutup file JSON lines
+     */
+    public synchronized void stop() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        scheduler = null;
+        if (jsonLines != null) {
+            try {
+                jsonLines.close();
+            } catch (IOException e) {
+                System.err.println("Failed to close progress file: " + e.getMessage());
+            }
+            jsonLines = null;
+        }
+    }
+
+    private void tickQuietly() {
+        try {
+            tick();
+        } catch (IOException | RuntimeException e) {
+            // Reporter tidak boleh mematikan scheduler karena satu tick gagal
+            System.err.println("Progress reporter tick failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Ambil snapshot semua endpoint dan laporkan window 1 detik dan 10 detik
+     */
+    void tick() throws IOException {
+        long elapsedSeconds = Math.round((System.nanoTime() - startedAt) / 1e9);
+        for (Map.Entry<String, Sample> entry : aggregateByEndpoint().entrySet()) {
+            Deque<Sample> samples = history.computeIfAbsent(entry.getKey(), key -> new ArrayDeque<>());
+            Sample current = entry.getValue();
+            Sample previous = samples.isEmpty() ? Sample.ZERO : samples.peekLast();
+            Sample windowStart = samples.size() < LONG_WINDOW_SECONDS ? Sample.ZERO : samples.peekFirst();
+            samples.addLast(current);
+            if (samples.size() > LONG_WINDOW_SECONDS) {
+                samples.removeFirst();
+            }
+
+            Window shortWindow = Window.between(previous, current, 1);
+            Window longWindow = Window.between(windowStart, current,
+                    Math.min(LONG_WINDOW_SECONDS, Math.max(1, elapsedSeconds)));
+            if (longWindow.requests == 0) {
+                // Endpoint tidak aktif dalam 10 detik terakhir
+                continue;
+            }
+            System.out.printf("[progress] t=%ds %-28s 1s: %7.1f req/s err %5.1f%% p50 %7.1fms p99 %7.1fms"
+                            + " | 10s: %7.1f req/s err %5.1f%% p50 %7.1fms p99 %7.1fms%n",
+                    elapsedSeconds, entry.getKey(),
+                    shortWindow.throughput, shortWindow.errorRate * 100, shortWindow.p50Millis, shortWindow.p99Millis,
+                    longWindow.throughput, longWindow.errorRate * 100, longWindow.p50Millis, longWindow.p99Millis);
+            if (jsonLines != null) {
+                writeJson(elapsedSeconds, entry.getKey(), "1s", shortWindow);
+                writeJson(elapsedSeconds, entry.getKey(), "10s", longWindow);
+            }
+        }
+        if (jsonLines != null) {
+            jsonLines.flush();
+        }
+    }
+
+    /**
+     * Gabungkan metrics dari semua test class menjadi satu sample per endpoint
+     */
+    private Map<String, Sample> aggregateByEndpoint() {
+        Map<String, Sample> byEndpoint = new TreeMap<>();
+        for (RequestMetrics metrics : registry.allRequestMetrics()) {
+            Sample sample = new Sample(metrics.getRequests(), metrics.getErrors(), metrics.latency().snapshot());
+            byEndpoint.merge(metrics.getEndpoint(), sample, Sample::plus);
+        }
+        return byEndpoint;
+    }
+
+    private void writeJson(long elapsedSeconds, String endpoint, String window, Window stats) throws IOException {
+        jsonLines.write(String.format(Locale.ROOT,
+                "{\"timestamp\":\"%s\",\"elapsedSeconds\":%d,\"endpoint\":\"%s\",\"window\":\"%s\","
+                        + "\"requests\":%d,\"throughput\":%.3f,\"errorRate\":%.5f,\"p50Ms\":%.3f,\"p99Ms\":%.3f}",
+                Instant.now(), elapsedSeconds, endpoint.replace("\\", "\\\\").replace("\"", "\\\""), window,
+                stats.requests, stats.throughput, stats.errorRate, stats.p50Millis, stats.p99Millis));
+        jsonLines.newLine();
+    }
+
+    /**
+     * Nilai kumulatif satu endpoint pada satu titik waktu
+     */
+    private record Sample(long requests, long errors, LatencyHistogram.Snapshot latency) {
+        static final Sample ZERO = new Sample(0L, 0L, LatencyHistogram.Snapshot.EMPTY);
+
+        Sample plus(Sample other) {
+            return new Sample(requests + other.requests, errors + other.errors, latency.plus(other.latency));
+        }
+    }
+
+    /**
+     * Statistik untuk satu window waktu
+     */
+    private record Window(long requests, double throughput, double errorRate, double p50Millis, double p99Millis) {
+        static Window between(Sample start, Sample end, long seconds) {
+            long requests = end.requests - start.requests;
+            long errors = end.errors - start.errors;
+            LatencyHistogram.Snapshot latency = end.latency.minus(start.latency);
+            return new Window(requests, (double) requests / seconds,
+                    requests == 0 ? 0.0 : (double) errors / requests,
+                    latency.percentile(50.0) / 1_000.0, latency.percentile(99.0) / 1_000.0);
+        }
+    }
+}
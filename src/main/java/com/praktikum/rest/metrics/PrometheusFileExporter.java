@@ -0,0 +1,164 @@
+package com.praktikum.rest.metrics;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Menulis isi MetricsRegistry secara periodik ke file dalam Prometheus text format
+ * File ditulis ke temporary file lalu di-move secara atomic, sehingga file scraper
+ * (contoh node_exporter textfile collector) tidak pernah membaca file setengah jadi
+ */
+public class PrometheusFileExporter {
+
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99};
+
+    private final MetricsRegistry registry;
+    private final Path file;
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * @param registry Registry yang akan di-export
+     * @param file Path file output, contoh target/metrics/api-metrics.prom
+     */
+    public PrometheusFileExporter(MetricsRegistry registry, Path file) {
+        this.registry = registry;
+        this.file = file;
+    }
+
+    /**
+     * Mulai export periodik di background daemon thread
+     * @param intervalSeconds Interval antar export dalam detik
+     */
+    public synchronized void start(long intervalSeconds) {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "prometheus-file-exporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::writeQuietly, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Hentikan export periodik dan tulis snapshot terakhir
+     */
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+        writeQuietly();
+    }
+
+    /**
+     * Tulis snapshot metrics saat ini ke file
+     */
+    public void write() throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        Files.writeString(temp, render(), StandardCharsets.UTF_8);
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Render semua metrics dalam Prometheus text exposition format
+     */
+    public String render() {
+        StringBuilder out = new StringBuilder();
+        List<RequestMetrics> all = registry.allRequestMetrics();
+
+        header(out, "api_requests_total", "Total completed requests", "counter");
+        for (RequestMetrics metrics : all) {
+            sample(out, "api_requests_total", labels(metrics), metrics.getRequests());
+        }
+
+        header(out, "api_request_errors_total", "Failed requests by status code (0 = IO error)", "counter");
+        for (RequestMetrics metrics : all) {
+            for (int status = 0; status < RequestMetrics.statusSlots(); status++) {
+                long errors = metrics.errorsFor(status);
+                if (errors > 0) {
+                    sample(out, "api_request_errors_total",
+                            labels(metrics) + ",status=\"" + status + "\"", errors);
+                }
+            }
+        }
+
+        header(out, "api_request_bytes_received_total", "Response body bytes received", "counter");
+        for (RequestMetrics metrics : all) {
+            sample(out, "api_request_bytes_received_total", labels(metrics), metrics.getBytesIn());
+        }
+
+        header(out, "api_request_bytes_sent_total", "Request body bytes sent", "counter");
+        for (RequestMetrics metrics : all) {
+            sample(out, "api_request_bytes_sent_total", labels(metrics), metrics.getBytesOut());
+        }
+
+        header(out, "api_requests_in_flight", "Requests currently in flight", "gauge");
+        for (RequestMetrics metrics : all) {
+            sample(out, "api_requests_in_flight", labels(metrics), metrics.getInFlight());
+        }
+
+        header(out, "api_request_duration_seconds", "Request latency", "summary");
+        for (RequestMetrics metrics : all) {
+            LatencyHistogram latency = metrics.latency();
+            for (double quantile : QUANTILES) {
+                sample(out, "api_request_duration_seconds",
+                        labels(metrics) + ",quantile=\"" + quantile + "\"",
+                        latency.percentile(quantile * 100) / 1e6);
+            }
+            sample(out, "api_request_duration_seconds_sum", labels(metrics), latency.sum() / 1e6);
+            sample(out, "api_request_duration_seconds_count", labels(metrics), latency.count());
+        }
+
+        Set<String> described = new HashSet<>();
+        for (MetricsRegistry.NamedCounter counter : registry.allCounters()) {
+            if (described.add(counter.name)) {
+                header(out, counter.name, counter.help, "counter");
+            }
+            sample(out, counter.name, counter.labels, counter.value.sum());
+        }
+        for (MetricsRegistry.NamedGauge gauge : registry.allGauges()) {
+            header(out, gauge.name, gauge.help, "gauge");
+            sample(out, gauge.name, "", gauge.value.getAsLong());
+        }
+        return out.toString();
+    }
+
+    private void writeQuietly() {
+        try {
+            write();
+        } catch (IOException e) {
+            System.err.println("Failed to write Prometheus metrics to " + file + ": " + e.getMessage());
+        }
+    }
+
+    private static String labels(RequestMetrics metrics) {
+        return "endpoint=\"" + MetricsRegistry.escape(metrics.getEndpoint())
+                + "\",test_class=\"" + MetricsRegistry.escape(metrics.getTestClass()) + "\"";
+    }
+
+    private static void header(StringBuilder out, String name, String help, String type) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void sample(StringBuilder out, String name, String labels, Object value) {
+        out.append(name);
+        if (!labels.isEmpty()) {
+            out.append('{').append(labels).append('}');
+        }
+        out.append(' ').append(value).append('\n');
+    }
+}
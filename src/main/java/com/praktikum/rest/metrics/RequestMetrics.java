@@ -0,0 +1,129 @@
+package com.praktikum.rest.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters, gauge, dan histogram untuk satu kombinasi endpoint dan test class
+ * Semua update lock-free dan tidak melakukan alokasi di hot path
+ */
+public class RequestMetrics implements RequestMetricsMXBean {
+
+    // Status code di atas 599 dicatat di slot terakhir
+    private static final int STATUS_SLOTS = 600;
+
+    // Slot untuk request yang gagal tanpa status code (IO error, timeout)
+    public static final int IO_ERROR = 0;
+
+    private final String endpoint;
+    private final String testClass;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder bytesIn = new LongAdder();
+    private final LongAdder bytesOut = new LongAdder();
+    private final LongAdder inFlight = new LongAdder();
+    private final AtomicLongArray errorsByStatus = new AtomicLongArray(STATUS_SLOTS);
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    RequestMetrics(String endpoint, String testClass) {
+        this.endpoint = endpoint;
+        this.testClass = testClass;
+    }
+
+    /**
+     * Dipanggil sebelum request dikirim
+     * @param requestBytes Ukuran request body dalam bytes
+     */
+    public void onStart(long requestBytes) {
+        inFlight.increment();
+        bytesOut.add(requestBytes);
+    }
+
+    /**
+     * Dipanggil setelah response diterima
+     * @param status HTTP status code, atau IO_ERROR jika request gagal
+     * @param responseBytes Ukuran response body dalam bytes
+     * @param micros Latency dalam mikrodetik
+     */
+    public void onComplete(int status, long responseBytes, long micros) {
+        inFlight.decrement();
+        requests.increment();
+        bytesIn.add(responseBytes);
+        latency.record(micros);
+        if (status == IO_ERROR || status >= 400) {
+            errorsByStatus.incrementAndGet(Math.min(Math.max(status, 0), STATUS_SLOTS - 1));
+        }
+    }
+
+    /**
+     * @return Jumlah error untuk status tertentu (IO_ERROR untuk kegagalan tanpa status)
+     */
+    public long errorsFor(int status) {
+        return errorsByStatus.get(Math.min(Math.max(status, 0), STATUS_SLOTS - 1));
+    }
+
+    /**
+     * @return Jumlah slot status yang tersedia, untuk iterasi oleh exporter
+     */
+    static int statusSlots() {
+        return STATUS_SLOTS;
+    }
+
+    LatencyHistogram latency() {
+        return latency;
+    }
+
+    @Override
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    @Override
+    public String getTestClass() {
+        return testClass;
+    }
+
+    @Override
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    @Override
+    public long getErrors() {
+        long total = 0;
+        for (int i = 0; i < STATUS_SLOTS; i++) {
+            total += errorsByStatus.get(i);
+        }
+        return total;
+    }
+
+    @Override
+    public long getBytesIn() {
+        return bytesIn.sum();
+    }
+
+    @Override
+    public long getBytesOut() {
+        return bytesOut.sum();
+    }
+
+    @Override
+    public long getInFlight() {
+        return inFlight.sum();
+    }
+
+    @Override
+    public double getMeanMillis() {
+        return latency.mean() / 1_000.0;
+    }
+
+    @Override
+    public double getP50Millis() {
+        return latency.percentile(50.0) / 1_000.0;
+    }
+
+    @Override
+    public double getP99Millis() {
+        return latency.percentile(99.0) / 1_000.0;
+    }
+}
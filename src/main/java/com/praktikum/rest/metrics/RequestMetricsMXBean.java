@@ -0,0 +1,28 @@
+package com.praktikum.rest.metrics;
+
+/**
+ * JMX view dari RequestMetrics untuk satu kombinasi endpoint dan test class
+ * Bisa dipantau secara live lewat JConsole atau VisualVM selama load run
+ */
+public interface RequestMetricsMXBean {
+
+    String getEndpoint();
+
+    String getTestClass();
+
+    long getRequests();
+
+    long getErrors();
+
+    long getBytesIn();
+
+    long getBytesOut();
+
+    long getInFlight();
+
+    double getMeanMillis();
+
+    double getP50Millis();
+
+    double getP99Millis();
+}
@@ -0,0 +1,72 @@
+package com.praktikum.rest.metrics;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Menyimpan test class dan test method yang sedang berjalan di thread ini
+ * Di-set oleh TestNG listener agar metrics bisa di-attribute per test
+ */
+public final class TestContext {
+
+    // Nama default jika dipanggil di luar TestNG (contoh dari load engine)
+    public static final String NONE = "none";
+
+    private static final ThreadLocal<String> TEST_CLASS = ThreadLocal.withInitial(() -> NONE);
+    private static final ThreadLocal<String> TEST_NAME = ThreadLocal.withInitial(() -> NONE);
+
+    private TestContext() {
+    }
+
+    /**
+     * Set test yang sedang berjalan di thread ini
+     * @param testClass Simple name dari test class, contoh "UserAPITests"
+     * @param testMethod Nama method, contoh "testGetAllUsers"
+     */
+    public static void start(String testClass, String testMethod) {
+        TEST_CLASS.set(testClass);
+        TEST_NAME.set(testClass + "." + testMethod);
+    }
+
+    /**
+     * Reset context setelah test selesai
+     */
+    public static void end() {
+        TEST_CLASS.remove();
+        TEST_NAME.remove();
+    }
+
+    /**
+     * @return Simple name dari test class yang sedang berjalan
+     */
+    public static String testClass() {
+        return TEST_CLASS.get();
+    }
+
+    /**
+     * @return Nama test dalam format "Class.method"
+     */
+    public static String testName() {
+        return TEST_NAME.get();
+    }
+
+    /**
+     * Bungkus task agar test context thread ini ikut terbawa ke thread lain
+     * (contoh hedged request yang dijalankan di virtual thread)
+     */
+    public static <T> Callable<T> propagate(Callable<T> task) {
+        String testClass = testClass();
+        String testName = testName();
+        if (testClass.equals(NONE)) {
+            return task;
+        }
+        String testMethod = testName.substring(testClass.length() + 1);
+        return () -> {
+            start(testClass, testMethod);
+            try {
+                return task.call();
+            } finally {
+                end();
+            }
+        };
+    }
+}
@@ -0,0 +1,13 @@
+package com.praktikum.rest.model;
+
+/**
+ * Alamat user (field "address" di response /users)
+ */
+public record Address(String street, String suite, String city, String zipcode, Geo geo) {
+
+    /**
+     * Koordinat alamat; JSONPlaceholder mengirim lat/lng sebagai string
+     */
+    public record Geo(String lat, String lng) {
+    }
+}
@@ -0,0 +1,7 @@
+package com.praktikum.rest.model;
+
+/**
+ * Perusahaan user (field "company" di response /users)
+ */
+public record Company(String name, String catchPhrase, String bs) {
+}
@@ -0,0 +1,24 @@
+package com.praktikum.rest.model;
+
+/**
+ * Request dan response untuk ReqRes POST /login
+ */
+public final class Login {
+
+    private Login() {
+    }
+
+    public record Request(String email, String password) {
+    }
+
+    /**
+     * @param token Token jika login berhasil, null jika gagal
+     * @param error Pesan error jika login gagal, contoh "Missing password"
+     */
+    public record Response(String token, String error) {
+
+        public boolean successful() {
+            return token != null && !token.isEmpty();
+        }
+    }
+}
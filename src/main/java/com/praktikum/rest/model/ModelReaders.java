@@ -0,0 +1,68 @@
+package com.praktikum.rest.model;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Deserialization response body ke record models (User, Post, Login.Response)
+ * ObjectMapper dan ObjectReader dibuat satu kali: reader sudah memegang deserializer untuk type-nya,
+ * sehingga setiap call tidak perlu lookup ulang ke cache ObjectMapper
+ * BlackbirdModule mengganti reflection dengan generated lambdas untuk constructor dan accessors
+ * Body dibaca sebagai byte[] agar Jackson tidak perlu decode ke String terlebih dahulu
+ */
+public final class ModelReaders {
+
+    public static final ObjectMapper MAPPER = new ObjectMapper()
+            .registerModule(new BlackbirdModule())
+            // Field tambahan di response (contoh "createdAt") tidak membuat test gagal
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    public static final ObjectReader USER = MAPPER.readerFor(User.class);
+    public static final ObjectReader USERS = MAPPER.readerFor(new TypeReference<List<User>>() { });
+    public static final ObjectReader POST = MAPPER.readerFor(Post.class);
+    public static final ObjectReader POSTS = MAPPER.readerFor(new TypeReference<List<Post>>() { });
+    public static final ObjectReader LOGIN = MAPPER.readerFor(Login.Response.class);
+
+    private ModelReaders() {
+    }
+
+    public static User user(Response response) {
+        return read(USER, response.asByteArray());
+    }
+
+    public static List<User> users(Response response) {
+        return read(USERS, response.asByteArray());
+    }
+
+    public static Post post(Response response) {
+        return read(POST, response.asByteArray());
+    }
+
+    public static List<Post> posts(Response response) {
+        return read(POSTS, response.asByteArray());
+    }
+
+    public static Login.Response login(Response response) {
+        return read(LOGIN, response.asByteArray());
+    }
+
+    /**
+     * @param reader Salah satu reader di class ini
+     * @param json Body JSON dalam UTF-8
+     */
+    public static <T> T read(ObjectReader reader, byte[] json) {
+        try {
+            return reader.readValue(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot deserialize " + reader.getValueType(), e);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.praktikum.rest.model;
+
+/**
+ * Post dari JSONPlaceholder, contoh response GET /posts/1
+ */
+public record Post(int userId, int id, String title, String body) {
+}
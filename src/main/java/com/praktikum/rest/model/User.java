@@ -0,0 +1,8 @@
+package com.praktikum.rest.model;
+
+/**
+ * User dari JSONPlaceholder, contoh response GET /users/1
+ */
+public record User(int id, String name, String username, String email, Address address, String phone,
+                   String website, Company company) {
+}
@@ -0,0 +1,117 @@
+package com.praktikum.rest.pagination;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bitmap lock-free untuk menandai id yang sudah terlihat saat crawling collection
+ * Satu bit per id, dialokasikan per page 64K ids (8 KB) hanya untuk range yang benar-benar dipakai,
+ * sehingga 10 juta id contiguous hanya butuh sekitar 1.2 MB
+ * Mendukung id 0 sampai Integer.MAX_VALUE
+ */
+public class IdBitmap {
+
+    private static final int PAGE_BITS = 16;
+    private static final int WORDS_PER_PAGE = (1 << PAGE_BITS) / Long.SIZE;
+    private static final int PAGE_COUNT = 1 << (Integer.SIZE - 1 - PAGE_BITS);
+
+    private final AtomicReferenceArray<AtomicLongArray> pages = new AtomicReferenceArray<>(PAGE_COUNT);
+
+    /**
+     * Tandai id sebagai sudah terlihat
+     * @return true jika id baru, false jika duplicate
+     */
+    public boolean markSeen(long id) {
+        AtomicLongArray page = page(id, true);
+        int word = (int) (id & ((1 << PAGE_BITS) - 1)) >>> 6;
+        long mask = 1L << (id & 63);
+        while (true) {
+            long current = page.get(word);
+            if ((current & mask) != 0) {
+                return false;
+            }
+            if (page.compareAndSet(word, current, current | mask)) {
+                return true;
+            }
+        }
+    }
+
+    public boolean contains(long id) {
+        AtomicLongArray page = page(id, false);
+        if (page == null) {
+            return false;
+        }
+        int word = (int) (id & ((1 << PAGE_BITS) - 1)) >>> 6;
+        return (page.get(word) & (1L << (id & 63))) != 0;
+    }
+
+    /**
+     * @return Jumlah id yang sudah ditandai
+     */
+    public long cardinality() {
+        long count = 0;
+        for (int p = 0; p < PAGE_COUNT; p++) {
+            AtomicLongArray page = pages.get(p);
+            if (page != null) {
+                for (int w = 0; w < WORDS_PER_PAGE; w++) {
+                    count += Long.bitCount(page.get(w));
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return Jumlah id di range [from, to] yang belum ditandai
+     */
+    public long missingCount(long from, long to) {
+        long missing = 0;
+        for (long id = from; id <= to; id++) {
+            if (!contains(id)) {
+                missing++;
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * @return Maksimal limit id di range [from, to] yang belum ditandai, urut dari kecil
+     */
+    public List<Long> missing(long from, long to, int limit) {
+        List<Long> missing = new ArrayList<>();
+        for (long id = from; id <= to && missing.size() < limit; id++) {
+            if (!contains(id)) {
+                missing.add(id);
+            }
+        }
+        return missing;
+    }
+
+    private AtomicLongArray page(long id, boolean create) {
+        if (id < 0 || id > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Id out of bitmap range: " + id);
+        }
+        int index = (int) (id >>> PAGE_BITS);
+        AtomicLongArray page = pages.get(index);
+        if (page == null && create) {
+            pages.compareAndSet(index, null, new AtomicLongArray(WORDS_PER_PAGE));
+            page = pages.get(index);
+        }
+        return page;
+    }
+
+    /**
+     * @return Perkiraan memory yang dipakai bitmap dalam bytes
+     */
+    public long memoryBytes() {
+        long allocated = 0;
+        for (int p = 0; p < PAGE_COUNT; p++) {
+            if (pages.get(p) != null) {
+                allocated++;
+            }
+        }
+        return allocated * WORDS_PER_PAGE * Long.BYTES + (long) PAGE_COUNT * 4;
+    }
+}
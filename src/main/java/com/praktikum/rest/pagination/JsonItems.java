@@ -0,0 +1,82 @@
+package com.praktikum.rest.pagination;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Scanner ringan untuk JSON array of objects, tanpa membangun tree
+ * Memotong array menjadi item JSON dan mengambil field "id" di level teratas setiap item
+ */
+final class JsonItems {
+
+    private JsonItems() {
+    }
+
+    /**
+     * @param json JSON array, contoh response GET /posts?_page=1&_limit=10
+     * @param idField Nama field id di level teratas item
+     * @return Item di array; id = -1 jika item tidak punya field id numeric
+     */
+    static List<PageCrawler.Item> parse(String json, String idField) {
+        List<PageCrawler.Item> items = new ArrayList<>();
+        String idKey = "\"" + idField + "\"";
+        int depth = 0;
+        int itemStart = -1;
+        long id = -1;
+        for (int i = 0; i < json.length(); i++) {
+            char c = json.charAt(i);
+            if (c == '"') {
+                int end = skipString(json, i);
+                // Key di level item (depth 2 = di dalam object di dalam array)
+                if (depth == 2 && end - i + 1 == idKey.length() && json.startsWith(idKey, i)) {
+                    id = numberAfterColon(json, end + 1, id);
+                }
+                i = end;
+            } else if (c == '{' || c == '[') {
+                depth++;
+                if (depth == 2 && c == '{') {
+                    itemStart = i;
+                    id = -1;
+                }
+            } else if (c == '}' || c == ']') {
+                if (depth == 2 && c == '}' && itemStart >= 0) {
+                    items.add(new PageCrawler.Item(id, json.substring(itemStart, i + 1)));
+                    itemStart = -1;
+                }
+                depth--;
+            }
+        }
+        return items;
+    }
+
+    /**
+     * @return Index quote penutup dari string yang dimulai di index start
+     */
+    private static int skipString(String json, int start) {
+        for (int i = start + 1; i < json.length(); i++) {
+            char c = json.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '"') {
+                return i;
+            }
+        }
+        return json.length() - 1;
+    }
+
+    private static long numberAfterColon(String json, int from, long fallback) {
+        int i = from;
+        while (i < json.length() && (json.charAt(i) == ' ' || json.charAt(i) == ':' || json.charAt(i) == '\t'
+                || json.charAt(i) == '\n' || json.charAt(i) == '\r')) {
+            i++;
+        }
+        long value = 0;
+        int digits = 0;
+        while (i < json.length() && Character.isDigit(json.charAt(i))) {
+            value = value * 10 + (json.charAt(i) - '0');
+            digits++;
+            i++;
+        }
+        return digits == 0 ? fallback : value;
+    }
+}
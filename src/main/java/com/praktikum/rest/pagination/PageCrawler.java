@@ -0,0 +1,266 @@
+package com.praktikum.rest.pagination;
+
+import com.praktikum.rest.config.TestConfig;
+import com.praktikum.rest.resilience.HostRateLimiter;
+import com.praktikum.rest.resilience.ResilientCall;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Crawler untuk collection endpoint dengan pagination _page/_limit (gaya json-server)
+ * Beberapa page di-fetch paralel dengan read-ahead window, tetapi item dikirim ke consumer
+ * berurutan per page, sehingga memory terbatas pada ukuran window, bukan ukuran collection
+ * Total page diambil dari X-Total-Count atau Link header rel="last"; jika tidak ada,
+ * crawling berhenti pada page pertama yang berisi kurang dari _limit item
+ * Kelengkapan (tanpa gap dan duplicate) dicek dengan IdBitmap berdasarkan field id
+ */
+public class PageCrawler {
+
+    // Field yang dipakai untuk completeness check
+    private static final String ID_FIELD = "id";
+
+    private static final Pattern LAST_PAGE = Pattern.compile("[?&]_page=(\\d+)[^>]*>;\\s*rel=\"last\"");
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(TestConfig.MAX_RESPONSE_TIME))
+            .build();
+    private final String baseUrl;
+    private final int pageSize;
+    private final int concurrency;
+    private final int prefetch;
+
+    /**
+     * Satu item collection
+     * @param id Nilai field id, -1 jika tidak ada
+     * @param json JSON object item apa adanya
+     */
+    public record Item(long id, String json) {
+    }
+
+    /**
+     * Hasil crawling dan completeness check
+     * @param expectedTotal Total dari X-Total-Count, -1 jika server tidak mengirimnya
+     * @param missingSample Contoh id yang hilang di range [minId, maxId], maksimal 10
+     */
+    public record Result(long pages, long items, long duplicates, long withoutId, long expectedTotal,
+                         long minId, long maxId, long missingIds, List<Long> missingSample,
+                         long bitmapBytes, Duration elapsed) {
+
+        /**
+         * @return true jika tidak ada duplicate, tidak ada gap, dan jumlah item sesuai X-Total-Count
+         */
+        public boolean complete() {
+            return duplicates == 0 && missingIds == 0 && withoutId == 0
+                    && (expectedTotal < 0 || items == expectedTotal);
+        }
+
+        @Override
+        public String toString() {
+            double seconds = elapsed.toNanos() / 1e9;
+            return String.format(Locale.ROOT,
+                    "Crawl %s: %d items in %d pages (%.1f items/s), expected=%d, ids %d..%d, "
+                            + "duplicates=%d, missing=%d %s, bitmap=%d KB",
+                    complete() ? "COMPLETE" : "INCOMPLETE", items, pages, items / Math.max(seconds, 1e-9),
+                    expectedTotal, minId, maxId, duplicates, missingIds, missingSample, bitmapBytes / 1024);
+        }
+    }
+
+    /**
+     * Hasil fetch satu page
+     */
+    private record Page(int number, List<Item> items, long totalCount, int lastPage) {
+    }
+
+    /**
+     * @param baseUrl Base URL, contoh TestConfig.BASE_URL
+     * @param pageSize Nilai _limit
+     * @param concurrency Jumlah maksimum page yang di-fetch bersamaan
+     * @param prefetch Jumlah page yang boleh di-fetch di depan page yang sedang dikonsumsi (>= concurrency)
+     */
+    public PageCrawler(String baseUrl, int pageSize, int concurrency, int prefetch) {
+        if (pageSize < 1 || concurrency < 1) {
+            throw new IllegalArgumentException("pageSize and concurrency must be >= 1");
+        }
+        this.baseUrl = baseUrl;
+        this.pageSize = pageSize;
+        this.concurrency = concurrency;
+        this.prefetch = Math.max(prefetch, concurrency);
+    }
+
+    /**
+     * @return Crawler dengan page size, concurrency, dan prefetch dari TestConfig
+     */
+    public static PageCrawler fromConfig(String baseUrl) {
+        return new PageCrawler(baseUrl, TestConfig.PAGINATION_PAGE_SIZE, TestConfig.PAGINATION_CONCURRENCY,
+                TestConfig.PAGINATION_PREFETCH);
+    }
+
+    /**
+     * Crawl semua page dari collection
+     * @param path Path collection, boleh dengan query filter, contoh "/comments" atau "/posts?userId=1"
+     * @param consumer Dipanggil untuk setiap item, berurutan per page, di thread pemanggil
+     */
+    public Result crawl(String path, Consumer<Item> consumer) {
+        long start = System.nanoTime();
+        IdBitmap seen = new IdBitmap();
+        Semaphore permits = new Semaphore(concurrency);
+        Deque<CompletableFuture<Page>> window = new ArrayDeque<>();
+        long pages = 0;
+        long items = 0;
+        long duplicates = 0;
+        long withoutId = 0;
+        long expectedTotal = -1;
+        long minId = Long.MAX_VALUE;
+        long maxId = Long.MIN_VALUE;
+        int lastPage = Integer.MAX_VALUE;
+        int nextPage = 1;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // Page pertama sendirian agar total page diketahui sebelum read-ahead dimulai
+            window.add(fetchAsync(path, nextPage++, permits, executor));
+            while (!window.isEmpty()) {
+                Page page = join(window.poll());
+                if (page.number() > lastPage) {
+                    continue;
+                }
+                pages++;
+                if (page.totalCount() >= 0) {
+                    expectedTotal = page.totalCount();
+                    lastPage = (int) Math.max(1, (expectedTotal + pageSize - 1) / pageSize);
+                } else if (page.lastPage() > 0) {
+                    lastPage = page.lastPage();
+                }
+                if (page.items().size() < pageSize) {
+                    lastPage = Math.min(lastPage, page.number());
+                }
+
+                for (Item item : page.items()) {
+                    items++;
+                    if (item.id() < 0) {
+                        withoutId++;
+                    } else {
+                        if (!seen.markSeen(item.id())) {
+                            duplicates++;
+                        }
+                        minId = Math.min(minId, item.id());
+                        maxId = Math.max(maxId, item.id());
+                    }
+                    consumer.accept(item);
+                }
+
+                // Isi window sampai prefetch page di depan page yang baru dikonsumsi
+                while (window.size() < prefetch && nextPage <= lastPage) {
+                    window.add(fetchAsync(path, nextPage++, permits, executor));
+                }
+            }
+        }
+
+        long missing = maxId < minId ? 0 : seen.missingCount(minId, maxId);
+        List<Long> sample = maxId < minId ? List.of() : seen.missing(minId, maxId, 10);
+        return new Result(pages, items, duplicates, withoutId, expectedTotal,
+                maxId < minId ? 0 : minId, maxId < minId ? 0 : maxId, missing, sample, seen.memoryBytes(),
+                Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private CompletableFuture<Page> fetchAsync(String path, int number, Semaphore permits, ExecutorService executor) {
+        return CompletableFuture.supplyAsync(() -> {
+            permits.acquireUninterruptibly();
+            try {
+                return fetch(path, number);
+            } finally {
+                permits.release();
+            }
+        }, executor);
+    }
+
+    /**
+     * Fetch satu page lewat ResilientCall agar error transient di-retry, bukan menjadi gap
+     */
+    private Page fetch(String path, int number) {
+        String separator = path.contains("?") ? "&" : "?";
+        URI uri = URI.create(baseUrl + path + separator + "_page=" + number + "&_limit=" + pageSize);
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofMillis(TestConfig.MAX_RESPONSE_TIME * 3))
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+        HttpResponse<String> response = ResilientCall.global().execute("GET " + path,
+                () -> rateLimited(uri, () -> client.send(request,
+                        HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8))),
+                HttpResponse::statusCode);
+        if (response.statusCode() != 200) {
+            throw new UncheckedIOException(new IOException("GET " + uri + " returned " + response.statusCode()));
+        }
+        long total = response.headers().firstValue("X-Total-Count").map(Long::parseLong).orElse(-1L);
+        int last = response.headers().firstValue("Link").map(PageCrawler::lastPage).orElse(-1);
+        return new Page(number, JsonItems.parse(response.body(), ID_FIELD), total, last);
+    }
+
+    /**
+     * Satu attempt lewat HostRateLimiter, agar page fetch paralel tidak melampaui quota host
+     */
+    private static HttpResponse<String> rateLimited(URI uri, Callable<HttpResponse<String>> send) throws Exception {
+        HostRateLimiter limiter = HostRateLimiter.global();
+        String host = uri.getHost().toLowerCase(Locale.ROOT);
+        limiter.acquire(host);
+        HttpResponse<String> response;
+        try {
+            response = send.call();
+        } catch (Exception e) {
+            limiter.onError(host);
+            throw e;
+        }
+        limiter.onResponse(host, response.statusCode(), name -> response.headers().firstValue(name).orElse(null));
+        return response;
+    }
+
+    /**
+     * @return Nomor page dari Link header rel="last", -1 jika tidak ada
+     */
+    static int lastPage(String link) {
+        Matcher matcher = LAST_PAGE.matcher(link);
+        return matcher.find() ? Integer.parseInt(matcher.group(1)) : -1;
+    }
+
+    private static Page join(CompletableFuture<Page> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Crawl collection dan print completeness report
+     * @param args [path] [base URL]
+     */
+    public static void main(String[] args) {
+        String path = args.length > 0 ? args[0] : "/comments";
+        String baseUrl = args.length > 1 ? args[1] : TestConfig.BASE_URL;
+        Result result = fromConfig(baseUrl).crawl(path, item -> { });
+        System.out.println(result);
+    }
+}
@@ -0,0 +1,34 @@
+package com.praktikum.rest.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Custom JFR event untuk satu HTTP call
+ * Durasi event adalah latency call dari sisi client
+ */
+@Name("com.praktikum.rest.HttpCall")
+@Label("HTTP Call")
+@Category({"REST Assured Testing", "HTTP"})
+public class HttpCallEvent extends Event {
+
+    @Label("Endpoint")
+    public String endpoint;
+
+    @Label("Test Class")
+    public String testClass;
+
+    @Label("Status Code")
+    public int status;
+
+    @Label("Request Size")
+    @DataAmount
+    public long requestBytes;
+
+    @Label("Response Size")
+    @DataAmount
+    public long responseBytes;
+}
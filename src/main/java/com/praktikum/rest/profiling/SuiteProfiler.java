@@ -0,0 +1,199 @@
+package com.praktikum.rest.profiling;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Continuous profiling untuk satu suite run menggunakan Java Flight Recorder
+ * Recording memakai konfigurasi "profile" ditambah custom TestMethodEvent dan HttpCallEvent
+ * Setelah suite selesai, execution dan allocation samples di-attribute ke test class
+ * berdasarkan thread dan waktu, lalu diringkas menjadi hot methods dan allocation sites
+ * Semua lokal: recording dan summary hanya ditulis ke file
+ */
+public class SuiteProfiler {
+
+    // Jumlah entry teratas per test class di summary
+    private static final int TOP_N = 10;
+
+    // Test class untuk sample yang terjadi di luar test method
+    private static final String OUTSIDE_TESTS = "<outside tests>";
+
+    private final Path recordingFile;
+    private Recording recording;
+
+    /**
+     * @param recordingFile Path output .jfr, contoh target/jfr/suite.jfr
+     */
+    public SuiteProfiler(Path recordingFile) {
+        this.recordingFile = recordingFile;
+    }
+
+    /**
+     * Mulai JFR recording untuk suite
+     */
+    public void start() throws IOException, ParseException {
+        recording = new Recording(Configuration.getConfiguration("profile"));
+        recording.setName("api-test-suite");
+        recording.enable(TestMethodEvent.class);
+        recording.enable(HttpCallEvent.class);
+        recording.start();
+    }
+
+    /**
+     * Hentikan recording, dump ke file, dan tulis summary di sebelahnya
+     * @return Isi summary report
+     */
+    public String stop() throws IOException {
+        if (recording == null) {
+            return "";
+        }
+        Files.createDirectories(recordingFile.toAbsolutePath().getParent());
+        recording.stop();
+        recording.dump(recordingFile);
+        recording.close();
+        recording = null;
+
+        String summary = summarize(recordingFile);
+        Path summaryFile = recordingFile.resolveSibling(recordingFile.getFileName() + ".summary.txt");
+        Files.writeString(summaryFile, summary, StandardCharsets.UTF_8);
+        return summary;
+    }
+
+    /**
+     * Baca recording dan buat summary hot methods dan allocation sites per test class
+     */
+    public static String summarize(Path file) throws IOException {
+        Map<Long, List<TestInterval>> testsByThread = new HashMap<>();
+        List<RecordedEvent> executionSamples = new ArrayList<>();
+        List<RecordedEvent> allocationSamples = new ArrayList<>();
+        Map<String, long[]> httpByEndpoint = new TreeMap<>();
+
+        try (RecordingFile recordingFile = new RecordingFile(file)) {
+            while (recordingFile.hasMoreEvents()) {
+                RecordedEvent event = recordingFile.readEvent();
+                switch (event.getEventType().getName()) {
+                    case "com.praktikum.rest.TestMethod" -> {
+                        RecordedThread thread = event.getThread();
+                        if (thread != null) {
+                            testsByThread.computeIfAbsent(thread.getJavaThreadId(), id -> new ArrayList<>())
+                                    .add(new TestInterval(nanosOf(event, true), nanosOf(event, false),
+                                            event.getString("testClass")));
+                        }
+                    }
+                    case "com.praktikum.rest.HttpCall" -> {
+                        long[] stats = httpByEndpoint.computeIfAbsent(event.getString("endpoint"), key -> new long[2]);
+                        stats[0]++;
+                        stats[1] += event.getDuration().toNanos();
+                    }
+                    case "jdk.ExecutionSample" -> executionSamples.add(event);
+                    case "jdk.ObjectAllocationSample" -> allocationSamples.add(event);
+                    default -> {
+                        // Event lain tetap ada di .jfr untuk dianalisis dengan JDK Mission Control
+                    }
+                }
+            }
+        }
+        testsByThread.values().forEach(list -> list.sort(Comparator.comparingLong(TestInterval::start)));
+
+        // test class -> frame -> jumlah sample
+        Map<String, Map<String, Long>> hotMethods = new TreeMap<>();
+        for (RecordedEvent sample : executionSamples) {
+            String testClass = attribute(testsByThread, sample.getThread("sampledThread"), nanosOf(sample, true));
+            hotMethods.computeIfAbsent(testClass, key -> new HashMap<>())
+                    .merge(topFrame(sample.getStackTrace()), 1L, Long::sum);
+        }
+
+        // test class -> frame -> estimasi bytes yang dialokasikan
+        Map<String, Map<String, Long>> allocationSites = new TreeMap<>();
+        for (RecordedEvent sample : allocationSamples) {
+            String testClass = attribute(testsByThread, sample.getThread(), nanosOf(sample, true));
+            String site = topFrame(sample.getStackTrace()) + " [" + sample.getClass("objectClass").getName() + "]";
+            allocationSites.computeIfAbsent(testClass, key -> new HashMap<>())
+                    .merge(site, sample.getLong("weight"), Long::sum);
+        }
+
+        StringBuilder out = new StringBuilder("=== JFR PROFILE SUMMARY (" + file + ") ===\n");
+        out.append("\n--- HTTP calls ---\n");
+        httpByEndpoint.forEach((endpoint, stats) -> out.append(String.format("%-40s calls=%d mean=%.1fms%n",
+                endpoint, stats[0], stats[1] / 1e6 / Math.max(1, stats[0]))));
+        out.append("\n--- Hot methods (execution samples) ---\n");
+        appendTop(out, hotMethods, "samples");
+        out.append("\n--- Allocation sites (sampled bytes) ---\n");
+        appendTop(out, allocationSites, "bytes");
+        return out.toString();
+    }
+
+    /**
+     * Cari test class yang sedang berjalan di thread tertentu pada waktu tertentu
+     */
+    private static String attribute(Map<Long, List<TestInterval>> testsByThread, RecordedThread thread, long nanos) {
+        if (thread == null) {
+            return OUTSIDE_TESTS;
+        }
+        List<TestInterval> intervals = testsByThread.get(thread.getJavaThreadId());
+        if (intervals == null) {
+            return OUTSIDE_TESTS;
+        }
+        // Binary search interval terakhir yang dimulai sebelum sample
+        int low = 0;
+        int high = intervals.size() - 1;
+        TestInterval candidate = null;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (intervals.get(mid).start() <= nanos) {
+                candidate = intervals.get(mid);
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return candidate != null && nanos <= candidate.end() ? candidate.testClass() : OUTSIDE_TESTS;
+    }
+
+    private static long nanosOf(RecordedEvent event, boolean start) {
+        Instant instant = start ? event.getStartTime() : event.getEndTime();
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+
+    private static String topFrame(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "<no stack>";
+        }
+        RecordedFrame frame = stackTrace.getFrames().get(0);
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName();
+    }
+
+    private static void appendTop(StringBuilder out, Map<String, Map<String, Long>> byTestClass, String unit) {
+        byTestClass.forEach((testClass, counts) -> {
+            out.append(testClass).append('\n');
+            counts.entrySet().stream()
+                    .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                    .limit(TOP_N)
+                    .forEach(entry -> out.append(String.format("  %12d %s  %s%n", entry.getValue(), unit, entry.getKey())));
+        });
+    }
+
+    /**
+     * Rentang waktu satu test method di satu thread (epoch nanos)
+     */
+    private record TestInterval(long start, long end, String testClass) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.praktikum.rest.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Custom JFR event untuk satu eksekusi test method
+ * Durasi event dipakai untuk attribute execution dan allocation samples ke test class
+ */
+@Name("com.praktikum.rest.TestMethod")
+@Label("Test Method")
+@Category({"REST Assured Testing", "Tests"})
+public class TestMethodEvent extends Event {
+
+    @Label("Test Class")
+    public String testClass;
+
+    @Label("Test Method")
+    public String testMethod;
+
+    @Label("Status")
+    public String status;
+}
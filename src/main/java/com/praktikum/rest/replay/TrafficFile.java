@@ -0,0 +1,253 @@
+package com.praktikum.rest.replay;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Format file binary yang compact dan ter-index untuk recorded request/response pairs
+ * Layout: header (magic, version), entries berurutan, index (offset setiap entry),
+ * lalu footer (offset index, magic). Reader me-map file ke memory dan hanya
+ * men-decode entry yang dibutuhkan
+ * Key sebuah request adalah "METHOD host/path?query" tanpa scheme
+ */
+public final class TrafficFile {
+
+    private static final int MAGIC = 0x52504C31; // "RPL1"
+    private static final int VERSION = 1;
+    private static final int FOOTER_BYTES = Long.BYTES + Integer.BYTES;
+
+    private TrafficFile() {
+    }
+
+    /**
+     * Satu recorded exchange
+     * @param latencyMicros Waktu dari request dikirim sampai response diterima
+     * @param headers Response headers tanpa hop-by-hop dan length/encoding headers
+     */
+    public record Exchange(String method, String key, long requestHash, int status, long latencyMicros,
+                           Map<String, String> headers, byte[] requestBody, byte[] responseBody) {
+    }
+
+    /**
+     * @return Key request, contoh "GET jsonplaceholder.typicode.com/users?_page=1"
+     */
+    public static String key(String method, URI uri) {
+        return method + " " + target(uri);
+    }
+
+    /**
+     * @return Host, port (jika bukan default), path, dan query tanpa scheme
+     */
+    public static String target(URI uri) {
+        StringBuilder target = new StringBuilder(uri.getHost());
+        if (uri.getPort() != -1 && uri.getPort() != 80 && uri.getPort() != 443) {
+            target.append(':').append(uri.getPort());
+        }
+        target.append(uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath());
+        if (uri.getRawQuery() != null) {
+            target.append('?').append(uri.getRawQuery());
+        }
+        return target.toString();
+    }
+
+    /**
+     * FNV-1a 64-bit hash dari request body, 0 untuk body kosong
+     */
+    public static long hash(byte[] body) {
+        if (body == null || body.length == 0) {
+            return 0L;
+        }
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : body) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * Writer append-only; index dan footer ditulis saat close()
+     */
+    public static final class Writer implements AutoCloseable {
+        private final FileChannel channel;
+        private final List<Long> offsets = new ArrayList<>();
+        private final Map<String, Integer> perKey = new HashMap<>();
+        private final int maxPerKey;
+
+        /**
+         * @param maxPerKey Jumlah exchange maksimum per key, sisanya diabaikan
+         */
+        public Writer(Path file, int maxPerKey) throws IOException {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            this.maxPerKey = maxPerKey;
+            ByteBuffer header = ByteBuffer.allocate(Integer.BYTES * 2).putInt(MAGIC).putInt(VERSION).flip();
+            writeFully(header);
+        }
+
+        /**
+         * @return false jika key sudah mencapai batas dan exchange tidak ditulis
+         */
+        public synchronized boolean append(Exchange exchange) throws IOException {
+            if (perKey.merge(exchange.key(), 1, Integer::sum) > maxPerKey) {
+                return false;
+            }
+            offsets.add(channel.position());
+            writeFully(encode(exchange));
+            return true;
+        }
+
+        public synchronized int size() {
+            return offsets.size();
+        }
+
+        @Override
+        public synchronized void close() throws IOException {
+            long indexOffset = channel.position();
+            ByteBuffer index = ByteBuffer.allocate(Integer.BYTES + offsets.size() * Long.BYTES + FOOTER_BYTES);
+            index.putInt(offsets.size());
+            offsets.forEach(index::putLong);
+            index.putLong(indexOffset).putInt(MAGIC).flip();
+            writeFully(index);
+            channel.close();
+        }
+
+        private void writeFully(ByteBuffer buffer) throws IOException {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+
+        private static ByteBuffer encode(Exchange exchange) {
+            List<byte[]> strings = new ArrayList<>();
+            strings.add(utf8(exchange.method()));
+            strings.add(utf8(exchange.key()));
+            exchange.headers().forEach((name, value) -> {
+                strings.add(utf8(name));
+                strings.add(utf8(value));
+            });
+            int size = Long.BYTES + Integer.BYTES + Long.BYTES + Integer.BYTES
+                    + Integer.BYTES + exchange.requestBody().length
+                    + Integer.BYTES + exchange.responseBody().length;
+            for (byte[] string : strings) {
+                size += Integer.BYTES + string.length;
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(size);
+            putBytes(buffer, strings.get(0));
+            putBytes(buffer, strings.get(1));
+            buffer.putLong(exchange.requestHash())
+                    .putInt(exchange.status())
+                    .putLong(exchange.latencyMicros())
+                    .putInt(exchange.headers().size());
+            for (int i = 2; i < strings.size(); i++) {
+                putBytes(buffer, strings.get(i));
+            }
+            putBytes(buffer, exchange.requestBody());
+            putBytes(buffer, exchange.responseBody());
+            return buffer.flip();
+        }
+
+        private static void putBytes(ByteBuffer buffer, byte[] bytes) {
+            buffer.putInt(bytes.length).put(bytes);
+        }
+
+        private static byte[] utf8(String value) {
+            return value.getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Reader berbasis memory-mapped file dengan index per key dan per (key, request hash)
+     * Thread-safe: setiap decode memakai duplicate() dari mapped buffer
+     */
+    public static final class Reader {
+        private final MappedByteBuffer mapped;
+        private final Map<String, List<Integer>> byKey = new LinkedHashMap<>();
+        private final Map<String, Integer> byKeyAndHash = new HashMap<>();
+
+        public Reader(Path file) throws IOException {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+            if (mapped.capacity() < Integer.BYTES * 2 + FOOTER_BYTES
+                    || mapped.getInt(0) != MAGIC
+                    || mapped.getInt(mapped.capacity() - Integer.BYTES) != MAGIC) {
+                throw new IOException("Not a complete traffic recording: " + file);
+            }
+            if (mapped.getInt(Integer.BYTES) != VERSION) {
+                throw new IOException("Unsupported traffic recording version in " + file);
+            }
+            int indexOffset = (int) mapped.getLong(mapped.capacity() - FOOTER_BYTES);
+            int count = mapped.getInt(indexOffset);
+            for (int i = 0; i < count; i++) {
+                int offset = (int) mapped.getLong(indexOffset + Integer.BYTES + i * Long.BYTES);
+                ByteBuffer entry = mapped.duplicate().position(offset);
+                getString(entry); // method, sudah termasuk di key
+                String key = getString(entry);
+                long requestHash = entry.getLong();
+                byKey.computeIfAbsent(key, k -> new ArrayList<>()).add(offset);
+                byKeyAndHash.putIfAbsent(key + '#' + requestHash, offset);
+            }
+        }
+
+        /**
+         * @return Exchange dengan key dan request body hash yang sama persis, atau null
+         */
+        public Exchange exact(String key, long requestHash) {
+            Integer offset = byKeyAndHash.get(key + '#' + requestHash);
+            return offset == null ? null : decode(offset);
+        }
+
+        /**
+         * @param sequence Nomor urut pemanggilan, dipakai untuk round-robin antar recordings
+         * @return Salah satu exchange untuk key ini, atau null jika tidak ada
+         */
+        public Exchange any(String key, int sequence) {
+            List<Integer> offsets = byKey.get(key);
+            return offsets == null ? null : decode(offsets.get(Math.floorMod(sequence, offsets.size())));
+        }
+
+        public int keys() {
+            return byKey.size();
+        }
+
+        private Exchange decode(int offset) {
+            ByteBuffer entry = mapped.duplicate().position(offset);
+            String method = getString(entry);
+            String key = getString(entry);
+            long requestHash = entry.getLong();
+            int status = entry.getInt();
+            long latencyMicros = entry.getLong();
+            int headerCount = entry.getInt();
+            Map<String, String> headers = new LinkedHashMap<>();
+            for (int i = 0; i < headerCount; i++) {
+                headers.put(getString(entry), getString(entry));
+            }
+            return new Exchange(method, key, requestHash, status, latencyMicros, headers,
+                    getBytes(entry), getBytes(entry));
+        }
+
+        private static String getString(ByteBuffer buffer) {
+            return new String(getBytes(buffer), StandardCharsets.UTF_8);
+        }
+
+        private static byte[] getBytes(ByteBuffer buffer) {
+            byte[] bytes = new byte[buffer.getInt()];
+            buffer.get(bytes);
+            return bytes;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.praktikum.rest.report;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Locale;
+
+/**
+ * JUnit XML writer yang streaming: setiap testcase langsung ditulis ke file ".part"
+ * Root element testsuite membutuhkan total counts di attributes, sehingga file final
+ * baru disusun saat close dengan menyalin ".part" di belakang header (memory tetap konstan)
+ */
+class JUnitXmlWriter {
+
+    private final Path file;
+    private final Path part;
+    private final String suiteName;
+    private final BufferedWriter cases;
+
+    JUnitXmlWriter(Path file, String suiteName) throws IOException {
+        this.file = file;
+        this.part = file.resolveSibling(file.getFileName() + ".part");
+        this.suiteName = suiteName;
+        this.cases = Files.newBufferedWriter(part, StandardCharsets.UTF_8);
+    }
+
+    void write(TestOutcome outcome) throws IOException {
+        // Tanpa String.format: writer ini dipanggil sekali per DataProvider row
+        cases.write("  <testcase classname=\"");
+        cases.write(escape(outcome.testClass(), true));
+        cases.write("\" name=\"");
+        cases.write(escape(name(outcome), true));
+        cases.write("\" time=\"");
+        cases.write(seconds(outcome.durationMillis()));
+        cases.write('"');
+        switch (outcome.status()) {
+            case PASSED -> cases.write("/>\n");
+            case SKIPPED -> cases.write(">\n    <skipped/>\n  </testcase>\n");
+            case FAILED -> {
+                String element = outcome.assertionFailure() ? "failure" : "error";
+                cases.write(">\n    <" + element + " type=\"" + escape(outcome.errorType(), true)
+                        + "\" message=\"" + escape(outcome.errorMessage(), true) + "\">");
+                cases.write(escape(outcome.stackTrace(), false));
+                cases.write("</" + element + ">\n  </testcase>\n");
+            }
+        }
+    }
+
+    /**
+     * Tulis file final dan hapus ".part"
+     */
+    void close(long tests, long failures, long errors, long skipped, long elapsedMillis) throws IOException {
+        cases.close();
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+             Reader in = Files.newBufferedReader(part, StandardCharsets.UTF_8)) {
+            out.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+            out.write(String.format(Locale.ROOT,
+                    "<testsuite name=\"%s\" tests=\"%d\" failures=\"%d\" errors=\"%d\" skipped=\"%d\" "
+                            + "time=\"%.3f\" timestamp=\"%s\">\n",
+                    escape(suiteName, true), tests, failures, errors, skipped, elapsedMillis / 1000.0,
+                    Instant.now().toString()));
+            in.transferTo(out);
+            out.write("</testsuite>\n");
+        }
+        Files.deleteIfExists(part);
+    }
+
+    private static String name(TestOutcome outcome) {
+        return outcome.parameters().isEmpty()
+                ? outcome.method()
+                : outcome.method() + "[" + outcome.parameters() + "]";
+    }
+
+    /**
+     * @return Detik dengan tiga desimal, contoh 1234 -> "1.234"
+     */
+    static String seconds(long millis) {
+        long fraction = millis % 1000;
+        return millis / 1000 + (fraction < 10 ? ".00" : fraction < 100 ? ".0" : ".") + fraction;
+    }
+
+    /**
+     * Escape untuk attribute dan text XML; control characters yang tidak valid di XML 1.0 dibuang
+     * @param attribute true untuk attribute value: line breaks di-escape agar tidak dinormalisasi jadi spasi
+     */
+    static String escape(String value, boolean attribute) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder out = new StringBuilder(value.length() + 16);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&' -> out.append("&amp;");
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '"' -> out.append("&quot;");
+                case '\n' -> out.append(attribute ? "&#10;" : "\n");
+                case '\r' -> out.append(attribute ? "&#13;" : "\r");
+                default -> {
+                    if (c >= 0x20 || c == '\t') {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+        return out.toString();
+    }
+}
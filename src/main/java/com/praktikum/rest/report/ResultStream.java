@@ -0,0 +1,247 @@
+package com.praktikum.rest.report;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Menulis hasil test ke JSON lines dan/atau JUnit XML segera setelah setiap test selesai
+ * Yang disimpan di memory hanya counters, jumlah failure per error type (dibatasi),
+ * dan sample beberapa failure pertama, sehingga memory konstan untuk jutaan DataProvider rows
+ * Aman dipanggil dari banyak thread (parallel TestNG): penulisan file di-serialize dengan lock
+ */
+public class ResultStream {
+
+    // Jumlah error type berbeda yang dihitung terpisah, sisanya masuk ke OTHER_ERRORS
+    private static final int MAX_ERROR_TYPES = 32;
+    private static final String OTHER_ERRORS = "(other)";
+
+    private final Path jsonLinesFile;
+    private final Path junitXmlFile;
+    private final String suiteName;
+    private final int failureSampleSize;
+
+    private final LongAdder passed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder assertionFailures = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+
+    // Diakses hanya di dalam synchronized
+    private final List<TestOutcome> failureSample = new ArrayList<>();
+    private final Map<String, Long> errorTypes = new LinkedHashMap<>();
+    private BufferedWriter jsonLines;
+    private JUnitXmlWriter junitXml;
+    private long startedAt;
+    private long elapsedMillis;
+
+    /**
+     * @param jsonLinesFile File JSON lines, null untuk tidak menulis JSON lines
+     * @param junitXmlFile File JUnit XML, null untuk tidak menulis JUnit XML
+     * @param suiteName Nama testsuite di JUnit XML dan di summary line
+     * @param failureSampleSize Jumlah failure pertama yang disimpan lengkap untuk summary
+     */
+    public ResultStream(Path jsonLinesFile, Path junitXmlFile, String suiteName, int failureSampleSize) {
+        this.jsonLinesFile = jsonLinesFile;
+        this.junitXmlFile = junitXmlFile;
+        this.suiteName = suiteName;
+        this.failureSampleSize = failureSampleSize;
+    }
+
+    public synchronized void open() throws IOException {
+        startedAt = System.currentTimeMillis();
+        if (jsonLinesFile != null) {
+            createParent(jsonLinesFile);
+            jsonLines = Files.newBufferedWriter(jsonLinesFile, StandardCharsets.UTF_8);
+        }
+        if (junitXmlFile != null) {
+            createParent(junitXmlFile);
+            junitXml = new JUnitXmlWriter(junitXmlFile, suiteName);
+        }
+    }
+
+    /**
+     * Catat dan tulis satu hasil; referensi ke outcome tidak disimpan kecuali masuk failure sample
+     */
+    public void record(TestOutcome outcome) {
+        switch (outcome.status()) {
+            case PASSED -> passed.increment();
+            case SKIPPED -> skipped.increment();
+            case FAILED -> {
+                failed.increment();
+                if (outcome.assertionFailure()) {
+                    assertionFailures.increment();
+                }
+            }
+        }
+        synchronized (this) {
+            if (outcome.status() == TestOutcome.Status.FAILED) {
+                sampleFailure(outcome);
+            }
+            try {
+                if (jsonLines != null) {
+                    jsonLines.write(toJson(outcome));
+                    jsonLines.newLine();
+                }
+                if (junitXml != null) {
+                    junitXml.write(outcome);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write test result " + outcome.displayName(), e);
+            }
+        }
+    }
+
+    /**
+     * Tulis summary line di akhir JSON lines dan susun file JUnit XML final
+     */
+    public synchronized void close() throws IOException {
+        elapsedMillis = System.currentTimeMillis() - startedAt;
+        if (jsonLines != null) {
+            jsonLines.write(summaryJson());
+            jsonLines.newLine();
+            jsonLines.close();
+            jsonLines = null;
+        }
+        if (junitXml != null) {
+            junitXml.close(total(), assertionFailures.sum(), failed.sum() - assertionFailures.sum(),
+                    skipped.sum(), elapsedMillis);
+            junitXml = null;
+        }
+    }
+
+    public long passed() {
+        return passed.sum();
+    }
+
+    public long failed() {
+        return failed.sum();
+    }
+
+    public long skipped() {
+        return skipped.sum();
+    }
+
+    public long total() {
+        return passed.sum() + failed.sum() + skipped.sum();
+    }
+
+    public synchronized List<TestOutcome> failureSample() {
+        return List.copyOf(failureSample);
+    }
+
+    /**
+     * @return Summary untuk console: counts, failure per error type, dan failure sample
+     */
+    public synchronized String summary() {
+        StringBuilder out = new StringBuilder();
+        out.append("Passed tests: ").append(passed()).append(System.lineSeparator());
+        out.append("Failed tests: ").append(failed()).append(System.lineSeparator());
+        out.append("Skipped tests: ").append(skipped()).append(System.lineSeparator());
+        out.append("Total tests: ").append(total()).append(System.lineSeparator());
+        errorTypes.forEach((type, count) -> out.append(String.format(Locale.ROOT, "  %-60s %d%n", type, count)));
+        if (!failureSample.isEmpty()) {
+            out.append("First ").append(failureSample.size()).append(" failures:").append(System.lineSeparator());
+            for (TestOutcome failure : failureSample) {
+                out.append("  ").append(failure.displayName()).append(": ").append(failure.errorType())
+                        .append(failure.errorMessage() == null ? "" : " - " + firstLine(failure.errorMessage()))
+                        .append(System.lineSeparator());
+            }
+        }
+        if (jsonLinesFile != null) {
+            out.append("Results: ").append(jsonLinesFile).append(System.lineSeparator());
+        }
+        if (junitXmlFile != null) {
+            out.append("JUnit XML: ").append(junitXmlFile).append(System.lineSeparator());
+        }
+        return out.toString();
+    }
+
+    private void sampleFailure(TestOutcome outcome) {
+        if (failureSample.size() < failureSampleSize) {
+            failureSample.add(outcome);
+        }
+        String type = errorTypes.containsKey(outcome.errorType()) || errorTypes.size() < MAX_ERROR_TYPES
+                ? String.valueOf(outcome.errorType())
+                : OTHER_ERRORS;
+        errorTypes.merge(type, 1L, Long::sum);
+    }
+
+    private static String toJson(TestOutcome outcome) {
+        StringBuilder json = new StringBuilder(256)
+                .append("{\"type\":\"result\",\"class\":").append(quote(outcome.testClass()))
+                .append(",\"method\":").append(quote(outcome.method()))
+                .append(",\"parameters\":").append(quote(outcome.parameters()))
+                .append(",\"status\":").append(quote(outcome.status().name()))
+                .append(",\"start\":").append(outcome.startMillis())
+                .append(",\"durationMillis\":").append(outcome.durationMillis());
+        if (outcome.errorType() != null) {
+            json.append(",\"errorType\":").append(quote(outcome.errorType()))
+                    .append(",\"errorMessage\":").append(quote(outcome.errorMessage()))
+                    .append(",\"stackTrace\":").append(quote(outcome.stackTrace()));
+        }
+        return json.append('}').toString();
+    }
+
+    private String summaryJson() {
+        StringBuilder json = new StringBuilder(128)
+                .append("{\"type\":\"summary\",\"suite\":").append(quote(suiteName))
+                .append(",\"passed\":").append(passed())
+                .append(",\"failed\":").append(failed())
+                .append(",\"skipped\":").append(skipped())
+                .append(",\"total\":").append(total())
+                .append(",\"elapsedMillis\":").append(elapsedMillis)
+                .append(",\"errorTypes\":{");
+        boolean first = true;
+        for (Map.Entry<String, Long> entry : errorTypes.entrySet()) {
+            json.append(first ? "" : ",").append(quote(entry.getKey())).append(':').append(entry.getValue());
+            first = false;
+        }
+        return json.append("}}").toString();
+    }
+
+    static String quote(String value) {
+        if (value == null) {
+            return "null";
+        }
+        StringBuilder out = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.append(String.format(Locale.ROOT, "\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+        return out.append('"').toString();
+    }
+
+    private static String firstLine(String message) {
+        int newline = message.indexOf('\n');
+        return newline < 0 ? message : message.substring(0, newline);
+    }
+
+    private static void createParent(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.praktikum.rest.report;
+
+/**
+ * Hasil satu test invocation yang sudah dilepas dari ITestResult
+ * Hanya menyimpan string pendek, sehingga parameters dan throwable dari DataProvider
+ * tidak ikut tertahan di memory setelah hasilnya ditulis
+ * @param parameters Parameters DataProvider sebagai string yang sudah dipotong, "" jika tidak ada
+ * @param errorType Class name dari throwable, null jika test pass
+ * @param stackTrace Stack trace yang sudah dipotong, null jika test pass
+ */
+public record TestOutcome(String testClass, String method, String parameters, Status status,
+                          long startMillis, long durationMillis, String errorType, String errorMessage,
+                          String stackTrace) {
+
+    public enum Status {
+        PASSED, FAILED, SKIPPED
+    }
+
+    /**
+     * @return Nama test "Class.method" dengan parameters jika ada, contoh "UserAPITests.testGetUser[1]"
+     */
+    public String displayName() {
+        String name = testClass.substring(testClass.lastIndexOf('.') + 1) + "." + method;
+        return parameters.isEmpty() ? name : name + "[" + parameters + "]";
+    }
+
+    /**
+     * @return true jika gagal karena assertion, bukan karena exception lain
+     */
+    public boolean assertionFailure() {
+        return errorType != null && errorType.endsWith("AssertionError");
+    }
+}
@@ -0,0 +1,166 @@
+package com.praktikum.rest.resilience;
+
+import com.praktikum.rest.config.TestConfig;
+import com.praktikum.rest.metrics.LatencyHistogram;
+import com.praktikum.rest.metrics.MetricsRegistry;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+
+/**
+ * Client-side rate limiter per host agar run paralel memakai quota API publik sepenuhnya tanpa memicu 429
+ * Setiap host punya TokenBucket sendiri dengan rate dari TestConfig.RATE_LIMIT_HOSTS;
+ * host yang tidak dikonfigurasi tidak dibatasi kecuali response-nya mengirim Retry-After atau rate-limit headers
+ * Waktu menunggu permit dicatat per host di MetricsRegistry, terpisah dari latency request
+ */
+public class HostRateLimiter {
+
+    private static final HostRateLimiter GLOBAL = new HostRateLimiter(TestConfig.RATE_LIMIT_ENABLED,
+            parseRates(TestConfig.RATE_LIMIT_HOSTS), TestConfig.RATE_LIMIT_BURST,
+            Duration.ofMillis(TestConfig.RATE_LIMIT_MAX_PAUSE_MILLIS), MetricsRegistry.global());
+
+    private final boolean enabled;
+    private final Map<String, Double> rates;
+    private final int burst;
+    private final Duration maxPause;
+    private final MetricsRegistry registry;
+    private final Map<String, HostState> hosts = new ConcurrentHashMap<>();
+
+    /**
+     * Bucket dan statistik untuk satu host
+     */
+    static final class HostState {
+        final TokenBucket bucket;
+        final LatencyHistogram waits = new LatencyHistogram();
+        final LongAdder waitMicros;
+        final LongAdder delayed;
+        final LongAdder throttled;
+
+        HostState(MetricsRegistry registry, String host, TokenBucket bucket) {
+            this.bucket = bucket;
+            waitMicros = registry.counter("api_ratelimit_wait_micros_total",
+                    "Total waktu menunggu permit rate limiter dalam mikrodetik", "host", host);
+            delayed = registry.counter("api_ratelimit_delayed_total",
+                    "Jumlah request yang harus menunggu permit", "host", host);
+            throttled = registry.counter("api_ratelimit_throttled_total",
+                    "Jumlah response 429/503 atau quota habis yang membuat host di-pause", "host", host);
+        }
+    }
+
+    /**
+     * @param rates Host -> request per detik; host lain tanpa batas
+     * @param burst Jumlah request yang boleh dikirim sekaligus setelah idle
+     * @param maxPause Batas atas pause dari Retry-After atau reset header
+     */
+    public HostRateLimiter(boolean enabled, Map<String, Double> rates, int burst, Duration maxPause,
+                           MetricsRegistry registry) {
+        this.enabled = enabled;
+        this.rates = Map.copyOf(rates);
+        this.burst = burst;
+        this.maxPause = maxPause;
+        this.registry = registry;
+    }
+
+    /**
+     * @return Instance global dengan konfigurasi dari TestConfig (override dengan -Dratelimit.*)
+     */
+    public static HostRateLimiter global() {
+        return GLOBAL;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Tunggu permit untuk host; harus diikuti onResponse atau onError untuk host yang sama
+     * @param host Host tanpa port, contoh "reqres.in"
+     */
+    public void acquire(String host) {
+        if (!enabled) {
+            return;
+        }
+        HostState state = state(host);
+        long waited = state.bucket.acquire();
+        state.waits.record(waited / 1_000L);
+        if (waited > 0) {
+            state.delayed.increment();
+            state.waitMicros.add(waited / 1_000L);
+        }
+    }
+
+    /**
+     * Teruskan status dan headers response ke bucket host agar rate menyesuaikan quota upstream
+     * @param headers Header lookup by name, contoh response::getHeader
+     */
+    public void onResponse(String host, int status, UnaryOperator<String> headers) {
+        if (!enabled) {
+            return;
+        }
+        HostState state = state(host);
+        if (state.bucket.onResponse(status, headers)) {
+            state.throttled.increment();
+        }
+    }
+
+    /**
+     * Request gagal tanpa response
+     */
+    public void onError(String host) {
+        if (enabled) {
+            state(host).bucket.onError();
+        }
+    }
+
+    /**
+     * @return Ringkasan per host: rate efektif, jumlah request yang menunggu, dan wait p50/p99/max
+     */
+    public String summary() {
+        StringBuilder out = new StringBuilder("Rate limiter summary (wait for permit per host)");
+        out.append(System.lineSeparator());
+        new TreeMap<>(hosts).forEach((host, state) -> out.append(String.format(Locale.ROOT,
+                "  %-32s rate=%.1f/s requests=%d delayed=%d throttled=%d wait p50=%.1fms p99=%.1fms max=%.1fms%n",
+                host, state.bucket.ratePerSecond(), state.waits.count(), state.delayed.sum(), state.throttled.sum(),
+                state.waits.percentile(50.0) / 1000.0, state.waits.percentile(99.0) / 1000.0,
+                state.waits.max() / 1000.0)));
+        return out.toString();
+    }
+
+    public boolean isEmpty() {
+        return hosts.isEmpty();
+    }
+
+    private HostState state(String host) {
+        HostState state = hosts.get(host);
+        if (state == null) {
+            state = hosts.computeIfAbsent(host, key -> new HostState(registry, key,
+                    new TokenBucket(rates.getOrDefault(key, 0.0), burst, maxPause)));
+        }
+        return state;
+    }
+
+    /**
+     * @param spec Format "host=rate,host=rate", contoh "reqres.in=10,jsonplaceholder.typicode.com=50"
+     */
+    public static Map<String, Double> parseRates(String spec) {
+        Map<String, Double> rates = new HashMap<>();
+        if (spec == null || spec.isBlank()) {
+            return rates;
+        }
+        for (String entry : spec.split(",")) {
+            int equals = entry.indexOf('=');
+            if (equals <= 0) {
+                throw new IllegalArgumentException("Invalid ratelimit.hosts entry (expected host=rate): " + entry);
+            }
+            rates.put(entry.substring(0, equals).trim().toLowerCase(Locale.ROOT),
+                    Double.parseDouble(entry.substring(equals + 1).trim()));
+        }
+        return rates;
+    }
+}
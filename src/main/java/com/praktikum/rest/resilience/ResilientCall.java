@@ -0,0 +1,233 @@
+package com.praktikum.rest.resilience;
+
+import com.praktikum.rest.metrics.LatencyHistogram;
+import com.praktikum.rest.metrics.MetricsRegistry;
+import com.praktikum.rest.metrics.TestContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToIntFunction;
+
+/**
+ * Menjalankan satu HTTP call dengan RetryPolicy: retry dengan jittered backoff untuk status
+ * transient dan IO errors, plus hedged request untuk method idempotent (GET, HEAD, OPTIONS)
+ * Backoff tidak pernah masuk ke latency sample: setiap attempt dicatat sendiri oleh filters,
+ * sedangkan class ini mencatat latency per attempt dan latency efektif (dengan hedging)
+ * per endpoint sehingga pengurangan tail latency bisa dihitung
+ * Retry dan hedge counts per endpoint juga dicatat sebagai counters di MetricsRegistry
+ */
+public class ResilientCall {
+
+    private static final ResilientCall GLOBAL = new ResilientCall(RetryPolicy.fromConfig(), MetricsRegistry.global());
+
+    private final RetryPolicy policy;
+    private final MetricsRegistry registry;
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+    // Hedged attempts berjalan di virtual thread agar attempt yang lambat tidak memblokir caller
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * Statistik resilience untuk satu endpoint
+     */
+    static final class EndpointStats {
+        final LatencyHistogram attempts = new LatencyHistogram();
+        final LatencyHistogram effective = new LatencyHistogram();
+        final LongAdder retries;
+        final LongAdder hedges;
+        final LongAdder hedgeWins;
+
+        EndpointStats(MetricsRegistry registry, String endpoint) {
+            retries = registry.counter("api_retries_total",
+                    "Jumlah retry setelah status transient atau IO error", "endpoint", endpoint);
+            hedges = registry.counter("api_hedges_total",
+                    "Jumlah hedged request yang dikirim", "endpoint", endpoint);
+            hedgeWins = registry.counter("api_hedge_wins_total",
+                    "Jumlah hedged request yang selesai lebih dulu dari attempt pertama", "endpoint", endpoint);
+        }
+    }
+
+    public ResilientCall(RetryPolicy policy, MetricsRegistry registry) {
+        this.policy = policy;
+        this.registry = registry;
+    }
+
+    /**
+     * @return Instance global dengan policy dari TestConfig
+     */
+    public static ResilientCall global() {
+        return GLOBAL;
+    }
+
+    public RetryPolicy policy() {
+        return policy;
+    }
+
+    /**
+     * Jalankan call dengan retry dan hedging
+     * Jika semua attempt mendapat status transient, response terakhir dikembalikan apa adanya
+     * agar assertion di test tetap melaporkan status yang sebenarnya
+     * @param endpoint Nama endpoint "METHOD /path", contoh "GET /users/{id}"
+     * @param call Satu attempt, contoh () -> given().get("/users/1")
+     * @param statusOf Ambil status code dari hasil call
+     */
+    public <T> T execute(String endpoint, Callable<T> call, ToIntFunction<T> statusOf) {
+        EndpointStats stats = stats(endpoint);
+        boolean hedgeable = policy.hedgeEnabled() && isIdempotent(endpoint);
+        Random random = ThreadLocalRandom.current();
+        long start = System.nanoTime();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                T result = hedgeable ? hedged(stats, call) : timed(stats, call);
+                if (!policy.isRetryable(statusOf.applyAsInt(result)) || attempt >= policy.maxAttempts()) {
+                    stats.effective.record((System.nanoTime() - start) / 1_000L);
+                    return result;
+                }
+            } catch (Exception e) {
+                if (attempt >= policy.maxAttempts()) {
+                    throw unchecked(endpoint, e);
+                }
+            }
+            stats.retries.increment();
+            sleep(policy.backoffMillis(attempt, random));
+            // Latency efektif hanya dihitung dari attempt terakhir, tanpa backoff
+            start = System.nanoTime();
+        }
+    }
+
+    /**
+     * @return Ringkasan per endpoint: attempts, retries, hedges, dan p99 per attempt vs efektif
+     */
+    public String summary() {
+        StringBuilder out = new StringBuilder("Resilience summary (retry/hedge per endpoint)");
+        out.append(System.lineSeparator());
+        new TreeMap<>(endpoints).forEach((endpoint, stats) -> out.append(String.format(Locale.ROOT,
+                "  %-32s attempts=%d retries=%d hedges=%d hedgeWins=%d p99 attempt=%.1fms effective=%.1fms%n",
+                endpoint, stats.attempts.count(), stats.retries.sum(), stats.hedges.sum(), stats.hedgeWins.sum(),
+                stats.attempts.percentile(99.0) / 1000.0, stats.effective.percentile(99.0) / 1000.0)));
+        return out.toString();
+    }
+
+    public boolean isEmpty() {
+        return endpoints.isEmpty();
+    }
+
+    private EndpointStats stats(String endpoint) {
+        EndpointStats stats = endpoints.get(endpoint);
+        if (stats == null) {
+            stats = endpoints.computeIfAbsent(endpoint, key -> new EndpointStats(registry, key));
+        }
+        return stats;
+    }
+
+    private static <T> T timed(EndpointStats stats, Callable<T> call) throws Exception {
+        long start = System.nanoTime();
+        try {
+            return call.call();
+        } finally {
+            stats.attempts.record((System.nanoTime() - start) / 1_000L);
+        }
+    }
+
+    /**
+     * Kirim attempt pertama, dan jika belum selesai setelah hedge delay kirim copy kedua
+     * Hasil yang selesai lebih dulu dipakai; copy yang kalah dibiarkan selesai di background
+     */
+    private <T> T hedged(EndpointStats stats, Callable<T> call) throws Exception {
+        if (stats.attempts.count() < policy.hedgeMinSamples()) {
+            return timed(stats, call);
+        }
+        long delayMicros = Math.max(1_000L, stats.attempts.percentile(policy.hedgePercentile()));
+        Callable<T> withContext = TestContext.propagate(() -> timed(stats, call));
+        CompletableFuture<T> primary = CompletableFuture.supplyAsync(() -> invoke(withContext), executor);
+        try {
+            return primary.get(delayMicros, TimeUnit.MICROSECONDS);
+        } catch (TimeoutException slow) {
+            stats.hedges.increment();
+        } catch (ExecutionException e) {
+            throw cause(e);
+        }
+
+        CompletableFuture<T> hedge = CompletableFuture.supplyAsync(() -> invoke(withContext), executor);
+        CompletableFuture<T> first = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        primary.whenComplete((result, error) -> complete(first, failures, result, error, null));
+        hedge.whenComplete((result, error) -> complete(first, failures, result, error, stats.hedgeWins));
+        try {
+            return first.get();
+        } catch (ExecutionException e) {
+            throw cause(e);
+        }
+    }
+
+    /**
+     * Hasil sukses pertama menyelesaikan future; future hanya gagal jika kedua attempt gagal
+     * @param wins Counter yang di-increment jika attempt ini yang menang, null untuk attempt pertama
+     */
+    private static <T> void complete(CompletableFuture<T> first, AtomicInteger failures, T result, Throwable error,
+                                     LongAdder wins) {
+        if (error == null) {
+            if (first.complete(result) && wins != null) {
+                wins.increment();
+            }
+        } else if (failures.incrementAndGet() == 2) {
+            first.completeExceptionally(error);
+        }
+    }
+
+    private static <T> T invoke(Callable<T> call) {
+        try {
+            return call.call();
+        } catch (Exception e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private static Exception cause(ExecutionException e) {
+        Throwable cause = e.getCause() instanceof CompletionException wrapped ? wrapped.getCause() : e.getCause();
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return (Exception) cause;
+    }
+
+    private static boolean isIdempotent(String endpoint) {
+        return endpoint.startsWith("GET ") || endpoint.startsWith("HEAD ") || endpoint.startsWith("OPTIONS ");
+    }
+
+    private static RuntimeException unchecked(String endpoint, Exception e) {
+        if (e instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        if (e instanceof IOException io) {
+            return new UncheckedIOException(endpoint + " failed after retries", io);
+        }
+        return new IllegalStateException(endpoint + " failed after retries", e);
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
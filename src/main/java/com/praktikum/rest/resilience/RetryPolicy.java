@@ -0,0 +1,67 @@
+package com.praktikum.rest.resilience;
+
+import com.praktikum.rest.config.TestConfig;
+
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Konfigurasi retry dengan jittered exponential backoff dan optional hedged requests
+ * Immutable; gunakan fromConfig() lalu method with...() untuk variasi
+ * @param maxAttempts Jumlah attempt maksimum termasuk attempt pertama
+ * @param baseDelayMillis Backoff untuk retry pertama, dikali dua setiap retry berikutnya
+ * @param maxDelayMillis Batas atas backoff sebelum jitter
+ * @param retryStatuses Status code yang dianggap transient dan boleh di-retry
+ * @param hedgeEnabled Kirim copy kedua jika attempt pertama lebih lambat dari hedgePercentile
+ * @param hedgePercentile Percentile latency endpoint yang menjadi hedge delay, contoh 95.0
+ * @param hedgeMinSamples Jumlah sample minimum per endpoint sebelum hedging aktif
+ */
+public record RetryPolicy(int maxAttempts, long baseDelayMillis, long maxDelayMillis, Set<Integer> retryStatuses,
+                          boolean hedgeEnabled, double hedgePercentile, int hedgeMinSamples) {
+
+    /**
+     * @return Policy dari TestConfig (override dengan -Dretry.* dan -Dhedge.*)
+     */
+    public static RetryPolicy fromConfig() {
+        return new RetryPolicy(TestConfig.RETRY_MAX_ATTEMPTS, TestConfig.RETRY_BASE_DELAY_MILLIS,
+                TestConfig.RETRY_MAX_DELAY_MILLIS, TestConfig.RETRY_STATUSES, TestConfig.HEDGE_ENABLED,
+                TestConfig.HEDGE_PERCENTILE, TestConfig.HEDGE_MIN_SAMPLES);
+    }
+
+    public RetryPolicy withMaxAttempts(int maxAttempts) {
+        return new RetryPolicy(maxAttempts, baseDelayMillis, maxDelayMillis, retryStatuses, hedgeEnabled,
+                hedgePercentile, hedgeMinSamples);
+    }
+
+    public RetryPolicy withBackoff(long baseDelayMillis, long maxDelayMillis) {
+        return new RetryPolicy(maxAttempts, baseDelayMillis, maxDelayMillis, retryStatuses, hedgeEnabled,
+                hedgePercentile, hedgeMinSamples);
+    }
+
+    /**
+     * Aktifkan hedging dengan percentile dan jumlah sample minimum tertentu
+     */
+    public RetryPolicy withHedging(double percentile, int minSamples) {
+        return new RetryPolicy(maxAttempts, baseDelayMillis, maxDelayMillis, retryStatuses, true, percentile,
+                minSamples);
+    }
+
+    public RetryPolicy withoutHedging() {
+        return new RetryPolicy(maxAttempts, baseDelayMillis, maxDelayMillis, retryStatuses, false,
+                hedgePercentile, hedgeMinSamples);
+    }
+
+    public boolean isRetryable(int status) {
+        return retryStatuses.contains(status);
+    }
+
+    /**
+     * Full jitter: nilai acak antara 0 dan min(maxDelay, baseDelay * 2^(retry-1))
+     * sehingga client paralel tidak retry secara serentak
+     * @param retry Nomor retry, mulai dari 1
+     */
+    public long backoffMillis(int retry, Random random) {
+        long ceiling = Math.min(maxDelayMillis, baseDelayMillis << Math.min(retry - 1, 30));
+        return ceiling <= 0 ? 0L : (long) (random.nextDouble() * (ceiling + 1));
+    }
+}
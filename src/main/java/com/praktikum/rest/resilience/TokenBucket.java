@@ -0,0 +1,278 @@
+package com.praktikum.rest.resilience;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.UnaryOperator;
+
+/**
+ * Token bucket lock-free untuk satu host dalam bentuk GCRA (generic cell rate algorithm):
+ * seluruh state bucket adalah satu "theoretical arrival time", sehingga acquire cukup satu compareAndSet
+ * Setiap acquire me-reserve slot lalu menunggu sampai slot itu, jadi thread paralel antre secara fair
+ * dan rate tidak pernah terlampaui; setelah idle, sebanyak burst request boleh lewat tanpa menunggu
+ * Bucket juga mengikuti quota upstream dari response: Retry-After menahan semua request sampai waktunya,
+ * dan rate-limit headers membatasi jumlah request yang dimulai sampai window quota di-reset
+ */
+public class TokenBucket {
+
+    // Reset di atas nilai ini dianggap epoch seconds (X-RateLimit-Reset GitHub style), selain itu delta seconds
+    private static final long EPOCH_SECONDS_THRESHOLD = 1_000_000_000L;
+    // Pause jika 429 tanpa Retry-After maupun reset header
+    private static final long DEFAULT_THROTTLE_PAUSE_MILLIS = 1_000L;
+
+    private final long intervalNanos;
+    private final int burst;
+    private final long maxPauseNanos;
+    private final AtomicLong theoreticalArrival = new AtomicLong(System.nanoTime());
+    private final AtomicLong pausedUntil = new AtomicLong(System.nanoTime());
+    private final AtomicInteger inFlight = new AtomicInteger();
+    // Sisa quota upstream dari headers terakhir, null jika host tidak mengirim rate-limit headers
+    private final AtomicReference<Window> window = new AtomicReference<>();
+
+    /**
+     * Quota upstream sampai resetAt (System.nanoTime())
+     * @param remaining Jumlah request yang masih boleh dimulai di window ini
+     * @param limit Quota per window dari RateLimit-Limit, -1 jika tidak diketahui
+     * @param provisional true jika window baru diperkirakan dari limit, belum dikonfirmasi headers
+     */
+    private record Window(long remaining, long resetAt, long limit, boolean provisional) {
+    }
+
+    /**
+     * @param perSecond Request per detik, 0 atau kurang untuk tanpa batas (hanya mengikuti headers)
+     * @param burst Jumlah request yang boleh dikirim sekaligus setelah idle, minimal 1
+     * @param maxPause Batas atas pause dari Retry-After atau reset header
+     */
+    public TokenBucket(double perSecond, int burst, Duration maxPause) {
+        this.intervalNanos = perSecond > 0
+                ? Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) / perSecond))
+                : 0L;
+        this.burst = Math.max(1, burst);
+        this.maxPauseNanos = maxPause.toNanos();
+    }
+
+    /**
+     * Tunggu sampai request boleh dikirim; setiap acquire harus diikuti onResponse atau onError
+     * @return Lama menunggu dalam nanos, 0 jika langsung dapat permit
+     */
+    public long acquire() {
+        long start = System.nanoTime();
+        long slot = start;
+        if (intervalNanos > 0L) {
+            long tolerance = (burst - 1) * intervalNanos;
+            while (true) {
+                long now = System.nanoTime();
+                long arrival = theoreticalArrival.get();
+                slot = Math.max(now, arrival - tolerance);
+                if (theoreticalArrival.compareAndSet(arrival, Math.max(arrival, slot) + intervalNanos)) {
+                    break;
+                }
+            }
+        }
+        // Pause dan quota window bisa berubah selama menunggu slot, jadi dicek ulang setelah bangun
+        while (parkUntil(Math.max(slot, pausedUntil.get())) && !takeFromWindow()) {
+            Window current = window.get();
+            if (current != null) {
+                slot = current.resetAt();
+            }
+        }
+        // Baru dihitung in-flight setelah permit didapat: thread yang masih antre belum memakai quota upstream,
+        // jadi tidak boleh ikut mengurangi RateLimit-Remaining di onResponse
+        inFlight.incrementAndGet();
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Sesuaikan dengan response
+     * 429/503 dengan Retry-After (seconds atau HTTP-date) menahan semua request; tanpa Retry-After, 429 menahan
+     * sampai reset header atau DEFAULT_THROTTLE_PAUSE_MILLIS
+     * RateLimit-Remaining / RateLimit-Reset (IETF draft) atau X-RateLimit-*: sisa quota dikurangi request yang
+     * masih in-flight menjadi jumlah request yang boleh dimulai sampai reset
+     * @param headers Header lookup by name (case-insensitive), null jika tidak ada
+     * @return true jika response menandakan throttling (host di-pause)
+     */
+    public boolean onResponse(int status, UnaryOperator<String> headers) {
+        int pending = inFlight.decrementAndGet();
+        long resetNanos = resetNanos(headers);
+        long remaining = parseLong(header(headers, "RateLimit-Remaining", "X-RateLimit-Remaining"));
+        if (remaining >= 0 && resetNanos >= 0) {
+            long limit = parseLong(header(headers, "RateLimit-Limit", "X-RateLimit-Limit"));
+            updateWindow(remaining - Math.max(0, pending), System.nanoTime() + Math.min(resetNanos, maxPauseNanos),
+                    limit);
+        }
+        if (status == 429 || status == 503) {
+            long retryAfter = retryAfterNanos(headers.apply("Retry-After"));
+            if (retryAfter >= 0) {
+                pause(retryAfter);
+                return true;
+            }
+            if (status == 429) {
+                pause(resetNanos >= 0 ? resetNanos : TimeUnit.MILLISECONDS.toNanos(DEFAULT_THROTTLE_PAUSE_MILLIS));
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Request gagal tanpa response (IO error): hanya melepas slot in-flight
+     */
+    public void onError() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * Tahan semua acquire sampai duration berlalu (dibatasi maxPause)
+     */
+    public void pause(long nanos) {
+        long until = System.nanoTime() + Math.min(Math.max(nanos, 0L), maxPauseNanos);
+        pausedUntil.accumulateAndGet(until, Math::max);
+    }
+
+    /**
+     * @return Rate yang dikonfigurasi dalam request per detik, 0 untuk tanpa batas
+     */
+    public double ratePerSecond() {
+        return intervalNanos == 0L ? 0.0 : (double) TimeUnit.SECONDS.toNanos(1) / intervalNanos;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * @return Sisa quota upstream yang diketahui, -1 jika tidak ada window aktif
+     */
+    public long windowRemaining() {
+        Window current = window.get();
+        return current == null || System.nanoTime() >= current.resetAt() ? -1L : Math.max(0L, current.remaining());
+    }
+
+    /**
+     * Ambil satu permit dari quota window
+     * Setelah window lewat, request yang menunggu tidak dilepas sekaligus: window baru sementara
+     * berisi limit sebelumnya sampai response pertama membawa headers window baru
+     * @return true jika boleh kirim (tidak ada window aktif atau quota masih ada), false jika harus menunggu reset
+     */
+    private boolean takeFromWindow() {
+        while (true) {
+            Window current = window.get();
+            long now = System.nanoTime();
+            Window next;
+            if (current == null || (now >= current.resetAt() && current.limit() < 0)) {
+                return true;
+            } else if (now >= current.resetAt()) {
+                next = new Window(current.limit() - 1, now + maxPauseNanos, current.limit(), true);
+            } else if (current.remaining() <= 0) {
+                return false;
+            } else {
+                next = new Window(current.remaining() - 1, current.resetAt(), current.limit(), current.provisional());
+            }
+            if (window.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Window dari headers menggantikan window yang sudah lewat atau window provisional; di window yang sama
+     * dipakai sisa quota terkecil, karena response yang datang belakangan bisa membawa headers yang lebih lama
+     */
+    private void updateWindow(long remaining, long resetAt, long limit) {
+        while (true) {
+            Window current = window.get();
+            Window next;
+            if (current == null || System.nanoTime() >= current.resetAt()) {
+                next = new Window(remaining, resetAt, limit, false);
+            } else if (current.provisional()) {
+                next = new Window(Math.min(current.remaining(), remaining), resetAt, limit, false);
+            } else {
+                next = new Window(Math.min(current.remaining(), remaining), current.resetAt(), current.limit(), false);
+            }
+            if (window.compareAndSet(current, next)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Park sampai deadline (System.nanoTime())
+     * @return false jika thread di-interrupt
+     */
+    private static boolean parkUntil(long deadline) {
+        for (long wait = deadline - System.nanoTime(); wait > 0; wait = deadline - System.nanoTime()) {
+            LockSupport.parkNanos(wait);
+            if (Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return Nanos sampai reset dari RateLimit-Reset / X-RateLimit-Reset, -1 jika tidak ada
+     */
+    private static long resetNanos(UnaryOperator<String> headers) {
+        long reset = parseLong(header(headers, "RateLimit-Reset", "X-RateLimit-Reset"));
+        if (reset < 0) {
+            return -1L;
+        }
+        long millis = reset > EPOCH_SECONDS_THRESHOLD
+                ? reset * 1_000L - System.currentTimeMillis()
+                : reset * 1_000L;
+        return TimeUnit.MILLISECONDS.toNanos(Math.max(0L, millis));
+    }
+
+    /**
+     * @return Nanos dari Retry-After (delta seconds atau HTTP-date), -1 jika tidak ada atau tidak valid
+     */
+    static long retryAfterNanos(String value) {
+        if (value == null || value.isBlank()) {
+            return -1L;
+        }
+        long seconds = parseLong(value);
+        if (seconds >= 0) {
+            return TimeUnit.SECONDS.toNanos(seconds);
+        }
+        try {
+            long millis = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant()
+                    .toEpochMilli() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0L, millis));
+        } catch (DateTimeParseException e) {
+            return -1L;
+        }
+    }
+
+    private static String header(UnaryOperator<String> headers, String name, String legacyName) {
+        String value = headers.apply(name);
+        return value != null ? value : headers.apply(legacyName);
+    }
+
+    /**
+     * @return Nilai non-negatif sebelum ',' atau ';' (contoh "100;w=60"), -1 jika null atau bukan angka
+     */
+    private static long parseLong(String value) {
+        if (value == null) {
+            return -1L;
+        }
+        int end = value.length();
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) == ',' || value.charAt(i) == ';') {
+                end = i;
+                break;
+            }
+        }
+        try {
+            long parsed = Long.parseLong(value.substring(0, end).trim());
+            return parsed >= 0 ? parsed : -1L;
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+}
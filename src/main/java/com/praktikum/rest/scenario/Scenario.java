@@ -0,0 +1,140 @@
+package com.praktikum.rest.scenario;
+
+import com.praktikum.rest.fault.LatencyDistribution;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Satu jenis user session: urutan steps dengan think time, dan bobot di dalam load mix
+ * Disusun dengan builder, contoh:
+ * <pre>
+ * Scenario.builder("browse", 60)
+ *         .init(session -> session.put("userId", 1 + session.random().nextInt(10)))
+ *         .get("/users/{userId}").extract("username", "username")
+ *         .get("/posts?userId={userId}")
+ *         .build();
+ * </pre>
+ */
+public record Scenario(String name, int weight, Consumer<Session> init, List<Step> steps) {
+
+    public static Builder builder(String name, int weight) {
+        return new Builder(name, weight);
+    }
+
+    /**
+     * Builder untuk Scenario; extract(), header(), dan think() berlaku untuk step terakhir
+     */
+    public static final class Builder {
+        private final String name;
+        private final int weight;
+        private final List<Step> steps = new ArrayList<>();
+        private Consumer<Session> init = session -> { };
+        private LatencyDistribution defaultThinkTime = LatencyDistribution.NONE;
+
+        private Builder(String name, int weight) {
+            if (weight <= 0) {
+                throw new IllegalArgumentException("Scenario weight must be > 0, got " + weight);
+            }
+            this.name = name;
+            this.weight = weight;
+        }
+
+        /**
+         * Set variables awal setiap session, contoh userId acak
+         */
+        public Builder init(Consumer<Session> init) {
+            this.init = init;
+            return this;
+        }
+
+        /**
+         * Think time default untuk step yang ditambahkan setelah ini
+         */
+        public Builder thinkTime(LatencyDistribution thinkTime) {
+            this.defaultThinkTime = thinkTime;
+            return this;
+        }
+
+        public Builder get(String urlTemplate) {
+            return step("GET", urlTemplate, null);
+        }
+
+        public Builder post(String urlTemplate, Function<Session, String> body) {
+            return step("POST", urlTemplate, body);
+        }
+
+        public Builder put(String urlTemplate, Function<Session, String> body) {
+            return step("PUT", urlTemplate, body);
+        }
+
+        public Builder patch(String urlTemplate, Function<Session, String> body) {
+            return step("PATCH", urlTemplate, body);
+        }
+
+        public Builder delete(String urlTemplate) {
+            return step("DELETE", urlTemplate, null);
+        }
+
+        public Builder step(String method, String urlTemplate, Function<Session, String> body) {
+            steps.add(new Step(method, urlTemplate, Map.of(), body, Map.of(), defaultThinkTime));
+            return this;
+        }
+
+        /**
+         * Tambahkan header ke step terakhir, value boleh berisi "{variable}"
+         */
+        public Builder header(String name, String valueTemplate) {
+            Step last = last();
+            Map<String, String> headers = new LinkedHashMap<>(last.headers());
+            headers.put(name, valueTemplate);
+            replaceStep(steps.size() - 1, headers, last.extract(), last.thinkTime());
+            return this;
+        }
+
+        /**
+         * Simpan top-level field dari JSON response step terakhir ke session variable
+         */
+        public Builder extract(String variable, String field) {
+            Step last = last();
+            Map<String, String> extract = new LinkedHashMap<>(last.extract());
+            extract.put(variable, field);
+            replaceStep(steps.size() - 1, last.headers(), extract, last.thinkTime());
+            return this;
+        }
+
+        /**
+         * Think time setelah step terakhir
+         */
+        public Builder think(LatencyDistribution thinkTime) {
+            Step last = last();
+            replaceStep(steps.size() - 1, last.headers(), last.extract(), thinkTime);
+            return this;
+        }
+
+        public Scenario build() {
+            if (steps.isEmpty()) {
+                throw new IllegalStateException("Scenario " + name + " has no steps");
+            }
+            return new Scenario(name, weight, init, List.copyOf(steps));
+        }
+
+        private Step last() {
+            if (steps.isEmpty()) {
+                throw new IllegalStateException("Add a step before configuring it");
+            }
+            return steps.get(steps.size() - 1);
+        }
+
+        private void replaceStep(int index, Map<String, String> headers, Map<String, String> extract,
+                                 LatencyDistribution thinkTime) {
+            Step step = steps.get(index);
+            steps.set(index, new Step(step.method(), step.urlTemplate(), Map.copyOf(headers), step.body(),
+                    Map.copyOf(extract), thinkTime));
+        }
+    }
+}
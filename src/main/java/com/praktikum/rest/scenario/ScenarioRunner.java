@@ -0,0 +1,313 @@
+package com.praktikum.rest.scenario;
+
+import com.praktikum.rest.config.TestConfig;
+import com.praktikum.rest.load.Pacer;
+import com.praktikum.rest.metrics.LatencyHistogram;
+import com.praktikum.rest.metrics.MetricsRegistry;
+import com.praktikum.rest.metrics.RequestMetrics;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Load engine untuk weighted mix dari multi-step user sessions
+ * Setiap virtual user (virtual thread) memilih scenario berdasarkan bobot, menjalankan
+ * steps secara berurutan dengan think time, dan membawa data antar step lewat Session
+ * Jika satu step gagal, sisa session dibatalkan karena step berikutnya bergantung pada datanya
+ * Latency per step dicatat di MetricsRegistry (test class = "scenario:<name>") dan di report
+ */
+public class ScenarioRunner {
+
+    // Compiled pattern per extracted field name
+    private static final Map<String, Pattern> FIELD_PATTERNS = new ConcurrentHashMap<>();
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(TestConfig.MAX_RESPONSE_TIME))
+            .build();
+    private final String baseUrl;
+    private final List<Scenario> mix;
+    private final int[] cumulativeWeights;
+    private final Map<String, StepStats> stepStats = new LinkedHashMap<>();
+    private final Map<String, LongAdder> completedSessions = new LinkedHashMap<>();
+    private final LongAdder failedSessions = new LongAdder();
+
+    /**
+     * Statistik satu step di satu scenario
+     */
+    private static final class StepStats {
+        final LatencyHistogram latency = new LatencyHistogram();
+        final LongAdder errors = new LongAdder();
+        final RequestMetrics metrics;
+
+        StepStats(String scenario, Step step) {
+            metrics = MetricsRegistry.global().requestMetrics(step.endpoint(), "scenario:" + scenario);
+        }
+    }
+
+    /**
+     * @param baseUrl Base URL untuk step dengan path relatif, contoh TestConfig.BASE_URL
+     * @param mix Scenario yang dijalankan, dipilih sesuai weight
+     */
+    public ScenarioRunner(String baseUrl, List<Scenario> mix) {
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("At least one scenario is required");
+        }
+        this.baseUrl = baseUrl;
+        this.mix = List.copyOf(mix);
+        this.cumulativeWeights = new int[mix.size()];
+        int total = 0;
+        for (int i = 0; i < mix.size(); i++) {
+            Scenario scenario = mix.get(i);
+            total += scenario.weight();
+            cumulativeWeights[i] = total;
+            completedSessions.put(scenario.name(), new LongAdder());
+            for (int s = 0; s < scenario.steps().size(); s++) {
+                stepStats.put(key(scenario, s), new StepStats(scenario.name(), scenario.steps().get(s)));
+            }
+        }
+    }
+
+    /**
+     * Jalankan load mix
+     * @param virtualUsers Jumlah session yang berjalan bersamaan
+     * @param duration Lama run; session yang sedang berjalan diselesaikan setelah deadline
+     */
+    public Report run(int virtualUsers, Duration duration) throws InterruptedException {
+        return run(virtualUsers, duration, Pacer.UNLIMITED);
+    }
+
+    /**
+     * Jalankan load mix dengan session start rate tetap (open model)
+     * Virtual users menjadi batas concurrency: jika semua sibuk, rate aktual di bawah target
+     * @param sessions Pacer untuk start setiap session, contoh new Pacer(5.0) untuk 5 session/detik
+     */
+    public Report run(int virtualUsers, Duration duration, Pacer sessions) throws InterruptedException {
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int user = 0; user < virtualUsers; user++) {
+                executor.submit(() -> {
+                    Random random = ThreadLocalRandom.current();
+                    while (sessions.await(deadline) && !Thread.currentThread().isInterrupted()) {
+                        runSession(pick(random), random);
+                    }
+                });
+            }
+        }
+        if (Thread.interrupted()) {
+            throw new InterruptedException("Scenario run interrupted");
+        }
+        return report(Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    /**
+     * Pilih scenario secara acak sesuai weight
+     */
+    Scenario pick(Random random) {
+        int ticket = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (ticket < cumulativeWeights[i]) {
+                return mix.get(i);
+            }
+        }
+        return mix.get(mix.size() - 1);
+    }
+
+    private void runSession(Scenario scenario, Random random) {
+        Session session = new Session(random);
+        scenario.init().accept(session);
+        List<Step> steps = scenario.steps();
+        for (int i = 0; i < steps.size(); i++) {
+            Step step = steps.get(i);
+            if (!execute(scenario, i, step, session)) {
+                failedSessions.increment();
+                return;
+            }
+            if (i < steps.size() - 1) {
+                sleep(step.thinkTime().sampleMillis(random));
+            }
+        }
+        completedSessions.get(scenario.name()).increment();
+    }
+
+    /**
+     * @return false jika step gagal (IO error, status >= 400, atau field untuk extract tidak ada)
+     */
+    private boolean execute(Scenario scenario, int index, Step step, Session session) {
+        StepStats stats = stepStats.get(key(scenario, index));
+        HttpRequest request;
+        String body;
+        try {
+            String url = session.expand(step.urlTemplate());
+            body = step.body() == null ? null : step.body().apply(session);
+            URI target = URI.create(url.contains("://") ? url : baseUrl + url);
+            HttpRequest.Builder builder = HttpRequest.newBuilder(target)
+                    .timeout(Duration.ofMillis(TestConfig.MAX_RESPONSE_TIME))
+                    .header("Accept", "application/json")
+                    .method(step.method(), body == null
+                            ? HttpRequest.BodyPublishers.noBody()
+                            : HttpRequest.BodyPublishers.ofString(body));
+            if (body != null) {
+                builder.header("Content-Type", "application/json");
+            }
+            step.headers().forEach((name, value) -> builder.header(name, session.expand(value)));
+            request = builder.build();
+        } catch (IllegalStateException e) {
+            // Variable dari step sebelumnya tidak tersedia
+            stats.errors.increment();
+            return false;
+        }
+
+        stats.metrics.onStart(body == null ? 0L : body.length());
+        long sent = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = client.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            record(stats, RequestMetrics.IO_ERROR, 0L, sent);
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            record(stats, RequestMetrics.IO_ERROR, 0L, sent);
+            return false;
+        }
+        record(stats, response.statusCode(), response.body().length(), sent);
+        if (response.statusCode() >= 400) {
+            return false;
+        }
+
+        for (Map.Entry<String, String> extract : step.extract().entrySet()) {
+            String value = jsonField(response.body(), extract.getValue());
+            if (value == null) {
+                stats.errors.increment();
+                return false;
+            }
+            session.put(extract.getKey(), value);
+        }
+        return true;
+    }
+
+    private static void record(StepStats stats, int status, long responseBytes, long sentNanos) {
+        long micros = (System.nanoTime() - sentNanos) / 1_000L;
+        stats.latency.record(micros);
+        stats.metrics.onComplete(status, responseBytes, micros);
+        if (status == RequestMetrics.IO_ERROR || status >= 400) {
+            stats.errors.increment();
+        }
+    }
+
+    /**
+     * Ambil nilai top-level field dari JSON object tanpa parse seluruh document
+     * @return Nilai string (tanpa quote) atau literal number/boolean, null jika tidak ada
+     */
+    static String jsonField(String json, String field) {
+        Pattern pattern = FIELD_PATTERNS.computeIfAbsent(field, name -> Pattern.compile("\"" + Pattern.quote(name)
+                + "\"\\s*:\\s*(?:\"((?:[^\"\\\\]|\\\\.)*)\"|(-?[0-9][0-9.eE+-]*|true|false))"));
+        Matcher matcher = pattern.matcher(json);
+        if (!matcher.find()) {
+            return null;
+        }
+        return matcher.group(1) != null ? matcher.group(1) : matcher.group(2);
+    }
+
+    private Report report(Duration elapsed) {
+        List<StepReport> steps = new ArrayList<>();
+        for (Scenario scenario : mix) {
+            for (int i = 0; i < scenario.steps().size(); i++) {
+                StepStats stats = stepStats.get(key(scenario, i));
+                LatencyHistogram latency = stats.latency;
+                steps.add(new StepReport(scenario.name(), i + 1, scenario.steps().get(i).endpoint(), latency.count(),
+                        stats.errors.sum(), latency.percentile(50.0) / 1000.0, latency.percentile(95.0) / 1000.0,
+                        latency.percentile(99.0) / 1000.0));
+            }
+        }
+        Map<String, Long> sessions = new LinkedHashMap<>();
+        completedSessions.forEach((name, count) -> sessions.put(name, count.sum()));
+        return new Report(elapsed, sessions, failedSessions.sum(), steps);
+    }
+
+    private static String key(Scenario scenario, int index) {
+        return scenario.name() + "#" + index;
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Latency dan error satu step
+     */
+    public record StepReport(String scenario, int order, String endpoint, long requests, long errors,
+                             double p50Millis, double p95Millis, double p99Millis) {
+    }
+
+    /**
+     * Hasil satu scenario run
+     * @param completedSessions Scenario name -> jumlah session yang selesai semua step-nya
+     */
+    public record Report(Duration elapsed, Map<String, Long> completedSessions, long failedSessions,
+                         List<StepReport> steps) {
+
+        public long totalCompleted() {
+            return completedSessions.values().stream().mapToLong(Long::longValue).sum();
+        }
+
+        @Override
+        public String toString() {
+            double seconds = elapsed.toNanos() / 1e9;
+            StringBuilder out = new StringBuilder(String.format(Locale.ROOT,
+                    "Scenario run: %.1fs, %d sessions completed (%.1f/s), %d failed%n",
+                    seconds, totalCompleted(), totalCompleted() / seconds, failedSessions));
+            completedSessions.forEach((name, count) ->
+                    out.append(String.format(Locale.ROOT, "  %-16s %d sessions%n", name, count)));
+            out.append(String.format(Locale.ROOT, "  %-16s %-3s %-32s %8s %7s %9s %9s %9s%n",
+                    "scenario", "#", "step", "requests", "errors", "p50(ms)", "p95(ms)", "p99(ms)"));
+            for (StepReport step : steps) {
+                out.append(String.format(Locale.ROOT, "  %-16s %-3d %-32s %8d %7d %9.1f %9.1f %9.1f%n",
+                        step.scenario(), step.order(), step.endpoint(), step.requests(), step.errors(),
+                        step.p50Millis(), step.p95Millis(), step.p99Millis()));
+            }
+            return out.toString();
+        }
+    }
+
+    /**
+     * Jalankan UserJourneys.mix() terhadap JSONPlaceholder
+     * @param args [virtual users] [durasi detik] [base URL] [scenarios, contoh browse,author]
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int users = args.length > 0 ? Integer.parseInt(args[0]) : TestConfig.SCENARIO_VIRTUAL_USERS;
+        long seconds = args.length > 1 ? Long.parseLong(args[1]) : TestConfig.SCENARIO_DURATION_SECONDS;
+        String baseUrl = args.length > 2 ? args[2] : TestConfig.BASE_URL;
+        List<String> scenarios = args.length > 3 ? List.of(args[3].split(",")) : List.of();
+        Report report = new ScenarioRunner(baseUrl, UserJourneys.mix(scenarios))
+                .run(users, Duration.ofSeconds(seconds));
+        System.out.println("=== SCENARIO SUMMARY ===");
+        System.out.print(report);
+    }
+}
@@ -0,0 +1,61 @@
+package com.praktikum.rest.scenario;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * State satu user session: variables yang dibawa dari satu step ke step berikutnya
+ * (contoh userId dari setup, token dari login, postId dari POST /posts)
+ * Tidak thread-safe; satu session hanya dijalankan oleh satu virtual user
+ */
+public final class Session {
+
+    // Placeholder "{name}" di path, header, dan body template
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{(\\w+)}");
+
+    private final Map<String, String> variables = new HashMap<>();
+    private final Random random;
+
+    Session(Random random) {
+        this.random = random;
+    }
+
+    /**
+     * @return Nilai variable, atau null jika belum di-set
+     */
+    public String get(String name) {
+        return variables.get(name);
+    }
+
+    public Session put(String name, Object value) {
+        variables.put(name, String.valueOf(value));
+        return this;
+    }
+
+    public Random random() {
+        return random;
+    }
+
+    /**
+     * Ganti setiap "{name}" dengan nilai variable
+     * @throws IllegalStateException jika variable belum di-set (step sebelumnya gagal extract)
+     */
+    public String expand(String template) {
+        if (template.indexOf('{') < 0) {
+            return template;
+        }
+        Matcher matcher = PLACEHOLDER.matcher(template);
+        StringBuilder expanded = new StringBuilder();
+        while (matcher.find()) {
+            String value = variables.get(matcher.group(1));
+            if (value == null) {
+                throw new IllegalStateException("Session variable '" + matcher.group(1) + "' is not set");
+            }
+            matcher.appendReplacement(expanded, Matcher.quoteReplacement(value));
+        }
+        return matcher.appendTail(expanded).toString();
+    }
+}
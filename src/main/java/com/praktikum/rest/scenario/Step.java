@@ -0,0 +1,33 @@
+package com.praktikum.rest.scenario;
+
+import com.praktikum.rest.fault.LatencyDistribution;
+
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Satu HTTP call di dalam scenario
+ * @param method HTTP method, contoh "GET"
+ * @param urlTemplate Path relatif terhadap base URL, atau URL absolut, boleh berisi "{variable}"
+ * @param headers Header tambahan, value boleh berisi "{variable}"
+ * @param body Pembuat JSON body dari session, null untuk request tanpa body
+ * @param extract Variable yang diambil dari top-level field JSON response: variable -> field
+ * @param thinkTime Jeda setelah step ini sebelum step berikutnya
+ */
+public record Step(String method, String urlTemplate, Map<String, String> headers,
+                   Function<Session, String> body, Map<String, String> extract, LatencyDistribution thinkTime) {
+
+    /**
+     * @return Nama step untuk metrics, contoh "GET /users/{userId}" (tanpa query dan host)
+     */
+    public String endpoint() {
+        String path = urlTemplate;
+        int scheme = path.indexOf("://");
+        if (scheme >= 0) {
+            int slash = path.indexOf('/', scheme + 3);
+            path = slash < 0 ? "/" : path.substring(slash);
+        }
+        int query = path.indexOf('?');
+        return method + " " + (query < 0 ? path : path.substring(0, query));
+    }
+}
@@ -0,0 +1,170 @@
+package com.praktikum.rest.scenario;
+
+import com.praktikum.rest.auth.TokenCache;
+import com.praktikum.rest.config.TestConfig;
+import com.praktikum.rest.fault.LatencyDistribution;
+import com.praktikum.rest.load.JsonPayloadWriter;
+import com.praktikum.rest.metrics.MetricsRegistry;
+import com.praktikum.rest.utils.FastDataGenerator;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Scenario mix default yang meniru traffic nyata, disusun dari endpoint yang sudah
+ * di-test satu per satu di AuthenticationTests, UserAPITests, dan AdvancedAPITests
+ * - browse (60%): GET user, GET posts milik user, GET comments dari post pertama
+ * - author (30%): GET user, POST post baru, PATCH user dengan id post yang dibuat
+ * - full-session (10%): alur author lengkap dengan Bearer token dari shared TokenCache,
+ *   sehingga ReqRes login hanya dilakukan sekali per TTL untuk semua sessions
+ */
+public final class UserJourneys {
+
+    // JSONPlaceholder memiliki 10 users
+    private static final int USER_COUNT = 10;
+
+    private UserJourneys() {
+    }
+
+    /**
+     * Token cache untuk akun default ReqRes, dibuat ketika full-session pertama kali berjalan
+     */
+    private static final class Tokens {
+        private static final HttpClient CLIENT = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(TestConfig.MAX_RESPONSE_TIME))
+                .build();
+        private static final TokenCache.Credentials CREDENTIALS =
+                new TokenCache.Credentials(TestConfig.VALID_EMAIL, TestConfig.VALID_PASSWORD);
+        private static final TokenCache CACHE = TokenCache.create(Tokens::login,
+                Duration.ofSeconds(TestConfig.AUTH_TOKEN_TTL_SECONDS),
+                Duration.ofSeconds(TestConfig.AUTH_TOKEN_REFRESH_AHEAD_SECONDS),
+                MetricsRegistry.global());
+
+        /**
+         * POST /login ke ReqRes dan ambil token dari response
+         */
+        private static String login(TokenCache.Credentials credentials) {
+            String body = JsonPayloadWriter.toJson(
+                    Map.of("email", credentials.email(), "password", credentials.password()));
+            HttpRequest request = HttpRequest.newBuilder(URI.create(TestConfig.REQRES_BASE_URL + "/login"))
+                    .timeout(Duration.ofMillis(TestConfig.MAX_RESPONSE_TIME))
+                    .header("Content-Type", "application/json")
+                    .header("Accept", "application/json")
+                    .header(TestConfig.API_KEY_HEADER, TestConfig.API_KEY)
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+            HttpResponse<String> response;
+            try {
+                response = CLIENT.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                throw new IllegalStateException("Login request failed: " + e.getMessage(), e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Login interrupted", e);
+            }
+            String token = response.statusCode() == 200 ? ScenarioRunner.jsonField(response.body(), "token") : null;
+            if (token == null) {
+                throw new IllegalStateException("Login returned " + response.statusCode() + " without token");
+            }
+            return token;
+        }
+    }
+
+    public static List<Scenario> mix() {
+        LatencyDistribution think = LatencyDistribution.exponential(TestConfig.SCENARIO_THINK_TIME_MILLIS);
+        return List.of(browse(think), author(think), fullSession(think));
+    }
+
+    /**
+     * Subset dari mix(); weight relatif antar scenario yang dipilih tetap sama
+     * @param names Nama scenario, contoh ["browse", "author"]; kosong untuk seluruh mix
+     * @throws IllegalArgumentException Untuk nama yang tidak ada di mix
+     */
+    public static List<Scenario> mix(List<String> names) {
+        List<Scenario> mix = mix();
+        if (names.isEmpty()) {
+            return mix;
+        }
+        List<String> known = mix.stream().map(Scenario::name).toList();
+        for (String name : names) {
+            if (!known.contains(name)) {
+                throw new IllegalArgumentException("Unknown scenario: " + name + ", expected one of " + known);
+            }
+        }
+        return mix.stream().filter(scenario -> names.contains(scenario.name())).toList();
+    }
+
+    public static Scenario browse(LatencyDistribution think) {
+        return Scenario.builder("browse", 60)
+                .thinkTime(think)
+                .init(UserJourneys::randomUser)
+                .get("/users/{userId}")
+                .get("/posts?userId={userId}").extract("postId", "id")
+                .get("/posts/{postId}/comments")
+                .build();
+    }
+
+    public static Scenario author(LatencyDistribution think) {
+        return Scenario.builder("author", 30)
+                .thinkTime(think)
+                .init(UserJourneys::randomUser)
+                .get("/users/{userId}")
+                .post("/posts", UserJourneys::newPost).extract("postId", "id")
+                .patch("/users/{userId}", UserJourneys::profileUpdate)
+                .build();
+    }
+
+    public static Scenario fullSession(LatencyDistribution think) {
+        return Scenario.builder("full-session", 10)
+                .thinkTime(think)
+                .init(session -> {
+                    randomUser(session);
+                    bearerToken(session);
+                })
+                .get("/users/{userId}").header("Authorization", "Bearer {token}")
+                .get("/posts?userId={userId}").header("Authorization", "Bearer {token}")
+                .post("/posts", UserJourneys::newPost).header("Authorization", "Bearer {token}")
+                .extract("postId", "id")
+                .patch("/users/{userId}", UserJourneys::profileUpdate).header("Authorization", "Bearer {token}")
+                .build();
+    }
+
+    private static void randomUser(Session session) {
+        session.put("userId", 1 + session.random().nextInt(USER_COUNT));
+    }
+
+    /**
+     * Ambil token dari shared TokenCache; jika login gagal, "token" tidak di-set
+     * sehingga step pertama gagal dan session dihitung failed
+     */
+    private static void bearerToken(Session session) {
+        try {
+            session.put("token", Tokens.CACHE.token(Tokens.CREDENTIALS));
+        } catch (IllegalStateException e) {
+            // Step dengan "{token}" akan gagal di Session.expand
+        }
+    }
+
+    private static String newPost(Session session) {
+        Map<String, Object> post = new LinkedHashMap<>();
+        post.put("title", FastDataGenerator.catchPhrase());
+        post.put("body", FastDataGenerator.bs());
+        post.put("userId", Integer.parseInt(session.get("userId")));
+        return JsonPayloadWriter.toJson(post);
+    }
+
+    private static String profileUpdate(Session session) {
+        Map<String, Object> update = new LinkedHashMap<>();
+        update.put("website", FastDataGenerator.url());
+        update.put("lastPostId", Integer.parseInt(session.get("postId")));
+        return JsonPayloadWriter.toJson(update);
+    }
+}
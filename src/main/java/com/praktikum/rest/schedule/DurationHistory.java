@@ -0,0 +1,74 @@
+package com.praktikum.rest.schedule;
+
+import com.praktikum.rest.config.TestConfig;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Riwayat durasi per test method di file lokal
+ * Format file: satu baris per test, "Class.method", TAB, durasi dalam milidetik
+ * Durasi di-smooth dengan exponential moving average agar satu run yang lambat
+ * tidak langsung mengubah schedule
+ */
+public final class DurationHistory {
+
+    private DurationHistory() {
+    }
+
+    /**
+     * @return Map "Class.method" -> durasi (ms), kosong jika file belum ada
+     */
+    public static Map<String, Double> read(Path file) throws IOException {
+        Map<String, Double> durations = new TreeMap<>();
+        if (!Files.exists(file)) {
+            return durations;
+        }
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            int tab = line.indexOf('\t');
+            if (tab > 0) {
+                durations.put(line.substring(0, tab), Double.parseDouble(line.substring(tab + 1).trim()));
+            }
+        }
+        return durations;
+    }
+
+    /**
+     * Gabungkan durasi dari run ini ke file riwayat
+     * Beberapa shard JVM bisa selesai bersamaan, jadi read-merge-write dilakukan di bawah file lock
+     * @param observed Map "Class.method" -> durasi run ini (ms)
+     */
+    public static void update(Path file, Map<String, Long> observed) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Path lockFile = file.resolveSibling(file.getFileName() + ".lock");
+        try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            FileLock lock = channel.lock();
+            try {
+                Map<String, Double> durations = read(file);
+                observed.forEach((test, millis) -> durations.merge(test, (double) millis, (previous, latest) ->
+                        TestConfig.DURATION_SMOOTHING * latest + (1 - TestConfig.DURATION_SMOOTHING) * previous));
+
+                Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+                try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                    for (Map.Entry<String, Double> entry : durations.entrySet()) {
+                        writer.write(entry.getKey() + "\t" + String.format(Locale.ROOT, "%.1f", entry.getValue()));
+                        writer.newLine();
+                    }
+                }
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                lock.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.praktikum.rest.schedule;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Longest Processing Time first (LPT) scheduler untuk membagi test methods ke worker
+ * Test diurutkan dari durasi historis terpanjang, lalu setiap test diberikan ke worker
+ * dengan total beban terkecil; hasilnya makespan paling lama 4/3 dari optimal
+ * Test tanpa riwayat memakai rata-rata durasi yang diketahui
+ * Hasil selalu deterministic untuk input yang sama, sehingga setiap shard JVM
+ * bisa menghitung plan sendiri dan mengambil bin miliknya
+ */
+public final class LptScheduler {
+
+    // Estimasi durasi jika belum ada riwayat sama sekali
+    private static final double DEFAULT_MILLIS = 1000.0;
+
+    private LptScheduler() {
+    }
+
+    /**
+     * Tests yang di-assign ke satu worker
+     */
+    public record Bin(int index, List<String> tests, double estimatedMillis) {
+    }
+
+    /**
+     * Hasil scheduling
+     */
+    public record Plan(List<Bin> bins, double totalMillis) {
+
+        /**
+         * @return Estimasi waktu selesai worker paling lama
+         */
+        public double makespanMillis() {
+            return bins.stream().mapToDouble(Bin::estimatedMillis).max().orElse(0.0);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder out = new StringBuilder(String.format(Locale.ROOT,
+                    "LPT plan: %d workers, total %.0fms, makespan %.0fms (lower bound %.0fms)%n",
+                    bins.size(), totalMillis, makespanMillis(), totalMillis / Math.max(1, bins.size())));
+            for (Bin bin : bins) {
+                out.append(String.format(Locale.ROOT, "  worker %d: %6.0fms %d tests%n",
+                        bin.index(), bin.estimatedMillis(), bin.tests().size()));
+            }
+            return out.toString();
+        }
+    }
+
+    /**
+     * Bagi tests ke sejumlah worker dengan LPT
+     * @param tests Nama test "Class.method"
+     * @param history Durasi historis dari DurationHistory.read()
+     * @param workers Jumlah worker (threads atau shards)
+     */
+    public static Plan plan(Collection<String> tests, Map<String, Double> history, int workers) {
+        if (workers < 1) {
+            throw new IllegalArgumentException("workers must be >= 1, got " + workers);
+        }
+        double fallback = history.values().stream().mapToDouble(Double::doubleValue).average().orElse(DEFAULT_MILLIS);
+
+        // Urutkan durasi terpanjang dulu, nama sebagai tie-breaker agar deterministic
+        List<String> ordered = new ArrayList<>(tests);
+        ordered.sort(Comparator.<String>comparingDouble(test -> history.getOrDefault(test, fallback))
+                .reversed()
+                .thenComparing(Comparator.naturalOrder()));
+
+        double[] loads = new double[workers];
+        List<List<String>> assigned = new ArrayList<>();
+        PriorityQueue<Integer> leastLoaded = new PriorityQueue<>(
+                Comparator.<Integer>comparingDouble(index -> loads[index]).thenComparingInt(index -> index));
+        for (int i = 0; i < workers; i++) {
+            assigned.add(new ArrayList<>());
+            leastLoaded.add(i);
+        }
+
+        double total = 0;
+        for (String test : ordered) {
+            double millis = history.getOrDefault(test, fallback);
+            int worker = leastLoaded.poll();
+            assigned.get(worker).add(test);
+            loads[worker] += millis;
+            total += millis;
+            leastLoaded.add(worker);
+        }
+
+        List<Bin> bins = new ArrayList<>();
+        for (int i = 0; i < workers; i++) {
+            bins.add(new Bin(i, List.copyOf(assigned.get(i)), loads[i]));
+        }
+        return new Plan(bins, total);
+    }
+}
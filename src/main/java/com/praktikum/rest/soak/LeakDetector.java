@@ -0,0 +1,83 @@
+package com.praktikum.rest.soak;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Analisis trend dari ResourceSampler untuk mendeteksi leak pada soak run
+ * Menghitung slope (least squares) setiap metric per jam setelah warm-up,
+ * lalu membandingkannya dengan batas pertumbuhan yang diizinkan
+ */
+public final class LeakDetector {
+
+    // Bagian awal run yang diabaikan (class loading, JIT, connection pool warm-up)
+    private static final double WARM_UP_FRACTION = 0.2;
+
+    // Jumlah sample minimum setelah warm-up agar trend bisa dipercaya
+    private static final int MIN_SAMPLES = 5;
+
+    private static final double MILLIS_PER_HOUR = 3_600_000.0;
+
+    /**
+     * Metric yang pertumbuhannya melewati batas
+     */
+    public record Violation(String metric, double growthPerHour, double limitPerHour) {
+        @Override
+        public String toString() {
+            return String.format("%s grows %.1f/hour (limit %.1f/hour)", metric, growthPerHour, limitPerHour);
+        }
+    }
+
+    private LeakDetector() {
+    }
+
+    /**
+     * @param samples Sample dari ResourceSampler, urut berdasarkan waktu
+     * @param limitsPerHour Batas pertumbuhan per jam untuk setiap metric yang dicek
+     * @return Daftar violation, kosong jika tidak ada trend yang mencurigakan
+     */
+    public static List<Violation> detect(List<ResourceSampler.Sample> samples, Map<String, Double> limitsPerHour) {
+        List<Violation> violations = new ArrayList<>();
+        List<ResourceSampler.Sample> steady = samples.subList((int) (samples.size() * WARM_UP_FRACTION), samples.size());
+        if (steady.size() < MIN_SAMPLES) {
+            return violations;
+        }
+        for (Map.Entry<String, Double> limit : limitsPerHour.entrySet()) {
+            double slope = slopePerHour(steady, limit.getKey());
+            if (!Double.isNaN(slope) && slope > limit.getValue()) {
+                violations.add(new Violation(limit.getKey(), slope, limit.getValue()));
+            }
+        }
+        return violations;
+    }
+
+    /**
+     * Slope least squares dari metric terhadap waktu, dalam satuan per jam
+     * @return NaN jika metric tidak ada di sample
+     */
+    static double slopePerHour(List<ResourceSampler.Sample> samples, String metric) {
+        double n = 0;
+        double sumX = 0;
+        double sumY = 0;
+        double sumXY = 0;
+        double sumXX = 0;
+        for (ResourceSampler.Sample sample : samples) {
+            Long value = sample.values().get(metric);
+            if (value == null) {
+                continue;
+            }
+            double x = sample.elapsedMillis() / MILLIS_PER_HOUR;
+            n++;
+            sumX += x;
+            sumY += value;
+            sumXY += x * value;
+            sumXX += x * x;
+        }
+        double denominator = n * sumXX - sumX * sumX;
+        if (n < 2 || denominator == 0.0) {
+            return Double.NaN;
+        }
+        return (n * sumXY - sumX * sumY) / denominator;
+    }
+}
@@ -0,0 +1,136 @@
+package com.praktikum.rest.soak;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Sampler periodik untuk resource JVM milik test runner sendiri
+ * Mencatat heap-after-GC, GC pause per interval, thread count, open file descriptors,
+ * dan gauge tambahan (contoh jumlah global REST Assured filters) via MXBeans
+ * Hasilnya dianalisis oleh LeakDetector untuk menemukan trend yang terus naik
+ */
+public class ResourceSampler {
+
+    // Nama metric bawaan
+    public static final String HEAP_AFTER_GC = "heap.afterGc.bytes";
+    public static final String GC_PAUSE = "gc.pause.millis";
+    public static final String THREADS = "threads";
+    public static final String OPEN_FDS = "open.fds";
+
+    /**
+     * Satu sample berisi nilai semua metric pada satu titik waktu
+     */
+    public record Sample(long elapsedMillis, Map<String, Long> values) {
+    }
+
+    private final Map<String, LongSupplier> gauges = new LinkedHashMap<>();
+    private final List<Sample> samples = Collections.synchronizedList(new ArrayList<>());
+    private long lastGcMillis = totalGcMillis();
+    private long startedAt;
+    private ScheduledExecutorService scheduler;
+
+    public ResourceSampler() {
+        gauges.put(HEAP_AFTER_GC, ResourceSampler::heapAfterGc);
+        gauges.put(GC_PAUSE, this::gcPauseSinceLastSample);
+        gauges.put(THREADS, () -> ManagementFactory.getThreadMXBean().getThreadCount());
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.UnixOperatingSystemMXBean unix) {
+            gauges.put(OPEN_FDS, unix::getOpenFileDescriptorCount);
+        }
+    }
+
+    /**
+     * Register gauge tambahan yang ikut di-sample
+     * @param name Nama metric, contoh "restassured.filters"
+     */
+    public synchronized void gauge(String name, LongSupplier value) {
+        gauges.put(name, value);
+    }
+
+    /**
+     * Mulai sampling periodik di background daemon thread
+     */
+    public synchronized void start(long intervalSeconds) {
+        if (scheduler != null) {
+            return;
+        }
+        startedAt = System.nanoTime();
+        lastGcMillis = totalGcMillis();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "resource-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::sample, 0, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Hentikan sampling dan ambil satu sample terakhir
+     */
+    public synchronized void stop() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdownNow();
+        scheduler = null;
+        sample();
+    }
+
+    /**
+     * @return Copy dari semua sample yang sudah diambil
+     */
+    public List<Sample> samples() {
+        synchronized (samples) {
+            return new ArrayList<>(samples);
+        }
+    }
+
+    /**
+     * Ambil satu sample dari semua gauge
+     */
+    synchronized void sample() {
+        Map<String, Long> values = new LinkedHashMap<>();
+        gauges.forEach((name, gauge) -> values.put(name, gauge.getAsLong()));
+        samples.add(new Sample((System.nanoTime() - startedAt) / 1_000_000L, values));
+    }
+
+    /**
+     * Total heap yang masih terpakai setelah GC terakhir di semua heap pool
+     */
+    private static long heapAfterGc() {
+        long used = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.getCollectionUsage() != null) {
+                used += pool.getCollectionUsage().getUsed();
+            }
+        }
+        return used;
+    }
+
+    private long gcPauseSinceLastSample() {
+        long total = totalGcMillis();
+        long delta = total - lastGcMillis;
+        lastGcMillis = total;
+        return delta;
+    }
+
+    private static long totalGcMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0L, gc.getCollectionTime());
+        }
+        return total;
+    }
+}
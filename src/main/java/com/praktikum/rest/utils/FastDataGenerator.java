@@ -0,0 +1,459 @@
+package com.praktikum.rest.utils;
+
+import com.praktikum.rest.config.TestConfig;
+import com.praktikum.rest.model.Address;
+import com.praktikum.rest.model.Company;
+import com.praktikum.rest.model.User;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Fast generator backend untuk test data dengan field yang sama seperti TestDataGenerator
+ * Locale YAML milik Java Faker (id dengan fallback en) di-compile sekali menjadi
+ * String arrays dan precompiled templates, sehingga setiap value cukup berupa
+ * random index dan StringBuilder append tanpa regex, reflection, atau expression lookup
+ */
+public final class FastDataGenerator {
+
+    // Locale files dari jar Java Faker, en dulu lalu di-override oleh id
+    private static final String[] LOCALE_FILES = {
+            "en/name.yml", "en/address.yml", "en/company.yml", "en/internet.yml", "en/phone_number.yml", "id.yml"
+    };
+
+    private FastDataGenerator() {
+    }
+
+    /**
+     * Lazy holder untuk compiled dictionaries, di-load saat pertama kali dipakai
+     */
+    private static final class Dictionaries {
+        private static final Dictionaries INSTANCE = new Dictionaries(loadLocale());
+
+        private final String[] firstNames;
+        private final String[] lastNames;
+        private final String[] freeEmails;
+        private final String[] domainSuffixes;
+        private final Choice fullName;
+        private final Choice streetAddress;
+        private final Choice city;
+        private final Choice zipCode;
+        private final Choice phone;
+        private final Choice companyName;
+        private final String[][] buzzwords;
+        private final String[][] bs;
+
+        private Dictionaries(Map<String, Object> entries) {
+            TemplateCompiler compiler = new TemplateCompiler(entries);
+            firstNames = compiler.words("name.first_name");
+            lastNames = compiler.words("name.last_name");
+            freeEmails = compiler.words("internet.free_email");
+            domainSuffixes = compiler.words("internet.domain_suffix");
+            fullName = compiler.choice("name.name");
+            streetAddress = compiler.choice("address.street_address");
+            city = compiler.choice("address.city");
+            zipCode = compiler.choice("address.postcode");
+            phone = compiler.choice("phone_number.formats");
+            companyName = compiler.choice("company.name");
+            buzzwords = compiler.wordLists("company.buzzwords");
+            bs = compiler.wordLists("company.bs");
+        }
+    }
+
+    //---------------------------------------------------------
+    // FIELD GENERATORS
+    //---------------------------------------------------------
+
+    /**
+     * @return Full name, contoh "Sigit Prawira"
+     */
+    public static String fullName() {
+        return Dictionaries.INSTANCE.fullName.generate();
+    }
+
+    /**
+     * @return Username alphanumeric lowercase, contoh "wendytaslim"
+     */
+    public static String username() {
+        Dictionaries d = Dictionaries.INSTANCE;
+        StringBuilder out = new StringBuilder(24);
+        appendAlphanumericLower(out, pick(d.firstNames));
+        appendAlphanumericLower(out, pick(d.lastNames));
+        return out.toString();
+    }
+
+    /**
+     * @return Email address, contoh "kiki.marzuki@hotmail.com"
+     */
+    public static String emailAddress() {
+        Dictionaries d = Dictionaries.INSTANCE;
+        StringBuilder out = new StringBuilder(40);
+        appendAlphanumericLower(out, pick(d.firstNames));
+        out.append('.');
+        appendAlphanumericLower(out, pick(d.lastNames));
+        return out.append('@').append(pick(d.freeEmails)).toString();
+    }
+
+    /**
+     * @return Username yang belum pernah dikembalikan di JVM ini, contoh "wendytaslim" atau "wendytaslimX42"
+     */
+    public static String uniqueUsername() {
+        return UniqueNames.usernames().claim(username());
+    }
+
+    /**
+     * @return Email address yang belum pernah dikembalikan di JVM ini, contoh "kiki.marzukiX42@hotmail.com"
+     */
+    public static String uniqueEmailAddress() {
+        return UniqueNames.emails().claim(emailAddress());
+    }
+
+    /**
+     * @return Website URL, contoh "www.edwin-marzuki.biz"
+     */
+    public static String url() {
+        Dictionaries d = Dictionaries.INSTANCE;
+        StringBuilder out = new StringBuilder(40).append("www.");
+        appendAlphanumericLower(out, pick(d.firstNames));
+        out.append('-');
+        appendAlphanumericLower(out, pick(d.lastNames));
+        return out.append('.').append(pick(d.domainSuffixes)).toString();
+    }
+
+    public static String phoneNumber() {
+        return Dictionaries.INSTANCE.phone.generate();
+    }
+
+    public static String streetAddress() {
+        return Dictionaries.INSTANCE.streetAddress.generate();
+    }
+
+    public static String city() {
+        return Dictionaries.INSTANCE.city.generate();
+    }
+
+    public static String zipCode() {
+        return Dictionaries.INSTANCE.zipCode.generate();
+    }
+
+    public static String companyName() {
+        return Dictionaries.INSTANCE.companyName.generate();
+    }
+
+    /**
+     * @return Catch phrase dari tiga buzzword lists, contoh "User-friendly background strategy"
+     */
+    public static String catchPhrase() {
+        return joinOnePerList(Dictionaries.INSTANCE.buzzwords);
+    }
+
+    /**
+     * @return Business statement dari tiga bs lists, contoh "utilize efficient initiatives"
+     */
+    public static String bs() {
+        return joinOnePerList(Dictionaries.INSTANCE.bs);
+    }
+
+    //---------------------------------------------------------
+    // COMPOSITE GENERATORS (struktur sama dengan TestDataGenerator)
+    //---------------------------------------------------------
+
+    /**
+     * Generate complete user data dengan struktur yang sama seperti TestDataGenerator.generateUserData()
+     * @return Map berisi user data dengan address dan company
+     */
+    public static Map<String, Object> generateUserData() {
+        Map<String, Object> userData = new HashMap<>(16);
+        userData.put("name", fullName());
+        userData.put("username", TestConfig.UNIQUE_IDENTIFIERS ? uniqueUsername() : username());
+        userData.put("email", TestConfig.UNIQUE_IDENTIFIERS ? uniqueEmailAddress() : emailAddress());
+        userData.put("phone", phoneNumber());
+        userData.put("website", url());
+        userData.put("address", generateAddressData());
+        userData.put("company", generateCompanyData());
+        return userData;
+    }
+
+    /**
+     * @return Map berisi street, city, dan zipcode
+     */
+    public static Map<String, Object> generateAddressData() {
+        Map<String, Object> address = new HashMap<>(4);
+        address.put("street", streetAddress());
+        address.put("city", city());
+        address.put("zipcode", zipCode());
+        return address;
+    }
+
+    /**
+     * @return Map berisi name, catchPhrase, dan bs
+     */
+    public static Map<String, Object> generateCompanyData() {
+        Map<String, Object> company = new HashMap<>(4);
+        company.put("name", companyName());
+        company.put("catchPhrase", catchPhrase());
+        company.put("bs", bs());
+        return company;
+    }
+
+    /**
+     * Generate user sebagai record dengan bentuk yang sama seperti response JSONPlaceholder /users
+     * @param id Nilai field id
+     */
+    public static User generateUser(int id) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Address.Geo geo = new Address.Geo(String.format(Locale.ROOT, "%.4f", random.nextDouble(-90, 90)),
+                String.format(Locale.ROOT, "%.4f", random.nextDouble(-180, 180)));
+        Address address = new Address(streetAddress(), "Apt. " + random.nextInt(100, 1000), city(), zipCode(), geo);
+        return new User(id, fullName(), TestConfig.UNIQUE_IDENTIFIERS ? uniqueUsername() : username(),
+                TestConfig.UNIQUE_IDENTIFIERS ? uniqueEmailAddress() : emailAddress(), address, phoneNumber(), url(),
+                new Company(companyName(), catchPhrase(), bs()));
+    }
+
+    /**
+     * Generate multiple users untuk bulk testing
+     * @param count Jumlah users yang akan di-generate
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<String, Object>[] generateMultipleUsers(int count) {
+        Map<String, Object>[] users = new HashMap[count];
+        for (int i = 0; i < count; i++) {
+            users[i] = generateUserData();
+        }
+        return users;
+    }
+
+    //---------------------------------------------------------
+    // INTERNALS
+    //---------------------------------------------------------
+
+    private static String pick(String[] values) {
+        return values[ThreadLocalRandom.current().nextInt(values.length)];
+    }
+
+    private static String joinOnePerList(String[][] lists) {
+        StringBuilder out = new StringBuilder(48);
+        for (int i = 0; i < lists.length; i++) {
+            if (i > 0) {
+                out.append(' ');
+            }
+            out.append(pick(lists[i]));
+        }
+        return out.toString();
+    }
+
+    /**
+     * Append hanya karakter [a-z0-9] dalam lowercase, pengganti replaceAll("[^a-zA-Z0-9]", "")
+     */
+    private static void appendAlphanumericLower(StringBuilder out, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                out.append((char) (c + ('a' - 'A')));
+            } else if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+                out.append(c);
+            }
+        }
+    }
+
+    /**
+     * Load dan merge locale YAML menjadi map "section.key" -> value
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> loadLocale() {
+        Map<String, Object> entries = new HashMap<>();
+        Yaml yaml = new Yaml();
+        for (String file : LOCALE_FILES) {
+            try (InputStream in = FastDataGenerator.class.getClassLoader().getResourceAsStream(file)) {
+                if (in == null) {
+                    throw new IllegalStateException("Faker locale file not found on classpath: " + file);
+                }
+                Map<String, Object> root = yaml.load(in);
+                for (Object locale : root.values()) {
+                    Map<String, Object> faker = (Map<String, Object>) ((Map<String, Object>) locale).get("faker");
+                    faker.forEach((section, keys) -> {
+                        // Section berupa list (bukan key-value) tidak dipakai oleh generator ini
+                        if (keys instanceof Map<?, ?> map) {
+                            map.forEach((key, value) -> entries.put(section + "." + key, value));
+                        }
+                    });
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to read Faker locale file " + file, e);
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Pilihan acak di antara beberapa option, setiap option berupa literal String atau Template
+     */
+    static final class Choice {
+        private final Object[] options;
+
+        Choice(Object[] options) {
+            this.options = options;
+        }
+
+        String generate() {
+            StringBuilder out = new StringBuilder(32);
+            appendTo(out, ThreadLocalRandom.current());
+            return out.toString();
+        }
+
+        void appendTo(StringBuilder out, ThreadLocalRandom random) {
+            Object option = options[options.length == 1 ? 0 : random.nextInt(options.length)];
+            if (option instanceof String literal) {
+                out.append(literal);
+            } else {
+                ((Template) option).appendTo(out, random);
+            }
+        }
+    }
+
+    /**
+     * Expression Faker yang sudah di-compile menjadi urutan parts:
+     * literal String, nested Choice untuk #{reference}, atau DIGIT untuk '#'
+     */
+    static final class Template {
+        private static final Object DIGIT = new Object();
+
+        private final Object[] parts;
+
+        Template(Object[] parts) {
+            this.parts = parts;
+        }
+
+        void appendTo(StringBuilder out, ThreadLocalRandom random) {
+            for (Object part : parts) {
+                if (part == DIGIT) {
+                    out.append((char) ('0' + random.nextInt(10)));
+                } else if (part instanceof String literal) {
+                    out.append(literal);
+                } else {
+                    ((Choice) part).appendTo(out, random);
+                }
+            }
+        }
+    }
+
+    /**
+     * Compiler dari locale entries ke Choice dan Template, dengan cache per key
+     */
+    private static final class TemplateCompiler {
+        private final Map<String, Object> entries;
+        private final Map<String, Choice> compiled = new HashMap<>();
+
+        TemplateCompiler(Map<String, Object> entries) {
+            this.entries = entries;
+        }
+
+        String[] words(String key) {
+            return asStrings(require(key)).toArray(new String[0]);
+        }
+
+        @SuppressWarnings("unchecked")
+        String[][] wordLists(String key) {
+            List<Object> lists = (List<Object>) require(key);
+            String[][] result = new String[lists.size()][];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = asStrings(lists.get(i)).toArray(new String[0]);
+            }
+            return result;
+        }
+
+        Choice choice(String key) {
+            Choice cached = compiled.get(key);
+            if (cached != null) {
+                return cached;
+            }
+            String section = key.substring(0, key.indexOf('.'));
+            List<String> expressions = asStrings(require(key));
+            Object[] options = new Object[expressions.size()];
+            for (int i = 0; i < options.length; i++) {
+                options[i] = compile(expressions.get(i), section);
+            }
+            Choice choice = new Choice(options);
+            compiled.put(key, choice);
+            return choice;
+        }
+
+        /**
+         * Compile satu expression; hasilnya String jika tidak ada placeholder
+         */
+        private Object compile(String expression, String section) {
+            if (expression.indexOf('#') < 0) {
+                return expression;
+            }
+            List<Object> parts = new ArrayList<>();
+            StringBuilder literal = new StringBuilder();
+            int i = 0;
+            while (i < expression.length()) {
+                char c = expression.charAt(i);
+                if (c == '#' && i + 1 < expression.length() && expression.charAt(i + 1) == '{') {
+                    int end = expression.indexOf('}', i);
+                    flush(literal, parts);
+                    parts.add(choice(resolve(expression.substring(i + 2, end), section)));
+                    i = end + 1;
+                } else if (c == '#') {
+                    flush(literal, parts);
+                    parts.add(Template.DIGIT);
+                    i++;
+                } else {
+                    literal.append(c);
+                    i++;
+                }
+            }
+            flush(literal, parts);
+            return new Template(parts.toArray());
+        }
+
+        /**
+         * Ubah reference "Name.last_name" atau "first_name" menjadi key "name.last_name"
+         */
+        private static String resolve(String reference, String section) {
+            int dot = reference.indexOf('.');
+            if (dot < 0) {
+                return section + "." + reference;
+            }
+            String referencedSection = reference.substring(0, dot)
+                    .replaceAll("([a-z])([A-Z])", "$1_$2")
+                    .toLowerCase(Locale.ROOT);
+            return referencedSection + "." + reference.substring(dot + 1);
+        }
+
+        private static void flush(StringBuilder literal, List<Object> parts) {
+            if (literal.length() > 0) {
+                parts.add(literal.toString());
+                literal.setLength(0);
+            }
+        }
+
+        private Object require(String key) {
+            Object value = entries.get(key);
+            if (value == null) {
+                throw new IllegalStateException("Missing Faker locale entry: " + key);
+            }
+            return value;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static List<String> asStrings(Object value) {
+            if (value instanceof List<?> list) {
+                List<String> strings = new ArrayList<>(list.size());
+                for (Object item : list) {
+                    strings.add(String.valueOf(item));
+                }
+                return strings;
+            }
+            return List.of(String.valueOf(value));
+        }
+    }
+}
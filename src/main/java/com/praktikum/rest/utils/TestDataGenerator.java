@@ -1,5 +1,7 @@
 package com.praktikum.rest.utils;
 import com.github.javafaker.Faker;
+import com.praktikum.rest.config.TestConfig;
+import com.praktikum.rest.impact.TestImpactRecorder;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
@@ -11,8 +13,30 @@ import java.util.Arrays; // Ditambahkan untuk Arrays.asList
  */
 public class TestDataGenerator {
 
-    // Initialize Faker dengan Indonesian locale untuk data yang lebih relatable
-    private static final Faker faker = new Faker(new Locale("id-ID"));
+    /**
+     * Lazy holder untuk Faker dengan Indonesian locale agar data lebih relatable
+     * Locale YAML files baru di-load ketika data pertama kali di-generate,
+     * sehingga test yang tidak generate data tidak membayar startup cost-nya
+     */
+    private static final class FakerHolder {
+        private static final Faker FAKER = new Faker(new Locale("id-ID"));
+    }
+
+    /**
+     * @return Shared Faker instance, di-initialize saat pertama kali dipakai
+     */
+    private static Faker faker() {
+        // Catat generator methods yang dipakai test ini untuk incremental test selection
+        TestImpactRecorder.recordGenerators(TestDataGenerator.class);
+        return FakerHolder.FAKER;
+    }
+
+    /**
+     * @return candidate yang di-claim di registry, atau candidate apa adanya jika -Ddata.unique=false
+     */
+    private static String unique(UniqueNames registry, String candidate) {
+        return TestConfig.UNIQUE_IDENTIFIERS ? registry.claim(candidate) : candidate;
+    }
 
     /**
      * Generate complete user data dengan semua fields
@@ -22,25 +46,26 @@ public class TestDataGenerator {
         Map<String, Object> userData = new HashMap<>();
 
         // Basic user information
-        userData.put("name", faker.name().fullName()); // Full name
-        // Username tanpa special characters
-        userData.put("username", faker.name().username().replaceAll("[^a-zA-Z0-9]", ""));
-        userData.put("email", faker.internet().emailAddress()); // Email address
-        userData.put("phone", faker.phoneNumber().phoneNumber()); // Phone number
-        userData.put("website", faker.internet().url()); // Website URL
+        userData.put("name", faker().name().fullName()); // Full name
+        // Username tanpa special characters, unik per JVM (lihat UniqueNames)
+        userData.put("username", unique(UniqueNames.usernames(),
+                faker().name().username().replaceAll("[^a-zA-Z0-9]", "")));
+        userData.put("email", unique(UniqueNames.emails(), faker().internet().emailAddress())); // Email address
+        userData.put("phone", faker().phoneNumber().phoneNumber()); // Phone number
+        userData.put("website", faker().internet().url()); // Website URL
 
         // Address information
         Map<String, Object> address = new HashMap<>();
-        address.put("street", faker.address().streetAddress()); // Street address
-        address.put("city", faker.address().city()); // City
-        address.put("zipcode", faker.address().zipCode()); // ZIP code
+        address.put("street", faker().address().streetAddress()); // Street address
+        address.put("city", faker().address().city()); // City
+        address.put("zipcode", faker().address().zipCode()); // ZIP code
         userData.put("address", address);
 
         // Company information
         Map<String, Object> company = new HashMap<>();
-        company.put("name", faker.company().name()); // Company name
-        company.put("catchPhrase", faker.company().catchPhrase()); // Company catchphrase
-        company.put("bs", faker.company().bs()); // Business statement
+        company.put("name", faker().company().name()); // Company name
+        company.put("catchPhrase", faker().company().catchPhrase()); // Company catchphrase
+        company.put("bs", faker().company().bs()); // Business statement
         userData.put("company", company);
 
         return userData;
@@ -55,9 +80,9 @@ public class TestDataGenerator {
         Map<String, Object> userData = generateUserData();
 
         Map<String, Object> address = new HashMap<>();
-        address.put("street", faker.address().streetAddress()); // Street
-        address.put("city", faker.address().city()); // City
-        address.put("zipcode", faker.address().zipCode()); // ZIP code
+        address.put("street", faker().address().streetAddress()); // Street
+        address.put("city", faker().address().city()); // City
+        address.put("zipcode", faker().address().zipCode()); // ZIP code
 
         // Add address to user data
         userData.put("address", address);
@@ -73,11 +98,11 @@ public class TestDataGenerator {
         Map<String, Object> companyData = new HashMap<>();
 
         // Company name
-        companyData.put("name", faker.company().name());
+        companyData.put("name", faker().company().name());
         // Company tagline
-        companyData.put("catchPhrase", faker.company().catchPhrase());
+        companyData.put("catchPhrase", faker().company().catchPhrase());
         // Business statement
-        companyData.put("bs", faker.company().bs());
+        companyData.put("bs", faker().company().bs());
 
         return companyData;
     }
@@ -88,11 +113,11 @@ public class TestDataGenerator {
      */
     public static Map<String, Object> generateValidUserData() {
         Map<String, Object> userData = new HashMap<>();
-        userData.put("name", "Test User " + faker.number().digits(3)); // Test User dengan random digits
-        // Username dengan random digits
-        userData.put("username", "user" + faker.number().digits(3));
+        userData.put("name", "Test User " + faker().number().digits(3)); // Test User dengan random digits
+        // Username dengan random digits; setelah ratusan users diberi suffix agar tidak bentrok
+        userData.put("username", unique(UniqueNames.usernames(), "user" + faker().number().digits(3)));
         // Valid email
-        userData.put("email", faker.internet().emailAddress());
+        userData.put("email", unique(UniqueNames.emails(), faker().internet().emailAddress()));
         return userData;
     }
 
@@ -103,13 +128,13 @@ public class TestDataGenerator {
     public static Map<String, Object> generateProductData() {
         Map<String, Object> productData = new HashMap<>();
         // Product name
-        productData.put("name", faker.commerce().productName());
+        productData.put("name", faker().commerce().productName());
         // Product price
-        productData.put("price", faker.commerce().price());
+        productData.put("price", faker().commerce().price());
         // Department
-        productData.put("department", faker.commerce().department());
+        productData.put("department", faker().commerce().department());
         // Material
-        productData.put("material", faker.commerce().material());
+        productData.put("material", faker().commerce().material());
         return productData;
     }
 
@@ -120,9 +145,9 @@ public class TestDataGenerator {
     public static Map<String, Object> generateLoginData() {
         Map<String, Object> loginData = new HashMap<>();
         // Email
-        loginData.put("email", faker.internet().emailAddress());
+        loginData.put("email", faker().internet().emailAddress());
         // Strong password
-        loginData.put("password", faker.internet().password(8, 12, true, true));
+        loginData.put("password", faker().internet().password(8, 12, true, true));
         return loginData;
     }
 
@@ -153,9 +178,10 @@ public class TestDataGenerator {
             "email": "%s"
         }
         """,
-                faker.name().fullName(), // Name
-                faker.name().username().replaceAll("[^a-zA-Z0-9]", ""), // Username
-                faker.internet().emailAddress() // Email
+                faker().name().fullName(), // Name
+                // Username
+                unique(UniqueNames.usernames(), faker().name().username().replaceAll("[^a-zA-Z0-9]", "")),
+                unique(UniqueNames.emails(), faker().internet().emailAddress()) // Email
         );
     }
 }
\ No newline at end of file
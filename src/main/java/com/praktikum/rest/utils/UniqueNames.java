@@ -0,0 +1,210 @@
+package com.praktikum.rest.utils;
+
+import com.praktikum.rest.config.TestConfig;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Uniqueness layer untuk identifier yang di-generate (username, email) di semua generator threads
+ * Identifier yang sudah dipakai dicatat di Bloom filter (sekitar 1.5 bytes per identifier untuk 1% false positive),
+ * sehingga puluhan juta identifier tetap muat di memory tanpa menyimpan String-nya
+ * Jika candidate mungkin sudah dipakai, candidate diberi suffix SUFFIX_MARKER + nomor dari sequence
+ * Identifier tanpa suffix selalu lolos Bloom filter (tidak pernah false negative) dan tidak mengandung marker,
+ * sedangkan identifier dengan suffix dibedakan oleh nomor sequence, jadi hasil claim selalu unik di JVM ini
+ * tanpa perlu dicek ulang; false positive hanya membuat sebagian identifier baru ikut diberi suffix
+ */
+public final class UniqueNames {
+
+    // Maksimal jumlah bit per identifier; setiap posisi bit diambil 6 bits dari satu hash 64-bit
+    private static final int MAX_HASHES = 10;
+
+    // Pemisah suffix; generator hanya menghasilkan huruf kecil, jadi candidate praktis tidak pernah mengandungnya
+    private static final char SUFFIX_MARKER = 'X';
+
+    private static final class UsernamesHolder {
+        private static final UniqueNames INSTANCE =
+                new UniqueNames(TestConfig.UNIQUE_EXPECTED_IDENTIFIERS, TestConfig.UNIQUE_FALSE_POSITIVE_RATE);
+    }
+
+    private static final class EmailsHolder {
+        private static final UniqueNames INSTANCE =
+                new UniqueNames(TestConfig.UNIQUE_EXPECTED_IDENTIFIERS, TestConfig.UNIQUE_FALSE_POSITIVE_RATE);
+    }
+
+    // Blocked Bloom filter: semua bit satu identifier ada di satu word, jadi satu cache miss per lookup
+    // dan check-and-set cukup satu compareAndSet tanpa lock
+    private final AtomicLongArray words;
+    private final int hashes;
+    private final AtomicLong sequence = new AtomicLong();
+    private final LongAdder claimed = new LongAdder();
+    private final LongAdder suffixed = new LongAdder();
+
+    /**
+     * @param expected Perkiraan jumlah identifier; lebih dari ini tetap unik dan claim tetap satu lookup,
+     *                 tetapi filter makin penuh sehingga hampir semua identifier baru diberi suffix
+     * @param falsePositiveRate Target false positive rate pada jumlah expected, contoh 0.01
+     */
+    public UniqueNames(long expected, double falsePositiveRate) {
+        if (expected <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Invalid Bloom filter sizing: expected=" + expected
+                    + ", falsePositiveRate=" + falsePositiveRate);
+        }
+        double[] sizing = sizing(falsePositiveRate);
+        long count = Math.max(1, (long) Math.ceil(expected * sizing[0] / Long.SIZE));
+        if (count > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Bloom filter too large for " + expected + " identifiers");
+        }
+        words = new AtomicLongArray((int) count);
+        hashes = (int) sizing[1];
+    }
+
+    /**
+     * @return Registry bersama untuk usernames
+     */
+    public static UniqueNames usernames() {
+        return UsernamesHolder.INSTANCE;
+    }
+
+    /**
+     * @return Registry bersama untuk email addresses
+     */
+    public static UniqueNames emails() {
+        return EmailsHolder.INSTANCE;
+    }
+
+    /**
+     * Klaim candidate sebagai identifier baru
+     * Jika candidate mungkin sudah dipakai (atau mengandung SUFFIX_MARKER), marker dan nomor dari sequence
+     * ditambahkan sebelum '@' (email) atau di akhir, contoh "wendytaslim" -> "wendytaslimX17",
+     * "kiki.marzuki@hotmail.com" -> "kiki.marzukiX18@hotmail.com"
+     * Nomor sequence tidak pernah berulang dan marker terakhir sebelum '@' selalu diikuti nomor tersebut,
+     * sehingga identifier dengan suffix tidak perlu dicek di Bloom filter dan tidak pernah retry
+     * @return candidate atau candidate dengan suffix, dijamin belum pernah dikembalikan oleh registry ini
+     */
+    public String claim(String candidate) {
+        claimed.increment();
+        if (candidate.indexOf(SUFFIX_MARKER) < 0 && add(candidate)) {
+            return candidate;
+        }
+        suffixed.increment();
+        int at = candidate.indexOf('@');
+        String local = at < 0 ? candidate : candidate.substring(0, at);
+        String domain = at < 0 ? "" : candidate.substring(at);
+        return local + SUFFIX_MARKER + sequence.incrementAndGet() + domain;
+    }
+
+    /**
+     * @return Jumlah claim sejak registry dibuat
+     */
+    public long claimed() {
+        return claimed.sum();
+    }
+
+    /**
+     * @return Jumlah claim yang candidate-nya diberi suffix (duplicate atau false positive)
+     */
+    public long suffixed() {
+        return suffixed.sum();
+    }
+
+    /**
+     * @return Perkiraan false positive rate saat ini dari jumlah bit yang terisi per word
+     */
+    public double estimatedFalsePositiveRate() {
+        double sum = 0;
+        for (int i = 0; i < words.length(); i++) {
+            sum += Math.pow(Long.bitCount(words.get(i)) / (double) Long.SIZE, hashes);
+        }
+        return sum / words.length();
+    }
+
+    /**
+     * @return Ukuran Bloom filter dalam bytes
+     */
+    public long sizeInBytes() {
+        return (long) words.length() * Long.BYTES;
+    }
+
+    /**
+     * Set semua bit untuk value di word-nya
+     * @return true jika minimal satu bit sebelumnya kosong (value pasti belum pernah di-add)
+     */
+    private boolean add(String value) {
+        long hash = hash(value);
+        int word = (int) Long.remainderUnsigned(mix(hash), words.length());
+        long positions = mix(hash ^ 0x9E3779B97F4A7C15L);
+        long mask = 0;
+        for (int i = 0; i < hashes; i++) {
+            mask |= 1L << (positions >>> (i * 6));
+        }
+        // Dua thread dengan value yang sama: hanya satu compareAndSet yang mengisi bit, yang lain melihat mask lengkap
+        while (true) {
+            long current = words.get(word);
+            if ((current & mask) == mask) {
+                return false;
+            }
+            if (words.compareAndSet(word, current, current | mask)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @return {bits per identifier, jumlah bit per identifier} terkecil yang mencapai target false positive rate
+     */
+    private static double[] sizing(double falsePositiveRate) {
+        for (double bitsPerItem = 1; bitsPerItem <= Long.SIZE; bitsPerItem += 0.5) {
+            for (int k = 1; k <= MAX_HASHES; k++) {
+                if (blockedFalsePositiveRate(bitsPerItem, k) <= falsePositiveRate) {
+                    return new double[] {bitsPerItem, k};
+                }
+            }
+        }
+        throw new IllegalArgumentException("falsePositiveRate too small for a blocked Bloom filter: "
+                + falsePositiveRate);
+    }
+
+    /**
+     * False positive rate blocked Bloom filter dengan block 64 bits:
+     * jumlah identifier per word mengikuti Poisson, sehingga butuh lebih banyak bits dari Bloom filter klasik
+     * (contoh sekitar 12 bits per identifier untuk 1%, dibanding 9.6)
+     */
+    private static double blockedFalsePositiveRate(double bitsPerItem, int k) {
+        double perWord = Long.SIZE / bitsPerItem;
+        double probability = Math.exp(-perWord);
+        double rate = 0;
+        for (int items = 0; items < 4 * Long.SIZE; items++) {
+            if (items > 0) {
+                probability *= perWord / items;
+            }
+            double fill = 1 - Math.pow(1 - 1.0 / Long.SIZE, (double) k * items);
+            rate += probability * Math.pow(fill, k);
+        }
+        return rate;
+    }
+
+    /**
+     * FNV-1a 64-bit atas chars, tanpa alokasi byte[]
+     */
+    private static long hash(String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    /**
+     * Finalizer MurmurHash3 agar bit-bit FNV tersebar merata
+     */
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB93FE1A85EC5L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,86 @@
+package com.praktikum.rest.assertions;
+
+import com.praktikum.rest.config.TestConfig;
+import com.praktikum.rest.metrics.ClientOverheadProfiler;
+import com.praktikum.rest.metrics.ClientOverheadProfiler.Stage;
+import io.restassured.path.json.JsonPath;
+import io.restassured.response.Response;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Body assertions yang meng-evaluate semua GPath expression terhadap satu parsed tree
+ * Berbeda dengan .body(path, matcher) di REST Assured yang parse ulang response
+ * untuk setiap assertion, helper ini parse response sekali saja
+ * Setiap stage (parse, GPath, Hamcrest matching) di-profile oleh ClientOverheadProfiler
+ * Dengan -Dassertions.shared.tree=false setiap assertion parse ulang response, sebagai baseline pembanding
+ */
+public class BodyAssertions {
+
+    private final String body;
+    private final boolean sharedTree;
+    private final List<String> failures = new ArrayList<>();
+    private JsonPath tree;
+
+    private BodyAssertions(String body, boolean sharedTree) {
+        this.body = body;
+        this.sharedTree = sharedTree;
+    }
+
+    /**
+     * Buat assertions dengan shared parsed tree (parse sekali), atau parse per assertion
+     * jika TestConfig.ASSERTIONS_SHARED_TREE false
+     */
+    public static BodyAssertions of(Response response) {
+        return new BodyAssertions(response.asString(), TestConfig.ASSERTIONS_SHARED_TREE);
+    }
+
+    /**
+     * Evaluate GPath expression dan cocokkan hasilnya dengan matcher
+     * Semua failure dikumpulkan dan dilaporkan sekaligus oleh verify()
+     */
+    public BodyAssertions body(String path, Matcher<?> matcher) {
+        JsonPath json = sharedTree ? sharedTree() : parse();
+        Object actual = ClientOverheadProfiler.measure(Stage.GPATH, () -> json.get(path));
+        boolean matched = ClientOverheadProfiler.measure(Stage.MATCH, () -> matcher.matches(actual));
+        if (!matched) {
+            StringDescription description = new StringDescription();
+            description.appendText("JSON path ").appendText(path).appendText(" doesn't match.\nExpected: ")
+                    .appendDescriptionOf(matcher).appendText("\n  Actual: ");
+            matcher.describeMismatch(actual, description);
+            failures.add(description.toString());
+        }
+        return this;
+    }
+
+    /**
+     * Throw AssertionError jika ada assertion yang gagal
+     */
+    public void verify() {
+        if (!failures.isEmpty()) {
+            throw new AssertionError(failures.size() + " body assertion(s) failed:\n"
+                    + String.join("\n\n", failures));
+        }
+    }
+
+    private JsonPath sharedTree() {
+        if (tree == null) {
+            tree = parse();
+        }
+        return tree;
+    }
+
+    /**
+     * Parse body menjadi JsonPath, get() tanpa argument memaksa parsing terjadi sekarang
+     */
+    private JsonPath parse() {
+        return ClientOverheadProfiler.measure(Stage.PARSE, () -> {
+            JsonPath json = new JsonPath(body);
+            json.get();
+            return json;
+        });
+    }
+}
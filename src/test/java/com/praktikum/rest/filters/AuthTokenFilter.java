@@ -0,0 +1,95 @@
+package com.praktikum.rest.filters;
+
+import com.praktikum.rest.auth.TokenCache;
+import com.praktikum.rest.config.TestConfig;
+import com.praktikum.rest.metrics.MetricsRegistry;
+import com.praktikum.rest.model.Login;
+import com.praktikum.rest.model.ModelReaders;
+import com.praktikum.rest.replay.TrafficReplay;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.time.Duration;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * REST Assured filter yang menambahkan "Authorization: Bearer <token>" dari shared TokenCache
+ * Login ke ReqRes hanya dilakukan satu kali per credential untuk seluruh suite atau load run
+ */
+public class AuthTokenFilter implements Filter {
+
+    // Cache bersama untuk semua instance filter
+    private static final TokenCache CACHE = TokenCache.create(AuthTokenFilter::login,
+            Duration.ofSeconds(TestConfig.AUTH_TOKEN_TTL_SECONDS),
+            Duration.ofSeconds(TestConfig.AUTH_TOKEN_REFRESH_AHEAD_SECONDS),
+            MetricsRegistry.global());
+
+    // Filter untuk akun default ReqRes (TestConfig.VALID_EMAIL)
+    public static final AuthTokenFilter INSTANCE =
+            new AuthTokenFilter(new TokenCache.Credentials(TestConfig.VALID_EMAIL, TestConfig.VALID_PASSWORD));
+
+    // Login request sendiri melewati filter chain; jangan minta token di dalamnya
+    private static final ThreadLocal<Boolean> LOGGING_IN = ThreadLocal.withInitial(() -> false);
+
+    private final TokenCache.Credentials credentials;
+
+    public AuthTokenFilter(TokenCache.Credentials credentials) {
+        this.credentials = credentials;
+    }
+
+    /**
+     * @return Cache yang dipakai oleh semua AuthTokenFilter, contoh untuk membaca loginsAvoided()
+     */
+    public static TokenCache cache() {
+        return CACHE;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        if (!LOGGING_IN.get() && !isLoginRequest(requestSpec)
+                && !requestSpec.getHeaders().hasHeaderWithName("Authorization")) {
+            requestSpec.header("Authorization", "Bearer " + CACHE.token(credentials));
+        }
+        Response response = ctx.next(requestSpec, responseSpec);
+        if (response.getStatusCode() == 401) {
+            // Token ditolak, login ulang pada request berikutnya
+            CACHE.invalidate(credentials);
+        }
+        return response;
+    }
+
+    private static boolean isLoginRequest(FilterableRequestSpecification requestSpec) {
+        String path = requestSpec.getUserDefinedPath();
+        return path != null && (path.endsWith("/login") || path.endsWith("/register"));
+    }
+
+    /**
+     * Login ke ReqRes (atau ReplayServer di replay mode) dan ambil token dari response
+     */
+    private static String login(TokenCache.Credentials credentials) {
+        LOGGING_IN.set(true);
+        try {
+            Response response = given()
+                    .baseUri(TrafficReplay.baseUri(TestConfig.REQRES_BASE_URL))
+                    .header(TestConfig.API_KEY_HEADER, TestConfig.API_KEY)
+                    .contentType(ContentType.JSON)
+                    .body(new Login.Request(credentials.email(), credentials.password()))
+                    .when()
+                    .post("/login")
+                    .then()
+                    .statusCode(200)
+                    .extract()
+                    .response();
+            return ModelReaders.login(response).token();
+        } finally {
+            LOGGING_IN.remove();
+        }
+    }
+}
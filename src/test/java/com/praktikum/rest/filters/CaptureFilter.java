@@ -0,0 +1,69 @@
+package com.praktikum.rest.filters;
+
+import com.praktikum.rest.replay.TrafficFile;
+import com.praktikum.rest.replay.TrafficReplay;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.http.Header;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * REST Assured filter yang merekam setiap request/response pair ke TrafficFile
+ * Hanya aktif di capture mode (-Dreplay.mode=capture)
+ */
+public class CaptureFilter implements Filter {
+
+    // Satu instance cukup karena writer ada di TrafficReplay
+    public static final CaptureFilter INSTANCE = new CaptureFilter();
+
+    // Headers yang dihitung ulang oleh ReplayServer atau tidak berlaku untuk body yang sudah di-decode
+    private static final Set<String> SKIPPED_HEADERS = Set.of(
+            "content-length", "transfer-encoding", "content-encoding", "connection", "keep-alive");
+
+    private CaptureFilter() {
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        if (!TrafficReplay.isCapture()) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        long start = System.nanoTime();
+        Response response = ctx.next(requestSpec, responseSpec);
+        long latencyMicros = (System.nanoTime() - start) / 1_000L;
+
+        byte[] requestBody = bodyBytes(requestSpec.getBody());
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (Header header : response.getHeaders()) {
+            if (!SKIPPED_HEADERS.contains(header.getName().toLowerCase(Locale.ROOT))) {
+                headers.put(header.getName(), header.getValue());
+            }
+        }
+        String method = requestSpec.getMethod();
+        TrafficReplay.record(new TrafficFile.Exchange(method, TrafficFile.key(method, URI.create(requestSpec.getURI())),
+                TrafficFile.hash(requestBody), response.getStatusCode(), latencyMicros, headers,
+                requestBody, response.asByteArray()));
+        return response;
+    }
+
+    private static byte[] bodyBytes(Object body) {
+        if (body instanceof byte[] bytes) {
+            return bytes;
+        }
+        if (body instanceof String text) {
+            return text.getBytes(StandardCharsets.UTF_8);
+        }
+        return new byte[0];
+    }
+}
@@ -0,0 +1,162 @@
+package com.praktikum.rest.filters;
+
+import com.praktikum.rest.metrics.ClientOverheadProfiler;
+import com.praktikum.rest.metrics.ClientOverheadProfiler.Stage;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import io.restassured.response.ValidatableResponse;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.function.Supplier;
+
+/**
+ * REST Assured filter yang meng-instrument validation path bawaan REST Assured untuk ClientOverheadProfiler
+ * Response yang dikembalikan ke test dibungkus proxy, sehingga setiap .then().body(...), response.path(...),
+ * dan .extract().path(...) di semua tests ikut diukur tanpa mengubah test code:
+ * - Hamcrest matchers dibungkus dan dicatat sebagai MATCH
+ * - Sisa waktu body()/path() (parse ulang response dan GPath evaluation) dicatat sebagai PARSE_GPATH
+ * Bandingkan dengan BodyAssertions (PARSE sekali, lalu GPATH per expression) untuk melihat efek shared tree
+ */
+public class ClientOverheadFilter implements Filter {
+
+    // Satu instance cukup karena statistik ada di ClientOverheadProfiler
+    public static final ClientOverheadFilter INSTANCE = new ClientOverheadFilter();
+
+    private ClientOverheadFilter() {
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        return new Instrumented(ctx.next(requestSpec, responseSpec)).response;
+    }
+
+    /**
+     * Proxies untuk satu response: Response, ValidatableResponse dari then(), dan ExtractableResponse dari extract()
+     */
+    private static final class Instrumented {
+        private final Response response;
+
+        private Instrumented(Response target) {
+            response = proxy(Response.class, target);
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> T proxy(Class<T> type, Object target) {
+            InvocationHandler handler = (self, method, args) -> invoke(self, target, method, args);
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, handler);
+        }
+
+        private Object invoke(Object self, Object target, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                return method.getName().equals("equals") ? self == args[0] : call(target, method, args);
+            }
+            switch (method.getName()) {
+                case "then":
+                    return proxy(ValidatableResponse.class, call(target, method, args));
+                case "extract":
+                    return proxy(ExtractableResponse.class, call(target, method, args));
+                case "response":
+                    return target instanceof ExtractableResponse ? response : call(target, method, args);
+                case "body":
+                    if (target instanceof ValidatableResponse) {
+                        timeMatchers(args);
+                        return fluent(self, target, measure(() -> call(target, method, args)));
+                    }
+                    break;
+                case "path":
+                    return measure(() -> call(target, method, args));
+                default:
+                    break;
+            }
+            return fluent(self, target, call(target, method, args));
+        }
+
+        /**
+         * Method fluent (contoh and(), assertThat(), statusCode()) mengembalikan proxy agar chain tetap terukur
+         */
+        private static Object fluent(Object self, Object target, Object result) {
+            return result == target ? self : result;
+        }
+
+        private static Object measure(ThrowingSupplier action) throws Throwable {
+            Throwable[] error = new Throwable[1];
+            Object result = ClientOverheadProfiler.measure(Stage.PARSE_GPATH, () -> {
+                try {
+                    return action.get();
+                } catch (Throwable e) {
+                    error[0] = e;
+                    return null;
+                }
+            });
+            if (error[0] != null) {
+                throw error[0];
+            }
+            return result;
+        }
+
+        private static Object call(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        /**
+         * Bungkus setiap Matcher argument, termasuk di varargs pasangan path dan matcher
+         */
+        private static void timeMatchers(Object[] args) {
+            for (int i = 0; args != null && i < args.length; i++) {
+                if (args[i] instanceof Matcher<?> matcher) {
+                    args[i] = new TimedMatcher<>(matcher);
+                } else if (args[i] instanceof Object[] varargs) {
+                    timeMatchers(varargs);
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThrowingSupplier {
+        Object get() throws Throwable;
+    }
+
+    /**
+     * Matcher yang mencatat matches() sebagai MATCH; description tetap dari matcher asli
+     */
+    private static final class TimedMatcher<T> extends BaseMatcher<T> {
+        private final Matcher<T> delegate;
+
+        private TimedMatcher(Matcher<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean matches(Object actual) {
+            Supplier<Boolean> match = () -> delegate.matches(actual);
+            return ClientOverheadProfiler.measure(Stage.MATCH, match);
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            delegate.describeTo(description);
+        }
+
+        @Override
+        public void describeMismatch(Object item, Description description) {
+            delegate.describeMismatch(item, description);
+        }
+    }
+}
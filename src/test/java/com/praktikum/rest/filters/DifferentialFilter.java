@@ -0,0 +1,145 @@
+package com.praktikum.rest.filters;
+
+import com.praktikum.rest.config.TestConfig;
+import com.praktikum.rest.differential.DifferentialReport;
+import com.praktikum.rest.differential.JsonDifference;
+import com.praktikum.rest.metrics.PhaseTimings;
+import io.restassured.RestAssured;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import io.restassured.specification.RequestSpecification;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * REST Assured filter untuk A/B differential run (-Dab.candidate=&lt;url&gt;)
+ * Setiap request ke TestConfig.BASE_URL (baseline) juga dikirim ke candidate dengan method, path, headers,
+ * dan body yang sama; urutan baseline/candidate diacak per request agar efek urutan (cache, connection reuse)
+ * saling meniadakan. Test tetap memakai response baseline, sedangkan equivalence dan pasangan latency
+ * dicatat ke DifferentialReport
+ * INSTANCE harus di-register sebelum filter yang mengukur request, sehingga candidate dikirim di luar
+ * window yang diukur MetricsFilter, PhaseTimingFilter, dan JfrFilter; BASELINE_TIMING di-register paling akhir
+ * dan mengukur latency baseline tepat di sekitar HTTP call, sama seperti candidate
+ */
+public class DifferentialFilter implements Filter {
+
+    // Satu instance cukup karena hasil disimpan di DifferentialReport
+    public static final DifferentialFilter INSTANCE = new DifferentialFilter();
+
+    // Innermost hook yang mencatat latency baseline untuk INSTANCE di thread yang sama
+    public static final Filter BASELINE_TIMING = new BaselineTimingFilter();
+
+    // Latency baseline terakhir dalam mikrodetik, -1 jika BASELINE_TIMING tidak berjalan
+    private static final ThreadLocal<long[]> BASELINE_MICROS = ThreadLocal.withInitial(() -> new long[] {-1L});
+
+    private DifferentialFilter() {
+    }
+
+    /**
+     * Response candidate atau error jika request gagal
+     */
+    private record Candidate(Response response, long latencyMicros, RuntimeException error) {
+    }
+
+    public static boolean isEnabled() {
+        return !TestConfig.AB_CANDIDATE_URL.isBlank();
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        String uri = requestSpec.getURI();
+        if (!isEnabled() || !uri.startsWith(TestConfig.BASE_URL)) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        String endpoint = EndpointNames.of(requestSpec);
+        String candidateUri = TestConfig.AB_CANDIDATE_URL + uri.substring(TestConfig.BASE_URL.length());
+        boolean candidateFirst = ThreadLocalRandom.current().nextBoolean();
+
+        // Candidate dan perbandingan response jatuh di assertion window call terakhir di thread ini,
+        // padahal bukan test code; durasinya dikeluarkan dari PhaseTimings
+        Candidate candidate = null;
+        if (candidateFirst) {
+            long candidateStart = System.nanoTime();
+            candidate = send(requestSpec, candidateUri);
+            PhaseTimings.excludeFromAssertion(System.nanoTime() - candidateStart);
+        }
+        long[] baseline = BASELINE_MICROS.get();
+        baseline[0] = -1L;
+        long start = System.nanoTime();
+        Response response = ctx.next(requestSpec, responseSpec);
+        long received = System.nanoTime();
+        long baselineMicros = baseline[0] >= 0 ? baseline[0] : (received - start) / 1_000L;
+        if (!candidateFirst) {
+            candidate = send(requestSpec, candidateUri);
+        }
+
+        DifferentialReport report = DifferentialReport.global();
+        if (candidate.error() != null) {
+            report.recordCandidateError(endpoint, candidate.error());
+        } else if (response.getStatusCode() != candidate.response().getStatusCode()) {
+            report.record(endpoint, baselineMicros, candidate.latencyMicros(),
+                    DifferentialReport.Outcome.STATUS_MISMATCH,
+                    response.getStatusCode() + " vs " + candidate.response().getStatusCode() + " for " + uri);
+        } else {
+            String difference = JsonDifference.of(response.asByteArray(), candidate.response().asByteArray(),
+                    TestConfig.AB_IGNORED_FIELDS);
+            report.record(endpoint, baselineMicros, candidate.latencyMicros(),
+                    difference == null ? DifferentialReport.Outcome.EQUIVALENT
+                            : DifferentialReport.Outcome.BODY_MISMATCH,
+                    difference == null ? null : difference + " for " + uri);
+        }
+        PhaseTimings.excludeFromAssertion(System.nanoTime() - received);
+        return response;
+    }
+
+    /**
+     * Kirim copy request ke candidate tanpa filters, agar metrics, capture, dan filter ini tidak ikut berjalan
+     * HTTP client default (tanpa PhaseTimingHttpClientFactory) agar connect/TLS candidate tidak masuk ke
+     * PhaseTimings call baseline
+     */
+    private static Candidate send(FilterableRequestSpecification requestSpec, String uri) {
+        RequestSpecification copy = RestAssured.given()
+                .config(RestAssured.config().httpClient(HttpClientConfig.httpClientConfig()))
+                .noFilters()
+                .urlEncodingEnabled(false)
+                .headers(requestSpec.getHeaders());
+        // REST Assured sudah serialize Map/POJO menjadi String di titik ini
+        Object body = requestSpec.getBody();
+        if (body instanceof byte[] bytes) {
+            copy.body(bytes);
+        } else if (body instanceof String text) {
+            copy.body(text);
+        }
+        long start = System.nanoTime();
+        try {
+            Response response = copy.request(requestSpec.getMethod(), uri);
+            return new Candidate(response, (System.nanoTime() - start) / 1_000L, null);
+        } catch (RuntimeException e) {
+            return new Candidate(null, 0L, e);
+        }
+    }
+
+    /**
+     * Catat durasi ctx.next untuk request baseline; tanpa filter lain di dalamnya, sama seperti candidate
+     */
+    private static final class BaselineTimingFilter implements Filter {
+        @Override
+        public Response filter(FilterableRequestSpecification requestSpec,
+                               FilterableResponseSpecification responseSpec,
+                               FilterContext ctx) {
+            if (!isEnabled() || !requestSpec.getURI().startsWith(TestConfig.BASE_URL)) {
+                return ctx.next(requestSpec, responseSpec);
+            }
+            long start = System.nanoTime();
+            Response response = ctx.next(requestSpec, responseSpec);
+            BASELINE_MICROS.get()[0] = (System.nanoTime() - start) / 1_000L;
+            return response;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.praktikum.rest.filters;
+
+import io.restassured.specification.FilterableRequestSpecification;
+
+/**
+ * Helper untuk menentukan nama endpoint dari sebuah request
+ * Menggunakan path template (contoh "/users/{id}") agar metrics tidak pecah per ID
+ */
+public final class EndpointNames {
+
+    private EndpointNames() {
+    }
+
+    /**
+     * @return Nama endpoint dalam format "METHOD /path", contoh "GET /users/{id}"
+     */
+    public static String of(FilterableRequestSpecification requestSpec) {
+        String path = requestSpec.getUserDefinedPath();
+        if (path == null || path.isEmpty()) {
+            path = "/";
+        }
+        // Query string tidak ikut menjadi bagian dari nama endpoint
+        int query = path.indexOf('?');
+        if (query >= 0) {
+            path = path.substring(0, query);
+        }
+        return requestSpec.getMethod() + " " + path;
+    }
+}
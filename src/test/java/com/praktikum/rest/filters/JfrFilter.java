@@ -0,0 +1,43 @@
+package com.praktikum.rest.filters;
+
+import com.praktikum.rest.metrics.TestContext;
+import com.praktikum.rest.profiling.HttpCallEvent;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * REST Assured filter yang meng-emit HttpCallEvent untuk setiap HTTP call
+ * Ketika tidak ada JFR recording yang aktif, overhead-nya hanya satu pengecekan isEnabled()
+ */
+public class JfrFilter implements Filter {
+
+    // Satu instance cukup karena filter ini stateless
+    public static final JfrFilter INSTANCE = new JfrFilter();
+
+    private JfrFilter() {
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        HttpCallEvent event = new HttpCallEvent();
+        if (!event.isEnabled()) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        event.begin();
+        Response response = ctx.next(requestSpec, responseSpec);
+        event.end();
+        event.endpoint = EndpointNames.of(requestSpec);
+        event.testClass = TestContext.testClass();
+        event.status = response.getStatusCode();
+        Object body = requestSpec.getBody();
+        event.requestBytes = body instanceof String text ? text.length() : 0L;
+        event.responseBytes = response.asByteArray().length;
+        event.commit();
+        return response;
+    }
+}
@@ -0,0 +1,72 @@
+package com.praktikum.rest.filters;
+
+import com.praktikum.rest.metrics.MetricsRegistry;
+import com.praktikum.rest.metrics.RequestMetrics;
+import com.praktikum.rest.metrics.TestContext;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * REST Assured filter yang mencatat requests, bytes in/out, errors per status,
+ * in-flight, dan latency ke MetricsRegistry per endpoint dan per test class
+ */
+public class MetricsFilter implements Filter {
+
+    // Satu instance cukup karena semua state ada di MetricsRegistry
+    public static final MetricsFilter INSTANCE = new MetricsFilter();
+
+    private MetricsFilter() {
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        RequestMetrics metrics = MetricsRegistry.global()
+                .requestMetrics(EndpointNames.of(requestSpec), TestContext.testClass());
+        metrics.onStart(requestBytes(requestSpec.getBody()));
+        long start = System.nanoTime();
+        Response response;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+        } catch (RuntimeException e) {
+            metrics.onComplete(RequestMetrics.IO_ERROR, 0L, (System.nanoTime() - start) / 1_000L);
+            throw e;
+        }
+        metrics.onComplete(response.getStatusCode(), responseBytes(response), (System.nanoTime() - start) / 1_000L);
+        return response;
+    }
+
+    /**
+     * Ukuran request body; REST Assured sudah serialize Map/POJO menjadi String di titik ini
+     */
+    private static long requestBytes(Object body) {
+        if (body instanceof byte[] bytes) {
+            return bytes.length;
+        }
+        if (body instanceof String text) {
+            // Jumlah karakter sebagai estimasi agar tidak perlu encode ulang ke bytes
+            return text.length();
+        }
+        return 0L;
+    }
+
+    /**
+     * Ukuran response body dari Content-Length, atau dari body yang sudah di-buffer
+     */
+    private static long responseBytes(Response response) {
+        String contentLength = response.getHeader("Content-Length");
+        if (contentLength != null) {
+            try {
+                return Long.parseLong(contentLength.trim());
+            } catch (NumberFormatException ignored) {
+                // Fallback ke ukuran body
+            }
+        }
+        byte[] body = response.asByteArray();
+        return body == null ? 0L : body.length;
+    }
+}
@@ -0,0 +1,33 @@
+package com.praktikum.rest.filters;
+
+import com.praktikum.rest.metrics.PhaseTimings;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * REST Assured filter yang menandai awal dan akhir setiap HTTP call
+ * Network phases dicatat oleh PhaseTimingHttpClientFactory, sedangkan
+ * assertion time dihitung dari response diterima sampai call berikutnya atau test selesai
+ */
+public class PhaseTimingFilter implements Filter {
+
+    // Satu instance cukup karena state disimpan per thread di PhaseTimings
+    public static final PhaseTimingFilter INSTANCE = new PhaseTimingFilter();
+
+    private PhaseTimingFilter() {
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        PhaseTimings.begin(EndpointNames.of(requestSpec));
+        Response response = ctx.next(requestSpec, responseSpec);
+        // Body sudah di-buffer oleh REST Assured ketika filter chain selesai
+        PhaseTimings.responseReceived();
+        return response;
+    }
+}
@@ -0,0 +1,139 @@
+package com.praktikum.rest.filters;
+
+import com.praktikum.rest.metrics.PhaseTimings;
+import com.praktikum.rest.metrics.PhaseTimings.Phase;
+import io.restassured.config.HttpClientConfig;
+import org.apache.http.client.HttpClient;
+import org.apache.http.conn.HttpInetSocketAddress;
+import org.apache.http.conn.scheme.PlainSocketFactory;
+import org.apache.http.conn.scheme.Scheme;
+import org.apache.http.conn.scheme.SchemeLayeredSocketFactory;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.conn.scheme.SchemeSocketFactory;
+import org.apache.http.conn.ssl.SSLSocketFactory;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SystemDefaultDnsResolver;
+import org.apache.http.params.HttpConnectionParams;
+import org.apache.http.params.HttpParams;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.UnknownHostException;
+
+/**
+ * HttpClientFactory untuk REST Assured yang meng-instrument DNS lookup,
+ * TCP connect, TLS handshake, dan arrival dari response headers
+ * Hasil timing dikirim ke PhaseTimings untuk call yang sedang berjalan di thread ini
+ */
+@SuppressWarnings("deprecation")
+public class PhaseTimingHttpClientFactory implements HttpClientConfig.HttpClientFactory {
+
+    @Override
+    public HttpClient createHttpClient() {
+        SchemeRegistry registry = new SchemeRegistry();
+        registry.register(new Scheme("http", 80, new PlainTimedSocketFactory()));
+        registry.register(new Scheme("https", 443, new TlsTimedSocketFactory(SSLSocketFactory.getSocketFactory())));
+
+        // DNS resolver yang mencatat durasi lookup
+        PoolingClientConnectionManager manager = new PoolingClientConnectionManager(registry, host -> {
+            long start = System.nanoTime();
+            try {
+                return SystemDefaultDnsResolver.INSTANCE.resolve(host);
+            } finally {
+                PhaseTimings.add(Phase.DNS, System.nanoTime() - start);
+            }
+        });
+
+        DefaultHttpClient client = new DefaultHttpClient(manager);
+        // Response interceptor dijalankan setelah headers diterima, sebelum body dibaca
+        client.addResponseInterceptor((response, context) -> PhaseTimings.headersReceived());
+        return client;
+    }
+
+    /**
+     * Connect socket TCP dan catat durasinya sebagai CONNECT
+     */
+    private static Socket connectTimed(Socket socket, InetSocketAddress remote, InetSocketAddress local,
+                                       HttpParams params) throws IOException {
+        if (local != null) {
+            socket.bind(local);
+        }
+        long start = System.nanoTime();
+        try {
+            socket.connect(remote, HttpConnectionParams.getConnectionTimeout(params));
+        } finally {
+            PhaseTimings.add(Phase.CONNECT, System.nanoTime() - start);
+        }
+        socket.setSoTimeout(HttpConnectionParams.getSoTimeout(params));
+        return socket;
+    }
+
+    /**
+     * Socket factory untuk http yang hanya mencatat TCP connect
+     */
+    private static class PlainTimedSocketFactory implements SchemeSocketFactory {
+        private final PlainSocketFactory delegate = PlainSocketFactory.getSocketFactory();
+
+        @Override
+        public Socket createSocket(HttpParams params) {
+            return delegate.createSocket(params);
+        }
+
+        @Override
+        public Socket connectSocket(Socket socket, InetSocketAddress remote, InetSocketAddress local,
+                                    HttpParams params) throws IOException {
+            return connectTimed(socket != null ? socket : createSocket(params), remote, local, params);
+        }
+
+        @Override
+        public boolean isSecure(Socket socket) {
+            return false;
+        }
+    }
+
+    /**
+     * Socket factory untuk https yang memisahkan TCP connect dari TLS handshake
+     * Socket plain di-connect dulu, lalu di-layer dengan TLS oleh SSLSocketFactory
+     */
+    private static class TlsTimedSocketFactory implements SchemeLayeredSocketFactory {
+        private final SSLSocketFactory delegate;
+
+        TlsTimedSocketFactory(SSLSocketFactory delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Socket createSocket(HttpParams params) {
+            return new Socket();
+        }
+
+        @Override
+        public Socket connectSocket(Socket socket, InetSocketAddress remote, InetSocketAddress local,
+                                    HttpParams params) throws IOException {
+            Socket plain = connectTimed(socket != null ? socket : createSocket(params), remote, local, params);
+            String host = remote instanceof HttpInetSocketAddress
+                    ? ((HttpInetSocketAddress) remote).getHttpHost().getHostName()
+                    : remote.getHostName();
+            long start = System.nanoTime();
+            try {
+                // createLayeredSocket menjalankan handshake dan hostname verification
+                return delegate.createLayeredSocket(plain, host, remote.getPort(), params);
+            } finally {
+                PhaseTimings.add(Phase.TLS, System.nanoTime() - start);
+            }
+        }
+
+        @Override
+        public Socket createLayeredSocket(Socket socket, String target, int port, HttpParams params)
+                throws IOException, UnknownHostException {
+            return delegate.createLayeredSocket(socket, target, port, params);
+        }
+
+        @Override
+        public boolean isSecure(Socket socket) {
+            return delegate.isSecure(socket);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.praktikum.rest.filters;
+
+import com.praktikum.rest.resilience.HostRateLimiter;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.net.URI;
+import java.util.Locale;
+
+/**
+ * REST Assured filter yang menunggu permit HostRateLimiter sebelum request dikirim
+ * dan meneruskan status serta rate-limit headers response ke bucket host
+ * Harus di-register sebelum MetricsFilter agar waktu menunggu tidak masuk ke latency request
+ */
+public class RateLimitFilter implements Filter {
+
+    // Satu instance cukup karena state disimpan per host di HostRateLimiter
+    public static final RateLimitFilter INSTANCE = new RateLimitFilter();
+
+    private RateLimitFilter() {
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        HostRateLimiter limiter = HostRateLimiter.global();
+        if (!limiter.isEnabled()) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        String host = host(requestSpec.getURI());
+        limiter.acquire(host);
+        Response response;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+        } catch (RuntimeException e) {
+            limiter.onError(host);
+            throw e;
+        }
+        limiter.onResponse(host, response.getStatusCode(), response::getHeader);
+        return response;
+    }
+
+    private static String host(String uri) {
+        String host = URI.create(uri).getHost();
+        return host == null ? "" : host.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,29 @@
+package com.praktikum.rest.filters;
+
+import com.praktikum.rest.impact.TestImpactRecorder;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * REST Assured filter yang mencatat endpoint yang di-hit oleh test yang sedang berjalan
+ * ke TestImpactRecorder untuk incremental test selection
+ */
+public class TestImpactFilter implements Filter {
+
+    // Satu instance cukup karena semua state ada di TestImpactRecorder
+    public static final TestImpactFilter INSTANCE = new TestImpactFilter();
+
+    private TestImpactFilter() {
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        TestImpactRecorder.recordEndpoint(EndpointNames.of(requestSpec));
+        return ctx.next(requestSpec, responseSpec);
+    }
+}
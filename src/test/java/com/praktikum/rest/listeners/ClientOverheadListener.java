@@ -0,0 +1,17 @@
+package com.praktikum.rest.listeners;
+
+import com.praktikum.rest.metrics.ClientOverheadProfiler;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+/**
+ * TestNG listener untuk mencetak client-side overhead report per test di akhir suite
+ * Attribution per test dilakukan lewat TestContext (lihat TestContextListener)
+ */
+public class ClientOverheadListener implements ISuiteListener {
+
+    @Override
+    public void onFinish(ISuite suite) {
+        System.out.println(ClientOverheadProfiler.report());
+    }
+}
@@ -0,0 +1,47 @@
+package com.praktikum.rest.listeners;
+
+import com.praktikum.rest.config.TestConfig;
+import com.praktikum.rest.schedule.DurationHistory;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestResult;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * TestNG listener yang mencatat durasi setiap test method dan menyimpannya ke
+ * DurationHistory ketika suite selesai, untuk dipakai LptScheduler di run berikutnya
+ * Invocation dari data provider dijumlahkan menjadi satu durasi per method
+ */
+public class DurationListener implements IInvokedMethodListener, ISuiteListener {
+
+    private final Map<String, LongAdder> durations = new ConcurrentHashMap<>();
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod()) {
+            String testName = testResult.getTestClass().getRealClass().getSimpleName()
+                    + "." + method.getTestMethod().getMethodName();
+            durations.computeIfAbsent(testName, key -> new LongAdder())
+                    .add(testResult.getEndMillis() - testResult.getStartMillis());
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        Map<String, Long> observed = new TreeMap<>();
+        durations.forEach((test, millis) -> observed.put(test, millis.sum()));
+        try {
+            DurationHistory.update(Path.of(TestConfig.DURATION_HISTORY_FILE), observed);
+        } catch (IOException e) {
+            System.err.println("Failed to write duration history: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.praktikum.rest.listeners;
+
+import com.praktikum.rest.config.TestConfig;
+import com.praktikum.rest.profiling.SuiteProfiler;
+import com.praktikum.rest.profiling.TestMethodEvent;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestResult;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+
+/**
+ * TestNG listener untuk JFR continuous profiling dari suite run
+ * Memulai recording di awal suite, meng-emit TestMethodEvent per test method,
+ * dan menulis summary hot methods dan allocation sites per test class di akhir suite
+ */
+public class JfrListener implements IInvokedMethodListener, ISuiteListener {
+
+    private final boolean enabled;
+    private final SuiteProfiler profiler = new SuiteProfiler(Path.of(TestConfig.JFR_FILE));
+    private final ThreadLocal<TestMethodEvent> currentEvent = new ThreadLocal<>();
+
+    /**
+     * Constructor untuk testng.xml, aktif jika -Djfr.enabled=true
+     */
+    public JfrListener() {
+        this(TestConfig.JFR_ENABLED);
+    }
+
+    /**
+     * @param enabled true untuk menjalankan JFR recording
+     */
+    public JfrListener(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void onStart(ISuite suite) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            profiler.start();
+        } catch (IOException | ParseException e) {
+            System.err.println("Failed to start JFR recording: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (enabled && method.isTestMethod()) {
+            TestMethodEvent event = new TestMethodEvent();
+            event.testClass = testResult.getTestClass().getRealClass().getSimpleName();
+            event.testMethod = method.getTestMethod().getMethodName();
+            event.begin();
+            currentEvent.set(event);
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        TestMethodEvent event = currentEvent.get();
+        if (event != null && method.isTestMethod()) {
+            event.end();
+            event.status = testResult.isSuccess() ? "PASS" : "FAIL";
+            event.commit();
+            currentEvent.remove();
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            System.out.println(profiler.stop());
+            System.out.println("JFR recording written to " + TestConfig.JFR_FILE);
+        } catch (IOException e) {
+            System.err.println("Failed to write JFR recording: " + e.getMessage());
+        }
+    }
+}
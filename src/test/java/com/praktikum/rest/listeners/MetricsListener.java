@@ -0,0 +1,50 @@
+package com.praktikum.rest.listeners;
+
+import com.praktikum.rest.config.TestConfig;
+import com.praktikum.rest.differential.DifferentialReport;
+import com.praktikum.rest.metrics.MetricsRegistry;
+import com.praktikum.rest.metrics.PrometheusFileExporter;
+import com.praktikum.rest.resilience.HostRateLimiter;
+import com.praktikum.rest.resilience.ResilientCall;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * TestNG listener yang menjalankan Prometheus file exporter selama suite berjalan
+ * dan menulis snapshot terakhir ketika suite selesai
+ */
+public class MetricsListener implements ISuiteListener {
+
+    private final PrometheusFileExporter exporter = new PrometheusFileExporter(
+            MetricsRegistry.global(), Path.of(TestConfig.METRICS_PROMETHEUS_FILE));
+
+    @Override
+    public void onStart(ISuite suite) {
+        exporter.start(TestConfig.METRICS_EXPORT_INTERVAL_SECONDS);
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        exporter.stop();
+        System.out.println("Metrics written to " + TestConfig.METRICS_PROMETHEUS_FILE);
+        if (!ResilientCall.global().isEmpty()) {
+            System.out.print(ResilientCall.global().summary());
+        }
+        if (!HostRateLimiter.global().isEmpty()) {
+            System.out.print(HostRateLimiter.global().summary());
+        }
+        DifferentialReport differential = DifferentialReport.global();
+        if (!differential.isEmpty()) {
+            System.out.print(differential.summary());
+            try {
+                differential.writeTo(Path.of(TestConfig.AB_REPORT_FILE));
+                System.out.println("A/B report written to " + TestConfig.AB_REPORT_FILE);
+            } catch (IOException e) {
+                System.err.println("Failed to write A/B report: " + e.getMessage());
+            }
+        }
+    }
+}
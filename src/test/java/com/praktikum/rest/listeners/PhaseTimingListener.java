@@ -0,0 +1,28 @@
+package com.praktikum.rest.listeners;
+
+import com.praktikum.rest.metrics.PhaseTimings;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestResult;
+
+/**
+ * TestNG listener untuk menutup assertion window setiap test method
+ * dan mencetak per-phase timing breakdown di akhir suite
+ */
+public class PhaseTimingListener implements IInvokedMethodListener, ISuiteListener {
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod()) {
+            // Sisa waktu setelah response terakhir adalah assertion time
+            PhaseTimings.endTest();
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        System.out.println(PhaseTimings.report());
+    }
+}
@@ -0,0 +1,37 @@
+package com.praktikum.rest.listeners;
+
+import com.praktikum.rest.config.TestConfig;
+import com.praktikum.rest.metrics.MetricsRegistry;
+import com.praktikum.rest.metrics.ProgressReporter;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * TestNG listener yang menjalankan ProgressReporter selama suite berjalan
+ * Hanya aktif jika -Dprogress.enabled=true
+ */
+public class ProgressListener implements ISuiteListener {
+
+    private final ProgressReporter reporter = new ProgressReporter(
+            MetricsRegistry.global(), Path.of(TestConfig.PROGRESS_FILE));
+
+    @Override
+    public void onStart(ISuite suite) {
+        if (!TestConfig.PROGRESS_ENABLED) {
+            return;
+        }
+        try {
+            reporter.start();
+        } catch (IOException e) {
+            System.err.println("Failed to start progress reporter: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        reporter.stop();
+    }
+}
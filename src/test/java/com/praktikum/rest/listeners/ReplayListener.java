@@ -0,0 +1,17 @@
+package com.praktikum.rest.listeners;
+
+import com.praktikum.rest.replay.TrafficReplay;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+/**
+ * TestNG listener yang menutup traffic recording (capture mode) atau
+ * menghentikan ReplayServer (replay mode) ketika suite selesai
+ */
+public class ReplayListener implements ISuiteListener {
+
+    @Override
+    public void onFinish(ISuite suite) {
+        TrafficReplay.stop();
+    }
+}
@@ -0,0 +1,226 @@
+package com.praktikum.rest.listeners;
+
+import com.praktikum.rest.config.TestConfig;
+import com.praktikum.rest.report.ResultStream;
+import com.praktikum.rest.report.TestOutcome;
+import org.testng.IExecutionListener;
+import org.testng.IResultMap;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Pengganti TestListenerAdapter untuk summary di runners
+ * TestListenerAdapter menyimpan setiap ITestResult (termasuk parameters dan throwable) sampai run selesai;
+ * listener ini mengubah setiap result menjadi TestOutcome, langsung menulisnya lewat ResultStream,
+ * dan hanya menyimpan counters plus failure sample
+ * TestNG sendiri juga menyimpan setiap ITestResult di result maps ITestContext, apa pun listener-nya.
+ * Setelah di-stream, parameters dan throwable result dilepas (listener lain tidak boleh membacanya);
+ * result yang pass dikeluarkan dari passed map di callback berikutnya, karena TestNG baru menambahkannya
+ * setelah listener selesai. Result failed dan skipped tetap di map karena TestNG memakainya untuk
+ * dependsOnMethods dan dependsOnGroups, jadi yang tersisa per failure hanya ITestResult tanpa parameters
+ * dan throwable (beberapa ratus bytes). Akibatnya summary bawaan TestNG ("Total tests run") tidak lagi
+ * menghitung test yang pass; runners memakai summary dari ResultStream
+ */
+public class StreamingResultListener implements ITestListener, IExecutionListener {
+
+    private final ResultStream stream;
+
+    // Result pass yang sudah di-stream dan menunggu dikeluarkan dari passed map ITestContext
+    private final Queue<ITestResult> streamed = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Output file sesuai TestConfig (-Dresults.jsonl, -Dresults.junit)
+     * @param suiteName Nama testsuite di JUnit XML
+     */
+    public StreamingResultListener(String suiteName) {
+        this(new ResultStream(path(TestConfig.RESULTS_JSONL_FILE, ""), path(TestConfig.RESULTS_JUNIT_FILE, ""),
+                suiteName, TestConfig.RESULTS_FAILURE_SAMPLE));
+    }
+
+    public StreamingResultListener(ResultStream stream) {
+        this.stream = stream;
+    }
+
+    /**
+     * Untuk worker di scheduled run: nama file diberi suffix "-shard-i" agar worker tidak saling menimpa
+     */
+    public static StreamingResultListener forShard(String suiteName, int shard) {
+        String suffix = "-shard-" + shard;
+        return new StreamingResultListener(new ResultStream(path(TestConfig.RESULTS_JSONL_FILE, suffix),
+                path(TestConfig.RESULTS_JUNIT_FILE, suffix), suiteName, TestConfig.RESULTS_FAILURE_SAMPLE));
+    }
+
+    /**
+     * Hanya counters dan failure sample, tanpa output file (contoh untuk iterasi soak run)
+     */
+    public static StreamingResultListener countingOnly(String suiteName) {
+        return new StreamingResultListener(new ResultStream(null, null, suiteName,
+                TestConfig.RESULTS_FAILURE_SAMPLE));
+    }
+
+    @Override
+    public void onExecutionStart() {
+        try {
+            stream.open();
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot open test result files", e);
+        }
+    }
+
+    @Override
+    public void onExecutionFinish() {
+        try {
+            stream.close();
+        } catch (IOException e) {
+            System.err.println("Failed to write test results: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void onTestStart(ITestResult result) {
+        evictStreamed(null);
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        record(result, TestOutcome.Status.PASSED);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        record(result, TestOutcome.Status.FAILED);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        record(result, TestOutcome.Status.SKIPPED);
+    }
+
+    /**
+     * Failure yang masih di dalam successPercentage dihitung pass, sama seperti TestNG
+     */
+    @Override
+    public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
+        record(result, TestOutcome.Status.PASSED);
+    }
+
+    /**
+     * Semua result dari context ini sudah ada di result maps, jadi sisa antriannya bisa dikeluarkan
+     */
+    @Override
+    public void onFinish(ITestContext context) {
+        evictStreamed(context);
+    }
+
+    public ResultStream results() {
+        return stream;
+    }
+
+    /**
+     * Stream result, lalu lepas referensi yang tidak dibutuhkan TestNG lagi
+     */
+    private void record(ITestResult result, TestOutcome.Status status) {
+        stream.record(outcome(result, status));
+        result.setParameters(new Object[0]);
+        result.setThrowable(null);
+        if (status == TestOutcome.Status.PASSED) {
+            streamed.add(result);
+        }
+    }
+
+    /**
+     * Keluarkan result yang sudah di-stream dari passed map; result yang belum ditambahkan TestNG
+     * (test paralel yang baru saja selesai) dikembalikan ke antrian untuk callback berikutnya
+     * @param finished Context yang semua result-nya pasti sudah ditambahkan (tidak dikembalikan ke antrian),
+     *                 atau null
+     */
+    private void evictStreamed(ITestContext finished) {
+        for (int pending = streamed.size(); pending > 0; pending--) {
+            ITestResult result = streamed.poll();
+            if (result == null) {
+                return;
+            }
+            IResultMap passed = passedMap(result);
+            if (passed.getAllResults().contains(result)) {
+                passed.removeResult(result);
+            } else if (result.getTestContext() != finished) {
+                streamed.add(result);
+            }
+        }
+    }
+
+    private static IResultMap passedMap(ITestResult result) {
+        ITestContext context = result.getTestContext();
+        return result.getStatus() == ITestResult.SUCCESS_PERCENTAGE_FAILURE
+                ? context.getFailedButWithinSuccessPercentageTests()
+                : context.getPassedTests();
+    }
+
+    private static TestOutcome outcome(ITestResult result, TestOutcome.Status status) {
+        Throwable error = status == TestOutcome.Status.FAILED ? result.getThrowable() : null;
+        return new TestOutcome(result.getTestClass().getRealClass().getName(),
+                result.getMethod().getMethodName(),
+                parameters(result.getParameters()),
+                status,
+                result.getStartMillis(),
+                result.getEndMillis() - result.getStartMillis(),
+                error == null ? null : error.getClass().getName(),
+                error == null ? null : error.getMessage(),
+                error == null ? null : stackTrace(error));
+    }
+
+    /**
+     * @return Parameters DataProvider dipisah koma, dipotong ke RESULTS_MAX_PARAMETERS_LENGTH
+     */
+    static String parameters(Object[] parameters) {
+        if (parameters == null || parameters.length == 0) {
+            return "";
+        }
+        int limit = TestConfig.RESULTS_MAX_PARAMETERS_LENGTH;
+        StringBuilder out = new StringBuilder();
+        for (int i = 0; i < parameters.length && out.length() <= limit; i++) {
+            out.append(i == 0 ? "" : ", ").append(parameters[i]);
+        }
+        return out.length() <= limit ? out.toString() : out.substring(0, limit) + "...";
+    }
+
+    /**
+     * @return Stack trace dengan maksimal RESULTS_MAX_STACK_FRAMES frames per cause
+     */
+    static String stackTrace(Throwable error) {
+        StringBuilder out = new StringBuilder();
+        int depth = 0;
+        // Batas depth juga melindungi dari cause chain yang melingkar
+        for (Throwable current = error; current != null && depth++ < 10; current = current.getCause()) {
+            out.append(current == error ? "" : "Caused by: ").append(current).append('\n');
+            StackTraceElement[] frames = current.getStackTrace();
+            int shown = Math.min(frames.length, TestConfig.RESULTS_MAX_STACK_FRAMES);
+            for (int i = 0; i < shown; i++) {
+                out.append("\tat ").append(frames[i]).append('\n');
+            }
+            if (frames.length > shown) {
+                out.append("\t... ").append(frames.length - shown).append(" more\n");
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * @param suffix Disisipkan sebelum extension, contoh "results.jsonl" -> "results-shard-0.jsonl"
+     * @return null jika file kosong (output dinonaktifkan)
+     */
+    private static Path path(String file, String suffix) {
+        if (file == null || file.isBlank()) {
+            return null;
+        }
+        int dot = file.lastIndexOf('.');
+        return Path.of(dot > file.lastIndexOf('/') ? file.substring(0, dot) + suffix + file.substring(dot)
+                : file + suffix);
+    }
+}
@@ -0,0 +1,28 @@
+package com.praktikum.rest.listeners;
+
+import com.praktikum.rest.metrics.TestContext;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+
+/**
+ * TestNG listener yang mengisi TestContext dengan test class dan method yang sedang berjalan
+ * Dipakai oleh metrics dan profiler untuk attribute data per test
+ */
+public class TestContextListener implements IInvokedMethodListener {
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod()) {
+            TestContext.start(testResult.getTestClass().getRealClass().getSimpleName(),
+                    method.getTestMethod().getMethodName());
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod()) {
+            TestContext.end();
+        }
+    }
+}
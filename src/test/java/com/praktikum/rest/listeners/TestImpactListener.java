@@ -0,0 +1,41 @@
+package com.praktikum.rest.listeners;
+
+import com.praktikum.rest.config.TestConfig;
+import com.praktikum.rest.impact.TestImpactRecorder;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestResult;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * TestNG listener yang mendaftarkan setiap test method ke TestImpactRecorder
+ * dan menggabungkan hasilnya ke test impact file ketika suite selesai
+ */
+public class TestImpactListener implements IInvokedMethodListener, ISuiteListener {
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod()) {
+            // Format sama dengan TestContext.testName()
+            TestImpactRecorder.testStarted(testResult.getTestClass().getRealClass().getSimpleName()
+                    + "." + method.getTestMethod().getMethodName());
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (!TestImpactRecorder.isEnabled()) {
+            return;
+        }
+        try {
+            TestImpactRecorder.write(Path.of(TestConfig.IMPACT_FILE));
+            System.out.println("Test impact map written to " + TestConfig.IMPACT_FILE);
+        } catch (IOException e) {
+            System.err.println("Failed to write test impact map: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.praktikum.rest.replay;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.praktikum.rest.config.TestConfig;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Local HTTP server yang men-serve recorded traffic dari TrafficFile
+ * Path request berisi host upstream, contoh "/jsonplaceholder.typicode.com/users/1",
+ * sehingga satu server bisa menggantikan JSONPlaceholder dan ReqRes sekaligus
+ * Matching: exact (method, URL, request body), lalu fallback ke recording lain dengan
+ * method dan URL yang sama. Untuk fallback dengan JSON body, field yang dulu di-echo
+ * oleh upstream diganti dengan nilai dari request saat ini (contoh data dari Faker)
+ * Latency recorded dikalikan latencyScale sebelum response dikirim
+ */
+public class ReplayServer implements AutoCloseable {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final TrafficFile.Reader recording;
+    private final double latencyScale;
+    private final HttpServer server;
+    private final Map<String, AtomicInteger> sequences = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param recording Recording yang akan di-serve
+     * @param latencyScale 1.0 = recorded latency, 0 = tanpa delay
+     * @param port Port lokal, 0 untuk port acak
+     */
+    public ReplayServer(TrafficFile.Reader recording, double latencyScale, int port) throws IOException {
+        this.recording = recording;
+        this.latencyScale = latencyScale;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.server.createContext("/", this::handle);
+        // Virtual threads agar sleep untuk latency tidak memblokir request lain
+        this.server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    public ReplayServer start() {
+        server.start();
+        return this;
+    }
+
+    /**
+     * @return Base URL server, contoh "http://127.0.0.1:43125"
+     */
+    public String baseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    /**
+     * @return URL pengganti untuk upstream, contoh "https://reqres.in/api" -> "http://127.0.0.1:43125/reqres.in/api"
+     */
+    public String rewrite(String upstream) {
+        return baseUrl() + "/" + TrafficFile.target(URI.create(upstream));
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        byte[] requestBody;
+        try (InputStream in = exchange.getRequestBody()) {
+            requestBody = in.readAllBytes();
+        }
+        String method = exchange.getRequestMethod();
+        // "/host/path?query" -> "METHOD host/path?query"
+        URI uri = exchange.getRequestURI();
+        String key = method + " " + uri.getRawPath().substring(1)
+                + (uri.getRawQuery() == null ? "" : "?" + uri.getRawQuery());
+
+        TrafficFile.Exchange recorded = recording.exact(key, TrafficFile.hash(requestBody));
+        byte[] responseBody = null;
+        if (recorded != null) {
+            responseBody = recorded.responseBody();
+        } else {
+            int sequence = sequences.computeIfAbsent(key, k -> new AtomicInteger()).getAndIncrement();
+            recorded = recording.any(key, sequence);
+            if (recorded != null) {
+                responseBody = echo(recorded, requestBody);
+            }
+        }
+
+        if (recorded == null) {
+            misses.increment();
+            byte[] body = ("{\"error\":\"no recording for " + key.replace("\"", "'") + "\"}")
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.getResponseHeaders().set("X-Replay-Miss", "true");
+            send(exchange, 404, body);
+            return;
+        }
+        hits.increment();
+        sleep(recorded.latencyMicros());
+        recorded.headers().forEach((name, value) -> exchange.getResponseHeaders().set(name, value));
+        send(exchange, recorded.status(), responseBody);
+    }
+
+    /**
+     * Ganti field yang dulu di-echo upstream dengan nilai dari request saat ini
+     * Field echo: ada di recorded request dan bernilai sama di recorded response
+     */
+    static byte[] echo(TrafficFile.Exchange recorded, byte[] requestBody) {
+        if (requestBody.length == 0 || recorded.requestBody().length == 0) {
+            return recorded.responseBody();
+        }
+        try {
+            JsonNode recordedRequest = MAPPER.readTree(recorded.requestBody());
+            JsonNode recordedResponse = MAPPER.readTree(recorded.responseBody());
+            JsonNode currentRequest = MAPPER.readTree(requestBody);
+            if (!(recordedRequest instanceof ObjectNode oldRequest)
+                    || !(recordedResponse instanceof ObjectNode response)
+                    || !(currentRequest instanceof ObjectNode newRequest)) {
+                return recorded.responseBody();
+            }
+            ObjectNode merged = response.deepCopy();
+            for (Iterator<String> names = oldRequest.fieldNames(); names.hasNext(); ) {
+                String name = names.next();
+                if (oldRequest.get(name).equals(response.get(name)) && !newRequest.has(name)) {
+                    merged.remove(name);
+                }
+            }
+            newRequest.fields().forEachRemaining(field -> {
+                String name = field.getKey();
+                boolean echoed = !oldRequest.has(name) || oldRequest.get(name).equals(response.get(name));
+                if (echoed) {
+                    merged.set(name, field.getValue());
+                }
+            });
+            return MAPPER.writeValueAsBytes(merged);
+        } catch (IOException e) {
+            // Bukan JSON, serve apa adanya
+            return recorded.responseBody();
+        }
+    }
+
+    private void sleep(long latencyMicros) {
+        long delayMicros = (long) (latencyMicros * latencyScale);
+        if (delayMicros <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(delayMicros / 1_000L, (int) (delayMicros % 1_000L) * 1_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        // 204 dan 304 tidak boleh punya body
+        boolean noBody = status == 204 || status == 304 || body.length == 0;
+        exchange.sendResponseHeaders(status, noBody ? -1 : body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            if (!noBody) {
+                out.write(body);
+            }
+        }
+    }
+
+    /**
+     * Jalankan replay server standalone
+     * @param args [recording file] [port] [latency scale]
+     */
+    public static void main(String[] args) throws IOException {
+        Path file = Path.of(args.length > 0 ? args[0] : TestConfig.REPLAY_FILE);
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : 8089;
+        double scale = args.length > 2 ? Double.parseDouble(args[2]) : TestConfig.REPLAY_LATENCY_SCALE;
+        TrafficFile.Reader reader = new TrafficFile.Reader(file);
+        ReplayServer server = new ReplayServer(reader, scale, port).start();
+        System.out.println("Replaying " + reader.keys() + " request keys from " + file + " at " + server.baseUrl()
+                + " (latency x" + scale + ")");
+    }
+}
@@ -0,0 +1,90 @@
+package com.praktikum.rest.replay;
+
+import com.praktikum.rest.config.TestConfig;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+
+/**
+ * Facade untuk record-and-replay mode berdasarkan TestConfig.REPLAY_MODE
+ * - "capture": setiap exchange ditulis ke TestConfig.REPLAY_FILE oleh CaptureFilter
+ * - "replay": base URI upstream diarahkan ke local ReplayServer
+ * - "off": tidak ada perubahan perilaku
+ */
+public final class TrafficReplay {
+
+    private static TrafficFile.Writer writer;
+    private static ReplayServer server;
+
+    private TrafficReplay() {
+    }
+
+    public static boolean isCapture() {
+        return TestConfig.REPLAY_MODE.equals("capture");
+    }
+
+    public static boolean isReplay() {
+        return TestConfig.REPLAY_MODE.equals("replay");
+    }
+
+    /**
+     * @param upstream Base URL asli, contoh TestConfig.BASE_URL
+     * @return URL ReplayServer untuk upstream tersebut di replay mode, selain itu upstream apa adanya
+     */
+    public static String baseUri(String upstream) {
+        return isReplay() ? server().rewrite(upstream) : upstream;
+    }
+
+    /**
+     * Tulis satu exchange ke recording file (capture mode)
+     */
+    public static void record(TrafficFile.Exchange exchange) {
+        try {
+            writer().append(exchange);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to record " + exchange.key(), e);
+        }
+    }
+
+    /**
+     * Tutup recording file atau hentikan ReplayServer, dipanggil ketika suite selesai
+     */
+    public static synchronized void stop() {
+        if (writer != null) {
+            try {
+                writer.close();
+                System.out.println("Recorded " + writer.size() + " exchanges to " + TestConfig.REPLAY_FILE);
+            } catch (IOException e) {
+                System.err.println("Failed to close traffic recording: " + e.getMessage());
+            }
+            writer = null;
+        }
+        if (server != null) {
+            System.out.println("Replay server: " + server.hits() + " hits, " + server.misses() + " misses");
+            server.close();
+            server = null;
+        }
+    }
+
+    private static synchronized TrafficFile.Writer writer() throws IOException {
+        if (writer == null) {
+            writer = new TrafficFile.Writer(Path.of(TestConfig.REPLAY_FILE), TestConfig.REPLAY_MAX_PER_KEY);
+        }
+        return writer;
+    }
+
+    private static synchronized ReplayServer server() {
+        if (server == null) {
+            try {
+                TrafficFile.Reader reader = new TrafficFile.Reader(Path.of(TestConfig.REPLAY_FILE));
+                server = new ReplayServer(reader, TestConfig.REPLAY_LATENCY_SCALE, 0).start();
+                System.out.println("Replaying " + reader.keys() + " request keys from " + TestConfig.REPLAY_FILE
+                        + " at " + server.baseUrl() + " (latency x" + TestConfig.REPLAY_LATENCY_SCALE + ")");
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot start replay from " + TestConfig.REPLAY_FILE, e);
+            }
+        }
+        return server;
+    }
+}
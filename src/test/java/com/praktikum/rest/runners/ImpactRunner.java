@@ -0,0 +1,117 @@
+package com.praktikum.rest.runners;
+
+import com.praktikum.rest.config.TestConfig;
+import com.praktikum.rest.impact.GitDiff;
+import com.praktikum.rest.impact.TestImpactRecorder;
+import com.praktikum.rest.impact.TestImpactSelector;
+import com.praktikum.rest.listeners.StreamingResultListener;
+import com.praktikum.rest.listeners.TestContextListener;
+import com.praktikum.rest.listeners.TestImpactListener;
+import org.testng.TestNG;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlInclude;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Incremental test run: hanya menjalankan test yang terdampak oleh git diff terhadap base ref
+ * Test impact map berasal dari run sebelumnya (TestImpactFilter dan TestImpactListener)
+ * dan diperbarui lagi oleh run ini
+ */
+public class ImpactRunner {
+
+    // Package test classes, agar impact map cukup menyimpan simple name
+    private static final String TESTS_PACKAGE = "com.praktikum.rest.tests.";
+
+    /**
+     * @param args [base ref], default "HEAD" (hanya perubahan working tree)
+     */
+    public static void main(String[] args) throws Exception {
+        // Harus sebelum akses pertama ke TestConfig; run ini memperbarui impact map untuk test yang dijalankan
+        if (System.getProperty("impact.record") == null) {
+            System.setProperty("impact.record", "true");
+        }
+        String baseRef = args.length > 0 ? args[0] : "HEAD";
+        Path repository = Path.of("").toAbsolutePath();
+        Map<String, Set<String>> impact = TestImpactRecorder.read(Path.of(TestConfig.IMPACT_FILE));
+        TestImpactSelector.Selection selection = new TestImpactSelector(repository, impact)
+                .select(GitDiff.against(repository, baseRef));
+
+        System.out.println("=== TEST IMPACT SELECTION (base " + baseRef + ") ===");
+        selection.reasons().forEach(reason -> System.out.println("  " + reason));
+        if (selection.isEmpty()) {
+            System.out.println("No affected tests, nothing to run");
+            return;
+        }
+
+        XmlSuite suite = new XmlSuite();
+        suite.setName("Impacted API Tests");
+        XmlTest test = new XmlTest(suite);
+        test.setName(selection.runAll() ? "All tests" : "Impacted tests");
+        test.setXmlClasses(xmlClasses(selection));
+        System.out.println(selection.runAll()
+                ? "Running full suite"
+                : "Running classes " + selection.classes() + " and tests " + selection.tests());
+
+        TestNG testng = new TestNG();
+        testng.setXmlSuites(List.of(suite));
+        // Tanpa default reporters agar memory tetap bounded, output dari StreamingResultListener
+        testng.setUseDefaultListeners(false);
+        // Summary bawaan TestNG tidak menghitung test pass yang sudah dilepas StreamingResultListener
+        testng.setVerbose(0);
+        StreamingResultListener results = new StreamingResultListener(suite.getName());
+        testng.addListener(results);
+        testng.addListener(new TestContextListener());
+        testng.addListener(new TestImpactListener());
+        testng.run();
+        System.out.print(results.results().summary());
+        System.exit(testng.hasFailure() ? 1 : 0);
+    }
+
+    /**
+     * Class yang dipilih seluruhnya tanpa include, class lain hanya dengan method yang dipilih
+     */
+    private static List<XmlClass> xmlClasses(TestImpactSelector.Selection selection) {
+        Map<String, List<XmlInclude>> includes = new LinkedHashMap<>();
+        if (selection.runAll()) {
+            TestRunner.ALL_CLASSES.forEach(testClass -> includes.put(testClass.getSimpleName(), new ArrayList<>()));
+        }
+        selection.classes().forEach(testClass -> includes.putIfAbsent(testClass, new ArrayList<>()));
+        for (String testName : selection.tests()) {
+            int dot = testName.lastIndexOf('.');
+            String testClass = testName.substring(0, dot);
+            List<XmlInclude> methods = includes.computeIfAbsent(testClass, key -> new ArrayList<>());
+            // Class yang sudah dipilih seluruhnya tidak perlu include per method
+            if (!selection.runAll() && !selection.classes().contains(testClass)) {
+                methods.add(new XmlInclude(testName.substring(dot + 1)));
+            }
+        }
+        List<XmlClass> classes = new ArrayList<>();
+        includes.forEach((testClass, methods) -> {
+            if (!exists(TESTS_PACKAGE + testClass)) {
+                // Class sudah dihapus di diff ini
+                return;
+            }
+            XmlClass xmlClass = new XmlClass(TESTS_PACKAGE + testClass);
+            xmlClass.setIncludedMethods(methods);
+            classes.add(xmlClass);
+        });
+        return classes;
+    }
+
+    private static boolean exists(String className) {
+        try {
+            Class.forName(className, false, ImpactRunner.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.praktikum.rest.runners;
+
+import com.praktikum.rest.config.TestConfig;
+import com.praktikum.rest.listeners.DurationListener;
+import com.praktikum.rest.listeners.StreamingResultListener;
+import com.praktikum.rest.listeners.TestContextListener;
+import com.praktikum.rest.schedule.DurationHistory;
+import com.praktikum.rest.schedule.LptScheduler;
+import org.testng.TestNG;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlInclude;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Scheduled run yang membagi test methods ke beberapa worker dengan LptScheduler
+ * berdasarkan durasi historis, sehingga class yang lama (contoh FakerDataTests)
+ * tidak menjadi straggler di akhir run
+ * Setiap worker adalah child JVM sendiri karena tests mengubah global RestAssured state
+ * (baseURI, requestSpecification) yang tidak aman dipakai bersama antar thread
+ * Di CI dengan beberapa machine, jalankan langsung "--shard i/n" di setiap machine
+ */
+public class ScheduledRunner {
+
+    private static final String TESTS_PACKAGE = "com.praktikum.rest.tests.";
+
+    /**
+     * @param args "[workers]" untuk menjalankan semua worker sebagai child JVM,
+     *             atau "--shard i/n" untuk menjalankan satu bin di JVM ini
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length > 1 && args[0].equals("--shard")) {
+            String[] shard = args[1].split("/");
+            System.exit(runShard(Integer.parseInt(shard[0]), Integer.parseInt(shard[1])) ? 0 : 1);
+        }
+        int workers = args.length > 0 ? Integer.parseInt(args[0]) : TestConfig.SCHEDULE_WORKERS;
+        System.exit(runWorkers(workers) ? 0 : 1);
+    }
+
+    /**
+     * Hitung plan dari durasi historis; deterministic sehingga sama di setiap shard
+     */
+    static LptScheduler.Plan plan(int workers) throws IOException {
+        return LptScheduler.plan(allTests(), DurationHistory.read(Path.of(TestConfig.DURATION_HISTORY_FILE)), workers);
+    }
+
+    /**
+     * Semua enabled @Test methods dalam format "Class.method"
+     */
+    static List<String> allTests() {
+        TreeSet<String> tests = new TreeSet<>();
+        for (Class<?> testClass : TestRunner.ALL_CLASSES) {
+            for (Method method : testClass.getMethods()) {
+                Test test = method.getAnnotation(Test.class);
+                if (test != null && test.enabled()) {
+                    tests.add(testClass.getSimpleName() + "." + method.getName());
+                }
+            }
+        }
+        return new ArrayList<>(tests);
+    }
+
+    /**
+     * Jalankan setiap bin di child JVM secara paralel dan tunggu semuanya selesai
+     */
+    private static boolean runWorkers(int workers) throws Exception {
+        LptScheduler.Plan plan = plan(workers);
+        System.out.print(plan);
+        List<Process> processes = new ArrayList<>();
+        List<Thread> pumps = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int shard = 0; shard < workers; shard++) {
+            if (plan.bins().get(shard).tests().isEmpty()) {
+                continue;
+            }
+            Process process = new ProcessBuilder(
+                    Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                    "-cp", System.getProperty("java.class.path"),
+                    ScheduledRunner.class.getName(), "--shard", shard + "/" + workers)
+                    .redirectErrorStream(true)
+                    .start();
+            processes.add(process);
+            pumps.add(Thread.ofVirtual().start(prefixOutput(process, "[worker " + shard + "] ")));
+        }
+        boolean success = true;
+        for (Process process : processes) {
+            success &= process.waitFor() == 0;
+        }
+        for (Thread pump : pumps) {
+            pump.join();
+        }
+        System.out.printf("=== SCHEDULED RUN === wall %.1fs (estimated makespan %.1fs), %s%n",
+                (System.nanoTime() - start) / 1e9, plan.makespanMillis() / 1000.0, success ? "PASSED" : "FAILED");
+        return success;
+    }
+
+    private static Runnable prefixOutput(Process process, String prefix) {
+        return () -> {
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    System.out.println(prefix + line);
+                }
+            } catch (IOException e) {
+                System.err.println(prefix + "output lost: " + e.getMessage());
+            }
+        };
+    }
+
+    /**
+     * Jalankan satu bin dari plan di JVM ini
+     */
+    private static boolean runShard(int shard, int workers) throws Exception {
+        LptScheduler.Bin bin = plan(workers).bins().get(shard);
+        Map<String, List<XmlInclude>> includes = new LinkedHashMap<>();
+        for (String testName : bin.tests()) {
+            int dot = testName.lastIndexOf('.');
+            includes.computeIfAbsent(testName.substring(0, dot), key -> new ArrayList<>())
+                    .add(new XmlInclude(testName.substring(dot + 1)));
+        }
+        XmlSuite suite = new XmlSuite();
+        suite.setName("Scheduled API Tests - shard " + shard + "/" + workers);
+        XmlTest test = new XmlTest(suite);
+        test.setName("Shard " + shard);
+        List<XmlClass> classes = new ArrayList<>();
+        includes.forEach((testClass, methods) -> {
+            XmlClass xmlClass = new XmlClass(TESTS_PACKAGE + testClass);
+            xmlClass.setIncludedMethods(methods);
+            classes.add(xmlClass);
+        });
+        test.setXmlClasses(classes);
+
+        TestNG testng = new TestNG();
+        testng.setXmlSuites(List.of(suite));
+        // Tanpa default reporters agar memory tetap bounded, output dari StreamingResultListener per shard
+        testng.setUseDefaultListeners(false);
+        // Summary bawaan TestNG tidak menghitung test pass yang sudah dilepas StreamingResultListener
+        testng.setVerbose(0);
+        StreamingResultListener results = StreamingResultListener.forShard(suite.getName(), shard);
+        testng.addListener(results);
+        testng.addListener(new TestContextListener());
+        testng.addListener(new DurationListener());
+        testng.run();
+        System.out.printf("Shard %d/%d: %d tests, estimated %.1fs, passed %d, failed %d, skipped %d%n",
+                shard, workers, bin.tests().size(), bin.estimatedMillis() / 1000.0,
+                results.results().passed(), results.results().failed(), results.results().skipped());
+        return !testng.hasFailure();
+    }
+}
@@ -0,0 +1,87 @@
+package com.praktikum.rest.runners;
+
+import com.praktikum.rest.config.TestConfig;
+import com.praktikum.rest.listeners.StreamingResultListener;
+import com.praktikum.rest.listeners.TestContextListener;
+import com.praktikum.rest.soak.LeakDetector;
+import com.praktikum.rest.soak.ResourceSampler;
+import io.restassured.RestAssured;
+import org.testng.TestNG;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Soak mode untuk menjalankan test classes berulang-ulang selama durasi tertentu
+ * Selama run, resource JVM test runner sendiri di-sample (heap-after-GC, GC pause,
+ * thread count, open file descriptors, jumlah global REST Assured filters)
+ * Run dianggap gagal jika salah satu trend tumbuh melewati batas di TestConfig
+ */
+public class SoakRunner {
+
+    // Package test classes, agar argument cukup berupa simple name
+    private static final String TESTS_PACKAGE = "com.praktikum.rest.tests.";
+
+    /**
+     * Main method untuk soak run
+     * @param args [durasi menit] [test class simple names...], default AdvancedAPITests dan FakerDataTests
+     */
+    public static void main(String[] args) throws ClassNotFoundException {
+        long minutes = args.length > 0 ? Long.parseLong(args[0]) : TestConfig.SOAK_DURATION_MINUTES;
+        List<String> names = args.length > 1
+                ? List.of(args).subList(1, args.length)
+                : List.of("AdvancedAPITests", "FakerDataTests");
+        List<Class<?>> classes = new ArrayList<>();
+        for (String name : names) {
+            classes.add(Class.forName(name.contains(".") ? name : TESTS_PACKAGE + name));
+        }
+
+        ResourceSampler sampler = new ResourceSampler();
+        // Global filters yang terus bertambah adalah leak klasik di BaseTest.setup()
+        sampler.gauge("restassured.filters", () -> RestAssured.filters().size());
+        sampler.start(TestConfig.SOAK_SAMPLE_INTERVAL_SECONDS);
+
+        long deadline = System.nanoTime() + minutes * 60_000_000_000L;
+        int iterations = 0;
+        // Satu listener untuk semua iterasi: hanya counters, tidak ada result yang tertahan antar iterasi
+        StreamingResultListener results = StreamingResultListener.countingOnly("Soak");
+        while (System.nanoTime() < deadline) {
+            TestNG testng = new TestNG();
+            testng.setTestClasses(classes.toArray(new Class[0]));
+            testng.setUseDefaultListeners(false);
+            testng.setVerbose(0);
+            testng.addListener(results);
+            testng.addListener(new TestContextListener());
+            testng.run();
+            iterations++;
+        }
+        sampler.stop();
+        long failedTests = results.results().failed();
+
+        Map<String, Double> limits = new LinkedHashMap<>();
+        limits.put(ResourceSampler.HEAP_AFTER_GC, TestConfig.SOAK_MAX_HEAP_GROWTH_PER_HOUR);
+        limits.put(ResourceSampler.GC_PAUSE, TestConfig.SOAK_MAX_GC_PAUSE_GROWTH_PER_HOUR);
+        limits.put(ResourceSampler.THREADS, TestConfig.SOAK_MAX_THREAD_GROWTH_PER_HOUR);
+        limits.put(ResourceSampler.OPEN_FDS, TestConfig.SOAK_MAX_FD_GROWTH_PER_HOUR);
+        // Jumlah global filters tidak boleh bertambah sama sekali
+        limits.put("restassured.filters", 0.0);
+        List<LeakDetector.Violation> violations = LeakDetector.detect(sampler.samples(), limits);
+
+        List<ResourceSampler.Sample> samples = sampler.samples();
+        System.out.println("=== SOAK SUMMARY ===");
+        System.out.println("Duration: " + minutes + " minutes, iterations: " + iterations
+                + ", failed tests: " + failedTests + ", samples: " + samples.size());
+        if (!samples.isEmpty()) {
+            System.out.println("First sample: " + samples.get(0).values());
+            System.out.println("Last sample: " + samples.get(samples.size() - 1).values());
+        }
+        if (violations.isEmpty()) {
+            System.out.println("No resource growth beyond thresholds");
+        } else {
+            violations.forEach(violation -> System.out.println("LEAK SUSPECTED: " + violation));
+        }
+        System.exit(violations.isEmpty() && failedTests == 0 ? 0 : 1);
+    }
+}
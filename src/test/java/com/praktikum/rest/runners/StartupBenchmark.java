@@ -0,0 +1,126 @@
+package com.praktikum.rest.runners;
+
+import com.praktikum.rest.config.TestConfig;
+import com.praktikum.rest.utils.TestDataGenerator;
+import io.restassured.RestAssured;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Benchmark time-to-first-request untuk JVM test runner, dengan dan tanpa AppCDS archive
+ * Mode "probe" menjalankan pekerjaan startup yang sama seperti worker: load TestNG,
+ * REST Assured, Groovy, Jackson, opsional Faker, lalu kirim satu request
+ * Mode "compare" membuat dynamic AppCDS archive (jika belum ada) lalu menjalankan
+ * probe di child JVM berulang kali dan membandingkan median wall-clock time
+ */
+public class StartupBenchmark {
+
+    // Lokasi default AppCDS archive untuk runner
+    public static final Path ARCHIVE = Path.of("target", "appcds", "runner.jsa");
+
+    // Marker yang dicetak child JVM setelah first request selesai
+    private static final String DONE_MARKER = "FIRST_REQUEST_DONE";
+
+    /**
+     * @param args "probe [--with-faker]" atau "compare [runs] [--with-faker]"
+     */
+    public static void main(String[] args) throws Exception {
+        String mode = args.length > 0 ? args[0] : "compare";
+        boolean withFaker = List.of(args).contains("--with-faker");
+        if (mode.equals("probe")) {
+            probe(withFaker);
+            return;
+        }
+        int runs = args.length > 1 && !args[1].startsWith("--") ? Integer.parseInt(args[1]) : 5;
+        compare(runs, withFaker);
+    }
+
+    /**
+     * Pekerjaan startup yang diukur: class loading dan satu GET request
+     */
+    private static void probe(boolean withFaker) throws ClassNotFoundException {
+        // Load TestNG seperti ketika worker menjalankan suite
+        Class.forName("org.testng.TestNG");
+        if (withFaker) {
+            // Trigger loading locale id-ID oleh Faker
+            TestDataGenerator.generateUserData();
+        }
+        int status = RestAssured.given()
+                .baseUri(TestConfig.BASE_URL)
+                .get("/users/1")
+                .then()
+                .extract()
+                .statusCode();
+        System.out.println(DONE_MARKER + " status=" + status);
+    }
+
+    /**
+     * Bandingkan child JVM tanpa archive dengan child JVM yang memakai archive
+     */
+    private static void compare(int runs, boolean withFaker) throws IOException, InterruptedException {
+        if (!Files.exists(ARCHIVE)) {
+            Files.createDirectories(ARCHIVE.getParent());
+            System.out.println("Creating AppCDS archive " + ARCHIVE + " ...");
+            // Training run: semua class yang di-load sampai exit masuk ke dynamic archive
+            runProbe("-XX:ArchiveClassesAtExit=" + ARCHIVE, true);
+        }
+        List<Long> baseline = new ArrayList<>();
+        List<Long> withArchive = new ArrayList<>();
+        for (int i = 0; i < runs; i++) {
+            // Interleave agar noise jaringan dan disk terbagi rata
+            baseline.add(runProbe("-Xshare:auto", withFaker));
+            withArchive.add(runProbe("-XX:SharedArchiveFile=" + ARCHIVE, withFaker));
+        }
+        long baselineMedian = median(baseline);
+        long archiveMedian = median(withArchive);
+        System.out.println("=== TIME TO FIRST REQUEST (" + runs + " runs, faker=" + withFaker + ") ===");
+        System.out.println("Without AppCDS: median " + baselineMedian + "ms " + baseline);
+        System.out.println("With AppCDS:    median " + archiveMedian + "ms " + withArchive);
+        System.out.printf("Improvement:    %.1f%%%n", 100.0 * (baselineMedian - archiveMedian) / baselineMedian);
+    }
+
+    /**
+     * Jalankan probe di child JVM dan ukur waktu sampai marker dicetak
+     * @return Wall-clock time dalam milidetik
+     */
+    private static long runProbe(String jvmFlag, boolean withFaker) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>(List.of(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                jvmFlag,
+                "-cp", System.getProperty("java.class.path"),
+                StartupBenchmark.class.getName(), "probe"));
+        if (withFaker) {
+            command.add("--with-faker");
+        }
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        long elapsed = -1;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (elapsed < 0 && line.startsWith(DONE_MARKER)) {
+                    elapsed = (System.nanoTime() - start) / 1_000_000L;
+                }
+            }
+        }
+        if (process.waitFor() != 0 || elapsed < 0) {
+            throw new IllegalStateException("Probe failed with flag " + jvmFlag);
+        }
+        return elapsed;
+    }
+
+    private static long median(List<Long> values) {
+        List<Long> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        return sorted.get(sorted.size() / 2);
+    }
+}
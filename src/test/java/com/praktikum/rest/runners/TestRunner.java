@@ -1,44 +1,149 @@
 package com.praktikum.rest.runners;
-import org.testng.TestListenerAdapter;
+import com.praktikum.rest.config.TestConfig;
+import com.praktikum.rest.listeners.ClientOverheadListener;
+import com.praktikum.rest.listeners.DurationListener;
+import com.praktikum.rest.listeners.JfrListener;
+import com.praktikum.rest.listeners.MetricsListener;
+import com.praktikum.rest.listeners.PhaseTimingListener;
+import com.praktikum.rest.listeners.ProgressListener;
+import com.praktikum.rest.listeners.ReplayListener;
+import com.praktikum.rest.listeners.StreamingResultListener;
+import com.praktikum.rest.listeners.TestContextListener;
+import com.praktikum.rest.listeners.TestImpactListener;
+import com.praktikum.rest.load.CapacityFinder;
+import com.praktikum.rest.scenario.ScenarioRunner;
 import org.testng.TestNG;
 import com.praktikum.rest.tests.UserAPITests;
 import com.praktikum.rest.tests.AuthenticationTests;
+import com.praktikum.rest.tests.ClientOverheadTests;
 import com.praktikum.rest.tests.AdvancedAPITests;
+import com.praktikum.rest.tests.DifferentialTests;
 import com.praktikum.rest.tests.FakerDataTests;
+import com.praktikum.rest.tests.RateLimiterTests;
+import com.praktikum.rest.tests.ResilienceTests;
+import com.praktikum.rest.tests.ResultStreamingTests;
+import com.praktikum.rest.tests.SuiteDefinitionTests;
+import com.praktikum.rest.tests.TestImpactTests;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Optional test runner class untuk execute tests via main method
  * Berguna untuk custom test execution atau integration dengan CI/CD
  */
 public class TestRunner {
+
+    private static final String TESTS_PACKAGE = "com.praktikum.rest.tests.";
+
+    // Semua test classes dalam suite, urutan sama dengan testng.xml; satu-satunya daftar di Java,
+    // ImpactRunner dan ScheduledRunner memakai daftar ini (SuiteDefinitionTests mengecek testng.xml)
+    public static final List<Class<?>> ALL_CLASSES = List.of(
+            UserAPITests.class,
+            AuthenticationTests.class,
+            AdvancedAPITests.class,
+            FakerDataTests.class,
+            ResilienceTests.class,
+            RateLimiterTests.class,
+            DifferentialTests.class,
+            ResultStreamingTests.class,
+            TestImpactTests.class,
+            ClientOverheadTests.class,
+            SuiteDefinitionTests.class);
+
     /**
      * Main method untuk execute tests programmatically
+     * Jalankan dengan argument "capacity" untuk capacity-finding mode,
+     * atau "soak [menit] [test classes...]" untuk soak mode,
+     * atau "impact [base ref]" untuk hanya menjalankan test yang terdampak git diff,
+     * atau "schedule [workers]" untuk membagi tests ke worker berdasarkan durasi historis,
+     * atau "scenario [users] [detik] [base URL] [scenarios]" untuk weighted multi-step session load
+     * Tambahkan "--jfr" untuk JFR continuous profiling dari suite run,
+     * dan "--classes A,B" (simple names) untuk hanya menjalankan sebagian test classes
      */
-    public static void main(String[] args) {
+    public static void main(String[] args) throws Exception {
+        // Capacity-finding mode, tidak menjalankan TestNG suite
+        if (args.length > 0 && args[0].equals("capacity")) {
+            CapacityFinder.main(new String[0]);
+            return;
+        }
+        // Soak mode dengan leak detection
+        if (args.length > 0 && args[0].equals("soak")) {
+            SoakRunner.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+        // Incremental test selection berdasarkan git diff
+        if (args.length > 0 && args[0].equals("impact")) {
+            ImpactRunner.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+        // Longest-first scheduling ke beberapa worker JVM
+        if (args.length > 0 && args[0].equals("schedule")) {
+            ScheduledRunner.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+        // Weighted multi-step session load, tidak menjalankan TestNG suite
+        if (args.length > 0 && args[0].equals("scenario")) {
+            ScenarioRunner.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
         // Create TestNG instance
         TestNG testng = new TestNG();
-        // Create test listener untuk capture results
-        TestListenerAdapter tla = new TestListenerAdapter();
+        // Create listener yang streaming results ke file, hanya counters di memory
+        StreamingResultListener results = new StreamingResultListener("API Tests");
         // Set test classes to run
-        testng.setTestClasses(new Class[] {
-                UserAPITests.class,
-                AuthenticationTests.class,
-                AdvancedAPITests.class,
-                FakerDataTests.class
-        });
+        testng.setTestClasses(testClasses(args));
+        // Default reporters (HTML/XML di test-output) menahan setiap ITestResult sampai suite selesai;
+        // results.jsonl dan JUnit XML dari StreamingResultListener menggantikannya
+        testng.setUseDefaultListeners(false);
+        // Summary bawaan TestNG tidak menghitung test pass yang sudah dilepas StreamingResultListener
+        testng.setVerbose(0);
 
         // Add listener untuk result capture
-        testng.addListener(tla);
+        testng.addListener(results);
+        // Add listener untuk attribute metrics per test
+        testng.addListener(new TestContextListener());
+        // Add listener untuk per-phase timing breakdown
+        testng.addListener(new PhaseTimingListener());
+        // Add listener untuk client-side overhead per test
+        testng.addListener(new ClientOverheadListener());
+        // Add listener untuk JMX dan Prometheus metrics export
+        testng.addListener(new MetricsListener());
+        // Add listener untuk live progress (aktif dengan -Dprogress.enabled=true)
+        testng.addListener(new ProgressListener());
+        // Add listener untuk JFR profiling (aktif dengan --jfr atau -Djfr.enabled=true)
+        boolean jfr = TestConfig.JFR_ENABLED || Arrays.asList(args).contains("--jfr");
+        testng.addListener(new JfrListener(jfr));
+        // Add listener untuk test impact map (incremental test selection)
+        testng.addListener(new TestImpactListener());
+        // Add listener untuk durasi per test (dipakai scheduled run)
+        testng.addListener(new DurationListener());
+        // Add listener untuk record-and-replay (-Dreplay.mode=capture atau replay)
+        testng.addListener(new ReplayListener());
         // Run tests
         testng.run();
         // Print test results summary
         System.out.println("=== TEST EXECUTION SUMMARY ===");
-        System.out.println("Passed tests: " + tla.getPassedTests().size());
-        System.out.println("Failed tests: " + tla.getFailedTests().size());
-        System.out.println("Skipped tests: " + tla.getSkippedTests().size());
-        System.out.println("Total tests: " +
-                (tla.getPassedTests().size() +
-                        tla.getFailedTests().size() +
-                        tla.getSkippedTests().size()));
+        System.out.print(results.results().summary());
+        // Exit code untuk CI dan CLI suite command
+        if (testng.hasFailure()) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * @return Classes dari "--classes A,B", atau semua test classes jika tidak ada
+     */
+    static Class<?>[] testClasses(String[] args) throws ClassNotFoundException {
+        int flag = Arrays.asList(args).indexOf("--classes");
+        if (flag < 0 || flag + 1 >= args.length) {
+            return ALL_CLASSES.toArray(new Class[0]);
+        }
+        List<Class<?>> classes = new ArrayList<>();
+        for (String name : args[flag + 1].split(",")) {
+            classes.add(Class.forName(TESTS_PACKAGE + name.trim()));
+        }
+        return classes.toArray(new Class[0]);
     }
-}
\ No newline at end of file
+}
@@ -1,13 +1,33 @@
 package com.praktikum.rest.tests;
+import com.praktikum.rest.config.TestConfig;
+import com.praktikum.rest.data.RowSource;
+import com.praktikum.rest.fault.LatencyDistribution;
+import com.praktikum.rest.metrics.TestContext;
+import com.praktikum.rest.pagination.PageCrawler;
+import com.praktikum.rest.replay.TrafficReplay;
+import com.praktikum.rest.scenario.ScenarioRunner;
+import com.praktikum.rest.scenario.UserJourneys;
 import com.praktikum.rest.utils.TestDataGenerator;
 import io.restassured.http.ContentType;
+import org.testng.Assert;
+import org.testng.SkipException;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.Matchers.*;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Test class untuk advanced API testing scenarios
@@ -73,12 +93,13 @@ public class AdvancedAPITests extends BaseTest {
 
     /**
      * DataProvider untuk provide multiple user IDs
-     * @return Array of user IDs untuk data-driven testing
+     * IDs di-stream dari dataset CSV (-Ddataset.userIds, boleh file .gz berukuran besar),
+     * satu row per invocation tanpa memuat file ke memory
+     * @return Iterator of user IDs untuk data-driven testing
      */
     @DataProvider (name = "validUserIds")
-    public Object[] provideValidUserIds() {
-        // Multiple user IDs untuk testing
-        return new Object[] {1, 2, 3, 4, 5};
+    public Iterator<Object[]> provideValidUserIds() throws IOException {
+        return RowSource.locate(TestConfig.DATASET_USER_IDS).parameters(row -> new Object[] {row.getInt("id")});
     }
 
     /**
@@ -132,6 +153,57 @@ public class AdvancedAPITests extends BaseTest {
         }
     }
 
+    /**
+     * Data-driven test dari dataset JSON lines: setiap line dikirim apa adanya sebagai request body
+     * Rows diproses paralel dengan jumlah in-flight terbatas (-Ddataset.concurrency), reader berhenti
+     * membaca selama semua slot terpakai sehingga dataset besar tetap streaming
+     */
+    @Test
+    public void testCreatePostsFromDatasetInParallel() throws Exception {
+        RowSource.ParallelResult result = RowSource.locate(TestConfig.DATASET_POSTS)
+                .forEachParallel(TestConfig.DATASET_CONCURRENCY, row -> given()
+                        .contentType(ContentType.JSON)
+                        .body(row.raw())
+                        .when()
+                        .post("/posts")
+                        .then()
+                        .statusCode(201)
+                        // Hanya field top-level yang dibaca dari row
+                        .body("title", equalTo(row.get("title")))
+                        .body("userId", equalTo(row.getInt("userId"))));
+
+        Assert.assertTrue(result.rows() > 0, "Dataset should not be empty");
+        Assert.assertEquals(result.failures(), 0L, "First failure: " + result.firstFailure());
+    }
+
+    /**
+     * Test setiap row di forEachParallel berjalan dengan test context pemanggil,
+     * sehingga metrics dari virtual threads tidak tercatat sebagai "none"
+     * Pemanggil dijalankan di thread sendiri dengan context sintetis agar tidak bergantung pada listener
+     */
+    @Test
+    public void testParallelRowsKeepTestContext() throws Exception {
+        byte[] lines = "{\"id\":1}\n{\"id\":2}\n{\"id\":3}\n{\"id\":4}\n".getBytes(StandardCharsets.UTF_8);
+        Set<String> seen = ConcurrentHashMap.newKeySet();
+        AtomicReference<RowSource.ParallelResult> result = new AtomicReference<>();
+
+        Thread caller = Thread.ofVirtual().start(() -> {
+            TestContext.start("RowSourceCaller", "rows");
+            try {
+                result.set(RowSource.open(new ByteArrayInputStream(lines), RowSource.Format.JSONL, "inline")
+                        .forEachParallel(2, row -> seen.add(TestContext.testName())));
+            } catch (IOException | InterruptedException e) {
+                throw new IllegalStateException(e);
+            } finally {
+                TestContext.end();
+            }
+        });
+        caller.join();
+
+        Assert.assertEquals(result.get().rows(), 4L);
+        Assert.assertEquals(seen, Set.of("RowSourceCaller.rows"));
+    }
+
     //---------------------------------------------------------
     // DIFFERENT BODY FORMATS & METHODS
     //---------------------------------------------------------
@@ -261,6 +333,28 @@ public class AdvancedAPITests extends BaseTest {
                 .body("size()", greaterThan(0)); // Validate non-empty response
     }
 
+    /**
+     * Test crawl semua page /comments dengan _page/_limit secara paralel
+     * Validates tidak ada item yang hilang atau duplicate di antara pages
+     * PageCrawler memakai JDK HttpClient, bukan REST Assured, sehingga pages tidak ikut di-capture
+     * oleh CaptureFilter; di replay mode test ini di-skip
+     */
+    @Test
+    public void testCrawlAllCommentsWithoutGaps() {
+        if (TrafficReplay.isReplay()) {
+            throw new SkipException("PageCrawler traffic is not captured, nothing to replay");
+        }
+        PageCrawler crawler = new PageCrawler(TestConfig.BASE_URL, 50, 4, 8);
+        AtomicLong consumed = new AtomicLong();
+
+        PageCrawler.Result result = crawler.crawl("/comments", item -> consumed.incrementAndGet());
+        System.out.println(result);
+
+        Assert.assertTrue(result.complete(), "Crawl should be complete: " + result);
+        Assert.assertEquals(result.items(), 500L);
+        Assert.assertEquals(consumed.get(), result.items());
+    }
+
     //---------------------------------------------------------
     // NEGATIVE & BOUNDARY TESTING
     //---------------------------------------------------------
@@ -358,4 +452,29 @@ public class AdvancedAPITests extends BaseTest {
                 .body("username", equalTo("longuser"));
         // Validate username
     }
-}
\ No newline at end of file
+
+    //---------------------------------------------------------
+    // MULTI-STEP SESSION SCENARIOS
+    //---------------------------------------------------------
+
+    /**
+     * Smoke test untuk weighted session mix: browse dan author sessions dijalankan
+     * beberapa detik oleh ScenarioRunner, data antar step (postId) harus mengalir
+     * ScenarioRunner memakai JDK HttpClient sehingga traffic-nya tidak di-capture; di replay mode test ini di-skip
+     */
+    @Test
+    public void testWeightedSessionMix() throws InterruptedException {
+        if (TrafficReplay.isReplay()) {
+            throw new SkipException("ScenarioRunner traffic is not captured, nothing to replay");
+        }
+        LatencyDistribution noThinkTime = LatencyDistribution.NONE;
+        ScenarioRunner runner = new ScenarioRunner(TestConfig.BASE_URL,
+                List.of(UserJourneys.browse(noThinkTime), UserJourneys.author(noThinkTime)));
+
+        ScenarioRunner.Report report = runner.run(2, Duration.ofSeconds(3));
+        System.out.print(report);
+
+        Assert.assertTrue(report.totalCompleted() > 0, "At least one session should complete");
+        Assert.assertEquals(report.failedSessions(), 0L, "Sessions should not fail");
+    }
+}
@@ -1,11 +1,23 @@
 package com.praktikum.rest.tests;
 
+import com.praktikum.rest.auth.TokenCache;
+import com.praktikum.rest.config.TestConfig;
+import com.praktikum.rest.metrics.MetricsRegistry;
 import io.restassured.http.ContentType;
+import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 import static org.hamcrest.Matchers.*;
 import static io.restassured.RestAssured.given;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * Test class untuk authentication related API endpoints
  * Menggunakan mock tests karena JSONPlaceholder tidak punya auth endpoints
@@ -133,11 +145,12 @@ public class AuthenticationTests extends BaseTest {
         try {
             // Switch sementara ke ReqRes API
             useReqresAPI();
-            given()
+            // Retry transient errors agar API yang sesaat down tidak langsung menggagalkan test
+            withRetry("GET /users", () -> given()
                     .contentType(ContentType.JSON)
                     .when()
                     // GET request ke ReqRes API
-                    .get("/users")
+                    .get("/users"))
                     .then()
                     // Accept multiple status codes
                     .statusCode(anyOf(equalTo(200), equalTo(403), equalTo(404)));
@@ -166,4 +179,40 @@ public class AuthenticationTests extends BaseTest {
                 // Validate cache header
                 .header("Cache-Control", not(emptyOrNullString()));
     }
-}
\ No newline at end of file
+
+    //---------------------------------------------------------
+    // SHARED TOKEN CACHE
+    //---------------------------------------------------------
+
+    /**
+     * Test bahwa 200 thread paralel hanya memicu satu login per credential
+     * Login di-mock dengan delay agar semua thread datang saat login masih berjalan
+     */
+    @Test
+    public void testTokenCacheLogsInOncePerCredential() throws Exception {
+        AtomicInteger loginCalls = new AtomicInteger();
+        TokenCache cache = TokenCache.create(credentials -> {
+            loginCalls.incrementAndGet();
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "token-" + credentials.email();
+        }, Duration.ofMinutes(10), Duration.ofMinutes(1), new MetricsRegistry(false));
+        TokenCache.Credentials credentials = new TokenCache.Credentials(TestConfig.VALID_EMAIL, TestConfig.VALID_PASSWORD);
+
+        List<Future<String>> tokens = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 200; i++) {
+                tokens.add(executor.submit(() -> cache.token(credentials)));
+            }
+        }
+
+        for (Future<String> token : tokens) {
+            Assert.assertEquals(token.get(), "token-" + TestConfig.VALID_EMAIL);
+        }
+        Assert.assertEquals(loginCalls.get(), 1, "Only one login should be in flight");
+        Assert.assertEquals(cache.loginsAvoided(), 199L);
+    }
+}
@@ -1,17 +1,39 @@
 package com.praktikum.rest.tests;
 
 import com.praktikum.rest.config.TestConfig;
+import com.praktikum.rest.filters.AuthTokenFilter;
+import com.praktikum.rest.filters.CaptureFilter;
+import com.praktikum.rest.filters.ClientOverheadFilter;
+import com.praktikum.rest.filters.DifferentialFilter;
+import com.praktikum.rest.filters.JfrFilter;
+import com.praktikum.rest.filters.MetricsFilter;
+import com.praktikum.rest.filters.PhaseTimingFilter;
+import com.praktikum.rest.filters.PhaseTimingHttpClientFactory;
+import com.praktikum.rest.filters.RateLimitFilter;
+import com.praktikum.rest.filters.TestImpactFilter;
+import com.praktikum.rest.replay.TrafficReplay;
+import com.praktikum.rest.resilience.ResilientCall;
 import io.restassured.RestAssured;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.filter.Filter;
 import io.restassured.filter.log.RequestLoggingFilter;
 import io.restassured.filter.log.ResponseLoggingFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
 import org.testng.annotations.BeforeClass;
 
+import java.util.function.Supplier;
+
 /**
  * Base test class yang di-extend oleh semua test classes
  * Berisi common setup dan configuration untuk semua tests
  */
 public class BaseTest {
 
+    // Instance tunggal agar filter tidak menumpuk setiap kali setup() dijalankan
+    private static final Filter REQUEST_LOGGING = new RequestLoggingFilter();
+    private static final Filter RESPONSE_LOGGING = new ResponseLoggingFilter();
+
     /**
      * Setup method yang di-execute sebelum semua tests dalam class
      * Mengkonfigurasi REST Assured dengan base settings
@@ -19,15 +41,40 @@ public class BaseTest {
     @BeforeClass
     public void setup() {
         // Set base URI untuk semua API requests dalam test class ini
-        RestAssured.baseURI = TestConfig.BASE_URL;
+        // (diarahkan ke local ReplayServer di replay mode)
+        RestAssured.baseURI = TrafficReplay.baseUri(TestConfig.BASE_URL);
+
+        // Ukur parsing, GPath, dan Hamcrest matching di .then().body(...) dan path(...) untuk semua tests;
+        // hanya membungkus response yang dikembalikan ke test, jadi tidak menambah waktu di filter lain
+        addFilterOnce(ClientOverheadFilter.INSTANCE);
+
+        // Kirim setiap request juga ke candidate di A/B differential run (-Dab.candidate=...); harus sebelum
+        // filter lain yang mengukur request agar candidate round-trip tidak masuk ke rate limiter wait, metrics,
+        // phase timing, maupun JFR events
+        addFilterOnce(DifferentialFilter.INSTANCE);
 
         // Enable request dan response logging untuk debugging
         // Log semua request details
+        addFilterOnce(REQUEST_LOGGING);
         // Log semua response details
-        RestAssured.filters(
-                new RequestLoggingFilter(),
-                new ResponseLoggingFilter()
-        );
+        addFilterOnce(RESPONSE_LOGGING);
+
+        // Tunggu permit rate limiter per host (dan ikuti Retry-After) sebelum latency mulai diukur
+        addFilterOnce(RateLimitFilter.INSTANCE);
+        // Instrument DNS, connect, TLS, TTFB, transfer, dan assertion time per endpoint
+        RestAssured.config = RestAssured.config().httpClient(
+                HttpClientConfig.httpClientConfig().httpClientFactory(new PhaseTimingHttpClientFactory()));
+        addFilterOnce(PhaseTimingFilter.INSTANCE);
+        // Catat requests, bytes, errors, dan latency ke MetricsRegistry
+        addFilterOnce(MetricsFilter.INSTANCE);
+        // Emit JFR event per HTTP call (murah ketika tidak ada recording aktif)
+        addFilterOnce(JfrFilter.INSTANCE);
+        // Rekam endpoint per test untuk incremental test selection
+        addFilterOnce(TestImpactFilter.INSTANCE);
+        // Rekam request/response pairs di capture mode (-Dreplay.mode=capture)
+        addFilterOnce(CaptureFilter.INSTANCE);
+        // Latency baseline untuk A/B differential run, diukur tepat di sekitar HTTP call; harus paling akhir
+        addFilterOnce(DifferentialFilter.BASELINE_TIMING);
 
         // Enable detailed logging hanya ketika test validation fails
         RestAssured.enableLoggingOfRequestAndResponseIfValidationFails();
@@ -46,14 +93,19 @@ public class BaseTest {
      */
     protected void useReqresAPI() {
         // Switch base URI ke ReqRes API
-        RestAssured.baseURI = TestConfig.REQRES_BASE_URL;
+        RestAssured.baseURI = TrafficReplay.baseUri(TestConfig.REQRES_BASE_URL);
 
         // Update request specification dengan API Key
         // Add API Key header
-        RestAssured.requestSpecification = RestAssured.given()
+        RequestSpecification reqresSpec = RestAssured.given()
                 .header(TestConfig.API_KEY_HEADER, TestConfig.API_KEY)
                 .header("Content-Type", "application/json")
                 .header("Accept", "application/json");
+        // Bearer token dari shared cache, login hanya sekali untuk seluruh run (-Dauth.token=true)
+        if (TestConfig.AUTH_TOKEN_ENABLED) {
+            reqresSpec.filter(AuthTokenFilter.INSTANCE);
+        }
+        RestAssured.requestSpecification = reqresSpec;
     }
 
     /**
@@ -62,11 +114,31 @@ public class BaseTest {
      */
     protected void useJSONPlaceholderAPI() {
         // Switch back ke JSONPlaceholder API
-        RestAssured.baseURI = TestConfig.BASE_URL;
+        RestAssured.baseURI = TrafficReplay.baseUri(TestConfig.BASE_URL);
 
         // Update request specification tanpa API Key
         RestAssured.requestSpecification = RestAssured.given()
                 .header("Content-Type", "application/json")
                 .header("Accept", "application/json");
     }
-}
\ No newline at end of file
+
+    /**
+     * Method helper untuk register global filter hanya satu kali
+     * setup() dijalankan di setiap test class, sehingga filter tidak boleh di-add berulang
+     */
+    protected static void addFilterOnce(Filter filter) {
+        if (!RestAssured.filters().contains(filter)) {
+            RestAssured.filters(filter);
+        }
+    }
+
+    /**
+     * Method helper untuk request ke API publik yang kadang transient error (502/503/504/429, IO error)
+     * Request di-retry dengan jittered backoff, dan di-hedge jika -Dhedge.enabled=true
+     * @param endpoint Nama endpoint "METHOD /path" untuk retry/hedge counts, contoh "GET /users"
+     * @param request Request lengkap, contoh () -> given().get("/users")
+     */
+    protected static Response withRetry(String endpoint, Supplier<Response> request) {
+        return ResilientCall.global().execute(endpoint, request::get, Response::getStatusCode);
+    }
+}
@@ -0,0 +1,135 @@
+package com.praktikum.rest.tests;
+
+import com.praktikum.rest.assertions.BodyAssertions;
+import com.praktikum.rest.config.TestConfig;
+import com.praktikum.rest.metrics.ClientOverheadProfiler;
+import com.praktikum.rest.metrics.ClientOverheadProfiler.Stage;
+import com.praktikum.rest.metrics.TestContext;
+import com.sun.net.httpserver.HttpServer;
+import io.restassured.response.Response;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItems;
+
+/**
+ * Test class untuk ClientOverheadFilter dan ClientOverheadProfiler
+ * Response datang dari local HTTP server, sehingga yang diuji hanya instrumentasi validation path REST Assured
+ */
+public class ClientOverheadTests extends BaseTest {
+
+    private static final String USERS = "[{\"id\":1,\"name\":\"Leanne\"},{\"id\":2,\"name\":\"Ervin\"}]";
+
+    private HttpServer server;
+    private String baseUri;
+
+    @BeforeClass
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/users", exchange -> {
+            byte[] body = USERS.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        baseUri = "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    /**
+     * Test setiap .then().body(...) dan path(...) di chain REST Assured biasa tercatat per test,
+     * Hamcrest matching terpisah dari parse dan GPath
+     */
+    @Test
+    public void testRestAssuredBodyAssertionsAreMeasured() {
+        Map<Stage, Long> before = snapshot();
+
+        Object secondId = given()
+                .baseUri(baseUri)
+                .when()
+                .get("/users")
+                .then()
+                .statusCode(200)
+                .body("size()", equalTo(2))
+                .body("[0].name", equalTo("Leanne"), "id", hasItems(1, 2))
+                .extract()
+                .path("[1].id");
+
+        Assert.assertEquals(secondId, 2);
+        // Dua body() calls dan satu extract().path()
+        Assert.assertEquals(delta(before, Stage.PARSE_GPATH), 3L);
+        Assert.assertEquals(delta(before, Stage.MATCH), 3L);
+    }
+
+    /**
+     * Test assertion yang gagal tetap menghasilkan message REST Assured dengan description matcher asli
+     */
+    @Test
+    public void testFailingAssertionKeepsRestAssuredMessage() {
+        Map<Stage, Long> before = snapshot();
+
+        AssertionError error = Assert.expectThrows(AssertionError.class, () -> given()
+                .baseUri(baseUri)
+                .when()
+                .get("/users")
+                .then()
+                .body("[1].name", equalTo("Leanne")));
+
+        Assert.assertTrue(error.getMessage().contains("JSON path [1].name doesn't match."), error.getMessage());
+        Assert.assertTrue(error.getMessage().contains("Expected: Leanne\n  Actual: Ervin"), error.getMessage());
+        Assert.assertEquals(delta(before, Stage.MATCH), 1L);
+    }
+
+    /**
+     * Test BodyAssertions dengan shared tree: satu PARSE untuk semua expressions,
+     * sedangkan mode parse ulang (-Dassertions.shared.tree=false) parse sekali per expression
+     */
+    @Test
+    public void testBodyAssertionsParseModes() {
+        Response response = given().baseUri(baseUri).when().get("/users");
+        Map<Stage, Long> before = snapshot();
+
+        BodyAssertions.of(response)
+                .body("size()", equalTo(2))
+                .body("[0].id", equalTo(1))
+                .body("[1].name", equalTo("Ervin"))
+                .verify();
+
+        Assert.assertEquals(delta(before, Stage.PARSE), TestConfig.ASSERTIONS_SHARED_TREE ? 1L : 3L);
+        Assert.assertEquals(delta(before, Stage.GPATH), 3L);
+        Assert.assertEquals(delta(before, Stage.MATCH), 3L);
+    }
+
+    private static Map<Stage, Long> snapshot() {
+        Map<Stage, Long> calls = new EnumMap<>(Stage.class);
+        for (Stage stage : Stage.values()) {
+            calls.put(stage, ClientOverheadProfiler.calls(TestContext.testName(), stage));
+        }
+        return calls;
+    }
+
+    private static long delta(Map<Stage, Long> before, Stage stage) {
+        return ClientOverheadProfiler.calls(TestContext.testName(), stage) - before.get(stage);
+    }
+}
@@ -0,0 +1,204 @@
+package com.praktikum.rest.tests;
+
+import com.praktikum.rest.differential.DifferentialReport;
+import com.praktikum.rest.differential.DifferentialReport.EndpointResult;
+import com.praktikum.rest.differential.DifferentialReport.Outcome;
+import com.praktikum.rest.differential.JsonDifference;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Test class untuk A/B differential run: perbandingan body (JsonDifference)
+ * dan bootstrap interval serta verdict di DifferentialReport
+ * Tidak ada request ke API: body dan pasangan latency dibuat langsung di test
+ */
+public class DifferentialTests extends BaseTest {
+
+    private static final Set<String> IGNORED = Set.of("createdAt", "updatedAt");
+
+    // Reservoir lebih besar dari jumlah pasangan, sehingga sample (dan hasil bootstrap) deterministik
+    private static final int RESERVOIR = 4096;
+    private static final int PAIRS = 1000;
+
+    //---------------------------------------------------------
+    // BODY DIFFERENCE
+    //---------------------------------------------------------
+
+    /**
+     * Test body identik atau hanya berbeda urutan field dan whitespace dianggap sama
+     */
+    @Test
+    public void testEqualBodiesHaveNoDifference() {
+        Assert.assertNull(difference("{\"id\":1,\"name\":\"Leanne\"}", "{\"id\":1,\"name\":\"Leanne\"}"));
+        Assert.assertNull(difference("{\"id\":1,\"name\":\"Leanne\"}", "{ \"name\": \"Leanne\", \"id\": 1 }"));
+    }
+
+    /**
+     * Test field yang diabaikan tidak dibandingkan, juga di nested object dan di dalam array
+     */
+    @Test
+    public void testIgnoredFieldsAreSkipped() {
+        Assert.assertNull(difference(
+                "{\"id\":1,\"createdAt\":\"2024-01-01\",\"items\":[{\"updatedAt\":\"a\"}]}",
+                "{\"id\":1,\"createdAt\":\"2025-06-30\",\"items\":[{\"updatedAt\":\"b\"}]}"));
+        Assert.assertNull(difference("{\"id\":1,\"createdAt\":\"2024-01-01\"}", "{\"id\":1}"),
+                "Ignored field missing on one side is not a difference");
+    }
+
+    /**
+     * Test field yang hanya ada di satu sisi dilaporkan dengan sisi yang kehilangan field
+     */
+    @Test
+    public void testMissingFieldIsReported() {
+        Assert.assertEquals(difference("{\"id\":1,\"email\":\"a@b.c\"}", "{\"id\":1}"),
+                "$.email: missing in candidate");
+        Assert.assertEquals(difference("{\"id\":1}", "{\"id\":1,\"email\":\"a@b.c\"}"),
+                "$.email: missing in baseline");
+    }
+
+    /**
+     * Test panjang array berbeda dilaporkan pada path array, bukan pada elemen
+     */
+    @Test
+    public void testArrayLengthIsReported() {
+        Assert.assertEquals(difference("[1,2]", "[1,2,3]"), "$: 2 vs 3 elements");
+        Assert.assertEquals(difference("{\"data\":[{\"id\":1}]}", "{\"data\":[]}"), "$.data: 1 vs 0 elements");
+    }
+
+    /**
+     * Test hanya perbedaan pertama dalam urutan path yang dilaporkan, lengkap dengan nested path dan index
+     */
+    @Test
+    public void testFirstDifferingPathIsReported() {
+        String baseline = "{\"name\":\"Leanne\",\"address\":{\"city\":\"Gwenborough\",\"zip\":\"92998\"},"
+                + "\"tags\":[\"a\",\"b\"]}";
+        String candidate = "{\"name\":\"Ervin\",\"address\":{\"city\":\"Bandung\",\"zip\":\"40115\"},"
+                + "\"tags\":[\"a\",\"c\"]}";
+
+        // Field diurutkan: address < name < tags, dan city < zip
+        Assert.assertEquals(difference(baseline, candidate), "$.address.city: \"Gwenborough\" vs \"Bandung\"");
+        Assert.assertEquals(difference("{\"tags\":[\"a\",\"b\"]}", "{\"tags\":[\"a\",\"c\"]}"),
+                "$.tags[1]: \"b\" vs \"c\"");
+        Assert.assertEquals(difference("{\"id\":1}", "{\"id\":\"1\"}"), "$.id: 1 vs \"1\"");
+    }
+
+    /**
+     * Test body non-JSON yang berbeda dilaporkan dengan ukuran keduanya, dan nilai panjang dipotong
+     */
+    @Test
+    public void testNonJsonAndLongValues() {
+        Assert.assertEquals(difference("<html>a</html>", "<html>ab</html>"), "non-JSON body differs (14 vs 15 bytes)");
+
+        String detail = difference("{\"bio\":\"" + "x".repeat(200) + "\"}", "{\"bio\":\"y\"}");
+        Assert.assertTrue(detail.startsWith("$.bio: \"xxx") && detail.endsWith("... vs \"y\""), detail);
+    }
+
+    //---------------------------------------------------------
+    // BOOTSTRAP INTERVAL & VERDICT
+    //---------------------------------------------------------
+
+    /**
+     * Test pasangan latency identik: interval selisih tepat [0, 0] dan tidak ada perbedaan signifikan
+     */
+    @Test
+    public void testEqualSamplesHaveNoSignificantDifference() {
+        DifferentialReport report = new DifferentialReport(RESERVOIR, 5);
+        SplittableRandom random = new SplittableRandom(7L);
+        for (int i = 0; i < PAIRS; i++) {
+            long micros = 20_000L + random.nextLong(10_000L);
+            report.record("GET /users", micros, micros, Outcome.EQUIVALENT, null);
+        }
+
+        EndpointResult result = single(report);
+        Assert.assertEquals(result.pairs(), PAIRS);
+        Assert.assertEquals(result.equivalent(), PAIRS);
+        Assert.assertEquals(result.p50DiffLow(), 0.0);
+        Assert.assertEquals(result.p50DiffHigh(), 0.0);
+        Assert.assertEquals(result.meanDiff(), 0.0);
+        Assert.assertEquals(result.verdict(), "no significant difference");
+    }
+
+    /**
+     * Test candidate yang 5ms lebih lambat dengan noise per request: interval selisih median
+     * seluruhnya positif dan mencakup pergeseran sebenarnya
+     */
+    @Test
+    public void testShiftedCandidateIsSlower() {
+        DifferentialReport report = shiftedReport(5_000L);
+
+        EndpointResult result = single(report);
+        Assert.assertEquals(result.verdict(), "slower");
+        Assert.assertTrue(result.p50DiffLow() > 0.0, "Interval " + interval(result) + " should exclude 0");
+        Assert.assertTrue(result.p50DiffLow() <= 5.0 && result.p50DiffHigh() >= 5.0,
+                "Interval " + interval(result) + " should contain the 5ms shift");
+        Assert.assertTrue(result.p50DiffLow() <= result.p50Diff() && result.p50Diff() <= result.p50DiffHigh());
+    }
+
+    /**
+     * Test arah sebaliknya: candidate yang 5ms lebih cepat menghasilkan interval negatif
+     */
+    @Test
+    public void testShiftedCandidateIsFaster() {
+        EndpointResult result = single(shiftedReport(-5_000L));
+
+        Assert.assertEquals(result.verdict(), "faster");
+        Assert.assertTrue(result.p50DiffHigh() < 0.0, "Interval " + interval(result) + " should exclude 0");
+    }
+
+    /**
+     * Test mismatch dihitung per outcome, sedangkan sample mismatch dibatasi mismatchSampleSize
+     */
+    @Test
+    public void testMismatchesAreCountedAndSampleIsCapped() {
+        DifferentialReport report = new DifferentialReport(RESERVOIR, 5);
+        for (int i = 0; i < 4; i++) {
+            report.record("GET /users/{id}", 1_000L, 1_000L, Outcome.STATUS_MISMATCH, "200 vs 404");
+            report.record("GET /users/{id}", 1_000L, 1_000L, Outcome.BODY_MISMATCH, "$.id: 1 vs 2");
+        }
+        report.recordCandidateError("GET /users/{id}", new IllegalStateException("connection refused"));
+
+        EndpointResult result = single(report);
+        Assert.assertEquals(result.statusMismatches(), 4L);
+        Assert.assertEquals(result.bodyMismatches(), 4L);
+        Assert.assertEquals(result.candidateErrors(), 1L);
+        Assert.assertEquals(result.pairs(), 8L);
+        List<String> sample = report.mismatchSample();
+        Assert.assertEquals(sample.size(), 5);
+        Assert.assertEquals(sample.get(0), "GET /users/{id} STATUS_MISMATCH: 200 vs 404");
+    }
+
+    /**
+     * Pasangan latency dengan noise bersama per request, candidate digeser shiftMicros
+     */
+    private static DifferentialReport shiftedReport(long shiftMicros) {
+        DifferentialReport report = new DifferentialReport(RESERVOIR, 5);
+        SplittableRandom random = new SplittableRandom(7L);
+        for (int i = 0; i < PAIRS; i++) {
+            long shared = 20_000L + random.nextLong(10_000L);
+            long baseline = shared + random.nextLong(2_000L);
+            long candidate = shared + shiftMicros + random.nextLong(2_000L);
+            report.record("GET /users", baseline, candidate, Outcome.EQUIVALENT, null);
+        }
+        return report;
+    }
+
+    private static String difference(String baseline, String candidate) {
+        return JsonDifference.of(baseline.getBytes(StandardCharsets.UTF_8), candidate.getBytes(StandardCharsets.UTF_8),
+                IGNORED);
+    }
+
+    private static EndpointResult single(DifferentialReport report) {
+        List<EndpointResult> results = report.results();
+        Assert.assertEquals(results.size(), 1);
+        return results.get(0);
+    }
+
+    private static String interval(EndpointResult result) {
+        return "[" + result.p50DiffLow() + ", " + result.p50DiffHigh() + "]";
+    }
+}
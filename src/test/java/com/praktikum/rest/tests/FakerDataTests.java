@@ -1,11 +1,22 @@
 package com.praktikum.rest.tests;
+import com.praktikum.rest.utils.FastDataGenerator;
 import com.praktikum.rest.utils.TestDataGenerator;
+import com.praktikum.rest.utils.UniqueNames;
 import io.restassured.http.ContentType;
+import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.Matchers.*;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Test class khusus untuk testing dengan Faker generated data
@@ -165,6 +176,82 @@ public class FakerDataTests extends BaseTest {
                     .body("id", notNullValue());
         }
     }
+    /**
+     * Test username dan email unik ketika banyak users di-generate, termasuk dari thread paralel
+     * "user" + 3 digits hanya punya 1000 kombinasi, sehingga tanpa UniqueNames pasti ada duplicate
+     */
+    @Test
+    public void testGeneratedIdentifiersAreUniqueAcrossThreads() throws Exception {
+        int threads = 4;
+        int perThread = 5000;
+        Set<Object> usernames = ConcurrentHashMap.newKeySet();
+        Set<Object> emails = ConcurrentHashMap.newKeySet();
+        // FastDataGenerator aman dipakai paralel; Faker instance di TestDataGenerator tidak
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                workers.add(executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        Map<String, Object> userData = FastDataGenerator.generateUserData();
+                        usernames.add(userData.get("username"));
+                        emails.add(userData.get("email"));
+                    }
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        }
+        Map<String, Object> userData = null;
+        for (int i = 0; i < 1500; i++) {
+            userData = TestDataGenerator.generateValidUserData();
+            usernames.add(userData.get("username"));
+            emails.add(userData.get("email"));
+        }
+        // Validate tidak ada username atau email yang dipakai dua kali
+        Assert.assertEquals(usernames.size(), threads * perThread + 1500, "Duplicate usernames generated");
+        Assert.assertEquals(emails.size(), threads * perThread + 1500, "Duplicate emails generated");
+
+        given()
+                .contentType(ContentType.JSON)
+                .body(userData)
+                .when()
+                .post("/users")
+                .then()
+                .statusCode(201)
+                // Validate username (bisa dengan suffix) dikirim apa adanya
+                .body("username", equalTo(userData.get("username")));
+    }
+
+    /**
+     * Test claim jauh melewati expected: Bloom filter jenuh sehingga hampir semua candidate diberi suffix,
+     * tetapi claim tetap selesai tanpa retry dan hasilnya tetap unik
+     * Candidate yang sudah mengandung marker (contoh hasil claim sebelumnya) juga tidak boleh bentrok
+     */
+    @Test(timeOut = 30_000)
+    public void testClaimsFarPastExpectedStayUniqueWithoutRetry() {
+        int expected = 1000;
+        int claims = 50 * expected;
+        UniqueNames registry = new UniqueNames(expected, 0.01);
+        Set<String> seen = new HashSet<>();
+        List<String> previous = new ArrayList<>();
+        for (int i = 0; i < claims; i++) {
+            // Sebagian besar candidate baru, sisanya duplicate dan hasil claim sebelumnya
+            String candidate = i % 10 == 0 && !previous.isEmpty() ? previous.get(i % previous.size())
+                    : "user" + (i % 5 == 0 ? i % 100 : i) + (i % 3 == 0 ? "@hotmail.com" : "");
+            String claimed = registry.claim(candidate);
+            Assert.assertTrue(seen.add(claimed), "Duplicate identifier " + claimed + " from " + candidate);
+            if (i % 100 == 0) {
+                previous.add(claimed);
+            }
+        }
+        Assert.assertEquals(registry.claimed(), claims);
+        Assert.assertTrue(registry.estimatedFalsePositiveRate() > 0.5, "Filter should be saturated");
+        Assert.assertTrue(registry.suffixed() > claims / 2, "Most claims should be suffixed past expected");
+        // Suffix disisipkan sebelum '@', domain tetap utuh
+        Assert.assertTrue(seen.stream().filter(id -> id.contains("@")).allMatch(id -> id.endsWith("@hotmail.com")));
+    }
+
     /**
      * Test berbagai variasi data structure dengan Faker
      * Demonstrates comprehensive data variation testing
@@ -0,0 +1,231 @@
+package com.praktikum.rest.tests;
+
+import com.praktikum.rest.resilience.HostRateLimiter;
+import com.praktikum.rest.resilience.TokenBucket;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.UnaryOperator;
+
+/**
+ * Test class untuk client-side rate limiter (TokenBucket dan HostRateLimiter)
+ * Tidak ada request ke API: response headers disimulasikan dengan header lookup sintetis,
+ * sehingga hanya timing bucket itu sendiri yang diukur
+ */
+public class RateLimiterTests extends BaseTest {
+
+    // Toleransi timing untuk scheduler dan timer resolution di CI
+    private static final long SLACK_MILLIS = 30L;
+
+    //---------------------------------------------------------
+    // RATE & BURST
+    //---------------------------------------------------------
+
+    /**
+     * Test burst: setelah idle, sebanyak burst permit langsung didapat,
+     * permit berikutnya menunggu satu interval
+     */
+    @Test
+    public void testBurstThenInterval() {
+        // 20/s = interval 50ms, burst 3
+        TokenBucket bucket = new TokenBucket(20.0, 3, Duration.ofSeconds(10));
+
+        for (int i = 0; i < 3; i++) {
+            Assert.assertTrue(millis(bucket.acquire()) < SLACK_MILLIS, "Permit " + (i + 1) + " should be immediate");
+        }
+        long waited = millis(bucket.acquire());
+
+        Assert.assertTrue(waited >= 50L - SLACK_MILLIS, "Permit after burst should wait one interval, waited "
+                + waited + "ms");
+        Assert.assertEquals(bucket.inFlight(), 4);
+    }
+
+    /**
+     * Test rate dengan virtual threads paralel: 50 permits pada 100/s (burst 1)
+     * butuh minimal 49 interval, berapa pun jumlah thread yang berebut
+     */
+    @Test
+    public void testParallelAcquireNeverExceedsRate() throws Exception {
+        TokenBucket bucket = new TokenBucket(100.0, 1, Duration.ofSeconds(10));
+        long start = System.nanoTime();
+
+        runParallel(10, 5, () -> {
+            bucket.acquire();
+            bucket.onResponse(200, name -> null);
+        });
+        long elapsed = millis(System.nanoTime() - start);
+
+        Assert.assertTrue(elapsed >= 490L - SLACK_MILLIS, "50 permits at 100/s took only " + elapsed + "ms");
+        Assert.assertTrue(elapsed < 2_000L, "50 permits at 100/s took " + elapsed + "ms");
+        Assert.assertEquals(bucket.inFlight(), 0);
+    }
+
+    //---------------------------------------------------------
+    // RETRY-AFTER & MAX PAUSE
+    //---------------------------------------------------------
+
+    /**
+     * Test Retry-After dalam delta seconds: semua acquire ditahan sampai waktunya
+     */
+    @Test
+    public void testRetryAfterSecondsPausesHost() {
+        TokenBucket bucket = new TokenBucket(0.0, 1, Duration.ofSeconds(10));
+        bucket.acquire();
+
+        Assert.assertTrue(bucket.onResponse(429, headers("Retry-After", "1")), "429 should throttle the host");
+        long waited = millis(bucket.acquire());
+
+        Assert.assertTrue(waited >= 1_000L - SLACK_MILLIS && waited < 1_500L,
+                "Retry-After: 1 should pause about 1s, waited " + waited + "ms");
+    }
+
+    /**
+     * Test Retry-After sebagai HTTP-date dan batas maxPause: tanggal satu jam ke depan
+     * hanya menahan selama maxPause
+     */
+    @Test
+    public void testRetryAfterHttpDateIsCappedByMaxPause() {
+        TokenBucket bucket = new TokenBucket(0.0, 1, Duration.ofMillis(200));
+        String inOneHour = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).plusHours(1));
+        bucket.acquire();
+
+        // 503 tanpa Retry-After yang valid tidak pause, jadi true di sini berarti HTTP-date berhasil di-parse
+        Assert.assertTrue(bucket.onResponse(503, headers("Retry-After", inOneHour)));
+        long waited = millis(bucket.acquire());
+
+        Assert.assertTrue(waited >= 200L - SLACK_MILLIS && waited < 1_000L,
+                "Pause should be capped at 200ms, waited " + waited + "ms");
+    }
+
+    /**
+     * Test response tanpa throttling: 503 tanpa Retry-After dan Retry-After yang tidak valid tidak menahan host
+     */
+    @Test
+    public void testInvalidRetryAfterDoesNotPause() {
+        TokenBucket bucket = new TokenBucket(0.0, 1, Duration.ofSeconds(10));
+        bucket.acquire();
+        Assert.assertFalse(bucket.onResponse(503, headers()));
+        bucket.acquire();
+        Assert.assertFalse(bucket.onResponse(503, headers("Retry-After", "soon")));
+
+        Assert.assertTrue(millis(bucket.acquire()) < SLACK_MILLIS, "Host should not be paused");
+    }
+
+    //---------------------------------------------------------
+    // QUOTA WINDOW
+    //---------------------------------------------------------
+
+    /**
+     * Test quota window: setelah RateLimit-Remaining habis, acquire menunggu reset;
+     * window berikutnya sementara berisi RateLimit-Limit sampai headers baru datang
+     */
+    @Test
+    public void testWindowExhaustionWaitsForResetThenUsesProvisionalWindow() {
+        TokenBucket bucket = new TokenBucket(0.0, 1, Duration.ofSeconds(10));
+        bucket.acquire();
+        bucket.onResponse(200, headers("RateLimit-Limit", "3", "RateLimit-Remaining", "2", "RateLimit-Reset", "1"));
+        Assert.assertEquals(bucket.windowRemaining(), 2L);
+
+        Assert.assertTrue(millis(bucket.acquire()) < SLACK_MILLIS);
+        Assert.assertTrue(millis(bucket.acquire()) < SLACK_MILLIS);
+        Assert.assertEquals(bucket.windowRemaining(), 0L);
+        long waited = millis(bucket.acquire());
+
+        Assert.assertTrue(waited >= 1_000L - SLACK_MILLIS && waited < 1_500L,
+                "Exhausted window should wait for reset, waited " + waited + "ms");
+        // Provisional window: limit 3 dikurangi permit yang baru saja diambil
+        Assert.assertEquals(bucket.windowRemaining(), 2L);
+    }
+
+    /**
+     * Test bahwa thread yang masih menunggu permit tidak dihitung in-flight:
+     * RateLimit-Remaining hanya dikurangi request yang benar-benar sudah dikirim
+     */
+    @Test
+    public void testWaitersDoNotConsumeUpstreamQuota() throws Exception {
+        TokenBucket bucket = new TokenBucket(0.0, 1, Duration.ofSeconds(10));
+        bucket.acquire();
+        bucket.pause(Duration.ofMillis(300).toNanos());
+        List<Future<?>> waiters = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 5; i++) {
+                waiters.add(executor.submit(() -> {
+                    bucket.acquire();
+                    bucket.onError();
+                }));
+            }
+            // Beri waktu waiters masuk ke acquire dan park pada pause
+            Thread.sleep(100);
+
+            bucket.onResponse(200, headers("RateLimit-Remaining", "10", "RateLimit-Reset", "5"));
+            Assert.assertEquals(bucket.windowRemaining(), 10L, "Parked waiters must not be counted as in flight");
+            for (Future<?> waiter : waiters) {
+                waiter.get();
+            }
+        }
+        Assert.assertEquals(bucket.windowRemaining(), 5L);
+        Assert.assertEquals(bucket.inFlight(), 0);
+    }
+
+    //---------------------------------------------------------
+    // CONFIGURATION
+    //---------------------------------------------------------
+
+    /**
+     * Test format -Dratelimit.hosts: host di-lowercase, spasi diabaikan
+     */
+    @Test
+    public void testParseRates() {
+        Map<String, Double> rates = HostRateLimiter.parseRates("ReqRes.in=10, localhost = 2.5");
+
+        Assert.assertEquals(rates, Map.of("reqres.in", 10.0, "localhost", 2.5));
+        Assert.assertTrue(HostRateLimiter.parseRates("").isEmpty());
+        Assert.expectThrows(IllegalArgumentException.class, () -> HostRateLimiter.parseRates("reqres.in"));
+        Assert.expectThrows(NumberFormatException.class, () -> HostRateLimiter.parseRates("reqres.in=fast"));
+    }
+
+    /**
+     * Header lookup case-insensitive seperti response headers, dari pasangan name, value
+     */
+    private static UnaryOperator<String> headers(String... namesAndValues) {
+        Map<String, String> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            headers.put(namesAndValues[i], namesAndValues[i + 1]);
+        }
+        return headers::get;
+    }
+
+    /**
+     * Jalankan action sebanyak perThread kali di setiap virtual thread dan tunggu semuanya selesai
+     */
+    private static void runParallel(int threads, int perThread, Runnable action) throws Exception {
+        List<Future<?>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        action.run();
+                    }
+                }));
+            }
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+
+    private static long millis(long nanos) {
+        return nanos / 1_000_000L;
+    }
+}
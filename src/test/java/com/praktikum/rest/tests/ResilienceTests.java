@@ -0,0 +1,208 @@
+package com.praktikum.rest.tests;
+
+import com.praktikum.rest.config.TestConfig;
+import com.praktikum.rest.fault.FaultProxy;
+import com.praktikum.rest.fault.FaultRule;
+import com.praktikum.rest.fault.LatencyDistribution;
+import com.praktikum.rest.metrics.MetricsRegistry;
+import com.praktikum.rest.replay.TrafficReplay;
+import com.praktikum.rest.resilience.ResilientCall;
+import com.praktikum.rest.resilience.RetryPolicy;
+import io.restassured.RestAssured;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test class untuk perilaku client saat backend dalam kondisi buruk
+ * Semua request melewati local FaultProxy yang meng-inject latency, connection reset,
+ * partial body, slow-drip response, dan 5xx burst per endpoint
+ */
+public class ResilienceTests extends BaseTest {
+
+    private FaultProxy proxy;
+
+    /**
+     * Start FaultProxy satu kali untuk semua tests di class ini
+     */
+    @BeforeClass
+    public void startProxy() throws IOException {
+        proxy = new FaultProxy(0).start();
+    }
+
+    /**
+     * Arahkan JSONPlaceholder (atau ReplayServer di replay mode) lewat proxy tanpa rules
+     */
+    @BeforeMethod
+    public void setupMethod() {
+        useJSONPlaceholderAPI();
+        RestAssured.baseURI = proxy.rewrite(TrafficReplay.baseUri(TestConfig.BASE_URL));
+        proxy.clearRules();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopProxy() {
+        if (proxy != null) {
+            System.out.println("Fault proxy: " + proxy.stats());
+            proxy.close();
+        }
+    }
+
+    //---------------------------------------------------------
+    // LATENCY & ERROR BURST
+    //---------------------------------------------------------
+
+    /**
+     * Test bahwa latency yang di-inject terlihat di response time client
+     * Pattern "**" di depan agar juga cocok dengan path ReplayServer di replay mode
+     */
+    @Test
+    public void testInjectedLatencyIsObserved() {
+        proxy.rule("GET **/users/1", FaultRule.none().withLatency(LatencyDistribution.fixed(300)));
+
+        given()
+                .contentType(ContentType.JSON)
+                .when()
+                .get("/users/1")
+                .then()
+                .statusCode(200)
+                .body("id", equalTo(1))
+                // Response time minimal sebesar latency yang di-inject
+                .time(greaterThanOrEqualTo(300L));
+    }
+
+    /**
+     * Test 5xx burst: tiga request berturut-turut mendapat 503,
+     * lalu endpoint pulih setelah rule dihapus
+     */
+    @Test
+    public void testErrorBurstThenRecovery() {
+        proxy.rule("GET **/posts/1", FaultRule.none().withErrorBurst(1.0, 3, 503));
+
+        for (int i = 0; i < 3; i++) {
+            given()
+                    .when()
+                    .get("/posts/1")
+                    .then()
+                    .statusCode(503)
+                    .header("X-Fault-Injected", equalTo("burst"));
+        }
+
+        proxy.clearRules();
+        given()
+                .when()
+                .get("/posts/1")
+                .then()
+                .statusCode(200)
+                .body("id", equalTo(1));
+    }
+
+    //---------------------------------------------------------
+    // CONNECTION FAULTS
+    //---------------------------------------------------------
+
+    /**
+     * Test bahwa connection reset muncul sebagai exception di client, bukan response
+     */
+    @Test
+    public void testConnectionResetFailsRequest() {
+        proxy.rule("GET **/users/2", FaultRule.none().withResetRate(1.0));
+        long resetsBefore = proxy.stats().resets();
+
+        Assert.expectThrows(Exception.class, () -> given().when().get("/users/2"));
+        Assert.assertTrue(proxy.stats().resets() > resetsBefore, "Proxy should have reset the connection");
+    }
+
+    /**
+     * Test bahwa body yang terpotong (kurang dari Content-Length) terdeteksi oleh client
+     */
+    @Test
+    public void testPartialBodyFailsRequest() {
+        proxy.rule("GET **/users/3", FaultRule.none().withPartialBodyRate(1.0));
+
+        Assert.expectThrows(Exception.class, () -> given().when().get("/users/3").asString());
+    }
+
+    /**
+     * Test slow-drip response: socket timeout hanya membatasi jeda antar read,
+     * sehingga response lambat tetap lolos meskipun total waktunya jauh di atas timeout
+     */
+    @Test
+    public void testSlowDripIsNotBoundedBySocketTimeout() {
+        proxy.rule("GET **/users/4", FaultRule.none().withSlowDrip(100));
+        HttpClientConfig oneSecondSocketTimeout = RestAssured.config().getHttpClientConfig()
+                .setParam("http.socket.timeout", 1000);
+
+        given()
+                .config(RestAssured.config().httpClient(oneSecondSocketTimeout))
+                .when()
+                .get("/users/4")
+                .then()
+                .statusCode(200)
+                .body("id", equalTo(4))
+                .time(greaterThan(1000L));
+    }
+
+    //---------------------------------------------------------
+    // RETRY & HEDGING
+    //---------------------------------------------------------
+
+    /**
+     * Test retry dengan jittered backoff: burst dua 503 tertutup oleh attempt ketiga
+     */
+    @Test
+    public void testRetryRecoversFromErrorBurst() {
+        proxy.rule("GET **/posts/2", FaultRule.none().withErrorBurst(1.0, 2, 503));
+        ResilientCall retrying = new ResilientCall(
+                RetryPolicy.fromConfig().withoutHedging().withMaxAttempts(3).withBackoff(10, 50),
+                MetricsRegistry.global());
+        long burstsBefore = proxy.stats().burstResponses();
+
+        Response response = retrying.execute("GET /posts/{id}", () -> given().get("/posts/2"),
+                Response::getStatusCode);
+
+        response.then()
+                .statusCode(200)
+                .body("id", equalTo(2));
+        Assert.assertEquals(proxy.stats().burstResponses() - burstsBefore, 2L);
+    }
+
+    /**
+     * Test hedged request: satu attempt yang di-delay 3 detik dikalahkan oleh copy kedua
+     * yang dikirim setelah p95 latency endpoint
+     */
+    @Test
+    public void testHedgedRequestCutsTailLatency() {
+        int warmup = 5;
+        AtomicInteger calls = new AtomicInteger();
+        // Hanya request ke-6 yang lambat, hedged copy (request ke-7) kembali normal
+        proxy.rule("GET **/users/5", FaultRule.none()
+                .withLatency(random -> calls.getAndIncrement() == warmup ? 3000L : 0L));
+        ResilientCall hedging = new ResilientCall(RetryPolicy.fromConfig().withHedging(95.0, warmup),
+                MetricsRegistry.global());
+        for (int i = 0; i < warmup; i++) {
+            hedging.execute("GET /users/{id}", () -> given().get("/users/5"), Response::getStatusCode);
+        }
+
+        long start = System.nanoTime();
+        Response response = hedging.execute("GET /users/{id}", () -> given().get("/users/5"),
+                Response::getStatusCode);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000L;
+
+        response.then()
+                .statusCode(200)
+                .body("id", equalTo(5));
+        Assert.assertTrue(elapsedMillis < 3000L, "Hedged request should beat the delayed attempt, took "
+                + elapsedMillis + "ms");
+    }
+}
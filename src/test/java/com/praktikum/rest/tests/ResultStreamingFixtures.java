@@ -0,0 +1,92 @@
+package com.praktikum.rest.tests;
+
+import org.testng.Assert;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.Iterator;
+
+/**
+ * Test classes sintetis untuk nested TestNG run di ResultStreamingTests
+ * Sengaja di luar ResultStreamingTests (dan tidak terdaftar di testng.xml) karena TestNG ikut menjalankan
+ * nested classes dari test class yang terdaftar
+ */
+final class ResultStreamingFixtures {
+
+    static final int ROWS = 20_000;
+    static final int FAILING_EVERY = 1_000;
+
+    private ResultStreamingFixtures() {
+    }
+
+    /**
+     * Simpan ITestContext nested run untuk diperiksa setelah TestNG selesai
+     */
+    public static class ContextProbe implements ITestListener {
+        private volatile ITestContext context;
+
+        ITestContext context() {
+            return context;
+        }
+
+        @Override
+        public void onFinish(ITestContext context) {
+            this.context = context;
+        }
+    }
+
+    /**
+     * Nested test class: ROWS rows dengan parameter 1 KB, setiap FAILING_EVERY row gagal
+     */
+    public static class Rows {
+
+        @DataProvider(name = "rows")
+        public Iterator<Object[]> rows() {
+            return new Iterator<>() {
+                private int row;
+
+                @Override
+                public boolean hasNext() {
+                    return row < ROWS;
+                }
+
+                @Override
+                public Object[] next() {
+                    row++;
+                    return new Object[] {row, "x".repeat(1024)};
+                }
+            };
+        }
+
+        @Test(dataProvider = "rows")
+        public void row(int row, String payload) {
+            Assert.assertTrue(row % FAILING_EVERY != 0, "Row " + row + " fails");
+        }
+    }
+
+    /**
+     * Nested test class dengan dependency ke method yang gagal
+     * Memakai dependsOnGroups karena TestNG tidak bisa me-resolve dependsOnMethods di nested class
+     */
+    public static class Dependencies {
+
+        @Test(groups = "passing")
+        public void passes() {
+        }
+
+        @Test(groups = "failing")
+        public void fails() {
+            Assert.fail("Expected failure");
+        }
+
+        @Test(dependsOnGroups = "passing")
+        public void afterPass() {
+        }
+
+        @Test(dependsOnGroups = "failing")
+        public void afterFailure() {
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.praktikum.rest.tests;
+
+import com.praktikum.rest.listeners.StreamingResultListener;
+import com.praktikum.rest.report.ResultStream;
+import com.praktikum.rest.tests.ResultStreamingFixtures.ContextProbe;
+import org.testng.Assert;
+import org.testng.ITestResult;
+import org.testng.TestNG;
+import org.testng.annotations.Test;
+
+import static com.praktikum.rest.tests.ResultStreamingFixtures.FAILING_EVERY;
+import static com.praktikum.rest.tests.ResultStreamingFixtures.ROWS;
+
+/**
+ * Test class untuk StreamingResultListener di dalam TestNG sungguhan (nested TestNG run tanpa request ke API)
+ * Yang diperiksa adalah referensi yang masih ditahan TestNG di ITestContext setelah run selesai,
+ * bukan hanya ResultStream, karena TestNG menyimpan setiap ITestResult apa pun listener-nya
+ */
+public class ResultStreamingTests extends BaseTest {
+
+    /**
+     * Test DataProvider dengan banyak rows dan parameters 1 KB: setelah run, passed map kosong,
+     * failed results tanpa parameters dan throwable, dan counters tetap lengkap
+     */
+    @Test
+    public void testStreamedResultsAreReleasedFromTestContext() {
+        ContextProbe probe = new ContextProbe();
+        StreamingResultListener listener = run(probe, ResultStreamingFixtures.Rows.class);
+
+        ResultStream results = listener.results();
+        int failing = ROWS / FAILING_EVERY;
+        Assert.assertEquals(results.passed(), ROWS - failing);
+        Assert.assertEquals(results.failed(), failing);
+        Assert.assertEquals(probe.context().getPassedTests().size(), 0, "Passed results should be evicted");
+        Assert.assertEquals(probe.context().getFailedTests().size(), failing);
+        for (ITestResult failed : probe.context().getFailedTests().getAllResults()) {
+            Assert.assertEquals(failed.getParameters().length, 0, "Parameters should be released");
+            Assert.assertNull(failed.getThrowable(), "Throwable should be released");
+        }
+    }
+
+    /**
+     * Test failed results tetap di context sehingga TestNG masih men-skip method yang bergantung padanya
+     */
+    @Test
+    public void testDependentsOfFailedMethodsAreStillSkipped() {
+        ContextProbe probe = new ContextProbe();
+        StreamingResultListener listener = run(probe, ResultStreamingFixtures.Dependencies.class);
+
+        Assert.assertEquals(listener.results().passed(), 2L);
+        Assert.assertEquals(listener.results().failed(), 1L);
+        Assert.assertEquals(listener.results().skipped(), 1L, "afterFailure should be skipped");
+        Assert.assertEquals(probe.context().getPassedTests().size(), 0);
+    }
+
+    private static StreamingResultListener run(ContextProbe probe, Class<?> testClass) {
+        TestNG testng = new TestNG();
+        StreamingResultListener listener = StreamingResultListener.countingOnly("nested");
+        testng.setUseDefaultListeners(false);
+        testng.setVerbose(0);
+        testng.setTestClasses(new Class[] {testClass});
+        testng.addListener(listener);
+        testng.addListener(probe);
+        testng.run();
+        Assert.assertNotNull(probe.context(), "Nested run did not finish");
+        return listener;
+    }
+}
@@ -0,0 +1,73 @@
+package com.praktikum.rest.tests;
+
+import com.praktikum.rest.runners.TestRunner;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+import org.testng.xml.Parser;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Test class untuk daftar test classes: TestRunner.ALL_CLASSES dipakai TestRunner, ImpactRunner,
+ * dan ScheduledRunner, sedangkan testng.xml dipakai Maven Surefire; keduanya harus sama
+ * Membaca file dari project directory, sehingga di-skip jika dijalankan dari test jar (CLI suite)
+ */
+public class SuiteDefinitionTests extends BaseTest {
+
+    private static final Path SUITE_FILE = Path.of("testng.xml");
+    private static final Path TESTS_DIRECTORY = Path.of("src/test/java/com/praktikum/rest/tests");
+
+    /**
+     * Test testng.xml berisi class yang sama dengan urutan yang sama seperti TestRunner.ALL_CLASSES
+     */
+    @Test
+    public void testSuiteFileMatchesRunnerClasses() throws IOException {
+        requireProjectDirectory();
+        List<String> suiteClasses = new ArrayList<>();
+        for (XmlSuite suite : new Parser(SUITE_FILE.toString()).parseToList()) {
+            for (XmlTest test : suite.getTests()) {
+                for (XmlClass xmlClass : test.getXmlClasses()) {
+                    suiteClasses.add(xmlClass.getName());
+                }
+            }
+        }
+
+        Assert.assertEquals(suiteClasses, TestRunner.ALL_CLASSES.stream().map(Class::getName).toList(),
+                "testng.xml and TestRunner.ALL_CLASSES differ");
+    }
+
+    /**
+     * Test setiap *Tests class di package tests terdaftar, sehingga class baru tidak hilang diam-diam
+     * dari impact dan scheduled runs
+     */
+    @Test
+    public void testEveryTestClassIsRegistered() throws IOException {
+        requireProjectDirectory();
+        List<String> registered = TestRunner.ALL_CLASSES.stream().map(Class::getSimpleName).toList();
+        try (Stream<Path> files = Files.list(TESTS_DIRECTORY)) {
+            List<String> missing = files
+                    .map(file -> file.getFileName().toString())
+                    .filter(name -> name.endsWith("Tests.java"))
+                    .map(name -> name.substring(0, name.length() - ".java".length()))
+                    .filter(name -> !registered.contains(name))
+                    .sorted()
+                    .toList();
+            Assert.assertEquals(missing, List.of(), "Add these classes to TestRunner.ALL_CLASSES and testng.xml");
+        }
+    }
+
+    private static void requireProjectDirectory() {
+        if (!Files.isRegularFile(SUITE_FILE) || !Files.isDirectory(TESTS_DIRECTORY)) {
+            throw new SkipException("Not running from the project directory");
+        }
+    }
+}
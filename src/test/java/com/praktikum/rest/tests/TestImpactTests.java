@@ -0,0 +1,99 @@
+package com.praktikum.rest.tests;
+
+import com.praktikum.rest.impact.GitDiff;
+import com.praktikum.rest.impact.TestImpactRecorder;
+import com.praktikum.rest.impact.TestImpactSelector;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Test class untuk TestImpactSelector pada perubahan di TestDataGenerator
+ * Repository sementara berisi generator sintetis, sehingga nomor baris perubahan tidak bergantung pada source asli
+ */
+public class TestImpactTests extends BaseTest {
+
+    // Baris 4-6 generateUserData, 8-10 generateValidUserData, 12-14 unique (helper yang tidak terekam)
+    private static final List<String> GENERATOR = List.of(
+            "public class TestDataGenerator {",
+            "    private static final String PREFIX = \"user\";",
+            "",
+            "    public static Map<String, Object> generateUserData() {",
+            "        return Map.of(\"username\", unique(PREFIX));",
+            "    }",
+            "",
+            "    public static Map<String, Object> generateValidUserData() {",
+            "        return Map.of(\"username\", unique(PREFIX + \"1\"));",
+            "    }",
+            "",
+            "    private static String unique(String candidate) {",
+            "        return candidate;",
+            "    }",
+            "}");
+
+    private static final String GENERATOR_USAGE = TestImpactRecorder.GENERATOR + "TestDataGenerator.";
+
+    private Path repository;
+    private TestImpactSelector selector;
+
+    @BeforeClass
+    public void createRepository() throws IOException {
+        repository = Files.createTempDirectory("impact-repo");
+        Path generator = repository.resolve(TestImpactSelector.GENERATOR_SOURCE);
+        Files.createDirectories(generator.getParent());
+        Files.write(generator, GENERATOR, StandardCharsets.UTF_8);
+        selector = new TestImpactSelector(repository, Map.of(
+                "FakerDataTests.testCreateUserWithFakerData", Set.of(GENERATOR_USAGE + "generateUserData"),
+                "FakerDataTests.testCreateValidUser", Set.of(GENERATOR_USAGE + "generateValidUserData"),
+                "UserAPITests.testGetAllUsers", Set.of(TestImpactRecorder.ENDPOINT + "GET /users")));
+    }
+
+    /**
+     * Test method generator yang terekam hanya memilih test yang memakainya
+     */
+    @Test
+    public void testRecordedGeneratorMethodSelectsItsUsers() throws IOException {
+        TestImpactSelector.Selection selection = selector.select(List.of(change(5, 5)));
+
+        Assert.assertFalse(selection.runAll());
+        Assert.assertEquals(selection.tests(), Set.of("FakerDataTests.testCreateUserWithFakerData"));
+    }
+
+    /**
+     * Test helper yang tidak pernah terekam di stack (unique) dianggap shared generator code,
+     * sehingga semua test yang memakai generator dipilih, bukan nol test
+     */
+    @Test
+    public void testUnrecordedHelperSelectsAllGeneratorTests() throws IOException {
+        TestImpactSelector.Selection selection = selector.select(List.of(change(13, 13)));
+
+        Assert.assertFalse(selection.isEmpty(), "Change to unique() must not select zero tests");
+        Assert.assertEquals(selection.tests(), Set.of("FakerDataTests.testCreateUserWithFakerData",
+                "FakerDataTests.testCreateValidUser"));
+    }
+
+    /**
+     * Test perubahan field di generator memilih semua generator tests; tanpa generator usage sama sekali,
+     * seluruh suite dijalankan
+     */
+    @Test
+    public void testSharedGeneratorCodeWithoutRecordedUsageRunsAll() throws IOException {
+        Assert.assertEquals(selector.select(List.of(change(2, 2))).tests().size(), 2);
+
+        TestImpactSelector withoutGenerators = new TestImpactSelector(repository,
+                Map.of("UserAPITests.testGetAllUsers", Set.of(TestImpactRecorder.ENDPOINT + "GET /users")));
+        Assert.assertTrue(withoutGenerators.select(List.of(change(13, 13))).runAll());
+    }
+
+    private static GitDiff.ChangedFile change(int from, int to) {
+        return new GitDiff.ChangedFile(TestImpactSelector.GENERATOR_SOURCE, List.<int[]>of(new int[] {from, to}));
+    }
+}
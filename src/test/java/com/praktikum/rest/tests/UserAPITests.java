@@ -1,11 +1,19 @@
 package com.praktikum.rest.tests;
 
+import com.praktikum.rest.assertions.BodyAssertions;
+import com.praktikum.rest.model.ModelReaders;
+import com.praktikum.rest.model.Post;
+import com.praktikum.rest.model.User;
 import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 import static org.hamcrest.Matchers.*;
 import static io.restassured.RestAssured.given;
 
+import java.util.List;
+
 /**
  * Test class untuk basic CRUD operations pada User API
  * Mengcover GET, POST, PUT, DELETE methods
@@ -32,7 +40,7 @@ public class UserAPITests extends BaseTest {
     @Test
     public void testGetAllUsers() {
         // Start building the request
-        given()
+        Response response = given()
                 // Set content type sebagai JSON
                 .contentType(ContentType.JSON)
                 .when()
@@ -44,6 +52,11 @@ public class UserAPITests extends BaseTest {
                 .statusCode(200)
                 // Validate content type is JSON
                 .contentType(ContentType.JSON)
+                .extract()
+                .response();
+
+        // Parse response sekali, semua body assertions memakai parsed tree yang sama
+        BodyAssertions.of(response)
                 // Validate response array tidak empty
                 .body("size()", greaterThan(0))
                 // Validate first user has ID
@@ -53,7 +66,8 @@ public class UserAPITests extends BaseTest {
                 // Validate email exists
                 .body("[0].email", not(emptyOrNullString()))
                 // Validate username exists
-                .body("[0].username", not(emptyOrNullString()));
+                .body("[0].username", not(emptyOrNullString()))
+                .verify();
     }
 
     /**
@@ -103,6 +117,42 @@ public class UserAPITests extends BaseTest {
                 .statusCode(404);
     }
 
+    /**
+     * Test GET user dan posts-nya dengan typed extraction ke records, bukan GPath strings
+     * Validates: nested address dan company, serta semua posts milik user yang sama
+     */
+    @Test
+    public void testGetUserAndPostsAsRecords() {
+        Response userResponse = given()
+                .pathParam("id", 1)
+                .when()
+                .get("/users/{id}")
+                .then()
+                .statusCode(200)
+                .extract()
+                .response();
+        User user = ModelReaders.user(userResponse);
+
+        Assert.assertEquals(user.id(), 1);
+        Assert.assertEquals(user.username(), "Bret");
+        Assert.assertEquals(user.address().city(), "Gwenborough");
+        Assert.assertNotNull(user.address().geo().lat());
+        Assert.assertEquals(user.company().name(), "Romaguera-Crona");
+
+        Response postsResponse = given()
+                .queryParam("userId", user.id())
+                .when()
+                .get("/posts")
+                .then()
+                .statusCode(200)
+                .extract()
+                .response();
+        List<Post> posts = ModelReaders.posts(postsResponse);
+
+        Assert.assertFalse(posts.isEmpty(), "User should have posts");
+        posts.forEach(post -> Assert.assertEquals(post.userId(), user.id(), "Post " + post.id() + " owner"));
+    }
+
     //---------------------------------------------------------
     // TEST POST (Create)
     //---------------------------------------------------------